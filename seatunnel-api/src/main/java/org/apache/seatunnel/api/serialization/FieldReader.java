@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.serialization;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the fields written by {@link FieldWriter}, in the order they were written.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class FieldReader {
+
+    private final DataInputStream in;
+
+    public FieldReader(byte[] bytes) {
+        this.in = new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Returns true if the given bytes start with the stream header of Java serialization.
+     */
+    public static boolean isJavaSerialized(byte[] bytes) {
+        return bytes.length >= 2 && bytes[0] == (byte) 0xAC && bytes[1] == (byte) 0xED;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return in.readBoolean();
+    }
+
+    public byte readByte() throws IOException {
+        return in.readByte();
+    }
+
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    public long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    public double readDouble() throws IOException {
+        return in.readDouble();
+    }
+
+    public int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    public String readString() throws IOException {
+        byte[] bytes = readBytes();
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public byte[] readBytes() throws IOException {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    public <T> T readNullable(ElementReader<T> elementReader) throws IOException {
+        return readBoolean() ? elementReader.read(this) : null;
+    }
+
+    public <T> List<T> readList(ElementReader<T> elementReader) throws IOException {
+        int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        List<T> values = new ArrayList<>(size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            values.add(elementReader.read(this));
+        }
+        return values;
+    }
+
+    public <K, V> Map<K, V> readMap(ElementReader<K> keyReader, ElementReader<V> valueReader) throws IOException {
+        int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        Map<K, V> values = new HashMap<>(Math.max((int) ((size - 1) / .75f) + 1, 16));
+        for (int i = 0; i < size - 1; i++) {
+            K key = keyReader.read(this);
+            values.put(key, valueReader.read(this));
+        }
+        return values;
+    }
+
+    /**
+     * Reads a value written by {@link FieldWriter#writeObject(Serializable)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readObject() throws IOException {
+        byte[] bytes = readBytes();
+        return bytes == null ? null : (T) SerializationUtils.<Serializable>deserialize(bytes);
+    }
+
+    /**
+     * Reads a value of type {@code T}.
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        T read(FieldReader reader) throws IOException;
+    }
+}
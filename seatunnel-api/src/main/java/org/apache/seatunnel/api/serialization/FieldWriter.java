@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.serialization;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes the fields of an object for {@link VersionedSerializer}. All methods return the writer itself, so
+ * that the fields can be written in a chain:
+ * <pre>{@code
+ * writer.writeString(split.getTopic())
+ *     .writeInt(split.getPartition())
+ *     .writeNullable(split.getMessageId(), FieldWriter::writeBytes);
+ * }</pre>
+ * The reading side is {@link FieldReader}, which must read the fields in the same order.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class FieldWriter {
+
+    private final ByteArrayOutputStream buffer;
+    private final DataOutputStream out;
+
+    public FieldWriter() {
+        this.buffer = new ByteArrayOutputStream(64);
+        this.out = new DataOutputStream(buffer);
+    }
+
+    public FieldWriter writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+        return this;
+    }
+
+    public FieldWriter writeByte(int value) throws IOException {
+        out.writeByte(value);
+        return this;
+    }
+
+    public FieldWriter writeInt(int value) throws IOException {
+        out.writeInt(value);
+        return this;
+    }
+
+    public FieldWriter writeLong(long value) throws IOException {
+        out.writeLong(value);
+        return this;
+    }
+
+    public FieldWriter writeDouble(double value) throws IOException {
+        out.writeDouble(value);
+        return this;
+    }
+
+    /**
+     * Writes an int with 1 to 5 bytes, small non-negative values need the fewest bytes.
+     */
+    public FieldWriter writeVarInt(int value) throws IOException {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes a long with 1 to 10 bytes, small non-negative values need the fewest bytes.
+     */
+    public FieldWriter writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+        return this;
+    }
+
+    /**
+     * Writes a nullable string as UTF-8.
+     */
+    public FieldWriter writeString(String value) throws IOException {
+        return writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a nullable byte array prefixed with its length.
+     */
+    public FieldWriter writeBytes(byte[] value) throws IOException {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        writeVarInt(value.length + 1);
+        out.write(value);
+        return this;
+    }
+
+    /**
+     * Writes a nullable value with the given element writer.
+     */
+    public <T> FieldWriter writeNullable(T value, ElementWriter<T> elementWriter) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            elementWriter.write(this, value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a nullable collection, each element with the given element writer.
+     */
+    public <T> FieldWriter writeList(Collection<T> values, ElementWriter<T> elementWriter) throws IOException {
+        if (values == null) {
+            return writeVarInt(0);
+        }
+        writeVarInt(values.size() + 1);
+        for (T value : values) {
+            elementWriter.write(this, value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a nullable map, the entries with the given key and value writers.
+     */
+    public <K, V> FieldWriter writeMap(Map<K, V> values, ElementWriter<K> keyWriter, ElementWriter<V> valueWriter)
+        throws IOException {
+        if (values == null) {
+            return writeVarInt(0);
+        }
+        writeVarInt(values.size() + 1);
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            keyWriter.write(this, entry.getKey());
+            valueWriter.write(this, entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Writes a nullable value with Java serialization, for fields without a binary form.
+     */
+    public FieldWriter writeObject(Serializable value) throws IOException {
+        return writeBytes(value == null ? null : SerializationUtils.serialize(value));
+    }
+
+    public byte[] toByteArray() throws IOException {
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Writes a value of type {@code T}.
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(FieldWriter writer, T value) throws IOException;
+    }
+}
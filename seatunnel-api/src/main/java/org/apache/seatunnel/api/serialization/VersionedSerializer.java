@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.serialization;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * A {@link Serializer} that writes a compact binary form prefixed with a format version, instead of relying
+ * on Java serialization and the class layout of the serialized object.
+ *
+ * <p>Implementations describe their fields with {@link FieldWriter} and read them back with
+ * {@link FieldReader}. The version is passed to {@link #deserialize(int, FieldReader)}, so that data written
+ * by an older version can still be read. Data written by Java serialization, e.g. by
+ * {@link DefaultSerializer} in an older checkpoint, is detected and deserialized as before.
+ *
+ * @param <T> The type of the serialized object.
+ */
+public interface VersionedSerializer<T> extends Serializer<T> {
+
+    /**
+     * The first byte of the data written by {@link VersionedSerializer}.
+     */
+    byte MAGIC_NUMBER = 0x53;
+
+    /**
+     * Get the version of the current serialization format.
+     *
+     * @return the format version.
+     */
+    int getVersion();
+
+    /**
+     * Writes the fields of the given object.
+     *
+     * @param obj    The object to serialize.
+     * @param writer The writer of the fields.
+     * @throws IOException Thrown, if the serialization fails.
+     */
+    void serialize(T obj, FieldWriter writer) throws IOException;
+
+    /**
+     * Reads the fields of an object written in the given format version.
+     *
+     * @param version The format version the object was written with.
+     * @param reader  The reader of the fields.
+     * @return The deserialized object
+     * @throws IOException Thrown, if the deserialization fails.
+     */
+    T deserialize(int version, FieldReader reader) throws IOException;
+
+    @Override
+    default byte[] serialize(T obj) throws IOException {
+        if (obj == null) {
+            return null;
+        }
+        FieldWriter writer = new FieldWriter();
+        writer.writeByte(MAGIC_NUMBER).writeVarInt(getVersion());
+        serialize(obj, writer);
+        return writer.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default T deserialize(byte[] serialized) throws IOException {
+        if (FieldReader.isJavaSerialized(serialized)) {
+            return (T) SerializationUtils.<Serializable>deserialize(serialized);
+        }
+        FieldReader reader = new FieldReader(serialized);
+        byte magicNumber = reader.readByte();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IOException(String.format("Unknown serialization format, magic number: %s", magicNumber));
+        }
+        int version = reader.readVarInt();
+        if (version > getVersion()) {
+            throw new IOException(String.format("Unsupported serialization version %s, the current version is %s",
+                version, getVersion()));
+        }
+        return deserialize(version, reader);
+    }
+}
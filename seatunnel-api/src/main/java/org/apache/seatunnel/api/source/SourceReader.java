@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -30,6 +31,11 @@ import java.util.List;
  */
 public interface SourceReader<T, SplitT extends SourceSplit> extends AutoCloseable, CheckpointListener {
 
+    /**
+     * The future returned by {@link #isAvailable()} when the reader does not track data availability.
+     */
+    CompletableFuture<Void> AVAILABLE = CompletableFuture.completedFuture(null);
+
     /**
      * Open the source reader.
      */
@@ -50,6 +56,21 @@ public interface SourceReader<T, SplitT extends SourceSplit> extends AutoCloseab
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Returns a future that will be completed once the reader has data to emit. The runtime calls
+     * this method when {@link #pollNext(Collector)} did not emit any record, and waits on the
+     * returned future instead of polling again immediately.
+     *
+     * <p>Readers that are able to signal data arrival (e.g. readers fed by a fetcher thread) should
+     * return an incomplete future and complete it when new data arrives. The default implementation
+     * returns {@link #AVAILABLE}, in which case the runtime falls back to a short fixed back-off.
+     *
+     * @return a future that will be completed when data is available.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        return AVAILABLE;
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The changes of the split state between two snapshots, see {@link SupportIncrementalState}.
+ *
+ * @param <SplitT> The type of splits handled by the source.
+ */
+public final class SplitStateDelta<SplitT extends SourceSplit> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<SplitT> changedSplits;
+    private final Set<String> removedSplitIds;
+
+    private SplitStateDelta(List<SplitT> changedSplits, Set<String> removedSplitIds) {
+        this.changedSplits = changedSplits;
+        this.removedSplitIds = removedSplitIds;
+    }
+
+    public static <SplitT extends SourceSplit> SplitStateDelta<SplitT> of(List<SplitT> changedSplits,
+                                                                          Set<String> removedSplitIds) {
+        return new SplitStateDelta<>(changedSplits, removedSplitIds);
+    }
+
+    public static <SplitT extends SourceSplit> SplitStateDelta<SplitT> changed(List<SplitT> changedSplits) {
+        return new SplitStateDelta<>(changedSplits, Collections.emptySet());
+    }
+
+    public static <SplitT extends SourceSplit> SplitStateDelta<SplitT> empty() {
+        return new SplitStateDelta<>(Collections.emptyList(), Collections.emptySet());
+    }
+
+    public List<SplitT> getChangedSplits() {
+        return changedSplits;
+    }
+
+    public Set<String> getRemovedSplitIds() {
+        return removedSplitIds;
+    }
+
+    public boolean isEmpty() {
+        return changedSplits.isEmpty() && removedSplitIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SplitStateDelta{" +
+            "changedSplits=" + changedSplits.size() +
+            ", removedSplitIds=" + removedSplitIds +
+            '}';
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+/**
+ * Implemented by a {@link SourceReader} or {@link SourceSplitEnumerator} that is able to report which splits
+ * changed since its previous snapshot.
+ *
+ * <p>The engine keeps the serialized state of the splits which didn't change, so the cost of a checkpoint
+ * depends on the number of changed splits instead of the number of all splits.
+ *
+ * @param <SplitT> The type of splits handled by the source.
+ */
+public interface SupportIncrementalState<SplitT extends SourceSplit> {
+
+    /**
+     * Reports the splits that were added or whose state changed since the previous call, and the ids of the
+     * splits that were removed since then. The first call reports all splits, including restored ones.
+     *
+     * <p>A {@link SourceReader} reports the state of its own splits. A {@link SourceSplitEnumerator} reports
+     * the splits its {@link SourceSplitEnumerator#snapshotState(long)} depends on, an empty delta means that
+     * the previous enumerator state can be reused.
+     *
+     * @param checkpointId checkpoint Id.
+     * @return the changes of the split state.
+     * @throws Exception if the state cannot be snapshot.
+     */
+    SplitStateDelta<SplitT> snapshotStateDelta(long checkpointId) throws Exception;
+}
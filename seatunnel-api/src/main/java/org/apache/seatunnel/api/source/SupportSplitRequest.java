@@ -0,0 +1,28 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+/**
+ * Used to mark a {@link SourceReader} that pulls its splits: it calls {@link SourceReader.Context#sendSplitRequest()}
+ * whenever it runs out of splits, and only signals the end of data after {@link SourceReader#handleNoMoreSplits()}.
+ *
+ * <p>An engine is free to hold back the splits assigned to such a reader until it requests them, and to hand
+ * splits assigned to a busy reader to an idle one.
+ */
+public interface SupportSplitRequest {
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.serialization;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@SuppressWarnings("MagicNumber")
+public class VersionedSerializerTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        TestSplitSerializer serializer = new TestSplitSerializer(2);
+        TestSplit split = new TestSplit("split-1", 42L, Arrays.asList("a", null, "c"),
+            Collections.singletonMap("k", 1L), new TestSplit("nested", -1L, null, null, null));
+        byte[] bytes = serializer.serialize(split);
+        Assertions.assertEquals(split, serializer.deserialize(bytes));
+        Assertions.assertTrue(bytes.length < SerializationUtils.serialize(split).length);
+    }
+
+    @Test
+    public void testNullValues() throws IOException {
+        TestSplitSerializer serializer = new TestSplitSerializer(2);
+        TestSplit split = new TestSplit(null, 0L, null, null, null);
+        Assertions.assertEquals(split, serializer.deserialize(serializer.serialize(split)));
+        Assertions.assertNull(serializer.serialize(null));
+    }
+
+    @Test
+    public void testReadOlderVersion() throws IOException {
+        TestSplit split = new TestSplit("split-1", 42L, Collections.singletonList("a"), null, null);
+        byte[] bytes = new TestSplitSerializer(1).serialize(split);
+        TestSplit restored = new TestSplitSerializer(2).deserialize(bytes);
+        Assertions.assertEquals(new TestSplit("split-1", 42L, Collections.singletonList("a"), null, null), restored);
+        Assertions.assertThrows(IOException.class, () -> new TestSplitSerializer(1).deserialize(
+            new TestSplitSerializer(2).serialize(split)));
+    }
+
+    @Test
+    public void testJavaSerializationFallback() throws IOException {
+        TestSplit split = new TestSplit("split-1", 42L, null, null, null);
+        byte[] bytes = new DefaultSerializer<TestSplit>().serialize(split);
+        Assertions.assertEquals(split, new TestSplitSerializer(2).deserialize(bytes));
+    }
+
+    private static class TestSplitSerializer implements VersionedSerializer<TestSplit> {
+        private final int version;
+
+        TestSplitSerializer(int version) {
+            this.version = version;
+        }
+
+        @Override
+        public int getVersion() {
+            return version;
+        }
+
+        @Override
+        public void serialize(TestSplit split, FieldWriter writer) throws IOException {
+            writer.writeString(split.id)
+                .writeVarLong(split.offset)
+                .writeList(split.values, FieldWriter::writeString);
+            if (version >= 2) {
+                writer.writeMap(split.offsets, FieldWriter::writeString, FieldWriter::writeLong)
+                    .writeObject(split.nested);
+            }
+        }
+
+        @Override
+        public TestSplit deserialize(int version, FieldReader reader) throws IOException {
+            String id = reader.readString();
+            long offset = reader.readVarLong();
+            List<String> values = reader.readList(FieldReader::readString);
+            if (version < 2) {
+                return new TestSplit(id, offset, values, null, null);
+            }
+            return new TestSplit(id, offset, values, reader.readMap(FieldReader::readString, FieldReader::readLong),
+                reader.readObject());
+        }
+    }
+
+    private static class TestSplit implements Serializable {
+        private final String id;
+        private final long offset;
+        private final List<String> values;
+        private final Map<String, Long> offsets;
+        private final TestSplit nested;
+
+        TestSplit(String id, long offset, List<String> values, Map<String, Long> offsets, TestSplit nested) {
+            this.id = id;
+            this.offset = offset;
+            this.values = values;
+            this.offsets = offsets;
+            this.nested = nested;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TestSplit)) {
+                return false;
+            }
+            TestSplit that = (TestSplit) o;
+            return offset == that.offset && Objects.equals(id, that.id) && Objects.equals(values, that.values) &&
+                Objects.equals(offsets, that.offsets) && Objects.equals(nested, that.nested);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, offset, values, offsets, nested);
+        }
+    }
+}
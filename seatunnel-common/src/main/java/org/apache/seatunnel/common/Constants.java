@@ -41,6 +41,12 @@ public final class Constants {
 
     public static final String CHECKPOINT_ID = "checkpoint.id";
 
+    public static final String CHECKPOINT_STORAGE = "checkpoint.storage";
+
+    public static final String CHECKPOINT_RETAINED = "checkpoint.retained";
+
+    public static final String HANDOVER_CAPACITY = "handover.capacity";
+
     public static final String UUID = "uuid";
 
     public static final String NOW = "now";
@@ -17,58 +17,251 @@
 
 package org.apache.seatunnel.common;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Closeable;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * A bounded buffer that hands elements over from producer threads to a consumer thread.
+ *
+ * <p>Elements are kept in a pre-allocated ring buffer, so moving an element does not allocate.
+ * {@link #produce(Object)} blocks while the buffer is full, which propagates backpressure from the
+ * consumer to the producers. {@link #produceAll(Collection)} and {@link #drainTo(Collection, int)}
+ * move many elements under a single lock acquisition.
+ *
+ * <p>Errors reported by {@link #reportError(Throwable)} are rethrown to the consumer, and a closed
+ * or failed handover rejects further elements with a {@link ClosedException}.
+ */
 public final class Handover<T> implements Closeable {
-    private final Object lock = new Object();
-    private final LinkedBlockingQueue<T> blockingQueue =
-        new LinkedBlockingQueue<>();
-    private Throwable error;
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private final Object[] items;
+    private int takeIndex;
+    private int putIndex;
+    private int count;
+
+    /**
+     * Completed when the handover turns from empty to non-empty, see {@link #isAvailable()}.
+     */
+    private CompletableFuture<Void> availableFuture = new CompletableFuture<>();
+
+    private volatile Throwable error;
+
+    public Handover() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Handover(int capacity) {
+        checkArgument(capacity > 0, "The capacity of handover must be positive, but is %s", capacity);
+        this.items = new Object[capacity];
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
 
     public boolean isEmpty() {
-        return blockingQueue.isEmpty();
+        return size() == 0;
+    }
+
+    /**
+     * Returns a future which is completed as soon as the handover holds an element or has failed.
+     */
+    public CompletableFuture<Void> isAvailable() {
+        lock.lock();
+        try {
+            if (count > 0 || error != null) {
+                availableFuture.complete(null);
+            } else if (availableFuture.isDone()) {
+                availableFuture = new CompletableFuture<>();
+            }
+            return availableFuture;
+        } finally {
+            lock.unlock();
+        }
     }
 
+    /**
+     * Polls the next element without blocking.
+     */
     public Optional<T> pollNext() throws Exception {
-        if (error != null) {
-            rethrowException(error, error.getMessage());
-        } else if (!isEmpty()) {
-            return Optional.ofNullable(blockingQueue.poll());
+        checkError();
+        lock.lock();
+        try {
+            return count == 0 ? Optional.empty() : Optional.of(dequeue());
+        } finally {
+            lock.unlock();
         }
-        return Optional.empty();
     }
 
+    /**
+     * Polls the next element, waiting up to the given timeout for one to become available.
+     */
+    public Optional<T> pollNext(long timeout, TimeUnit unit) throws Exception {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                checkError();
+                if (nanos <= 0L) {
+                    return Optional.empty();
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            checkError();
+            return Optional.of(dequeue());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code maxElements} available elements to the given collection without blocking.
+     *
+     * @return the number of elements transferred.
+     */
+    public int drainTo(Collection<? super T> target, int maxElements) throws Exception {
+        checkError();
+        lock.lock();
+        try {
+            int n = Math.min(maxElements, count);
+            for (int i = 0; i < n; i++) {
+                target.add(dequeue());
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element, blocking while the handover is full.
+     */
     public void produce(final T element)
         throws InterruptedException, ClosedException {
-        if (error != null) {
-            throw new ClosedException();
+        checkNotNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                ensureOpen();
+                notFull.await();
+            }
+            ensureOpen();
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all elements in order, blocking whenever the handover is full.
+     */
+    public void produceAll(final Collection<? extends T> elements)
+        throws InterruptedException, ClosedException {
+        lock.lockInterruptibly();
+        try {
+            for (T element : elements) {
+                checkNotNull(element);
+                while (count == items.length) {
+                    ensureOpen();
+                    notFull.await();
+                }
+                ensureOpen();
+                enqueue(element);
+            }
+        } finally {
+            lock.unlock();
         }
-        blockingQueue.put(element);
     }
 
     public void reportError(Throwable t) {
         checkNotNull(t);
 
-        synchronized (lock) {
+        lock.lock();
+        try {
             // do not override the initial exception
             if (error == null) {
                 error = t;
             }
-            lock.notifyAll();
+            wakeUpAll();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void close() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (error == null) {
                 error = new ClosedException();
             }
-            lock.notifyAll();
+            wakeUpAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(T element) {
+        items[putIndex] = element;
+        if (++putIndex == items.length) {
+            putIndex = 0;
+        }
+        if (count++ == 0) {
+            availableFuture.complete(null);
+        }
+        notEmpty.signal();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T dequeue() {
+        T element = (T) items[takeIndex];
+        items[takeIndex] = null;
+        if (++takeIndex == items.length) {
+            takeIndex = 0;
+        }
+        count--;
+        notFull.signal();
+        return element;
+    }
+
+    private void wakeUpAll() {
+        notEmpty.signalAll();
+        notFull.signalAll();
+        availableFuture.complete(null);
+    }
+
+    private void checkError() throws Exception {
+        Throwable t = error;
+        if (t != null) {
+            rethrowException(t, t.getMessage());
+        }
+    }
+
+    private void ensureOpen() throws ClosedException {
+        if (error != null) {
+            throw new ClosedException();
         }
     }
 
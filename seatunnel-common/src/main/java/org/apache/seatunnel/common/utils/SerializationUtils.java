@@ -23,9 +23,11 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
+import java.io.OutputStream;
 import java.io.Serializable;
 
 public class SerializationUtils {
@@ -57,18 +59,37 @@ public class SerializationUtils {
     }
 
     public static <T extends Serializable> T deserialize(byte[] bytes) {
-        try (ByteArrayInputStream s = new ByteArrayInputStream(bytes);
-             ObjectInputStream in = new ObjectInputStream(s) {
-                 @Override
-                 protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
-                     // make sure use current thread classloader
-                     ClassLoader cl = Thread.currentThread().getContextClassLoader();
-                     if (cl == null) {
-                         return super.resolveClass(desc);
-                     }
-                     return Class.forName(desc.getName(), false, cl);
-                 }
-             }) {
+        return deserialize(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Writes the object to the given stream, which is flushed but not closed.
+     */
+    public static <T extends Serializable> void serialize(T obj, OutputStream outputStream) {
+        try {
+            ObjectOutputStream out = new ObjectOutputStream(outputStream);
+            out.writeObject(obj);
+            out.flush();
+        } catch (final IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Reads an object from the given stream, which is closed afterwards.
+     */
+    public static <T extends Serializable> T deserialize(InputStream inputStream) {
+        try (ObjectInputStream in = new ObjectInputStream(inputStream) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                // make sure use current thread classloader
+                ClassLoader cl = Thread.currentThread().getContextClassLoader();
+                if (cl == null) {
+                    return super.resolveClass(desc);
+                }
+                return Class.forName(desc.getName(), false, cl);
+            }
+        }) {
             @SuppressWarnings("unchecked") final T obj = (T) in.readObject();
             return obj;
         } catch (final ClassNotFoundException | IOException ex) {
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("MagicNumber")
+public class HandoverTest {
+
+    @Test
+    public void testProduceAndPollInOrder() throws Exception {
+        Handover<Integer> handover = new Handover<>(4);
+        for (int round = 0; round < 3; round++) {
+            handover.produceAll(Arrays.asList(1, 2, 3));
+            Assertions.assertEquals(3, handover.size());
+            Assertions.assertEquals(Optional.of(1), handover.pollNext());
+            Assertions.assertEquals(Optional.of(2), handover.pollNext());
+            Assertions.assertEquals(Optional.of(3), handover.pollNext());
+            Assertions.assertEquals(Optional.empty(), handover.pollNext());
+        }
+        Assertions.assertTrue(handover.isEmpty());
+    }
+
+    @Test
+    public void testDrainTo() throws Exception {
+        Handover<Integer> handover = new Handover<>(8);
+        handover.produceAll(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, handover.drainTo(drained, 3));
+        Assertions.assertEquals(2, handover.drainTo(drained, 10));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5), drained);
+        Assertions.assertEquals(0, handover.drainTo(drained, 10));
+    }
+
+    @Test
+    public void testProduceBlocksWhenFull() throws Exception {
+        Handover<Integer> handover = new Handover<>(2);
+        handover.produce(1);
+        handover.produce(2);
+        CountDownLatch produced = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                handover.produce(3);
+                produced.countDown();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        producer.start();
+
+        Assertions.assertFalse(produced.await(100, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(Optional.of(1), handover.pollNext());
+        Assertions.assertTrue(produced.await(1, TimeUnit.SECONDS));
+        producer.join();
+        Assertions.assertEquals(2, handover.size());
+    }
+
+    @Test
+    public void testTimedPoll() throws Exception {
+        Handover<Integer> handover = new Handover<>(2);
+        Assertions.assertEquals(Optional.empty(), handover.pollNext(10, TimeUnit.MILLISECONDS));
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+                handover.produce(1);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        producer.start();
+        Assertions.assertEquals(Optional.of(1), handover.pollNext(10, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    public void testAvailability() throws Exception {
+        Handover<Integer> handover = new Handover<>(2);
+        CompletableFuture<Void> available = handover.isAvailable();
+        Assertions.assertFalse(available.isDone());
+        handover.produce(1);
+        Assertions.assertTrue(available.isDone());
+        handover.pollNext();
+        Assertions.assertFalse(handover.isAvailable().isDone());
+    }
+
+    @Test
+    public void testErrorWakesUpBlockedThreads() throws Exception {
+        Handover<Integer> handover = new Handover<>(1);
+        handover.produce(1);
+        CompletableFuture<Throwable> producerError = new CompletableFuture<>();
+        Thread producer = new Thread(() -> {
+            try {
+                handover.produce(2);
+            } catch (Throwable t) {
+                producerError.complete(t);
+            }
+        });
+        producer.start();
+
+        RuntimeException error = new RuntimeException("test");
+        handover.reportError(error);
+        Assertions.assertTrue(producerError.get(1, TimeUnit.SECONDS) instanceof Handover.ClosedException);
+        Assertions.assertSame(error, Assertions.assertThrows(RuntimeException.class, handover::pollNext));
+        Assertions.assertThrows(RuntimeException.class, () -> handover.pollNext(1, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    public void testProduceAfterClose() {
+        Handover<Integer> handover = new Handover<>(1);
+        handover.close();
+        Assertions.assertThrows(Handover.ClosedException.class, () -> handover.produce(1));
+        Assertions.assertThrows(Handover.ClosedException.class, handover::pollNext);
+    }
+}
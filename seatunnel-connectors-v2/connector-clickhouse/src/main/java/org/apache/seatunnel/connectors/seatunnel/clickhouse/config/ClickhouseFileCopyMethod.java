@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.clickhouse.config;
 public enum ClickhouseFileCopyMethod {
     SCP("scp"),
     RSYNC("rsync"),
+    LOCAL("local"),
     ;
     private final String name;
 
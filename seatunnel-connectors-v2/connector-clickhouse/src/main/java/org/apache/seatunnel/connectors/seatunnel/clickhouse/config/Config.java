@@ -24,6 +24,16 @@ public class Config {
      */
     public static final String BULK_SIZE = "bulk_size";
 
+    /**
+     * The number of batches of each shard written in the background
+     */
+    public static final String MAX_IN_FLIGHT_BATCHES = "max_in_flight_batches";
+
+    /**
+     * The interval to write the rows of all shards, regardless of the bulk size
+     */
+    public static final String FLUSH_INTERVAL_MS = "flush_interval_ms";
+
     /**
      * Clickhouse fields
      */
@@ -31,6 +41,11 @@ public class Config {
 
     public static final String SQL = "sql";
 
+    /**
+     * Write rows in the RowBinary format over HTTP instead of JDBC batches
+     */
+    public static final String ROW_BINARY = "row_binary";
+
     /**
      * Clickhouse server host
      */
@@ -66,6 +81,21 @@ public class Config {
      */
     public static final String SHARDING_KEY = "sharding_key";
 
+    /**
+     * Split the rows of each table read by the source by its partitions
+     */
+    public static final String SPLIT_BY_PARTITION = "split_by_partition";
+
+    /**
+     * The integer column to split the rows of each table read by the source into ranges of
+     */
+    public static final String SPLIT_KEY = "split_key";
+
+    /**
+     * The number of ranges of the split_key of each table read by the source
+     */
+    public static final String SPLIT_NUM = "split_num";
+
     /**
      * ClickhouseFile sink connector used clickhouse-local program's path
      */
@@ -76,6 +106,11 @@ public class Config {
      */
     public static final String COPY_METHOD = "copy_method";
 
+    /**
+     * The size of the local data file of a shard, which is loaded into the shard once it is reached
+     */
+    public static final String MAX_FILE_SIZE = "max_file_size";
+
     /**
      * The size of each batch read temporary data into local file.
      */
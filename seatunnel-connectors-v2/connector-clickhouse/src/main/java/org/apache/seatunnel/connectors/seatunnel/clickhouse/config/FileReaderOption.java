@@ -35,6 +35,7 @@ public class FileReaderOption implements Serializable {
     private Map<String, String> nodeUser;
     private Map<String, String> nodePassword;
     private SeaTunnelRowType seaTunnelRowType;
+    private long maxFileSize;
 
     public FileReaderOption(ShardMetadata shardMetadata, Map<String, String> tableSchema,
                             List<String> fields, String clickhouseLocalPath,
@@ -58,6 +59,14 @@ public class FileReaderOption implements Serializable {
         this.seaTunnelRowType = seaTunnelRowType;
     }
 
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
     public boolean isNodeFreePass() {
         return nodeFreePass;
     }
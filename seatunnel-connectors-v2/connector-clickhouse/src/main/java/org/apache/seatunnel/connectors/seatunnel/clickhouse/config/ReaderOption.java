@@ -34,6 +34,9 @@ public class ReaderOption implements Serializable {
     private SeaTunnelRowType seaTunnelRowType;
     private Properties properties;
     private int bulkSize;
+    private boolean rowBinary;
+    private int maxInFlightBatches;
+    private long flushIntervalMs;
 
     public ReaderOption(ShardMetadata shardMetadata,
                         Properties properties, List<String> fields, Map<String, String> tableSchema, int bulkSize) {
@@ -91,4 +94,28 @@ public class ReaderOption implements Serializable {
     public void setBulkSize(int bulkSize) {
         this.bulkSize = bulkSize;
     }
+
+    public boolean isRowBinary() {
+        return rowBinary;
+    }
+
+    public void setRowBinary(boolean rowBinary) {
+        this.rowBinary = rowBinary;
+    }
+
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
 }
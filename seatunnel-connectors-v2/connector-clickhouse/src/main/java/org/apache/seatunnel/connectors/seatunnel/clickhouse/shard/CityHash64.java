@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.shard;
+
+/**
+ * The 64-bit CityHash of version 1.0.2, which is the version behind the {@code cityHash64} function of ClickHouse.
+ * Later versions of CityHash return different hashes, so the rows could not be routed like ClickHouse does with them.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class CityHash64 {
+
+    private static final long K0 = 0xc3a5c85c97cb3127L;
+    private static final long K1 = 0xb492b66fbe98f273L;
+    private static final long K2 = 0x9ae16a3b2f90404fL;
+    private static final long K3 = 0xc949d7c7509e6557L;
+    private static final long K_MUL = 0x9ddfea08eb382d69L;
+
+    private CityHash64() {
+    }
+
+    public static long hash(byte[] data) {
+        return hash(data, 0, data.length);
+    }
+
+    public static long hash(byte[] data, int offset, int length) {
+        if (length <= 32) {
+            return length <= 16 ? hashLen0to16(data, offset, length) : hashLen17to32(data, offset, length);
+        } else if (length <= 64) {
+            return hashLen33to64(data, offset, length);
+        }
+
+        long x = fetch64(data, offset);
+        long y = fetch64(data, offset + length - 16) ^ K1;
+        long z = fetch64(data, offset + length - 56) ^ K0;
+        long[] v = weakHashLen32WithSeeds(data, offset + length - 64, length, y);
+        long[] w = weakHashLen32WithSeeds(data, offset + length - 32, length * K1, K0);
+        z += shiftMix(v[1]) * K1;
+        x = rotate(z + x, 39) * K1;
+        y = rotate(y, 33) * K1;
+
+        int remaining = (length - 1) & ~63;
+        int pos = offset;
+        do {
+            x = rotate(x + y + v[0] + fetch64(data, pos + 16), 37) * K1;
+            y = rotate(y + v[1] + fetch64(data, pos + 48), 42) * K1;
+            x ^= w[1];
+            y ^= v[0];
+            z = rotate(z ^ w[0], 33);
+            v = weakHashLen32WithSeeds(data, pos, v[1] * K1, x + w[0]);
+            w = weakHashLen32WithSeeds(data, pos + 32, z + w[1], y);
+            long swap = z;
+            z = x;
+            x = swap;
+            pos += 64;
+            remaining -= 64;
+        } while (remaining != 0);
+        return hashLen16(hashLen16(v[0], w[0]) + shiftMix(y) * K1 + z, hashLen16(v[1], w[1]) + x);
+    }
+
+    private static long hashLen0to16(byte[] data, int offset, int length) {
+        if (length > 8) {
+            long a = fetch64(data, offset);
+            long b = fetch64(data, offset + length - 8);
+            return hashLen16(a, rotateByAtLeast1(b + length, length)) ^ b;
+        }
+        if (length >= 4) {
+            long a = fetch32(data, offset);
+            return hashLen16(length + (a << 3), fetch32(data, offset + length - 4));
+        }
+        if (length > 0) {
+            int a = data[offset] & 0xff;
+            int b = data[offset + (length >> 1)] & 0xff;
+            int c = data[offset + length - 1] & 0xff;
+            int y = a + (b << 8);
+            int z = length + (c << 2);
+            return shiftMix(y * K2 ^ z * K3) * K2;
+        }
+        return K2;
+    }
+
+    private static long hashLen17to32(byte[] data, int offset, int length) {
+        long a = fetch64(data, offset) * K1;
+        long b = fetch64(data, offset + 8);
+        long c = fetch64(data, offset + length - 8) * K2;
+        long d = fetch64(data, offset + length - 16) * K0;
+        return hashLen16(rotate(a - b, 43) + rotate(c, 30) + d, a + rotate(b ^ K3, 20) - c + length);
+    }
+
+    private static long hashLen33to64(byte[] data, int offset, int length) {
+        long z = fetch64(data, offset + 24);
+        long a = fetch64(data, offset) + (length + fetch64(data, offset + length - 16)) * K0;
+        long b = rotate(a + z, 52);
+        long c = rotate(a, 37);
+        a += fetch64(data, offset + 8);
+        c += rotate(a, 7);
+        a += fetch64(data, offset + 16);
+        long vf = a + z;
+        long vs = b + rotate(a, 31) + c;
+        a = fetch64(data, offset + 16) + fetch64(data, offset + length - 32);
+        z = fetch64(data, offset + length - 8);
+        b = rotate(a + z, 52);
+        c = rotate(a, 37);
+        a += fetch64(data, offset + length - 24);
+        c += rotate(a, 7);
+        a += fetch64(data, offset + length - 16);
+        long wf = a + z;
+        long ws = b + rotate(a, 31) + c;
+        long r = shiftMix((vf + ws) * K2 + (wf + vs) * K0);
+        return shiftMix(r * K0 + vs) * K2;
+    }
+
+    private static long[] weakHashLen32WithSeeds(byte[] data, int offset, long a, long b) {
+        long w = fetch64(data, offset);
+        long x = fetch64(data, offset + 8);
+        long y = fetch64(data, offset + 16);
+        long z = fetch64(data, offset + 24);
+        a += w;
+        b = rotate(b + a + z, 21);
+        long c = a;
+        a += x;
+        a += y;
+        b += rotate(a, 44);
+        return new long[]{a + z, b + c};
+    }
+
+    private static long hashLen16(long u, long v) {
+        long a = (u ^ v) * K_MUL;
+        a ^= a >>> 47;
+        long b = (v ^ a) * K_MUL;
+        b ^= b >>> 47;
+        return b * K_MUL;
+    }
+
+    private static long shiftMix(long value) {
+        return value ^ (value >>> 47);
+    }
+
+    private static long rotate(long value, int shift) {
+        return shift == 0 ? value : rotateByAtLeast1(value, shift);
+    }
+
+    private static long rotateByAtLeast1(long value, int shift) {
+        return (value >>> shift) | (value << (64 - shift));
+    }
+
+    private static long fetch64(byte[] data, int offset) {
+        return (data[offset] & 0xffL) |
+                (data[offset + 1] & 0xffL) << 8 |
+                (data[offset + 2] & 0xffL) << 16 |
+                (data[offset + 3] & 0xffL) << 24 |
+                (data[offset + 4] & 0xffL) << 32 |
+                (data[offset + 5] & 0xffL) << 40 |
+                (data[offset + 6] & 0xffL) << 48 |
+                (data[offset + 7] & 0xffL) << 56;
+    }
+
+    private static long fetch32(byte[] data, int offset) {
+        return (data[offset] & 0xffL) |
+                (data[offset + 1] & 0xffL) << 8 |
+                (data[offset + 2] & 0xffL) << 16 |
+                (data[offset + 3] & 0xffL) << 24;
+    }
+}
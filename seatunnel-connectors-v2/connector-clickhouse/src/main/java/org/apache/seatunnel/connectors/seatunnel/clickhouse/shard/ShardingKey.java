@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.shard;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sharding key of a Distributed table, which computes the value selecting the shard of a row.
+ *
+ * <p>ClickHouse sends a row to the shard owning the weight slot {@code value % total weight}, where the value is the
+ * unsigned result of the sharding key expression. The expressions {@code rand()}, {@code column},
+ * {@code cityHash64(column)} and {@code intHash64(column)} are computed exactly like ClickHouse does, so the rows are
+ * written to the shards where the Distributed table would have put them.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class ShardingKey implements Serializable {
+
+    private static final long serialVersionUID = -1L;
+
+    private static final ShardingKey RANDOM = new ShardingKey(Function.RANDOM, null, ValueType.OTHER, 0);
+
+    private enum Function {
+        RANDOM, IDENTITY, CITY_HASH64, INT_HASH64
+    }
+
+    private enum ValueType {
+        INTEGER, FLOAT32, FLOAT64, STRING, OTHER
+    }
+
+    private final Function function;
+    private final String column;
+    private final ValueType valueType;
+    /**
+     * The width in bits of an integer column.
+     */
+    private final int width;
+
+    private ShardingKey(Function function, String column, ValueType valueType, int width) {
+        this.function = function;
+        this.column = column;
+        this.valueType = valueType;
+        this.width = width;
+    }
+
+    public static ShardingKey random() {
+        return RANDOM;
+    }
+
+    /**
+     * Returns the sharding key of the given column: its value for an integer column and the {@code cityHash64} of
+     * its value for any other column.
+     */
+    public static ShardingKey ofColumn(String column, String type) {
+        int width = integerWidth(type);
+        return width > 0 ? new ShardingKey(Function.IDENTITY, column, ValueType.INTEGER, width)
+                : new ShardingKey(Function.CITY_HASH64, column, valueType(type), 0);
+    }
+
+    /**
+     * Parses the sharding key expression of a Distributed table.
+     *
+     * @param expression  the sharding key expression, like {@code cityHash64(user_id)}.
+     * @param tableSchema the column types of the table.
+     * @return the sharding key, or null if the expression cannot be computed outside of ClickHouse.
+     */
+    public static ShardingKey parse(String expression, Map<String, String> tableSchema) {
+        String name = ClickhouseUtil.functionName(expression);
+        List<String> args = ClickhouseUtil.functionArguments(expression);
+        if (expression.indexOf('(') < 0) {
+            String type = tableSchema.get(unquote(name));
+            int width = type == null ? 0 : integerWidth(type);
+            return width > 0 ? new ShardingKey(Function.IDENTITY, unquote(name), ValueType.INTEGER, width) : null;
+        }
+        if (args.isEmpty() && ("rand".equals(name) || "rand32".equals(name) || "rand64".equals(name))) {
+            return RANDOM;
+        }
+        if (args.size() != 1 || args.get(0).indexOf('(') >= 0) {
+            return null;
+        }
+        String column = unquote(args.get(0));
+        String type = tableSchema.get(column);
+        if (type == null) {
+            return null;
+        }
+        int width = integerWidth(type);
+        if ("cityHash64".equals(name)) {
+            ValueType valueType = valueType(type);
+            return valueType == ValueType.OTHER ? null : new ShardingKey(Function.CITY_HASH64, column, valueType, width);
+        }
+        if ("intHash64".equals(name) && width > 0) {
+            return new ShardingKey(Function.INT_HASH64, column, ValueType.INTEGER, width);
+        }
+        return null;
+    }
+
+    public boolean isRandom() {
+        return function == Function.RANDOM;
+    }
+
+    /**
+     * Returns the column of the sharding key, or null if the sharding key is random.
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Computes the sharding key of the non-null value of the column, which is an unsigned 64-bit integer.
+     */
+    public long value(Object value) {
+        switch (function) {
+            case IDENTITY:
+                // the integer is zero-extended to 64 bits, as ClickHouse takes the modulo of its unsigned value
+                long number = longValue(value);
+                return width == 64 ? number : number & ((1L << width) - 1);
+            case INT_HASH64:
+                return intHash64(longValue(value));
+            case CITY_HASH64:
+                return cityHash64(value);
+            default:
+                throw new IllegalStateException("Random sharding key has no value");
+        }
+    }
+
+    private long cityHash64(Object value) {
+        switch (valueType) {
+            case INTEGER:
+                // the integer is zero-extended to 64 bits
+                long number = longValue(value);
+                return intHash64(width == 64 ? number : number & ((1L << width) - 1));
+            case FLOAT32:
+                return intHash64(Float.floatToRawIntBits(((Number) value).floatValue()) & 0xffffffffL);
+            case FLOAT64:
+                return intHash64(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+            default:
+                byte[] bytes = value instanceof byte[] ? (byte[]) value
+                        : value.toString().getBytes(StandardCharsets.UTF_8);
+                return CityHash64.hash(bytes);
+        }
+    }
+
+    /**
+     * The {@code intHash64} function of ClickHouse.
+     */
+    static long intHash64(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb93fe53b5ec3L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private static long longValue(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigInteger) {
+            // the low 64 bits of UInt64 values
+            return ((BigInteger) value).longValue();
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        } else if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toEpochDay();
+        }
+        return new BigInteger(value.toString().trim()).longValue();
+    }
+
+    private static String baseType(String type) {
+        String name = ClickhouseUtil.functionName(type);
+        if ("Nullable".equals(name) || "LowCardinality".equals(name)) {
+            return baseType(ClickhouseUtil.functionArguments(type).get(0));
+        }
+        return type.trim();
+    }
+
+    /**
+     * Returns the width in bits of an integer type, or 0 if the type is not an integer.
+     */
+    private static int integerWidth(String type) {
+        switch (baseType(type)) {
+            case "Int8":
+            case "UInt8":
+            case "Bool":
+                return 8;
+            case "Int16":
+            case "UInt16":
+            case "Date":
+                return 16;
+            case "Int32":
+            case "UInt32":
+            case "Date32":
+                return 32;
+            case "Int64":
+            case "UInt64":
+                return 64;
+            default:
+                return 0;
+        }
+    }
+
+    private static ValueType valueType(String type) {
+        if (integerWidth(type) > 0) {
+            return ValueType.INTEGER;
+        }
+        switch (baseType(type)) {
+            case "Float32":
+                return ValueType.FLOAT32;
+            case "Float64":
+                return ValueType.FLOAT64;
+            case "String":
+                return ValueType.STRING;
+            default:
+                return ValueType.OTHER;
+        }
+    }
+
+    private static String unquote(String identifier) {
+        String trimmed = identifier.trim();
+        if (trimmed.length() > 1 && (trimmed.startsWith("`") || trimmed.startsWith("\""))) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+}
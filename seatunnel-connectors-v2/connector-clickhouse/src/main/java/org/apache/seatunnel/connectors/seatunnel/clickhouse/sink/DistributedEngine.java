@@ -25,11 +25,17 @@ public class DistributedEngine implements Serializable {
     private String clusterName;
     private String database;
     private String table;
+    private String shardingKey;
 
     public DistributedEngine(String clusterName, String database, String table) {
+        this(clusterName, database, table, null);
+    }
+
+    public DistributedEngine(String clusterName, String database, String table, String shardingKey) {
         this.clusterName = clusterName;
         this.database = database;
         this.table = table;
+        this.shardingKey = shardingKey;
     }
 
     public String getClusterName() {
@@ -55,4 +61,15 @@ public class DistributedEngine implements Serializable {
     public void setTable(String table) {
         this.table = table;
     }
+
+    /**
+     * The sharding key expression of the table, like {@code rand()}, or null if the table has none.
+     */
+    public String getShardingKey() {
+        return shardingKey;
+    }
+
+    public void setShardingKey(String shardingKey) {
+        this.shardingKey = shardingKey;
+    }
 }
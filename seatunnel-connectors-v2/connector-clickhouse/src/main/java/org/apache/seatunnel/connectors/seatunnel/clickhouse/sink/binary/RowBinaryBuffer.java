@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A growable off-heap buffer which ClickHouse {@code RowBinary} data is encoded into, reused across batches.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public class RowBinaryBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer;
+
+    public RowBinaryBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RowBinaryBuffer(int capacity) {
+        this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * The number of bytes written since the last {@link #clear()}.
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * Returns a stream of the bytes written so far. The stream is invalid once the buffer is written or cleared.
+     */
+    public InputStream toInputStream() {
+        ByteBuffer data = buffer.duplicate();
+        data.flip();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return data.hasRemaining() ? data.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!data.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, data.remaining());
+                data.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return data.remaining();
+            }
+        };
+    }
+
+    /**
+     * Writes the bytes written so far to the channel, the buffer itself is left unchanged.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer data = buffer.duplicate();
+        data.flip();
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    public void writeShort(int value) {
+        ensureCapacity(Short.BYTES);
+        buffer.putShort((short) value);
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeFloat(float value) {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    public void writeDouble(double value) {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    public void writeBytes(byte[] value) {
+        ensureCapacity(value.length);
+        buffer.put(value);
+    }
+
+    /**
+     * Writes an unsigned LEB128 integer, which prefixes strings, arrays and maps.
+     */
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            buffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte) v);
+    }
+
+    /**
+     * Writes the length prefixed UTF-8 bytes of the string, without allocating for ASCII strings.
+     */
+    public void writeString(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(bytes.length);
+                writeBytes(bytes);
+                return;
+            }
+        }
+        writeVarInt(length);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates the {@link RowBinaryFieldEncoder} of a ClickHouse column type, like {@code Nullable(Decimal(18, 4))}.
+ *
+ * <p>The type is parsed once, so encoding a value does not dispatch on the type any more. A null value of a column
+ * which is not {@code Nullable} is encoded as the default value of the type.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class RowBinaryEncoders {
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+        10_000_000L, 100_000_000L, 1_000_000_000L};
+
+    private RowBinaryEncoders() {
+    }
+
+    /**
+     * Create the encoder of a column type.
+     *
+     * @param type           ClickHouse column type
+     * @param serverTimeZone time zone of the DateTime columns without an explicit time zone
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    public static RowBinaryFieldEncoder create(String type, ZoneId serverTimeZone) {
+        String name = ClickhouseUtil.functionName(type);
+        List<String> args = ClickhouseUtil.functionArguments(type);
+        switch (name) {
+            case "Nullable": {
+                RowBinaryFieldEncoder encoder = create(args.get(0), serverTimeZone);
+                return (buffer, value) -> {
+                    if (value == null) {
+                        buffer.writeByte(1);
+                    } else {
+                        buffer.writeByte(0);
+                        encoder.encode(buffer, value);
+                    }
+                };
+            }
+            case "LowCardinality":
+                return create(args.get(0), serverTimeZone);
+            case "SimpleAggregateFunction":
+                return create(args.get(1), serverTimeZone);
+            default:
+                RowBinaryFieldEncoder encoder = createNotNull(type, name, args, serverTimeZone);
+                byte[] defaultValue = defaultValue(type, name, args);
+                return (buffer, value) -> {
+                    if (value == null) {
+                        buffer.writeBytes(defaultValue);
+                    } else {
+                        encoder.encode(buffer, value);
+                    }
+                };
+        }
+    }
+
+    private static RowBinaryFieldEncoder createNotNull(String type, String name, List<String> args, ZoneId serverTimeZone) {
+        switch (name) {
+            case "Int8":
+            case "UInt8":
+                return (buffer, value) -> buffer.writeByte((int) toLong(value));
+            case "Bool":
+            case "Boolean":
+                return (buffer, value) -> buffer.writeByte(toBoolean(value) ? 1 : 0);
+            case "Int16":
+            case "UInt16":
+                return (buffer, value) -> buffer.writeShort((int) toLong(value));
+            case "Int32":
+            case "UInt32":
+                return (buffer, value) -> buffer.writeInt((int) toLong(value));
+            case "Int64":
+            case "UInt64":
+                return (buffer, value) -> buffer.writeLong(value instanceof BigInteger ? ((BigInteger) value).longValue() : toLong(value));
+            case "Int128":
+            case "UInt128":
+                return (buffer, value) -> writeBigInteger(buffer, toBigInteger(value), 16);
+            case "Int256":
+            case "UInt256":
+                return (buffer, value) -> writeBigInteger(buffer, toBigInteger(value), 32);
+            case "Float32":
+                return (buffer, value) -> buffer.writeFloat(value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString()));
+            case "Float64":
+                return (buffer, value) -> buffer.writeDouble(value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString()));
+            case "Decimal":
+                return decimal(decimalBytes(Integer.parseInt(args.get(0))), args.size() > 1 ? Integer.parseInt(args.get(1)) : 0);
+            case "Decimal32":
+                return decimal(4, Integer.parseInt(args.get(0)));
+            case "Decimal64":
+                return decimal(8, Integer.parseInt(args.get(0)));
+            case "Decimal128":
+                return decimal(16, Integer.parseInt(args.get(0)));
+            case "Decimal256":
+                return decimal(32, Integer.parseInt(args.get(0)));
+            case "String":
+                return (buffer, value) -> {
+                    if (value instanceof byte[]) {
+                        buffer.writeVarInt(((byte[]) value).length);
+                        buffer.writeBytes((byte[]) value);
+                    } else {
+                        buffer.writeString(value.toString());
+                    }
+                };
+            case "FixedString":
+                return fixedString(Integer.parseInt(args.get(0)));
+            case "UUID":
+                return (buffer, value) -> {
+                    UUID uuid = value instanceof UUID ? (UUID) value : UUID.fromString(value.toString());
+                    buffer.writeLong(uuid.getMostSignificantBits());
+                    buffer.writeLong(uuid.getLeastSignificantBits());
+                };
+            case "Date":
+                return (buffer, value) -> buffer.writeShort((int) toEpochDay(value));
+            case "Date32":
+                return (buffer, value) -> buffer.writeInt((int) toEpochDay(value));
+            case "DateTime": {
+                ZoneId zone = args.isEmpty() ? serverTimeZone : ZoneId.of(ClickhouseUtil.unquote(args.get(0)));
+                return (buffer, value) -> buffer.writeInt((int) (value instanceof Number ?
+                    ((Number) value).longValue() : toInstant(value, zone).getEpochSecond()));
+            }
+            case "DateTime64": {
+                int precision = Integer.parseInt(args.get(0));
+                ZoneId zone = args.size() < 2 ? serverTimeZone : ZoneId.of(ClickhouseUtil.unquote(args.get(1)));
+                return (buffer, value) -> {
+                    if (value instanceof Number) {
+                        buffer.writeLong(((Number) value).longValue());
+                    } else {
+                        Instant instant = toInstant(value, zone);
+                        buffer.writeLong(instant.getEpochSecond() * POWERS_OF_TEN[precision]
+                            + instant.getNano() / POWERS_OF_TEN[9 - precision]);
+                    }
+                };
+            }
+            case "Enum8":
+            case "Enum16": {
+                Map<String, Integer> values = ClickhouseUtil.enumValues(args);
+                boolean enum8 = "Enum8".equals(name);
+                return (buffer, value) -> {
+                    int v = value instanceof Number ? ((Number) value).intValue() : enumValue(values, value.toString(), type);
+                    if (enum8) {
+                        buffer.writeByte(v);
+                    } else {
+                        buffer.writeShort(v);
+                    }
+                };
+            }
+            case "IPv4":
+                return (buffer, value) -> {
+                    if (value instanceof Number) {
+                        buffer.writeInt(((Number) value).intValue());
+                    } else {
+                        byte[] address = toInetAddress(value, 4);
+                        buffer.writeInt((address[0] & 0xFF) << 24 | (address[1] & 0xFF) << 16 | (address[2] & 0xFF) << 8 | address[3] & 0xFF);
+                    }
+                };
+            case "IPv6":
+                return (buffer, value) -> buffer.writeBytes(toInetAddress(value, 16));
+            case "Array": {
+                RowBinaryFieldEncoder element = create(args.get(0), serverTimeZone);
+                return (buffer, value) -> {
+                    if (value instanceof Object[]) {
+                        Object[] array = (Object[]) value;
+                        buffer.writeVarInt(array.length);
+                        for (Object e : array) {
+                            element.encode(buffer, e);
+                        }
+                    } else if (value instanceof Collection) {
+                        Collection<?> collection = (Collection<?>) value;
+                        buffer.writeVarInt(collection.size());
+                        for (Object e : collection) {
+                            element.encode(buffer, e);
+                        }
+                    } else if (value.getClass().isArray()) {
+                        int length = Array.getLength(value);
+                        buffer.writeVarInt(length);
+                        for (int i = 0; i < length; i++) {
+                            element.encode(buffer, Array.get(value, i));
+                        }
+                    } else {
+                        throw new IllegalArgumentException("Cannot encode " + value.getClass().getName() + " as " + type);
+                    }
+                };
+            }
+            case "Map": {
+                RowBinaryFieldEncoder keyEncoder = create(args.get(0), serverTimeZone);
+                RowBinaryFieldEncoder valueEncoder = create(args.get(1), serverTimeZone);
+                return (buffer, value) -> {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    buffer.writeVarInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        keyEncoder.encode(buffer, entry.getKey());
+                        valueEncoder.encode(buffer, entry.getValue());
+                    }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported ClickHouse type of RowBinary format: " + type);
+        }
+    }
+
+    private static byte[] defaultValue(String type, String name, List<String> args) {
+        switch (name) {
+            case "Int8":
+            case "UInt8":
+            case "Bool":
+            case "Boolean":
+                return new byte[1];
+            case "Int16":
+            case "UInt16":
+            case "Date":
+                return new byte[2];
+            case "Int32":
+            case "UInt32":
+            case "Float32":
+            case "Date32":
+            case "DateTime":
+            case "IPv4":
+            case "Decimal32":
+                return new byte[4];
+            case "Int64":
+            case "UInt64":
+            case "Float64":
+            case "DateTime64":
+            case "Decimal64":
+                return new byte[8];
+            case "Int128":
+            case "UInt128":
+            case "UUID":
+            case "IPv6":
+            case "Decimal128":
+                return new byte[16];
+            case "Int256":
+            case "UInt256":
+            case "Decimal256":
+                return new byte[32];
+            case "Decimal":
+                return new byte[decimalBytes(Integer.parseInt(args.get(0)))];
+            case "FixedString":
+                return new byte[Integer.parseInt(args.get(0))];
+            case "Enum8":
+                return new byte[]{ClickhouseUtil.enumValues(args).values().iterator().next().byteValue()};
+            case "Enum16": {
+                int v = ClickhouseUtil.enumValues(args).values().iterator().next();
+                return new byte[]{(byte) v, (byte) (v >> 8)};
+            }
+            default:
+                // the empty String, Array and Map are encoded as a zero length
+                return new byte[1];
+        }
+    }
+
+    private static RowBinaryFieldEncoder decimal(int bytes, int scale) {
+        return (buffer, value) -> {
+            BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+            BigInteger unscaled = decimal.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+            if (bytes == 4) {
+                buffer.writeInt(unscaled.intValue());
+            } else if (bytes == 8) {
+                buffer.writeLong(unscaled.longValue());
+            } else {
+                writeBigInteger(buffer, unscaled, bytes);
+            }
+        };
+    }
+
+    private static int decimalBytes(int precision) {
+        if (precision <= 9) {
+            return 4;
+        } else if (precision <= 18) {
+            return 8;
+        } else if (precision <= 38) {
+            return 16;
+        }
+        return 32;
+    }
+
+    private static RowBinaryFieldEncoder fixedString(int length) {
+        return (buffer, value) -> {
+            byte[] bytes = value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > length) {
+                throw new IllegalArgumentException(String.format("The value of %s bytes is too long for FixedString(%s)",
+                    bytes.length, length));
+            }
+            buffer.writeBytes(bytes);
+            for (int i = bytes.length; i < length; i++) {
+                buffer.writeByte(0);
+            }
+        };
+    }
+
+    /**
+     * Writes the two's complement of the value in little-endian order.
+     */
+    private static void writeBigInteger(RowBinaryBuffer buffer, BigInteger value, int bytes) {
+        byte[] bigEndian = value.toByteArray();
+        byte padding = value.signum() < 0 ? (byte) 0xFF : 0;
+        for (int i = 0; i < bytes; i++) {
+            int index = bigEndian.length - 1 - i;
+            buffer.writeByte(index >= 0 ? bigEndian[index] : padding);
+        }
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue() != 0L;
+        }
+        return Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        } else if (value instanceof Number) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigInteger(value.toString().trim());
+    }
+
+    private static long toEpochDay(Object value) {
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate().toEpochDay();
+        } else if (value instanceof Date) {
+            return ((Date) value).toLocalDate().toEpochDay();
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Date.valueOf(value.toString().trim()).toLocalDate().toEpochDay();
+    }
+
+    private static Instant toInstant(Object value, ZoneId zone) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(zone).toInstant();
+        } else if (value instanceof Timestamp) {
+            return ((Timestamp) value).toInstant();
+        } else if (value instanceof Instant) {
+            return (Instant) value;
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(zone).toInstant();
+        }
+        return Timestamp.valueOf(value.toString().trim()).toLocalDateTime().atZone(zone).toInstant();
+    }
+
+    private static byte[] toInetAddress(Object value, int bytes) {
+        byte[] address;
+        if (value instanceof InetAddress) {
+            address = ((InetAddress) value).getAddress();
+        } else {
+            try {
+                address = InetAddress.getByName(value.toString().trim()).getAddress();
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid IP address: " + value, e);
+            }
+        }
+        if (address.length == bytes) {
+            return address;
+        }
+        if (address.length == 4 && bytes == 16) {
+            // IPv4-mapped IPv6 address
+            byte[] mapped = new byte[16];
+            mapped[10] = (byte) 0xFF;
+            mapped[11] = (byte) 0xFF;
+            System.arraycopy(address, 0, mapped, 12, 4);
+            return mapped;
+        }
+        throw new IllegalArgumentException("Invalid IPv4 address: " + value);
+    }
+
+    private static int enumValue(Map<String, Integer> values, String name, String type) {
+        Integer value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Unknown value '%s' of %s", name, type));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the fields of rows into the {@code RowBinary} format of the columns of a ClickHouse table, with the field
+ * indexes and encoders resolved once from the table schema.
+ */
+public class RowBinaryRowEncoder {
+
+    private final int[] fieldIndexes;
+    private final RowBinaryFieldEncoder[] encoders;
+
+    /**
+     * @param fields         columns to write, in the order of the insert statement
+     * @param tableSchema    types of the columns of the table
+     * @param rowType        type of the rows, a column which is not a field of it is written as its default value
+     * @param serverTimeZone time zone of the DateTime columns without an explicit time zone
+     */
+    public RowBinaryRowEncoder(List<String> fields, Map<String, String> tableSchema, SeaTunnelRowType rowType,
+                               ZoneId serverTimeZone) {
+        this.fieldIndexes = new int[fields.size()];
+        this.encoders = new RowBinaryFieldEncoder[fields.size()];
+        List<String> fieldNames = Arrays.asList(rowType.getFieldNames());
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            fieldIndexes[i] = fieldNames.indexOf(field);
+            encoders[i] = RowBinaryEncoders.create(tableSchema.get(field), serverTimeZone);
+        }
+    }
+
+    public void encode(RowBinaryBuffer buffer, SeaTunnelRow row) {
+        for (int i = 0; i < encoders.length; i++) {
+            int index = fieldIndexes[i];
+            encoders[i].encode(buffer, index < 0 ? null : row.getField(index));
+        }
+    }
+}
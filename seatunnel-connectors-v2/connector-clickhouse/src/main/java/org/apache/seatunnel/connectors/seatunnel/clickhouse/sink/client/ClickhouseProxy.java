@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.DistributedEngine;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.file.ClickhouseTable;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
 
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseException;
@@ -29,8 +30,8 @@ import com.clickhouse.client.ClickHouseRecord;
 import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
 
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,9 +77,9 @@ public class ClickhouseProxy {
                 ClickHouseRecord record = records.get(0);
                 // engineFull field will be like : Distributed(cluster, database, table[, sharding_key[, policy_name]])
                 String engineFull = record.getValue(0).asString();
-                List<String> infos = Arrays.stream(engineFull.substring(12).split(","))
-                        .map(s -> s.replace("'", "").trim()).collect(Collectors.toList());
-                return new DistributedEngine(infos.get(0), infos.get(1), infos.get(2).replace("\\)", "").trim());
+                List<String> infos = ClickhouseUtil.functionArguments(engineFull);
+                return new DistributedEngine(unquote(infos.get(0)), unquote(infos.get(1)), unquote(infos.get(2)),
+                        infos.size() > 3 ? infos.get(3) : null);
             }
             throw new RuntimeException("Cannot get distributed table from clickhouse, resultSet is empty");
         } catch (ClickHouseException e) {
@@ -86,6 +87,17 @@ public class ClickhouseProxy {
         }
     }
 
+    /**
+     * Get the time zone of the server, which is the time zone of DateTime columns without an explicit time zone.
+     */
+    public ZoneId getServerTimeZone() {
+        try (ClickHouseResponse response = clickhouseRequest.query("select timezone()").executeAndWait()) {
+            return ZoneId.of(response.records().iterator().next().getValue(0).asString());
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get time zone from clickhouse", e);
+        }
+    }
+
     /**
      * Get ClickHouse table schema, the key is fileName, value is value type.
      *
@@ -209,4 +221,8 @@ public class ClickhouseProxy {
         }
         shardToDataSource.values().forEach(ClickHouseClient::close);
     }
+
+    private static String unquote(String identifier) {
+        return identifier.replace("'", "").replace("`", "").trim();
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryRowEncoder;
+
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseFormat;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+
+import java.io.IOException;
+
+/**
+ * Encodes the rows of a shard into a reused off-heap {@code RowBinary} buffer and streams every batch to the shard
+ * with a single HTTP insert.
+ */
+public class ClickhouseRowBinaryWriter {
+
+    private final Shard shard;
+    private final ClickHouseRequest<?> request;
+    private final String insertQuery;
+    private final RowBinaryRowEncoder rowEncoder;
+    private final RowBinaryBuffer buffer = new RowBinaryBuffer();
+    private int rowCount;
+
+    public ClickhouseRowBinaryWriter(Shard shard, ClickHouseRequest<?> request, String insertQuery,
+                                     RowBinaryRowEncoder rowEncoder) {
+        this.shard = shard;
+        this.request = request;
+        this.insertQuery = insertQuery;
+        this.rowEncoder = rowEncoder;
+    }
+
+    public void write(SeaTunnelRow row) {
+        rowEncoder.encode(buffer, row);
+        rowCount++;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public void flush() throws IOException {
+        if (rowCount == 0) {
+            return;
+        }
+        try (ClickHouseResponse response = request.write()
+            .format(ClickHouseFormat.RowBinary)
+            .query(insertQuery)
+            .data(buffer.toInputStream())
+            .executeAndWait()) {
+            buffer.clear();
+            rowCount = 0;
+        } catch (ClickHouseException e) {
+            throw new IOException(String.format("Failed to insert %s rows into shard %s", rowCount, shard.getShardNum()), e);
+        }
+    }
+}
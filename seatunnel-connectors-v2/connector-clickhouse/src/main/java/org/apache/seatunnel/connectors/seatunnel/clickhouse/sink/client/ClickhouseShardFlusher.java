@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Collects the rows of a shard into batches of {@code bulkSize} rows, which are written by a background thread of
+ * the shard, so a slow shard does not block the writes to the other shards.
+ *
+ * <p>At most {@code maxInFlightBatches} batches are handed over to the background thread, adding a row waits while
+ * they are all pending. With {@code maxInFlightBatches} of 0 the batches are written by the calling thread.
+ */
+public class ClickhouseShardFlusher {
+
+    private final Shard shard;
+    private final BatchWriter batchWriter;
+    private final int bulkSize;
+    private final int maxInFlightBatches;
+    private final ExecutorService executor;
+    private final Deque<Future<?>> inFlightBatches = new ArrayDeque<>();
+    private List<SeaTunnelRow> batch = new ArrayList<>();
+
+    public ClickhouseShardFlusher(Shard shard, BatchWriter batchWriter, int bulkSize, int maxInFlightBatches) {
+        checkArgument(maxInFlightBatches >= 0, "maxInFlightBatches must not be negative, but is %s", maxInFlightBatches);
+        this.shard = shard;
+        this.batchWriter = batchWriter;
+        this.bulkSize = bulkSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.executor = maxInFlightBatches == 0 ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            thread.setName("clickhouse-shard-" + shard.getShardNum() + "-flusher");
+            return thread;
+        });
+    }
+
+    public void add(SeaTunnelRow row) throws IOException {
+        awaitInFlightBatches(maxInFlightBatches);
+        batch.add(row);
+        if (batch.size() >= bulkSize) {
+            submitBatch();
+        }
+    }
+
+    /**
+     * Hands the current batch over to the background thread, waiting while {@code maxInFlightBatches} batches are
+     * in flight.
+     */
+    public void submitBatch() throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<SeaTunnelRow> rows = batch;
+        batch = new ArrayList<>(rows.size());
+        if (executor == null) {
+            writeBatch(rows);
+            return;
+        }
+        awaitInFlightBatches(maxInFlightBatches - 1);
+        inFlightBatches.add(executor.submit(() -> {
+            writeBatch(rows);
+            return null;
+        }));
+    }
+
+    /**
+     * Writes the current batch and waits until all batches are written.
+     */
+    public void flush() throws IOException {
+        submitBatch();
+        awaitInFlightBatches(0);
+    }
+
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeBatch(List<SeaTunnelRow> rows) throws IOException {
+        try {
+            batchWriter.write(rows);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(String.format("Failed to write %s rows to shard %s", rows.size(), shard.getShardNum()), e);
+        }
+    }
+
+    /**
+     * Waits until at most {@code maxPending} batches are in flight, rethrowing the failure of a finished batch.
+     */
+    private void awaitInFlightBatches(int maxPending) throws IOException {
+        while (!inFlightBatches.isEmpty()
+            && (inFlightBatches.size() > maxPending || inFlightBatches.peek().isDone())) {
+            try {
+                inFlightBatches.poll().get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the batches of shard " + shard.getShardNum(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of rows to a shard, always called by the same thread.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(List<SeaTunnelRow> rows) throws Exception;
+    }
+}
@@ -21,8 +21,11 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.CLICKHOUSE_PREFIX;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.FIELDS;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.FLUSH_INTERVAL_MS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.HOST;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.MAX_IN_FLIGHT_BATCHES;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.PASSWORD;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.ROW_BINARY;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SHARDING_KEY;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.TABLE;
@@ -90,6 +93,9 @@ public class ClickhouseSink implements SeaTunnelSink<SeaTunnelRow, ClickhouseSin
         Map<String, Object> defaultConfig = ImmutableMap.<String, Object>builder()
                 .put(BULK_SIZE, 20_000)
                 .put(SPLIT_MODE, false)
+                .put(ROW_BINARY, false)
+                .put(MAX_IN_FLIGHT_BATCHES, 1)
+                .put(FLUSH_INTERVAL_MS, 0)
                 .build();
 
         config = config.withFallback(ConfigFactory.parseMap(defaultConfig));
@@ -165,6 +171,12 @@ public class ClickhouseSink implements SeaTunnelSink<SeaTunnelRow, ClickhouseSin
         }
         proxy.close();
         this.option = new ReaderOption(metadata, clickhouseProperties, fields, tableSchema, config.getInt(BULK_SIZE));
+        this.option.setRowBinary(config.getBoolean(ROW_BINARY));
+        if (config.getInt(MAX_IN_FLIGHT_BATCHES) < 0) {
+            throw new PrepareFailException(getPluginName(), PluginType.SINK, MAX_IN_FLIGHT_BATCHES + " must not be negative");
+        }
+        this.option.setMaxInFlightBatches(config.getInt(MAX_IN_FLIGHT_BATCHES));
+        this.option.setFlushIntervalMs(config.getLong(FLUSH_INTERVAL_MS));
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryRowEncoder;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.ArrayInjectFunction;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.BigDecimalInjectFunction;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.inject.ClickhouseFieldInjectFunction;
@@ -39,7 +40,6 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
 
 import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
 import com.google.common.collect.Lists;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +51,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -64,8 +67,15 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
     private final transient ClickhouseProxy proxy;
     private final String prepareSql;
     private final Map<Shard, ClickhouseBatchStatement> statementMap;
-    private final Map<String, ClickhouseFieldInjectFunction> fieldInjectFunctionMap;
-    private static final ClickhouseFieldInjectFunction DEFAULT_INJECT_FUNCTION = new StringInjectFunction();
+    private final Map<Shard, ClickhouseRowBinaryWriter> rowBinaryWriterMap;
+    private final Map<Shard, ClickhouseShardFlusher> flusherMap;
+    private final transient ScheduledExecutorService scheduler;
+    private transient volatile Exception flushException;
+    /**
+     * The index in the row and the inject function of each field, resolved once instead of per row.
+     */
+    private final int[] fieldIndexes;
+    private final ClickhouseFieldInjectFunction[] fieldInjectFunctions;
 
     private static final Pattern NULLABLE = Pattern.compile("Nullable\\((.*)\\)");
     private static final Pattern LOW_CARDINALITY = Pattern.compile("LowCardinality\\((.*)\\)");
@@ -75,35 +85,42 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
         this.context = context;
 
         this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
-        this.fieldInjectFunctionMap = initFieldInjectFunctionMap();
-        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
+        this.fieldIndexes = initFieldIndexes();
+        this.fieldInjectFunctions = initFieldInjectFunctions();
+        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata(), option.getSeaTunnelRowType());
         this.prepareSql = initPrepareSQL();
-        this.statementMap = initStatementMap();
+        if (option.isRowBinary()) {
+            this.statementMap = new HashMap<>();
+            this.rowBinaryWriterMap = initRowBinaryWriterMap();
+        } else {
+            this.statementMap = initStatementMap();
+            this.rowBinaryWriterMap = new HashMap<>();
+        }
+        this.flusherMap = initFlusherMap();
+        if (option.getFlushIntervalMs() > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                thread.setName("clickhouse-sink-flush-scheduler");
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::submitBatches,
+                    option.getFlushIntervalMs(), option.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
     }
 
     @Override
-    public void write(SeaTunnelRow element) throws IOException {
-
-        Object shardKey = null;
-        if (StringUtils.isNotEmpty(this.option.getShardMetadata().getShardKey())) {
-            int i = this.option.getSeaTunnelRowType().indexOf(this.option.getShardMetadata().getShardKey());
-            shardKey = element.getField(i);
-        }
-        ClickhouseBatchStatement statement = statementMap.get(shardRouter.getShard(shardKey));
-        PreparedStatement clickHouseStatement = statement.getPreparedStatement();
-        IntHolder sizeHolder = statement.getIntHolder();
-        // add into batch
-        addIntoBatch(element, clickHouseStatement);
-        sizeHolder.setValue(sizeHolder.getValue() + 1);
-        // flush batch
-        if (sizeHolder.getValue() >= option.getBulkSize()) {
-            flush(clickHouseStatement);
-            sizeHolder.setValue(0);
-        }
+    public synchronized void write(SeaTunnelRow element) throws IOException {
+        checkFlushException();
+        flusherMap.get(shardRouter.getShard(element)).add(element);
     }
 
     @Override
-    public Optional<CKCommitInfo> prepareCommit() throws IOException {
+    public synchronized Optional<CKCommitInfo> prepareCommit() throws IOException {
+        checkFlushException();
+        flushAll();
         return Optional.empty();
     }
 
@@ -113,37 +130,67 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
     }
 
     @Override
-    public void close() throws IOException {
-        this.proxy.close();
-        for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
-            try (ClickHouseConnectionImpl needClosedConnection = batchStatement.getClickHouseConnection();
-                 PreparedStatement needClosedStatement = batchStatement.getPreparedStatement()) {
-                IntHolder intHolder = batchStatement.getIntHolder();
-                if (intHolder.getValue() > 0) {
-                    flush(needClosedStatement);
-                    intHolder.setValue(0);
+    public synchronized void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            flushAll();
+        } finally {
+            flusherMap.values().forEach(ClickhouseShardFlusher::close);
+            this.proxy.close();
+            for (ClickhouseBatchStatement batchStatement : statementMap.values()) {
+                try {
+                    batchStatement.getPreparedStatement().close();
+                    batchStatement.getClickHouseConnection().close();
+                } catch (SQLException e) {
+                    LOGGER.warn("Failed to close prepared statement.", e);
                 }
-            } catch (SQLException e) {
-                throw new RuntimeException("Failed to close prepared statement.", e);
             }
         }
+        checkFlushException();
+    }
+
+    /**
+     * Hands the batches of all shards over to their flushers first, so the shards are written in parallel, then
+     * waits for them.
+     */
+    private void flushAll() throws IOException {
+        for (ClickhouseShardFlusher flusher : flusherMap.values()) {
+            flusher.submitBatch();
+        }
+        for (ClickhouseShardFlusher flusher : flusherMap.values()) {
+            flusher.flush();
+        }
+    }
+
+    private synchronized void submitBatches() {
+        try {
+            for (ClickhouseShardFlusher flusher : flusherMap.values()) {
+                flusher.submitBatch();
+            }
+        } catch (Exception e) {
+            flushException = e;
+        }
+    }
+
+    private void checkFlushException() throws IOException {
+        if (flushException != null) {
+            throw new IOException("Writing rows to ClickHouse failed.", flushException);
+        }
     }
 
     private void addIntoBatch(SeaTunnelRow row, PreparedStatement clickHouseStatement) {
         try {
-            for (int i = 0; i < option.getFields().size(); i++) {
-                String fieldName = option.getFields().get(i);
-                Object fieldValue = row.getField(option.getSeaTunnelRowType().indexOf(fieldName));
+            for (int i = 0; i < fieldIndexes.length; i++) {
+                Object fieldValue = row.getField(fieldIndexes[i]);
                 if (fieldValue == null) {
                     // field does not exist in row
                     // todo: do we need to transform to default value of each type
                     clickHouseStatement.setObject(i + 1, null);
                     continue;
                 }
-                String fieldType = option.getTableSchema().get(fieldName);
-                fieldInjectFunctionMap
-                        .getOrDefault(fieldType, DEFAULT_INJECT_FUNCTION)
-                        .injectFields(clickHouseStatement, i + 1, fieldValue);
+                fieldInjectFunctions[i].injectFields(clickHouseStatement, i + 1, fieldValue);
             }
             clickHouseStatement.addBatch();
         } catch (SQLException e) {
@@ -161,7 +208,7 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
 
     private Map<Shard, ClickhouseBatchStatement> initStatementMap() {
         Map<Shard, ClickhouseBatchStatement> result = new HashMap<>(Common.COLLECTION_SIZE);
-        shardRouter.getShards().forEach((weight, s) -> {
+        shardRouter.getShards().forEach(s -> {
             try {
                 ClickHouseConnectionImpl clickhouseConnection = new ClickHouseConnectionImpl(s.getJdbcUrl(),
                         this.option.getProperties());
@@ -177,6 +224,43 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
         return result;
     }
 
+    private Map<Shard, ClickhouseShardFlusher> initFlusherMap() {
+        Map<Shard, ClickhouseShardFlusher> result = new HashMap<>(Common.COLLECTION_SIZE);
+        shardRouter.getShards().forEach(s -> {
+            ClickhouseShardFlusher.BatchWriter batchWriter;
+            if (option.isRowBinary()) {
+                ClickhouseRowBinaryWriter rowBinaryWriter = rowBinaryWriterMap.get(s);
+                batchWriter = rows -> {
+                    for (SeaTunnelRow row : rows) {
+                        rowBinaryWriter.write(row);
+                    }
+                    rowBinaryWriter.flush();
+                };
+            } else {
+                PreparedStatement clickHouseStatement = statementMap.get(s).getPreparedStatement();
+                batchWriter = rows -> {
+                    for (SeaTunnelRow row : rows) {
+                        addIntoBatch(row, clickHouseStatement);
+                    }
+                    flush(clickHouseStatement);
+                };
+            }
+            result.put(s, new ClickhouseShardFlusher(s, batchWriter, option.getBulkSize(), option.getMaxInFlightBatches()));
+        });
+        return result;
+    }
+
+    private Map<Shard, ClickhouseRowBinaryWriter> initRowBinaryWriterMap() {
+        RowBinaryRowEncoder rowEncoder = new RowBinaryRowEncoder(option.getFields(), option.getTableSchema(),
+                option.getSeaTunnelRowType(), proxy.getServerTimeZone());
+        String insertQuery = String.format("INSERT INTO %s (%s)", shardRouter.getShardTable(),
+                String.join(",", option.getFields()));
+        Map<Shard, ClickhouseRowBinaryWriter> result = new HashMap<>(Common.COLLECTION_SIZE);
+        shardRouter.getShards().forEach(s -> result.put(s,
+                new ClickhouseRowBinaryWriter(s, proxy.getClickhouseConnection(s), insertQuery, rowEncoder)));
+        return result;
+    }
+
     private String initPrepareSQL() {
         String[] placeholder = new String[option.getFields().size()];
         Arrays.fill(placeholder, "?");
@@ -187,8 +271,16 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
                 String.join(",", placeholder));
     }
 
-    private Map<String, ClickhouseFieldInjectFunction> initFieldInjectFunctionMap() {
-        Map<String, ClickhouseFieldInjectFunction> result = new HashMap<>(Common.COLLECTION_SIZE);
+    private int[] initFieldIndexes() {
+        int[] result = new int[option.getFields().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = option.getSeaTunnelRowType().indexOf(option.getFields().get(i));
+        }
+        return result;
+    }
+
+    private ClickhouseFieldInjectFunction[] initFieldInjectFunctions() {
+        ClickhouseFieldInjectFunction[] result = new ClickhouseFieldInjectFunction[option.getFields().size()];
         List<ClickhouseFieldInjectFunction> clickhouseFieldInjectFunctions = Lists.newArrayList(
             new ArrayInjectFunction(),
             new MapInjectFunction(),
@@ -203,16 +295,16 @@ public class ClickhouseSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitIn
         );
         ClickhouseFieldInjectFunction defaultFunction = new StringInjectFunction();
         // get field type
-        for (String field : this.option.getFields()) {
+        for (int i = 0; i < result.length; i++) {
             ClickhouseFieldInjectFunction function = defaultFunction;
-            String fieldType = this.option.getTableSchema().get(field);
+            String fieldType = this.option.getTableSchema().get(this.option.getFields().get(i));
             for (ClickhouseFieldInjectFunction clickhouseFieldInjectFunction : clickhouseFieldInjectFunctions) {
                 if (clickhouseFieldInjectFunction.isCurrentFieldType(unwrapCommonPrefix(fieldType))) {
                     function = clickhouseFieldInjectFunction;
                     break;
                 }
             }
-            result.put(fieldType, function);
+            result[i] = function;
         }
         return result;
     }
@@ -17,61 +17,109 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardingKey;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.DistributedEngine;
 
 import com.clickhouse.client.ClickHouseRequest;
-import net.jpountz.xxhash.XXHash64;
-import net.jpountz.xxhash.XXHashFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.TreeMap;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Routes the rows to the shards of a Distributed table.
+ *
+ * <p>Every shard owns as many weight slots as its weight, and a row is sent to the shard owning the slot
+ * {@code sharding key % total weight}, which is how ClickHouse distributes the rows. The sharding key is the
+ * {@code sharding_key} column if configured, and the sharding key expression of the Distributed table otherwise.
+ */
 public class ShardRouter implements Serializable {
 
     private static final long serialVersionUID = -1L;
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardRouter.class);
+
     private String shardTable;
     private final String table;
-    private int shardWeightCount;
-    private final TreeMap<Integer, Shard> shards;
-    private final String shardKey;
-    private final String shardKeyType;
     private final boolean splitMode;
+    private final List<Shard> shards;
+    /**
+     * The shard of each weight slot.
+     */
+    private final Shard[] slots;
+    private final ShardingKey shardingKey;
+    private final int shardingKeyIndex;
 
-    private static final XXHash64 HASH_INSTANCE = XXHashFactory.fastestInstance().hash64();
-    private final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
-
-    public ShardRouter(ClickhouseProxy proxy, ShardMetadata shardMetadata) {
-        this.shards = new TreeMap<>();
-        this.shardKey = shardMetadata.getShardKey();
-        this.shardKeyType = shardMetadata.getShardKeyType();
+    public ShardRouter(ClickhouseProxy proxy, ShardMetadata shardMetadata, SeaTunnelRowType rowType) {
+        String shardKey = shardMetadata.getShardKey();
+        String shardKeyType = shardMetadata.getShardKeyType();
         this.splitMode = shardMetadata.getSplitMode();
         this.table = shardMetadata.getTable();
         if (StringUtils.isNotEmpty(shardKey) && StringUtils.isEmpty(shardKeyType)) {
             throw new IllegalArgumentException("Shard key " + shardKey + " not found in table " + table);
         }
+        if (!splitMode) {
+            this.shards = Collections.singletonList(shardMetadata.getDefaultShard());
+            this.slots = new Shard[]{shardMetadata.getDefaultShard()};
+            this.shardingKey = ShardingKey.random();
+            this.shardingKeyIndex = -1;
+            return;
+        }
+
         ClickHouseRequest<?> connection = proxy.getClickhouseConnection();
-        if (splitMode) {
-            DistributedEngine localTable = proxy.getClickhouseDistributedTable(connection, shardMetadata.getDatabase(), table);
-            this.shardTable = localTable.getTable();
-            List<Shard> shardList = proxy.getClusterShardList(connection, localTable.getClusterName(),
-                    localTable.getDatabase(), shardMetadata.getDefaultShard().getNode().getPort(),
-                    shardMetadata.getUsername(), shardMetadata.getPassword());
-            int weight = 0;
-            for (Shard shard : shardList) {
-                shards.put(weight, shard);
-                weight += shard.getNode().getWeight();
+        DistributedEngine localTable = proxy.getClickhouseDistributedTable(connection, shardMetadata.getDatabase(), table);
+        this.shardTable = localTable.getTable();
+        List<Shard> shardList = proxy.getClusterShardList(connection, localTable.getClusterName(),
+                localTable.getDatabase(), shardMetadata.getDefaultShard().getNode().getPort(),
+                shardMetadata.getUsername(), shardMetadata.getPassword());
+        this.shards = new ArrayList<>();
+        List<Shard> slotList = new ArrayList<>();
+        for (Shard shard : shardList) {
+            // the replicas of a shard share its weight slots, the rows are written to the first replica
+            if (!shards.isEmpty() && shards.get(shards.size() - 1).getShardNum() == shard.getShardNum()) {
+                continue;
             }
-            shardWeightCount = weight;
+            shards.add(shard);
+            slotList.addAll(Collections.nCopies(shard.getNode().getWeight(), shard));
+        }
+        if (slotList.isEmpty()) {
+            throw new IllegalArgumentException("Cannot find any shard of cluster " + localTable.getClusterName());
+        }
+        this.slots = slotList.toArray(new Shard[0]);
+
+        if (StringUtils.isNotEmpty(shardKey)) {
+            this.shardingKey = ShardingKey.ofColumn(shardKey, shardKeyType);
+        } else if (StringUtils.isNotEmpty(localTable.getShardingKey())) {
+            ShardingKey tableShardingKey = ShardingKey.parse(localTable.getShardingKey(),
+                    proxy.getClickhouseTableSchema(connection, table));
+            if (tableShardingKey == null) {
+                LOGGER.warn("Cannot compute the sharding key {} of table {}, rows are sent to random shards",
+                        localTable.getShardingKey(), table);
+            }
+            this.shardingKey = tableShardingKey == null ? ShardingKey.random() : tableShardingKey;
         } else {
-            shards.put(0, shardMetadata.getDefaultShard());
+            this.shardingKey = ShardingKey.random();
+        }
+        if (shardingKey.isRandom()) {
+            this.shardingKeyIndex = -1;
+        } else {
+            this.shardingKeyIndex = Arrays.asList(rowType.getFieldNames()).indexOf(shardingKey.getColumn());
+            if (shardingKeyIndex < 0 && StringUtils.isNotEmpty(shardKey)) {
+                throw new IllegalArgumentException("Shard key " + shardKey + " not found in the rows");
+            } else if (shardingKeyIndex < 0) {
+                LOGGER.warn("Column {} of the sharding key is not written, rows are sent to random shards",
+                        shardingKey.getColumn());
+            }
         }
     }
 
@@ -79,19 +127,18 @@ public class ShardRouter implements Serializable {
         return splitMode ? shardTable : table;
     }
 
-    public Shard getShard(Object shardValue) {
-        if (!splitMode) {
-            return shards.firstEntry().getValue();
+    public Shard getShard(SeaTunnelRow row) {
+        if (slots.length == 1) {
+            return slots[0];
         }
-        if (StringUtils.isEmpty(shardKey) || shardValue == null) {
-            return shards.lowerEntry(threadLocalRandom.nextInt(shardWeightCount + 1)).getValue();
+        Object value = shardingKeyIndex < 0 ? null : row.getField(shardingKeyIndex);
+        if (value == null) {
+            return slots[ThreadLocalRandom.current().nextInt(slots.length)];
         }
-        int offset = (int) (HASH_INSTANCE.hash(ByteBuffer.wrap(shardValue.toString().getBytes(StandardCharsets.UTF_8)),
-                0) & Long.MAX_VALUE % shardWeightCount);
-        return shards.lowerEntry(offset + 1).getValue();
+        return slots[(int) Long.remainderUnsigned(shardingKey.value(value), slots.length)];
     }
 
-    public TreeMap<Integer, Shard> getShards() {
+    public List<Shard> getShards() {
         return shards;
     }
 }
@@ -22,6 +22,7 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.FIELDS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.HOST;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.MAX_FILE_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.NODE_ADDRESS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.NODE_PASS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.PASSWORD;
@@ -79,6 +80,7 @@ public class ClickhouseFileSink implements SeaTunnelSink<SeaTunnelRow, Clickhous
         }
         Map<String, Object> defaultConfigs = ImmutableMap.<String, Object>builder()
                 .put(COPY_METHOD, ClickhouseFileCopyMethod.SCP.getName())
+                .put(MAX_FILE_SIZE, "256MB")
                 .build();
 
         config = config.withFallback(ConfigFactory.parseMap(defaultConfigs));
@@ -122,6 +124,11 @@ public class ClickhouseFileSink implements SeaTunnelSink<SeaTunnelRow, Clickhous
         proxy.close();
         this.readerOption = new FileReaderOption(shardMetadata, tableSchema, fields, config.getString(CLICKHOUSE_LOCAL_PATH),
                 ClickhouseFileCopyMethod.from(config.getString(COPY_METHOD)), nodeUser, nodePassword);
+        long maxFileSize = config.getBytes(MAX_FILE_SIZE);
+        if (maxFileSize <= 0) {
+            throw new PrepareFailException(getPluginName(), PluginType.SINK, MAX_FILE_SIZE + " must be positive");
+        }
+        this.readerOption.setMaxFileSize(maxFileSize);
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.FileReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryRowEncoder;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ClickhouseProxy;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ShardRouter;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
@@ -30,7 +31,6 @@ import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSink
 import com.clickhouse.client.ClickHouseException;
 import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,61 +39,93 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Appends the rows of every shard to a local {@code RowBinary} data file. Once a data file reaches
+ * {@code max_file_size}, clickhouse-local turns it into parts, which are copied to the shard and attached.
+ *
+ * <p>Generating the parts and copying them run on two background threads, so the parts of a data file are
+ * generated while the parts of the previous one are copied, and the rows are written meanwhile. At most
+ * {@link #MAX_PENDING_FILES} full data files are pending, writing a row waits when they are all pending.
+ */
 public class ClickhouseFileSinkWriter implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClickhouseFileSinkWriter.class);
     private static final String CLICKHOUSE_LOCAL_FILE_PREFIX = "/tmp/clickhouse-local/seatunnel-file";
     private static final int UUID_LENGTH = 10;
+    private static final int MAX_PENDING_FILES = 2;
     private final FileReaderOption readerOption;
     private final ShardRouter shardRouter;
     private final ClickhouseProxy proxy;
     private final ClickhouseTable clickhouseTable;
     private final Map<Shard, List<String>> shardLocalDataPaths;
-    private final Map<Shard, List<SeaTunnelRow>> rowCache;
+    private final RowBinaryRowEncoder rowEncoder;
+    private final Map<Shard, ClickhouseLocalDataFile> shardDataFiles;
+    private final Map<Shard, FileTransfer> shardFileTransfers;
+    private final ExecutorService generateExecutor;
+    private final ExecutorService transferExecutor;
+    private final Deque<CompletableFuture<Void>> pendingFiles = new ArrayDeque<>();
 
     public ClickhouseFileSinkWriter(FileReaderOption readerOption, SinkWriter.Context context) {
         this.readerOption = readerOption;
         proxy = new ClickhouseProxy(this.readerOption.getShardMetadata().getDefaultShard().getNode());
-        shardRouter = new ShardRouter(proxy, this.readerOption.getShardMetadata());
+        shardRouter = new ShardRouter(proxy, this.readerOption.getShardMetadata(),
+                this.readerOption.getSeaTunnelRowType());
         clickhouseTable = proxy.getClickhouseTable(this.readerOption.getShardMetadata().getDatabase(),
                 this.readerOption.getShardMetadata().getTable());
-        rowCache = new HashMap<>(Common.COLLECTION_SIZE);
+        rowEncoder = new RowBinaryRowEncoder(readerOption.getFields(), readerOption.getTableSchema(),
+                readerOption.getSeaTunnelRowType(), proxy.getServerTimeZone());
+        shardDataFiles = new HashMap<>(Common.COLLECTION_SIZE);
+        shardFileTransfers = new HashMap<>(Common.COLLECTION_SIZE);
 
         nodePasswordCheck();
 
         // find file local save path of each node
-        shardLocalDataPaths = shardRouter.getShards().values().stream()
+        shardLocalDataPaths = shardRouter.getShards().stream()
                 .collect(Collectors.toMap(Function.identity(), shard -> {
                     ClickhouseTable shardTable = proxy.getClickhouseTable(shard.getNode().getDatabase().get(),
                             clickhouseTable.getLocalTableName());
                     return shardTable.getDataPaths();
                 }));
+        generateExecutor = createExecutor("clickhouse-local-generator");
+        transferExecutor = createExecutor("clickhouse-file-transfer");
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
         Shard shard = shardRouter.getShard(element);
-        rowCache.computeIfAbsent(shard, k -> new ArrayList<>()).add(element);
+        ClickhouseLocalDataFile dataFile = shardDataFiles.get(shard);
+        if (dataFile == null) {
+            dataFile = new ClickhouseLocalDataFile(Paths.get(CLICKHOUSE_LOCAL_FILE_PREFIX,
+                    UUID.randomUUID().toString().substring(0, UUID_LENGTH).replaceAll("-", "_")), rowEncoder);
+            shardDataFiles.put(shard, dataFile);
+        }
+        dataFile.write(element);
+        if (dataFile.size() >= readerOption.getMaxFileSize()) {
+            shardDataFiles.remove(shard);
+            submit(shard, dataFile);
+        }
     }
 
     private void nodePasswordCheck() {
         if (!this.readerOption.isNodeFreePass()) {
-            shardRouter.getShards().values().forEach(shard -> {
+            shardRouter.getShards().forEach(shard -> {
                 if (!this.readerOption.getNodePassword().containsKey(shard.getNode().getAddress().getHostName())
                         && !this.readerOption.getNodePassword().containsKey(shard.getNode().getHost())) {
                     throw new RuntimeException("Cannot find password of shard " + shard.getNode().getAddress().getHostName());
@@ -114,43 +146,50 @@ public class ClickhouseFileSinkWriter implements SinkWriter<SeaTunnelRow, CKComm
 
     @Override
     public void close() throws IOException {
-        rowCache.forEach(this::flush);
+        try {
+            for (Map.Entry<Shard, ClickhouseLocalDataFile> entry : shardDataFiles.entrySet()) {
+                submit(entry.getKey(), entry.getValue());
+            }
+            shardDataFiles.clear();
+            awaitPendingFiles(0);
+        } finally {
+            generateExecutor.shutdownNow();
+            transferExecutor.shutdownNow();
+            shardFileTransfers.values().forEach(FileTransfer::close);
+            proxy.close();
+        }
     }
 
-    private void flush(Shard shard, List<SeaTunnelRow> rows) {
-        try {
-            // generate clickhouse local file
-            // TODO generate file by sub rows to save memory
-            List<String> clickhouseLocalFiles = generateClickhouseLocalFiles(rows);
-            // move file to server
-            attachClickhouseLocalFileToServer(shard, clickhouseLocalFiles);
-            // clear local file
-            clearLocalFileDirectory(clickhouseLocalFiles);
-        } catch (Exception e) {
-            throw new RuntimeException("Flush data into clickhouse file error", e);
+    /**
+     * Loads the full data file into the shard in the background.
+     */
+    private void submit(Shard shard, ClickhouseLocalDataFile dataFile) throws IOException {
+        awaitPendingFiles(MAX_PENDING_FILES - 1);
+        dataFile.close();
+        CompletableFuture<Void> future = CompletableFuture
+                .supplyAsync(() -> generateClickhouseLocalFiles(dataFile), generateExecutor)
+                .thenAcceptAsync(clickhouseLocalFiles -> attachClickhouseLocalFileToServer(shard, clickhouseLocalFiles),
+                        transferExecutor)
+                .whenComplete((result, error) -> clearLocalFileDirectory(dataFile));
+        pendingFiles.add(future);
+    }
+
+    private void awaitPendingFiles(int maxPendingFiles) throws IOException {
+        while (pendingFiles.size() > maxPendingFiles) {
+            try {
+                pendingFiles.poll().join();
+            } catch (CompletionException e) {
+                throw new IOException("Flush data into clickhouse file error", e.getCause());
+            }
         }
     }
 
-    private List<String> generateClickhouseLocalFiles(List<SeaTunnelRow> rows) throws IOException,
-            InterruptedException {
-        if (rows.isEmpty()) {
+    private List<String> generateClickhouseLocalFiles(ClickhouseLocalDataFile dataFile) {
+        if (dataFile.getRowCount() == 0) {
             return Collections.emptyList();
         }
-        String uuid = UUID.randomUUID().toString().substring(0, UUID_LENGTH).replaceAll("-", "_");
-        String clickhouseLocalFile = String.format("%s/%s", CLICKHOUSE_LOCAL_FILE_PREFIX, uuid);
-        FileUtils.forceMkdir(new File(clickhouseLocalFile));
-        String clickhouseLocalFileTmpFile = clickhouseLocalFile + "/local_data.log";
-        try (FileChannel fileChannel = FileChannel.open(Paths.get(clickhouseLocalFileTmpFile), StandardOpenOption.WRITE,
-                StandardOpenOption.READ, StandardOpenOption.CREATE_NEW)) {
-            String data = rows.stream()
-                    .map(row -> this.readerOption.getFields().stream().map(field -> row.getField(this.readerOption.getSeaTunnelRowType().indexOf(field)).toString())
-                            .collect(Collectors.joining("\t")))
-                    .collect(Collectors.joining("\n"));
-            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, fileChannel.size(),
-                    data.getBytes(StandardCharsets.UTF_8).length);
-            buffer.put(data.getBytes(StandardCharsets.UTF_8));
-        }
-
+        String uuid = dataFile.getDirectory().getFileName().toString();
+        String clickhouseLocalFile = dataFile.getDirectory().toString();
         List<String> localPaths = Arrays.stream(this.readerOption.getClickhouseLocalPath().trim().split(" "))
                 .collect(Collectors.toList());
         List<String> command = new ArrayList<>(localPaths);
@@ -158,7 +197,9 @@ public class ClickhouseFileSinkWriter implements SinkWriter<SeaTunnelRow, CKComm
             command.add("local");
         }
         command.add("--file");
-        command.add(clickhouseLocalFileTmpFile);
+        command.add(dataFile.getDataFile().toString());
+        command.add("--input-format");
+        command.add("RowBinary");
         command.add("-S");
         command.add("\"" + this.readerOption.getFields().stream().map(field -> field + " " + readerOption.getTableSchema().get(field)).collect(Collectors.joining(",")) + "\"");
         command.add("-N");
@@ -180,17 +221,24 @@ public class ClickhouseFileSinkWriter implements SinkWriter<SeaTunnelRow, CKComm
         command.add("\"" + clickhouseLocalFile + "\"");
         LOGGER.info("Generate clickhouse local file command: {}", String.join(" ", command));
         ProcessBuilder processBuilder = new ProcessBuilder("bash", "-c", String.join(" ", command));
-        Process start = processBuilder.start();
-        // we just wait for the process to finish
-        try (InputStream inputStream = start.getInputStream();
-             InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
-             BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                LOGGER.info(line);
+        try {
+            Process start = processBuilder.start();
+            // we just wait for the process to finish
+            try (InputStream inputStream = start.getInputStream();
+                 InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+                 BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    LOGGER.info(line);
+                }
             }
+            start.waitFor();
+        } catch (IOException e) {
+            throw new RuntimeException("Generate clickhouse local file error", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Generate clickhouse local file interrupted", e);
         }
-        start.waitFor();
         File file = new File(clickhouseLocalFile + "/data/_local/" + clickhouseTable.getLocalTableName());
         if (!file.exists()) {
             throw new RuntimeException("clickhouse local file not exists");
@@ -205,34 +253,46 @@ public class ClickhouseFileSinkWriter implements SinkWriter<SeaTunnelRow, CKComm
                 .map(File::getAbsolutePath).collect(Collectors.toList());
     }
 
-    private void attachClickhouseLocalFileToServer(Shard shard, List<String> clickhouseLocalFiles) throws ClickHouseException {
-        String hostAddress = shard.getNode().getAddress().getHostName();
-        String user = readerOption.getNodeUser().getOrDefault(hostAddress, "root");
-        String password = readerOption.getNodePassword().getOrDefault(hostAddress, null);
-        FileTransfer fileTransfer = FileTransferFactory.createFileTransfer(this.readerOption.getCopyMethod(), hostAddress, user, password);
-        fileTransfer.init();
+    private void attachClickhouseLocalFileToServer(Shard shard, List<String> clickhouseLocalFiles) {
+        if (clickhouseLocalFiles.isEmpty()) {
+            return;
+        }
+        FileTransfer fileTransfer = shardFileTransfers.computeIfAbsent(shard, s -> {
+            String hostAddress = s.getNode().getAddress().getHostName();
+            String user = readerOption.getNodeUser().getOrDefault(hostAddress, "root");
+            String password = readerOption.getNodePassword().getOrDefault(hostAddress, null);
+            FileTransfer transfer = FileTransferFactory.createFileTransfer(this.readerOption.getCopyMethod(),
+                    hostAddress, user, password);
+            transfer.init();
+            return transfer;
+        });
         fileTransfer.transferAndChown(clickhouseLocalFiles, shardLocalDataPaths.get(shard).get(0) + "detached/");
-        fileTransfer.close();
         ClickHouseRequest<?> request = proxy.getClickhouseConnection(shard);
         for (String clickhouseLocalFile : clickhouseLocalFiles) {
-            ClickHouseResponse response = request.query(String.format("ALTER TABLE %s ATTACH PART '%s'",
+            try (ClickHouseResponse response = request.query(String.format("ALTER TABLE %s ATTACH PART '%s'",
                     clickhouseTable.getLocalTableName(),
-                    clickhouseLocalFile.substring(clickhouseLocalFile.lastIndexOf("/") + 1))).executeAndWait();
-            response.close();
+                    clickhouseLocalFile.substring(clickhouseLocalFile.lastIndexOf("/") + 1))).executeAndWait()) {
+                LOGGER.debug("Attached part {} to shard {}", clickhouseLocalFile, shard.getShardNum());
+            } catch (ClickHouseException e) {
+                throw new RuntimeException("Attach part " + clickhouseLocalFile + " error", e);
+            }
         }
     }
 
-    private void clearLocalFileDirectory(List<String> clickhouseLocalFiles) {
-        String clickhouseLocalFile = clickhouseLocalFiles.get(0);
-        String localFileDir = clickhouseLocalFile.substring(0, CLICKHOUSE_LOCAL_FILE_PREFIX.length() + UUID_LENGTH + 1);
+    private void clearLocalFileDirectory(ClickhouseLocalDataFile dataFile) {
         try {
-            File file = new File(localFileDir);
-            if (file.exists()) {
-                FileUtils.deleteDirectory(new File(localFileDir));
-            }
+            dataFile.delete();
         } catch (IOException e) {
-            throw new RuntimeException("Unable to delete directory " + localFileDir, e);
+            throw new RuntimeException("Unable to delete directory " + dataFile.getDirectory(), e);
         }
     }
 
+    private static ExecutorService createExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            thread.setName(threadName);
+            return thread;
+        });
+    }
 }
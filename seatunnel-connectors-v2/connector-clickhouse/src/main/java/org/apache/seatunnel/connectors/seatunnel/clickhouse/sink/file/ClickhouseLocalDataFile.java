@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.file;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryRowEncoder;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code RowBinary} data file of a shard, which clickhouse-local turns into the parts attached to the shard.
+ *
+ * <p>The rows are encoded into an off-heap buffer, which is appended to the file whenever it holds
+ * {@code bufferSize} bytes, so the rows of a shard do not stay on the heap until they are loaded.
+ */
+public class ClickhouseLocalDataFile implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final String DATA_FILE_NAME = "local_data.bin";
+
+    private final Path directory;
+    private final Path dataFile;
+    private final RowBinaryRowEncoder rowEncoder;
+    private final int bufferSize;
+    private final RowBinaryBuffer buffer;
+    private FileChannel channel;
+    private long writtenBytes;
+    private long rowCount;
+
+    public ClickhouseLocalDataFile(Path directory, RowBinaryRowEncoder rowEncoder) throws IOException {
+        this(directory, rowEncoder, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ClickhouseLocalDataFile(Path directory, RowBinaryRowEncoder rowEncoder, int bufferSize) throws IOException {
+        this.directory = directory;
+        this.dataFile = directory.resolve(DATA_FILE_NAME);
+        this.rowEncoder = rowEncoder;
+        this.bufferSize = bufferSize;
+        this.buffer = new RowBinaryBuffer(bufferSize);
+        Files.createDirectories(directory);
+        this.channel = FileChannel.open(dataFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    public void write(SeaTunnelRow row) throws IOException {
+        rowEncoder.encode(buffer, row);
+        rowCount++;
+        if (buffer.size() >= bufferSize) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * The size of the data file in bytes, including the rows which are still buffered.
+     */
+    public long size() {
+        return writtenBytes + buffer.size();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * The working directory of clickhouse-local, holding the data file and the generated parts.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path getDataFile() {
+        return dataFile;
+    }
+
+    /**
+     * Flushes the buffered rows and closes the data file, which can be loaded afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            try {
+                flushBuffer();
+            } finally {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Closes the data file and deletes the working directory.
+     */
+    public void delete() throws IOException {
+        try {
+            close();
+        } finally {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.writeTo(channel);
+        writtenBytes += buffer.size();
+        buffer.clear();
+    }
+}
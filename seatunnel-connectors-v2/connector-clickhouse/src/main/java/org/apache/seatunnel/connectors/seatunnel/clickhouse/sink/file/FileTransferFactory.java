@@ -26,6 +26,8 @@ public class FileTransferFactory {
                 return new ScpFileTransfer(host, user, password);
             case RSYNC:
                 return new RsyncFileTransfer(host, user, password);
+            case LOCAL:
+                return new LocalFileTransfer();
             default:
                 throw new RuntimeException("unsupported clickhouse file copy method:" + type);
         }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.file;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Copies the files within the local file system, for a ClickHouse server running on the same host.
+ */
+public class LocalFileTransfer implements FileTransfer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileTransfer.class);
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public void transferAndChown(String sourcePath, String targetPath) {
+        File target = new File(targetPath);
+        try {
+            FileUtils.forceMkdir(target);
+            FileUtils.copyDirectoryToDirectory(new File(sourcePath), target);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy file: " + sourcePath + " to: " + targetPath, e);
+        }
+        // Only file owner equal with server's clickhouse user can make ATTACH command work.
+        Path copied = Paths.get(targetPath, new File(sourcePath).getName());
+        try (Stream<Path> paths = Files.walk(copied)) {
+            UserPrincipal owner = Files.getOwner(target.toPath());
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!owner.equals(Files.getOwner(path))) {
+                    Files.setOwner(path, owner);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to change the owner of {}", copied, e);
+        }
+    }
+
+    @Override
+    public void transferAndChown(List<String> sourcePaths, String targetPath) {
+        if (sourcePaths == null) {
+            throw new IllegalArgumentException("sourcePath is null");
+        }
+        sourcePaths.forEach(sourcePath -> transferAndChown(sourcePath, targetPath));
+    }
+
+    @Override
+    public void close() {
+    }
+}
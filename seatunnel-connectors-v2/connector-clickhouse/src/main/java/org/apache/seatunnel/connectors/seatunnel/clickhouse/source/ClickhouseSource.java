@@ -20,10 +20,16 @@ package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.HOST;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.PASSWORD;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_BY_PARTITION;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_KEY;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_MODE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SPLIT_NUM;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.SQL;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.TABLE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Config.USERNAME;
 
 import org.apache.seatunnel.api.common.PrepareFailException;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -34,6 +40,9 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ClickhouseProxy;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
@@ -47,6 +56,8 @@ import com.clickhouse.client.ClickHouseNode;
 import com.clickhouse.client.ClickHouseResponse;
 import com.google.auto.service.AutoService;
 
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 @AutoService(SeaTunnelSource.class)
@@ -54,7 +65,10 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
     private List<ClickHouseNode> servers;
     private SeaTunnelRowType rowTypeInfo;
+    private List<String> columnTypes;
+    private ZoneId serverTimeZone;
     private String sql;
+    private ClickhouseSourceSplitter splitter;
 
     @Override
     public String getPluginName() {
@@ -71,6 +85,24 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
                 config.getString(USERNAME), config.getString(PASSWORD));
 
         sql = config.getString(SQL);
+        boolean splitMode = config.hasPath(SPLIT_MODE) && config.getBoolean(SPLIT_MODE);
+        boolean splitByPartition = config.hasPath(SPLIT_BY_PARTITION) && config.getBoolean(SPLIT_BY_PARTITION);
+        String splitKey = config.hasPath(SPLIT_KEY) ? config.getString(SPLIT_KEY) : null;
+        String table = config.hasPath(TABLE) ? config.getString(TABLE) : null;
+        if ((splitMode || splitByPartition || splitKey != null) && table == null) {
+            throw new PrepareFailException(getPluginName(), PluginType.SOURCE,
+                    "The table read by the sql is required to split it");
+        }
+        ShardMetadata shardMetadata = new ShardMetadata(null, null, config.getString(DATABASE), table, splitMode,
+                new Shard(1, 1, servers.get(0)), config.getString(USERNAME), config.getString(PASSWORD));
+        splitter = new ClickhouseSourceSplitter(shardMetadata, sql, splitByPartition, splitKey,
+                config.hasPath(SPLIT_NUM) ? config.getInt(SPLIT_NUM) : 0);
+        try {
+            splitter.queryTables();
+        } catch (RuntimeException e) {
+            throw new PrepareFailException(getPluginName(), PluginType.SOURCE, e.toString());
+        }
+
         try (ClickHouseClient client = ClickHouseClient.newInstance(servers.get(0).getProtocol());
              ClickHouseResponse response =
                      client.connect(servers.get(0)).format(ClickHouseFormat.RowBinaryWithNamesAndTypes)
@@ -78,11 +110,13 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
             int columnSize = response.getColumns().size();
             String[] fieldNames = new String[columnSize];
+            columnTypes = new ArrayList<>(columnSize);
             SeaTunnelDataType<?>[] seaTunnelDataTypes = new SeaTunnelDataType[columnSize];
 
             for (int i = 0; i < columnSize; i++) {
                 fieldNames[i] = response.getColumns().get(i).getColumnName();
                 seaTunnelDataTypes[i] = TypeConvertUtil.convert(response.getColumns().get(i));
+                columnTypes.add(response.getColumns().get(i).getOriginalTypeName());
             }
 
             this.rowTypeInfo = new SeaTunnelRowType(fieldNames, seaTunnelDataTypes);
@@ -91,6 +125,12 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
             throw new PrepareFailException(getPluginName(), PluginType.SOURCE, e.getMessage());
         }
 
+        ClickhouseProxy proxy = new ClickhouseProxy(servers.get(0));
+        try {
+            serverTimeZone = proxy.getServerTimeZone();
+        } finally {
+            proxy.close();
+        }
     }
 
     private String modifySQLToLimit1(String sql) {
@@ -109,17 +149,22 @@ public class ClickhouseSource implements SeaTunnelSource<SeaTunnelRow, Clickhous
 
     @Override
     public SourceReader<SeaTunnelRow, ClickhouseSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
-        return new ClickhouseSourceReader(servers, readerContext, this.rowTypeInfo, sql);
+        return new ClickhouseSourceReader(servers, readerContext, this.rowTypeInfo, columnTypes, serverTimeZone, sql);
     }
 
     @Override
     public SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> createEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext) throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        return new ClickhouseSourceSplitEnumerator(enumeratorContext, splitter);
     }
 
     @Override
     public SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> restoreEnumerator(SourceSplitEnumerator.Context<ClickhouseSourceSplit> enumeratorContext, ClickhouseSourceState checkpointState) throws Exception {
-        return new ClickhouseSourceSplitEnumerator(enumeratorContext);
+        return new ClickhouseSourceSplitEnumerator(enumeratorContext, splitter, checkpointState);
+    }
+
+    @Override
+    public Serializer<ClickhouseSourceSplit> getSplitSerializer() {
+        return new ClickhouseSourceSplitSerializer();
     }
 
 }
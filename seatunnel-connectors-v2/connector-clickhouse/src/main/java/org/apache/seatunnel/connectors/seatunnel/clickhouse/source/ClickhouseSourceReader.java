@@ -21,88 +21,67 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
-import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.TypeConvertUtil;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary.RowBinaryInput;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary.RowBinaryRowDecoder;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractPendingSplitReader;
 
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseFormat;
 import com.clickhouse.client.ClickHouseNode;
-import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseProtocol;
 import com.clickhouse.client.ClickHouseResponse;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.time.ZoneId;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
-public class ClickhouseSourceReader implements SourceReader<SeaTunnelRow, ClickhouseSourceSplit> {
+/**
+ * Reads the splits requested from the enumerator one by one, decoding the {@code RowBinary} result of the query of
+ * each split directly into rows.
+ */
+public class ClickhouseSourceReader extends AbstractPendingSplitReader<SeaTunnelRow, ClickhouseSourceSplit> {
 
     private final List<ClickHouseNode> servers;
-    private ClickHouseClient client;
-    private final SeaTunnelRowType rowTypeInfo;
-    private final SourceReader.Context readerContext;
-    private ClickHouseRequest<?> request;
+    private final Map<ClickHouseProtocol, ClickHouseClient> clients = new EnumMap<>(ClickHouseProtocol.class);
     private final String sql;
-
-    private final List<ClickhouseSourceSplit> splits;
+    private final RowBinaryRowDecoder decoder;
 
     ClickhouseSourceReader(List<ClickHouseNode> servers, SourceReader.Context readerContext,
-                           SeaTunnelRowType rowTypeInfo, String sql) {
+                           SeaTunnelRowType rowTypeInfo, List<String> columnTypes, ZoneId serverTimeZone, String sql) {
+        super(readerContext);
         this.servers = servers;
-        this.readerContext = readerContext;
-        this.rowTypeInfo = rowTypeInfo;
         this.sql = sql;
-        this.splits = new ArrayList<>();
+        this.decoder = new RowBinaryRowDecoder(columnTypes, rowTypeInfo, serverTimeZone);
     }
 
     @Override
     public void open() {
-        Random random = new Random();
-        ClickHouseNode server = servers.get(random.nextInt(servers.size()));
-        client = ClickHouseClient.newInstance(server.getProtocol());
-        request = client.connect(server).format(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+
     }
 
     @Override
     public void close() throws IOException {
-        if (client != null) {
-            client.close();
-        }
+        clients.values().forEach(ClickHouseClient::close);
     }
 
     @Override
-    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        if (!splits.isEmpty()) {
-            try (ClickHouseResponse response = this.request.query(sql).executeAndWait()) {
-                response.stream().forEach(record -> {
-                    Object[] values = new Object[this.rowTypeInfo.getFieldNames().length];
-                    for (int i = 0; i < record.size(); i++) {
-                        values[i] = TypeConvertUtil.valueUnwrap(
-                                this.rowTypeInfo.getFieldType(i), record.getValue(i));
-                    }
-                    output.collect(new SeaTunnelRow(values));
-                });
+    protected void read(ClickhouseSourceSplit split, Collector<SeaTunnelRow> output) throws Exception {
+        ClickHouseNode server = split.getNode() != null ? split.getNode()
+                : servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
+        String query = split.getQuery() != null ? split.getQuery() : sql;
+        ClickHouseClient client = clients.computeIfAbsent(server.getProtocol(), ClickHouseClient::newInstance);
+        try (ClickHouseResponse response = client.connect(server).format(ClickHouseFormat.RowBinary)
+                .query(query).executeAndWait()) {
+            RowBinaryInput input = new RowBinaryInput(response.getInputStream());
+            while (input.hasMore()) {
+                SeaTunnelRow row = decoder.decode(input);
+                synchronized (output.getCheckpointLock()) {
+                    output.collect(row);
+                }
             }
-            this.readerContext.signalNoMoreElement();
         }
     }
-
-    @Override
-    public List<ClickhouseSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return null;
-    }
-
-    @Override
-    public void addSplits(List<ClickhouseSourceSplit> splits) {
-        this.splits.addAll(splits);
-    }
-
-    @Override
-    public void handleNoMoreSplits() {
-
-    }
-
-    @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
-    }
 }
@@ -19,9 +19,47 @@ package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
 import org.apache.seatunnel.api.source.SourceSplit;
 
+import com.clickhouse.client.ClickHouseNode;
+
 public class ClickhouseSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int splitId;
+    /**
+     * The server to run the query on, or null to run it on any server of the source.
+     */
+    private final ClickHouseNode node;
+    /**
+     * The query of this split, or null to use the query of the source.
+     */
+    private final String query;
+
+    public ClickhouseSourceSplit(int splitId, ClickHouseNode node, String query) {
+        this.splitId = splitId;
+        this.node = node;
+        this.query = query;
+    }
+
+    public int getSplitId() {
+        return splitId;
+    }
+
+    public ClickHouseNode getNode() {
+        return node;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
     @Override
     public String splitId() {
-        return null;
+        return String.valueOf(splitId);
+    }
+
+    @Override
+    public String toString() {
+        return "ClickhouseSourceSplit{splitId=" + splitId + ", node=" + node + ", query='" + query + "'}";
     }
 }
@@ -17,84 +17,36 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
 
-import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSourceState;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractPendingSplitEnumerator;
 
-import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
 
-public class ClickhouseSourceSplitEnumerator implements
-        SourceSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
-
-    private final Context<ClickhouseSourceSplit> context;
-    private final Set<Integer> readers;
-    private volatile int assigned = -1;
-
-    // TODO support read distributed engine use multi split
-    ClickhouseSourceSplitEnumerator(Context<ClickhouseSourceSplit> enumeratorContext) {
-        this.context = enumeratorContext;
-        this.readers = new HashSet<>();
-    }
-
-    @Override
-    public void open() {
-
-    }
-
-    @Override
-    public void run() throws Exception {
-
-    }
-
-    @Override
-    public void close() throws IOException {
-
-    }
-
-    @Override
-    public void addSplitsBack(List<ClickhouseSourceSplit> splits, int subtaskId) {
-        if (splits.isEmpty()) {
-            return;
-        }
-        if (subtaskId == assigned) {
-            Optional<Integer> otherReader = readers.stream().filter(r -> r != subtaskId).findAny();
-            if (otherReader.isPresent()) {
-                context.assignSplit(otherReader.get(), splits);
-            } else {
-                assigned = -1;
-            }
-        }
-    }
-
-    @Override
-    public int currentUnassignedSplitSize() {
-        return assigned < 0 ? 0 : 1;
-    }
+/**
+ * Splits the query by the tables, partitions and split key bounds queried when the source was prepared.
+ */
+public class ClickhouseSourceSplitEnumerator extends AbstractPendingSplitEnumerator<ClickhouseSourceSplit, ClickhouseSourceState> {
 
-    @Override
-    public void handleSplitRequest(int subtaskId) {
+    private final ClickhouseSourceSplitter splitter;
 
+    ClickhouseSourceSplitEnumerator(Context<ClickhouseSourceSplit> enumeratorContext, ClickhouseSourceSplitter splitter) {
+        super(enumeratorContext);
+        this.splitter = splitter;
     }
 
-    @Override
-    public void registerReader(int subtaskId) {
-        readers.add(subtaskId);
-        if (assigned < 0) {
-            assigned = subtaskId;
-            context.assignSplit(subtaskId, new ClickhouseSourceSplit());
-        }
+    ClickhouseSourceSplitEnumerator(Context<ClickhouseSourceSplit> enumeratorContext, ClickhouseSourceSplitter splitter,
+                                    ClickhouseSourceState checkpointState) {
+        super(enumeratorContext, checkpointState);
+        this.splitter = splitter;
     }
 
     @Override
-    public ClickhouseSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
+    protected List<ClickhouseSourceSplit> createSplits(int parallelism) {
+        return splitter.createSplits(parallelism);
     }
 
     @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
+    protected ClickhouseSourceState createState(List<ClickhouseSourceSplit> pendingSplits) {
+        return new ClickhouseSourceState(pendingSplits);
     }
 }
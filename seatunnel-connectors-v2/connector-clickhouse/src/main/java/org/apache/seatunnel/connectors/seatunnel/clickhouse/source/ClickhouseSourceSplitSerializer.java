@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.api.serialization.FieldReader;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+
+import com.clickhouse.client.ClickHouseNode;
+
+import java.io.IOException;
+
+/**
+ * The {@link ClickHouseNode} has no stable binary form of its own, so it is written with Java serialization.
+ */
+public class ClickhouseSourceSplitSerializer implements VersionedSerializer<ClickhouseSourceSplit> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void serialize(ClickhouseSourceSplit split, FieldWriter writer) throws IOException {
+        writer.writeVarInt(split.getSplitId())
+            .writeString(split.getQuery())
+            .writeObject(split.getNode());
+    }
+
+    @Override
+    public ClickhouseSourceSplit deserialize(int version, FieldReader reader) throws IOException {
+        int splitId = reader.readVarInt();
+        String query = reader.readString();
+        ClickHouseNode node = reader.readObject();
+        return new ClickhouseSourceSplit(splitId, node, query);
+    }
+}
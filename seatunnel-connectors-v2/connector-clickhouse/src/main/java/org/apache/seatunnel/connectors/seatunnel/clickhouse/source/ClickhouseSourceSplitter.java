@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.DistributedEngine;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.ClickhouseProxy;
+
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseRecord;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Calculates the splits of the source query.
+ *
+ * <p>In split mode the query of a Distributed table is run on every shard, with the Distributed table replaced by
+ * the local table of the shard. The rows of each table read, the local tables or the table of the query otherwise,
+ * can be further split by partition and by ranges of an integer column, with a subquery filtering the table.
+ */
+public class ClickhouseSourceSplitter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClickhouseSourceSplitter.class);
+
+    /**
+     * The keywords which may follow a table in a query, any other word following it is an alias.
+     */
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("ALL", "ANTI", "ANY", "ARRAY", "ASOF",
+        "CROSS", "EXCEPT", "FINAL", "FORMAT", "FULL", "GLOBAL", "GROUP", "HAVING", "INNER", "INTERSECT", "INTO", "JOIN",
+        "LEFT", "LIMIT", "OFFSET", "ON", "ORDER", "OUTER", "PASTE", "PREWHERE", "QUALIFY", "RIGHT", "SAMPLE", "SEMI",
+        "SETTINGS", "UNION", "USING", "WHERE", "WINDOW", "WITH"));
+    private static final Pattern FOLLOWING_WORD = Pattern.compile("^\\s+((?i:AS)\\s+)?`?([A-Za-z_]\\w*)");
+
+    private final ShardMetadata shardMetadata;
+    private final String sql;
+    private final boolean splitByPartition;
+    private final String splitKey;
+    private final int splitNum;
+
+    /**
+     * The tables read by the query with their partitions and split key bounds, or null if the query is not split.
+     */
+    private List<SplitTable> tables;
+
+    /**
+     * @param shardMetadata    the table of the query, and whether to read its shards
+     * @param sql              query of the source
+     * @param splitByPartition whether to split the rows of each table by partition
+     * @param splitKey         integer column to split the rows of each table by, may be null
+     * @param splitNum         number of ranges of the split key, the parallelism if not positive
+     */
+    public ClickhouseSourceSplitter(ShardMetadata shardMetadata, String sql, boolean splitByPartition,
+                                    String splitKey, int splitNum) {
+        this.shardMetadata = shardMetadata;
+        this.sql = sql;
+        this.splitByPartition = splitByPartition;
+        this.splitKey = splitKey;
+        this.splitNum = splitNum;
+    }
+
+    /**
+     * Queries the tables read by the query, with the partitions and the bounds of the split key of each of them.
+     * They are queried once when the source is prepared, so that every enumerator calculates the same splits.
+     */
+    public void queryTables() {
+        if (!shardMetadata.getSplitMode() && !splitByPartition && StringUtils.isEmpty(splitKey)) {
+            return;
+        }
+        List<SplitTable> queried = new ArrayList<>();
+        String database = shardMetadata.getDatabase();
+        String table = shardMetadata.getTable();
+        ClickhouseProxy proxy = new ClickhouseProxy(shardMetadata.getDefaultShard().getNode());
+        try {
+            ClickHouseRequest<?> connection = proxy.getClickhouseConnection();
+            if (!shardMetadata.getSplitMode()) {
+                queried.add(queryTable(null, connection, database, table));
+            } else {
+                DistributedEngine localTable = proxy.getClickhouseDistributedTable(connection, database, table);
+                List<Shard> shardList = proxy.getClusterShardList(connection, localTable.getClusterName(),
+                    localTable.getDatabase(), shardMetadata.getDefaultShard().getNode().getPort(),
+                    shardMetadata.getUsername(), shardMetadata.getPassword());
+                int lastShardNum = -1;
+                for (Shard shard : shardList) {
+                    // the replicas of a shard hold the same rows, which are read from the first replica
+                    if (shard.getShardNum() == lastShardNum) {
+                        continue;
+                    }
+                    lastShardNum = shard.getShardNum();
+                    queried.add(queryTable(shard.getNode(), proxy.getClickhouseConnection(shard),
+                        localTable.getDatabase(), localTable.getTable()));
+                }
+            }
+        } finally {
+            proxy.close();
+        }
+        tables = queried;
+    }
+
+    private SplitTable queryTable(ClickHouseNode node, ClickHouseRequest<?> connection, String database, String table) {
+        String qualifiedTable = quote(database) + "." + quote(table);
+        List<String> partitions = splitByPartition ? queryPartitions(connection, database, table)
+            : Collections.emptyList();
+        BigInteger[] bounds = StringUtils.isNotEmpty(splitKey) ? queryBounds(connection, qualifiedTable) : null;
+        return new SplitTable(node, qualifiedTable, partitions, bounds);
+    }
+
+    /**
+     * Calculates the splits of the tables queried by {@link #queryTables()}.
+     *
+     * @param parallelism the number of ranges of the split key if the split number is not configured
+     */
+    public List<ClickhouseSourceSplit> createSplits(int parallelism) {
+        List<ClickhouseSourceSplit> splits = new ArrayList<>();
+        if (tables == null) {
+            splits.add(new ClickhouseSourceSplit(0, null, null));
+            return splits;
+        }
+        for (SplitTable table : tables) {
+            addSplits(splits, table, parallelism);
+        }
+        return splits;
+    }
+
+    /**
+     * Adds the splits of a table read by the query.
+     */
+    private void addSplits(List<ClickhouseSourceSplit> splits, SplitTable table, int parallelism) {
+        List<String> partitionFilters = Collections.singletonList(null);
+        if (!table.partitions.isEmpty()) {
+            partitionFilters = new ArrayList<>(table.partitions.size());
+            for (String partition : table.partitions) {
+                partitionFilters.add("_partition_id = '" + partition.replace("\\", "\\\\").replace("'", "\\'") + "'");
+            }
+        }
+        List<String> rangeFilters = Collections.singletonList(null);
+        if (table.bounds != null) {
+            rangeFilters = rangeFilters(splitKey, table.bounds[0], table.bounds[1], splitNum > 0 ? splitNum : parallelism);
+        }
+        for (String partitionFilter : partitionFilters) {
+            for (String rangeFilter : rangeFilters) {
+                String filter = partitionFilter == null ? rangeFilter
+                    : rangeFilter == null ? partitionFilter : partitionFilter + " AND " + rangeFilter;
+                String query = table.node == null && filter == null ? null
+                    : localizeQuery(sql, shardMetadata.getDatabase(), shardMetadata.getTable(), table.qualifiedTable, filter);
+                splits.add(new ClickhouseSourceSplit(splits.size(), table.node, query));
+            }
+        }
+        LOGGER.info("Split table {} of {} into {} partitions and {} ranges", table.qualifiedTable,
+            table.node == null ? "the source" : table.node.getHost(), partitionFilters.size(), rangeFilters.size());
+    }
+
+    private static List<String> queryPartitions(ClickHouseRequest<?> connection, String database, String table) {
+        String sql = String.format("select distinct partition_id from system.parts where database = '%s' and table = '%s' and active order by partition_id",
+            database, table);
+        List<String> partitions = new ArrayList<>();
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            response.records().forEach(r -> partitions.add(r.getValue(0).asString()));
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get partitions of table " + table + " from clickhouse", e);
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the minimum and the maximum of the split key, or null if the table has no value of it.
+     */
+    private BigInteger[] queryBounds(ClickHouseRequest<?> connection, String qualifiedTable) {
+        String sql = String.format("select toString(min(%s)), toString(max(%s)) from %s", splitKey, splitKey, qualifiedTable);
+        try (ClickHouseResponse response = connection.query(sql).executeAndWait()) {
+            ClickHouseRecord record = response.records().iterator().next();
+            String min = record.getValue(0).asString();
+            String max = record.getValue(1).asString();
+            if (min == null || max == null) {
+                return null;
+            }
+            return new BigInteger[]{new BigInteger(min), new BigInteger(max)};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Split key " + splitKey + " is not an integer column", e);
+        } catch (ClickHouseException e) {
+            throw new RuntimeException("Cannot get the range of split key " + splitKey + " from clickhouse", e);
+        }
+    }
+
+    /**
+     * Splits the values from {@code min} to {@code max} into at most {@code num} ranges of equal size. The first
+     * range also holds the null values of the key.
+     */
+    static List<String> rangeFilters(String key, BigInteger min, BigInteger max, int num) {
+        BigInteger count = max.subtract(min).add(BigInteger.ONE);
+        int n = count.compareTo(BigInteger.valueOf(num)) < 0 ? count.intValue() : num;
+        BigInteger[] sizeAndRemainder = count.divideAndRemainder(BigInteger.valueOf(n));
+        List<String> filters = new ArrayList<>(n);
+        BigInteger start = min;
+        for (int i = 0; i < n; i++) {
+            BigInteger size = i < sizeAndRemainder[1].intValue() ?
+                sizeAndRemainder[0].add(BigInteger.ONE) : sizeAndRemainder[0];
+            BigInteger end = start.add(size).subtract(BigInteger.ONE);
+            String filter = String.format("%s BETWEEN %s AND %s", key, start, end);
+            filters.add(i == 0 ? String.format("(%s OR %s IS NULL)", filter, key) : filter);
+            start = end.add(BigInteger.ONE);
+        }
+        return filters;
+    }
+
+    /**
+     * Replaces the table read by the query with another table, whose rows are filtered by a subquery if a filter
+     * is given. The replaced table keeps the name of the table as its alias, so the qualified columns still resolve.
+     *
+     * @throws IllegalArgumentException if the query does not read the table
+     */
+    static String localizeQuery(String sql, String database, String table, String localTable, String filter) {
+        Pattern pattern = Pattern.compile("\\b((?i:FROM|JOIN)\\s+)(?:`?" + Pattern.quote(database) + "`?\\s*\\.\\s*)?`?"
+            + Pattern.quote(table) + "`?(?![\\w`.])((?i:\\s+FINAL\\b))?");
+        Matcher matcher = pattern.matcher(sql);
+        StringBuffer localized = new StringBuffer();
+        boolean found = false;
+        while (matcher.find()) {
+            found = true;
+            String modifier = matcher.group(2) == null ? "" : matcher.group(2);
+            Matcher following = FOLLOWING_WORD.matcher(sql.substring(matcher.end()));
+            boolean aliased = following.find()
+                && (following.group(1) != null || !KEYWORDS.contains(following.group(2).toUpperCase()));
+            String alias = aliased ? "" : " AS " + quote(table);
+            String replacement = filter == null ? localTable + alias + modifier
+                : "(SELECT * FROM " + localTable + modifier + " WHERE " + filter + ")" + alias;
+            matcher.appendReplacement(localized, Matcher.quoteReplacement(matcher.group(1) + replacement));
+        }
+        if (!found) {
+            throw new IllegalArgumentException(String.format("Cannot find table %s in the sql: %s", table, sql));
+        }
+        matcher.appendTail(localized);
+        return localized.toString();
+    }
+
+    private static String quote(String identifier) {
+        return "`" + identifier.replace("`", "\\`") + "`";
+    }
+
+    /**
+     * A table read by the query, with its partitions and the bounds of the split key.
+     */
+    private static final class SplitTable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The server to read the table from, or null to read it from any server of the source.
+         */
+        private final ClickHouseNode node;
+        private final String qualifiedTable;
+        /**
+         * The partitions to split the table by, empty to not split it by partition.
+         */
+        private final List<String> partitions;
+        /**
+         * The minimum and the maximum of the split key, or null to not split the table by the split key.
+         */
+        private final BigInteger[] bounds;
+
+        SplitTable(ClickHouseNode node, String qualifiedTable, List<String> partitions, BigInteger[] bounds) {
+            this.node = node;
+            this.qualifiedTable = qualifiedTable;
+            this.partitions = partitions;
+            this.bounds = bounds;
+        }
+    }
+}
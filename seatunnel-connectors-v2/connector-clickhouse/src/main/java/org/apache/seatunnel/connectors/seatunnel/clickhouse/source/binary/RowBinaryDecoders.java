@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates the {@link RowBinaryFieldDecoder} of a ClickHouse column type, like {@code Nullable(Decimal(18, 4))}.
+ *
+ * <p>The type is parsed once, so decoding a value does not dispatch on the type any more. The decoded value is
+ * converted to the class of the given SeaTunnel type, a value of a {@code STRING} field is rendered like the
+ * ClickHouse text formats do, for example {@code ['a','b']} for an array.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class RowBinaryDecoders {
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+        10_000_000L, 100_000_000L, 1_000_000_000L};
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+        .toFormatter();
+
+    private RowBinaryDecoders() {
+    }
+
+    /**
+     * Create the decoder of a column type.
+     *
+     * @param type           ClickHouse column type
+     * @param targetType     type of the decoded values, null to decode the natural Java values of the column type
+     * @param serverTimeZone time zone of the DateTime columns without an explicit time zone
+     * @throws IllegalArgumentException if the type is not supported or cannot be converted to the target type
+     */
+    public static RowBinaryFieldDecoder create(String type, SeaTunnelDataType<?> targetType, ZoneId serverTimeZone) {
+        String name = ClickhouseUtil.functionName(type);
+        List<String> args = ClickhouseUtil.functionArguments(type);
+        switch (name) {
+            case "Nullable": {
+                RowBinaryFieldDecoder decoder = create(args.get(0), targetType, serverTimeZone);
+                return input -> input.readByte() != 0 ? null : decoder.decode(input);
+            }
+            case "LowCardinality":
+                return create(args.get(0), targetType, serverTimeZone);
+            case "SimpleAggregateFunction":
+                return create(args.get(1), targetType, serverTimeZone);
+            default:
+                RowBinaryFieldDecoder decoder = createNotNull(type, name, args, targetType, serverTimeZone);
+                ValueConverter converter = converter(type, name, targetType);
+                return converter == null ? decoder : input -> converter.convert(decoder.decode(input));
+        }
+    }
+
+    private static RowBinaryFieldDecoder createNotNull(String type, String name, List<String> args,
+                                                       SeaTunnelDataType<?> targetType, ZoneId serverTimeZone) {
+        switch (name) {
+            case "Int8":
+                return input -> (byte) input.readByte();
+            case "UInt8":
+                return input -> (short) (input.readByte() & 0xFF);
+            case "Bool":
+            case "Boolean":
+                return input -> input.readByte() != 0;
+            case "Int16":
+                return input -> (short) input.readShort();
+            case "UInt16":
+                return input -> input.readShort() & 0xFFFF;
+            case "Int32":
+                return RowBinaryInput::readInt;
+            case "UInt32":
+                return input -> input.readInt() & 0xFFFFFFFFL;
+            case "Int64":
+                return RowBinaryInput::readLong;
+            case "UInt64":
+                if (targetType != null && targetType.getSqlType() == SqlType.BIGINT) {
+                    // keep the bits like the ClickHouse client does, instead of a BigInteger per value
+                    return RowBinaryInput::readLong;
+                }
+                return input -> input.readBigInteger(8, false);
+            case "Int128":
+            case "UInt128":
+                return input -> input.readBigInteger(16, name.startsWith("Int"));
+            case "Int256":
+            case "UInt256":
+                return input -> input.readBigInteger(32, name.startsWith("Int"));
+            case "Float32":
+                return RowBinaryInput::readFloat;
+            case "Float64":
+                return RowBinaryInput::readDouble;
+            case "Decimal":
+                return decimal(decimalBytes(Integer.parseInt(args.get(0))), args.size() > 1 ? Integer.parseInt(args.get(1)) : 0);
+            case "Decimal32":
+                return decimal(4, Integer.parseInt(args.get(0)));
+            case "Decimal64":
+                return decimal(8, Integer.parseInt(args.get(0)));
+            case "Decimal128":
+                return decimal(16, Integer.parseInt(args.get(0)));
+            case "Decimal256":
+                return decimal(32, Integer.parseInt(args.get(0)));
+            case "String":
+                if (targetType != null && targetType.getSqlType() == SqlType.BYTES) {
+                    return input -> input.readBytes(input.readVarInt());
+                }
+                return RowBinaryInput::readString;
+            case "FixedString": {
+                int length = Integer.parseInt(args.get(0));
+                if (targetType != null && targetType.getSqlType() == SqlType.BYTES) {
+                    return input -> input.readBytes(length);
+                }
+                return input -> input.readString(length);
+            }
+            case "UUID":
+                return input -> new UUID(input.readLong(), input.readLong());
+            case "Date":
+                return input -> LocalDate.ofEpochDay(input.readShort() & 0xFFFF);
+            case "Date32":
+                return input -> LocalDate.ofEpochDay(input.readInt());
+            case "DateTime": {
+                ZoneId zone = args.isEmpty() ? serverTimeZone : ZoneId.of(ClickhouseUtil.unquote(args.get(0)));
+                return input -> LocalDateTime.ofInstant(Instant.ofEpochSecond(input.readInt() & 0xFFFFFFFFL), zone);
+            }
+            case "DateTime64": {
+                long scale = POWERS_OF_TEN[Integer.parseInt(args.get(0))];
+                ZoneId zone = args.size() < 2 ? serverTimeZone : ZoneId.of(ClickhouseUtil.unquote(args.get(1)));
+                return input -> {
+                    long value = input.readLong();
+                    return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(value, scale),
+                        Math.floorMod(value, scale) * (1_000_000_000L / scale)), zone);
+                };
+            }
+            case "Enum8":
+            case "Enum16": {
+                boolean enum8 = "Enum8".equals(name);
+                if (targetType != null && isInteger(targetType.getSqlType())) {
+                    return enum8 ? input -> (byte) input.readByte() : input -> (short) input.readShort();
+                }
+                Map<Integer, String> names = new HashMap<>();
+                ClickhouseUtil.enumValues(args).forEach((enumName, value) -> names.put(value, enumName));
+                return input -> {
+                    int value = enum8 ? input.readByte() : input.readShort();
+                    String enumName = names.get(value);
+                    if (enumName == null) {
+                        throw new IOException(String.format("Unknown value %s of %s", value, type));
+                    }
+                    return enumName;
+                };
+            }
+            case "IPv4":
+                return input -> {
+                    int value = input.readInt();
+                    return InetAddress.getByAddress(new byte[]{
+                        (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value});
+                };
+            case "IPv6":
+                return input -> InetAddress.getByAddress(input.readBytes(16));
+            case "Array": {
+                SeaTunnelDataType<?> elementType = targetType instanceof ArrayType ?
+                    ((ArrayType<?, ?>) targetType).getElementType() : null;
+                RowBinaryFieldDecoder element = create(args.get(0), elementType, serverTimeZone);
+                Class<?> componentType = elementType == null ? Object.class : elementType.getTypeClass();
+                return input -> {
+                    int length = input.readVarInt();
+                    Object[] array = (Object[]) Array.newInstance(componentType, length);
+                    for (int i = 0; i < length; i++) {
+                        array[i] = element.decode(input);
+                    }
+                    return array;
+                };
+            }
+            case "Map": {
+                MapType<?, ?> mapType = targetType instanceof MapType ? (MapType<?, ?>) targetType : null;
+                RowBinaryFieldDecoder keyDecoder = create(args.get(0),
+                    mapType == null ? null : mapType.getKeyType(), serverTimeZone);
+                RowBinaryFieldDecoder valueDecoder = create(args.get(1),
+                    mapType == null ? null : mapType.getValueType(), serverTimeZone);
+                return input -> {
+                    int size = input.readVarInt();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(keyDecoder.decode(input), valueDecoder.decode(input));
+                    }
+                    return map;
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported ClickHouse type of RowBinary format: " + type);
+        }
+    }
+
+    /**
+     * Returns the converter of the decoded values to the target type, null if they are already of it.
+     */
+    private static ValueConverter converter(String type, String name, SeaTunnelDataType<?> targetType) {
+        if (targetType == null) {
+            return null;
+        }
+        switch (targetType.getSqlType()) {
+            case STRING:
+                return RowBinaryDecoders::toText;
+            case BOOLEAN:
+                return value -> value instanceof Boolean ? value : toNumber(value).longValue() != 0L;
+            case TINYINT:
+                return value -> value instanceof Byte ? value : toNumber(value).byteValue();
+            case SMALLINT:
+                return value -> value instanceof Short ? value : toNumber(value).shortValue();
+            case INT:
+                return value -> value instanceof Integer ? value : toNumber(value).intValue();
+            case BIGINT:
+                return value -> value instanceof Long ? value : toNumber(value).longValue();
+            case FLOAT:
+                return value -> value instanceof Float ? value : toNumber(value).floatValue();
+            case DOUBLE:
+                return value -> value instanceof Double ? value : toNumber(value).doubleValue();
+            case DECIMAL:
+                return value -> {
+                    if (value instanceof BigDecimal) {
+                        return value;
+                    }
+                    return value instanceof BigInteger ? new BigDecimal((BigInteger) value) : new BigDecimal(value.toString());
+                };
+            case BYTES:
+                return value -> value instanceof byte[] ? value : toText(value).getBytes(StandardCharsets.UTF_8);
+            case DATE:
+                return value -> {
+                    if (value instanceof LocalDate) {
+                        return value;
+                    }
+                    return value instanceof LocalDateTime ? ((LocalDateTime) value).toLocalDate() : LocalDate.parse(value.toString());
+                };
+            case TIMESTAMP:
+                return value -> {
+                    if (value instanceof LocalDateTime) {
+                        return value;
+                    }
+                    return value instanceof LocalDate ? ((LocalDate) value).atStartOfDay()
+                        : LocalDateTime.parse(value.toString(), DATE_TIME_FORMATTER);
+                };
+            case ARRAY:
+                if ("Array".equals(name)) {
+                    return null;
+                }
+                break;
+            case MAP:
+                if ("Map".equals(name)) {
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException(String.format("Cannot decode ClickHouse type %s as %s", type, targetType));
+    }
+
+    private static RowBinaryFieldDecoder decimal(int bytes, int scale) {
+        if (bytes == 4) {
+            return input -> BigDecimal.valueOf(input.readInt(), scale);
+        } else if (bytes == 8) {
+            return input -> BigDecimal.valueOf(input.readLong(), scale);
+        }
+        return input -> new BigDecimal(input.readBigInteger(bytes, true), scale);
+    }
+
+    private static int decimalBytes(int precision) {
+        if (precision <= 9) {
+            return 4;
+        } else if (precision <= 18) {
+            return 8;
+        } else if (precision <= 38) {
+            return 16;
+        }
+        return 32;
+    }
+
+    private static boolean isInteger(SqlType sqlType) {
+        return sqlType == SqlType.TINYINT || sqlType == SqlType.SMALLINT
+            || sqlType == SqlType.INT || sqlType == SqlType.BIGINT;
+    }
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static String toText(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        StringBuilder builder = new StringBuilder();
+        appendText(builder, value, false);
+        return builder.toString();
+    }
+
+    private static void appendText(StringBuilder builder, Object value, boolean quoteString) {
+        if (value == null) {
+            builder.append("NULL");
+        } else if (value instanceof String || value instanceof UUID || value instanceof LocalDate) {
+            if (quoteString) {
+                builder.append('\'').append(value.toString().replace("\\", "\\\\").replace("'", "\\'")).append('\'');
+            } else {
+                builder.append(value);
+            }
+        } else if (value instanceof LocalDateTime) {
+            appendText(builder, DATE_TIME_FORMATTER.format((LocalDateTime) value), quoteString);
+        } else if (value instanceof InetAddress) {
+            appendText(builder, ((InetAddress) value).getHostAddress(), quoteString);
+        } else if (value instanceof byte[]) {
+            appendText(builder, new String((byte[]) value, StandardCharsets.UTF_8), quoteString);
+        } else if (value instanceof Object[]) {
+            builder.append('[');
+            Object[] array = (Object[]) value;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                appendText(builder, array[i], true);
+            }
+            builder.append(']');
+        } else if (value instanceof Map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                appendText(builder, entry.getKey(), true);
+                builder.append(':');
+                appendText(builder, entry.getValue(), true);
+            }
+            builder.append('}');
+        } else {
+            builder.append(value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter extends Serializable {
+        Object convert(Object value);
+    }
+}
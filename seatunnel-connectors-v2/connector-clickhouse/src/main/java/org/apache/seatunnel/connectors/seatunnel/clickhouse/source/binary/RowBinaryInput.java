@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads ClickHouse {@code RowBinary} data from a stream through a reused buffer, so decoding a primitive value
+ * neither allocates nor calls the stream.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public class RowBinaryInput {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * The size of the widest fixed-size value, {@code Int256}, which must fit into the buffer.
+     */
+    private static final int MIN_BUFFER_SIZE = 32;
+
+    private final InputStream input;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    public RowBinaryInput(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public RowBinaryInput(InputStream input, int bufferSize) {
+        this.input = input;
+        this.buffer = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    /**
+     * Returns whether there is any byte left, which is the case before every row of the data.
+     */
+    public boolean hasMore() throws IOException {
+        return position < limit || fill() > 0;
+    }
+
+    public int readByte() throws IOException {
+        ensure(1);
+        return buffer[position++];
+    }
+
+    public int readShort() throws IOException {
+        ensure(2);
+        int value = buffer[position] & 0xFF | buffer[position + 1] << 8;
+        position += 2;
+        return (short) value;
+    }
+
+    public int readInt() throws IOException {
+        ensure(4);
+        int value = buffer[position] & 0xFF |
+            (buffer[position + 1] & 0xFF) << 8 |
+            (buffer[position + 2] & 0xFF) << 16 |
+            buffer[position + 3] << 24;
+        position += 4;
+        return value;
+    }
+
+    public long readLong() throws IOException {
+        ensure(8);
+        long value = 0L;
+        for (int i = 7; i >= 0; i--) {
+            value = value << 8 | buffer[position + i] & 0xFFL;
+        }
+        position += 8;
+        return value;
+    }
+
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads an unsigned LEB128 integer, which is the length prefix of strings, arrays and maps.
+     */
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    public String readString() throws IOException {
+        return readString(readVarInt());
+    }
+
+    public String readString(int length) throws IOException {
+        if (length <= buffer.length) {
+            ensure(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int copied = Math.min(length, limit - position);
+        System.arraycopy(buffer, position, bytes, 0, copied);
+        position += copied;
+        while (copied < length) {
+            int n = input.read(bytes, copied, length - copied);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            copied += n;
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a little-endian integer of the given width, like {@code Int128} or {@code UInt256}.
+     */
+    public BigInteger readBigInteger(int bytes, boolean signed) throws IOException {
+        ensure(bytes);
+        byte[] bigEndian = new byte[signed ? bytes : bytes + 1];
+        for (int i = 0; i < bytes; i++) {
+            bigEndian[bigEndian.length - 1 - i] = buffer[position + i];
+        }
+        position += bytes;
+        return new BigInteger(bigEndian);
+    }
+
+    /**
+     * Makes sure at least the given number of bytes, which must not exceed the buffer size, are buffered.
+     */
+    private void ensure(int bytes) throws IOException {
+        if (limit - position >= bytes) {
+            return;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < bytes) {
+            int n = input.read(buffer, limit, buffer.length - limit);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            limit += n;
+        }
+    }
+
+    private int fill() throws IOException {
+        position = 0;
+        limit = 0;
+        int n;
+        do {
+            n = input.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        if (n > 0) {
+            limit = n;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Decodes the rows of a query result in the {@code RowBinary} format into {@link SeaTunnelRow}s, with the decoders
+ * resolved once from the column types of the result.
+ */
+public class RowBinaryRowDecoder {
+
+    private final RowBinaryFieldDecoder[] decoders;
+
+    /**
+     * @param columnTypes    ClickHouse types of the columns of the result
+     * @param rowType        type of the rows, with a field per column
+     * @param serverTimeZone time zone of the DateTime columns without an explicit time zone
+     */
+    public RowBinaryRowDecoder(List<String> columnTypes, SeaTunnelRowType rowType, ZoneId serverTimeZone) {
+        if (columnTypes.size() != rowType.getTotalFields()) {
+            throw new IllegalArgumentException(String.format("The result has %s columns, but the row type has %s fields",
+                columnTypes.size(), rowType.getTotalFields()));
+        }
+        this.decoders = new RowBinaryFieldDecoder[columnTypes.size()];
+        for (int i = 0; i < decoders.length; i++) {
+            decoders[i] = RowBinaryDecoders.create(columnTypes.get(i), rowType.getFieldType(i), serverTimeZone);
+        }
+    }
+
+    public SeaTunnelRow decode(RowBinaryInput input) throws IOException {
+        Object[] fields = new Object[decoders.length];
+        for (int i = 0; i < decoders.length; i++) {
+            fields[i] = decoders[i].decode(input);
+        }
+        return new SeaTunnelRow(fields);
+    }
+}
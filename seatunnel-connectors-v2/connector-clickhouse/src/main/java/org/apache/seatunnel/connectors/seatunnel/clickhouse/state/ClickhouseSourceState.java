@@ -17,7 +17,22 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.state;
 
-import java.io.Serializable;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.source.ClickhouseSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.PendingSplitsState;
 
-public class ClickhouseSourceState implements Serializable {
+import java.util.List;
+
+public class ClickhouseSourceState implements PendingSplitsState<ClickhouseSourceSplit> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ClickhouseSourceSplit> pendingSplits;
+
+    public ClickhouseSourceState(List<ClickhouseSourceSplit> pendingSplits) {
+        this.pendingSplits = pendingSplits;
+    }
+
+    @Override
+    public List<ClickhouseSourceSplit> getPendingSplits() {
+        return pendingSplits;
+    }
 }
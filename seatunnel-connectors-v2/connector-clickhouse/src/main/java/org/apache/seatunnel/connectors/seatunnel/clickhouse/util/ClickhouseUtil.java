@@ -22,12 +22,19 @@ import com.clickhouse.client.ClickHouseNode;
 import com.clickhouse.client.ClickHouseProtocol;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class ClickhouseUtil {
 
+    private static final Pattern ENUM_VALUE = Pattern.compile("'((?:[^'\\\\]|\\\\.)*)'\\s*=\\s*(-?\\d+)");
+
     public static List<ClickHouseNode> createNodes(String nodeAddress, String database, String username,
             String password) {
         return Arrays.stream(nodeAddress.split(",")).map(address -> {
@@ -41,4 +48,80 @@ public class ClickhouseUtil {
                     .credentials(ClickHouseCredentials.fromUserAndPassword(username, password)).build();
         }).collect(Collectors.toList());
     }
+
+    /**
+     * Returns the name of a type or function call, like {@code Decimal} of {@code Decimal(18, 4)}.
+     */
+    public static String functionName(String expression) {
+        int index = expression.indexOf('(');
+        return (index < 0 ? expression : expression.substring(0, index)).trim();
+    }
+
+    /**
+     * Returns the arguments of a type or function call, like {@code 18} and {@code 4} of {@code Decimal(18, 4)},
+     * split at the commas outside of nested calls and quoted strings. Anything after the closing parenthesis, like
+     * the {@code SETTINGS} of a table engine, is ignored.
+     */
+    public static List<String> functionArguments(String expression) {
+        List<String> args = new ArrayList<>();
+        int start = expression.indexOf('(');
+        if (start < 0) {
+            return args;
+        }
+        int depth = 0;
+        boolean quoted = false;
+        int argStart = start + 1;
+        for (int i = start + 1; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '\'') {
+                    quoted = false;
+                }
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && depth-- == 0) {
+                String last = expression.substring(argStart, i).trim();
+                if (!last.isEmpty() || !args.isEmpty()) {
+                    args.add(last);
+                }
+                return args;
+            } else if (c == ',' && depth == 0) {
+                args.add(expression.substring(argStart, i).trim());
+                argStart = i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Unbalanced parentheses in " + expression);
+    }
+
+    /**
+     * Returns the values of the arguments of an enum type, like {@code 'a' = 1, 'b' = 2} of {@code Enum8('a' = 1, 'b' = 2)},
+     * by their names.
+     */
+    public static Map<String, Integer> enumValues(List<String> args) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            Matcher matcher = ENUM_VALUE.matcher(arg);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid enum value: " + arg);
+            }
+            values.put(unescape(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value of a quoted string literal, like the time zone argument of {@code DateTime('UTC')}. A value
+     * which is not quoted is returned as is.
+     */
+    public static String unquote(String value) {
+        return value.startsWith("'") && value.endsWith("'") ? unescape(value.substring(1, value.length() - 1)) : value;
+    }
+
+    private static String unescape(String value) {
+        return value.replaceAll("\\\\(.)", "$1");
+    }
 }
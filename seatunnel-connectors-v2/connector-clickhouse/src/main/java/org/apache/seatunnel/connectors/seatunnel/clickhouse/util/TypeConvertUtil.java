@@ -17,7 +17,6 @@
 
 package org.apache.seatunnel.connectors.seatunnel.clickhouse.util;
 
-import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
@@ -25,7 +24,6 @@ import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
 import com.clickhouse.client.ClickHouseColumn;
-import com.clickhouse.client.ClickHouseValue;
 
 import java.math.BigDecimal;
 import java.net.Inet4Address;
@@ -76,39 +74,4 @@ public class TypeConvertUtil {
             throw new IllegalArgumentException("not supported data type: " + column.getDataType());
         }
     }
-
-    public static Object valueUnwrap(SeaTunnelDataType<?> dataType, ClickHouseValue record) {
-
-        if (dataType instanceof DecimalType) {
-            return record.asBigDecimal();
-        } else if (dataType.equals(BasicType.BOOLEAN_TYPE)) {
-            return record.asBoolean();
-        } else if (dataType.equals(BasicType.INT_TYPE)) {
-            return record.asInteger();
-        } else if (dataType.equals(BasicType.LONG_TYPE)) {
-            return record.asLong();
-        } else if (dataType.equals(BasicType.SHORT_TYPE)) {
-            return record.asShort();
-        } else if (dataType.equals(BasicType.BYTE_TYPE)) {
-            return record.asByte();
-        } else if (dataType.equals(LocalTimeType.LOCAL_DATE_TYPE)) {
-            return record.asDate();
-        } else if (dataType.equals(LocalTimeType.LOCAL_DATE_TIME_TYPE)) {
-            return record.asDateTime();
-        } else if (dataType.equals(BasicType.STRING_TYPE)) {
-            return record.asString();
-        } else if (dataType.equals(BasicType.FLOAT_TYPE)) {
-            return record.asFloat();
-        } else if (dataType.equals(BasicType.DOUBLE_TYPE)) {
-            return record.asDouble();
-        } else if (dataType instanceof MapType) {
-            return record.asMap();
-        } else if (dataType instanceof ArrayType) {
-            return record.asObject();
-        } else {
-            // TODO support pojo
-            throw new IllegalArgumentException("not supported data type: " + dataType);
-        }
-    }
-
 }
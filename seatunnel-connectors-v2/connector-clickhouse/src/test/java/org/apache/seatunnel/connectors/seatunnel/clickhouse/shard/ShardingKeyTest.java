@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.shard;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@SuppressWarnings("MagicNumber")
+class ShardingKeyTest {
+
+    private static final Map<String, String> SCHEMA = new HashMap<>();
+
+    static {
+        SCHEMA.put("id", "Int32");
+        SCHEMA.put("user_id", "UInt64");
+        SCHEMA.put("name", "LowCardinality(Nullable(String))");
+        SCHEMA.put("score", "Float64");
+        SCHEMA.put("tags", "Array(String)");
+        SCHEMA.put("tiny", "Int8");
+        SCHEMA.put("small", "Nullable(Int16)");
+    }
+
+    @Test
+    void testParse() {
+        Assertions.assertTrue(ShardingKey.parse("rand()", SCHEMA).isRandom());
+        Assertions.assertEquals("user_id", ShardingKey.parse("`user_id`", SCHEMA).getColumn());
+        Assertions.assertEquals("name", ShardingKey.parse("cityHash64(name)", SCHEMA).getColumn());
+        Assertions.assertEquals("id", ShardingKey.parse("intHash64(id)", SCHEMA).getColumn());
+        Assertions.assertNull(ShardingKey.parse("name", SCHEMA));
+        Assertions.assertNull(ShardingKey.parse("user_id % 4", SCHEMA));
+        Assertions.assertNull(ShardingKey.parse("cityHash64(id, name)", SCHEMA));
+        Assertions.assertNull(ShardingKey.parse("cityHash64(tags)", SCHEMA));
+        Assertions.assertNull(ShardingKey.parse("sipHash64(name)", SCHEMA));
+        Assertions.assertNull(ShardingKey.parse("intHash64(unknown)", SCHEMA));
+    }
+
+    @Test
+    void testColumnValue() {
+        ShardingKey int32 = ShardingKey.parse("id", SCHEMA);
+        Assertions.assertEquals(7L, int32.value(7));
+        // ClickHouse takes the modulo of negative integers as UInt32
+        Assertions.assertEquals(0xffffffffL, int32.value(-1));
+
+        ShardingKey int8 = ShardingKey.parse("tiny", SCHEMA);
+        Assertions.assertEquals(0xffL, int8.value((byte) -1));
+        Assertions.assertEquals(0x80L, int8.value((byte) -128));
+        ShardingKey int16 = ShardingKey.parse("small", SCHEMA);
+        Assertions.assertEquals(0xffffL, int16.value((short) -1));
+        Assertions.assertEquals(0x7fffL, int16.value((short) 32767));
+
+        ShardingKey uint64 = ShardingKey.parse("user_id", SCHEMA);
+        Assertions.assertEquals(-1L, uint64.value(new BigInteger("18446744073709551615")));
+        Assertions.assertEquals(3L, Long.remainderUnsigned(uint64.value(-1L), 4));
+        Assertions.assertEquals(42L, uint64.value("42"));
+    }
+
+    @Test
+    void testHashValue() {
+        Assertions.assertEquals(0L, ShardingKey.intHash64(0));
+        Assertions.assertEquals(ShardingKey.intHash64(-1L), ShardingKey.parse("intHash64(id)", SCHEMA).value(-1));
+        // cityHash64 zero-extends integers
+        Assertions.assertEquals(ShardingKey.intHash64(0xffffffffL), ShardingKey.parse("cityHash64(id)", SCHEMA).value(-1));
+        Assertions.assertEquals(ShardingKey.intHash64(Double.doubleToRawLongBits(1.5)),
+            ShardingKey.parse("cityHash64(score)", SCHEMA).value(1.5));
+        Assertions.assertEquals(CityHash64.hash("ClickHouse".getBytes(StandardCharsets.UTF_8)),
+            ShardingKey.parse("cityHash64(name)", SCHEMA).value("ClickHouse"));
+    }
+
+    @Test
+    void testOfColumn() {
+        Assertions.assertEquals(9L, ShardingKey.ofColumn("id", "Nullable(Int32)").value(9));
+        Assertions.assertEquals(CityHash64.hash("[a, b]".getBytes(StandardCharsets.UTF_8)),
+            ShardingKey.ofColumn("tags", "Array(String)").value("[a, b]"));
+    }
+
+    @Test
+    void testCityHash64() {
+        Assertions.assertEquals(0x9ae16a3b2f90404fL, CityHash64.hash(new byte[0]));
+        byte[] data = new byte[300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + 7);
+        }
+        Set<Long> hashes = new HashSet<>();
+        for (int length = 0; length <= data.length; length++) {
+            Assertions.assertEquals(CityHash64.hash(data, 0, length), CityHash64.hash(data, 0, length));
+            hashes.add(CityHash64.hash(data, 0, length));
+        }
+        Assertions.assertEquals(data.length + 1, hashes.size());
+        byte[] shifted = new byte[data.length + 3];
+        System.arraycopy(data, 0, shifted, 3, data.length);
+        Assertions.assertEquals(CityHash64.hash(data, 0, 100), CityHash64.hash(shifted, 3, 100));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseUtil;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@SuppressWarnings("MagicNumber")
+class RowBinaryEncodersTest {
+
+    private static byte[] encode(String type, Object value) throws IOException {
+        RowBinaryBuffer buffer = new RowBinaryBuffer(1);
+        RowBinaryEncoders.create(type, ZoneOffset.UTC).encode(buffer, value);
+        return toBytes(buffer);
+    }
+
+    private static byte[] toBytes(RowBinaryBuffer buffer) throws IOException {
+        InputStream input = buffer.toInputStream();
+        byte[] bytes = new byte[input.available()];
+        Assertions.assertEquals(bytes.length, input.read(bytes));
+        Assertions.assertEquals(-1, input.read());
+        return bytes;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    @Test
+    void testNumbers() throws IOException {
+        Assertions.assertArrayEquals(bytes(0xFF), encode("UInt8", 255));
+        Assertions.assertArrayEquals(bytes(0x34, 0x12), encode("Int16", (short) 0x1234));
+        Assertions.assertArrayEquals(bytes(0x78, 0x56, 0x34, 0x12), encode("Int32", "305419896"));
+        Assertions.assertArrayEquals(bytes(0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF), encode("Int64", -1L));
+        Assertions.assertArrayEquals(bytes(0, 0, 0x80, 0x3F), encode("Float32", 1.0f));
+        Assertions.assertArrayEquals(bytes(1), encode("Bool", true));
+        byte[] int128 = encode("Int128", BigInteger.valueOf(-2));
+        Assertions.assertEquals(16, int128.length);
+        Assertions.assertEquals((byte) 0xFE, int128[0]);
+        Assertions.assertEquals((byte) 0xFF, int128[15]);
+        // Decimal(18, 4) is an Int64 of the unscaled value
+        Assertions.assertArrayEquals(bytes(0x39, 0x30, 0, 0, 0, 0, 0, 0), encode("Decimal(18, 4)", new BigDecimal("1.2345")));
+        Assertions.assertArrayEquals(bytes(0x39, 0x30, 0, 0), encode("Decimal32(2)", new BigDecimal("123.45")));
+    }
+
+    @Test
+    void testNulls() throws IOException {
+        Assertions.assertArrayEquals(bytes(1), encode("Nullable(Int32)", null));
+        Assertions.assertArrayEquals(bytes(0, 7, 0, 0, 0), encode("Nullable(Int32)", 7));
+        Assertions.assertArrayEquals(bytes(1), encode("LowCardinality(Nullable(String))", null));
+        // a null of a column which is not nullable is the default value of the type
+        Assertions.assertArrayEquals(new byte[4], encode("Int32", null));
+        Assertions.assertArrayEquals(bytes(0), encode("String", null));
+        Assertions.assertArrayEquals(new byte[3], encode("FixedString(3)", null));
+        Assertions.assertArrayEquals(bytes(2), encode("Enum8('b' = 2, 'a' = 1)", null));
+    }
+
+    @Test
+    void testStrings() throws IOException {
+        Assertions.assertArrayEquals(bytes(2, 'a', 'b'), encode("String", "ab"));
+        byte[] unicode = encode("String", "\u00e9"); // e with acute accent
+        Assertions.assertArrayEquals(bytes(2, 0xC3, 0xA9), unicode);
+        char[] chars = new char[200];
+        Arrays.fill(chars, 'x');
+        byte[] longString = encode("String", new String(chars));
+        Assertions.assertEquals(202, longString.length);
+        Assertions.assertArrayEquals(bytes(0xC8, 0x01), Arrays.copyOf(longString, 2));
+        Assertions.assertArrayEquals(bytes('a', 'b', 0, 0), encode("FixedString(4)", "ab"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> encode("FixedString(1)", "ab"));
+        Assertions.assertArrayEquals(bytes(1), encode("Enum8('a' = 1, 'b, c' = 2)", "a"));
+        Assertions.assertArrayEquals(bytes(2), encode("Enum8('a' = 1, 'b, c' = 2)", "b, c"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> encode("Enum8('a' = 1)", "x"));
+        Assertions.assertArrayEquals(bytes(0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 2),
+            encode("UUID", new UUID(1L << 56, 2L << 56)));
+    }
+
+    @Test
+    void testDateTimes() throws IOException {
+        Assertions.assertArrayEquals(bytes(1, 0), encode("Date", LocalDate.ofEpochDay(1)));
+        Assertions.assertArrayEquals(bytes(1, 0), encode("Date", "1970-01-02"));
+        LocalDateTime dateTime = LocalDateTime.of(1970, 1, 1, 0, 1, 0, 5_000_000);
+        Assertions.assertArrayEquals(bytes(60, 0, 0, 0), encode("DateTime", dateTime));
+        // 60 seconds before the epoch in UTC
+        Assertions.assertArrayEquals(bytes(0xC4, 0xFF, 0xFF, 0xFF), encode("DateTime('Etc/GMT-2')", LocalDateTime.of(1970, 1, 1, 1, 59)));
+        Assertions.assertArrayEquals(bytes(0x65, 0xEA, 0, 0, 0, 0, 0, 0), encode("DateTime64(3)", dateTime));
+        Assertions.assertArrayEquals(bytes(60, 0, 0, 0), encode("DateTime", "1970-01-01 00:01:00"));
+    }
+
+    @Test
+    void testNestedTypes() throws IOException {
+        Assertions.assertArrayEquals(bytes(3, 0, 1, 0, 0, 0, 1, 0, 2, 0, 0, 0),
+            encode("Array(Nullable(Int32))", new Integer[]{1, null, 2}));
+        Assertions.assertArrayEquals(bytes(2, 1, 2), encode("Array(UInt8)", new int[]{1, 2}));
+        Assertions.assertArrayEquals(bytes(1, 1, 'a'), encode("Array(String)", Collections.singletonList("a")));
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", null);
+        Assertions.assertArrayEquals(bytes(2, 1, 'a', 0, 1, 1, 'b', 1), encode("Map(String, Nullable(UInt8))", map));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> encode("Tuple(Int32, String)", null));
+    }
+
+    @Test
+    void testTypeArguments() {
+        Assertions.assertEquals("Map", ClickhouseUtil.functionName("Map(String, Array(Decimal(9, 2)))"));
+        Assertions.assertEquals(Arrays.asList("String", "Array(Decimal(9, 2))"),
+            ClickhouseUtil.functionArguments("Map(String, Array(Decimal(9, 2)))"));
+        Assertions.assertEquals(Arrays.asList("'a\\'(' = 1", "'b' = 2"),
+            ClickhouseUtil.functionArguments("Enum8('a\\'(' = 1, 'b' = 2)"));
+        Assertions.assertTrue(ClickhouseUtil.functionArguments("String").isEmpty());
+    }
+
+    @Test
+    void testRowEncoder() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"name", "id"},
+            new SeaTunnelDataType<?>[]{BasicType.STRING_TYPE, BasicType.INT_TYPE});
+        Map<String, String> schema = new LinkedHashMap<>();
+        schema.put("id", "UInt32");
+        schema.put("name", "String");
+        schema.put("missing", "Nullable(String)");
+        RowBinaryRowEncoder encoder = new RowBinaryRowEncoder(Arrays.asList("id", "name", "missing"), schema, rowType,
+            ZoneId.of("UTC"));
+        RowBinaryBuffer buffer = new RowBinaryBuffer(2);
+        encoder.encode(buffer, new SeaTunnelRow(new Object[]{"a", 1}));
+        encoder.encode(buffer, new SeaTunnelRow(new Object[]{null, 2}));
+        Assertions.assertArrayEquals(bytes(1, 0, 0, 0, 1, 'a', 1, 2, 0, 0, 0, 0, 1), toBytes(buffer));
+        buffer.clear();
+        Assertions.assertEquals(0, buffer.size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("MagicNumber")
+class ClickhouseShardFlusherTest {
+
+    private static SeaTunnelRow row(int id) {
+        return new SeaTunnelRow(new Object[]{id});
+    }
+
+    private static List<Integer> ids(List<SeaTunnelRow> rows) {
+        List<Integer> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add((Integer) row.getField(0)));
+        return ids;
+    }
+
+    @Test
+    void testWriteBatches() throws IOException {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        ClickhouseShardFlusher flusher = new ClickhouseShardFlusher(new Shard(1, 1, null),
+            rows -> batches.add(ids(rows)), 2, 1);
+        for (int i = 0; i < 5; i++) {
+            flusher.add(row(i));
+        }
+        flusher.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4)), batches);
+        flusher.flush();
+        Assertions.assertEquals(3, batches.size());
+        flusher.close();
+    }
+
+    @Test
+    void testSlowShardDoesNotBlockOtherShards() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> fastRows = Collections.synchronizedList(new ArrayList<>());
+        ClickhouseShardFlusher slow = new ClickhouseShardFlusher(new Shard(1, 1, null),
+            rows -> release.await(), 1, 1);
+        ClickhouseShardFlusher fast = new ClickhouseShardFlusher(new Shard(2, 1, null),
+            rows -> fastRows.addAll(ids(rows)), 1, 1);
+
+        // the first batch of the slow shard hangs
+        slow.add(row(0));
+        for (int i = 0; i < 10; i++) {
+            fast.add(row(i));
+        }
+        fast.flush();
+        Assertions.assertEquals(10, fastRows.size());
+
+        Thread writer = new Thread(() -> {
+            try {
+                slow.add(row(1));
+                slow.add(row(2));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        writer.join(100);
+        // the second batch waits for the first one
+        Assertions.assertTrue(writer.isAlive());
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        Assertions.assertFalse(writer.isAlive());
+        slow.flush();
+        slow.close();
+        fast.close();
+    }
+
+    @Test
+    void testRethrowFailure() throws IOException {
+        ClickhouseShardFlusher flusher = new ClickhouseShardFlusher(new Shard(1, 1, null), rows -> {
+            throw new IllegalStateException("shard is down");
+        }, 1, 1);
+        flusher.add(row(0));
+        IOException e = Assertions.assertThrows(IOException.class, flusher::flush);
+        Assertions.assertEquals("shard is down", e.getCause().getMessage());
+        flusher.close();
+
+        ClickhouseShardFlusher sync = new ClickhouseShardFlusher(new Shard(1, 1, null), rows -> {
+            throw new IOException("shard is down");
+        }, 1, 0);
+        Assertions.assertThrows(IOException.class, () -> sync.add(row(0)));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.file;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryRowEncoder;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@SuppressWarnings("MagicNumber")
+class ClickhouseLocalDataFileTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private Path tempDir;
+    private RowBinaryRowEncoder rowEncoder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("clickhouse-local-data-file");
+        Map<String, String> tableSchema = new LinkedHashMap<>();
+        tableSchema.put("id", "Int32");
+        tableSchema.put("name", "String");
+        rowEncoder = new RowBinaryRowEncoder(Arrays.asList("id", "name"), tableSchema, ROW_TYPE, ZoneOffset.UTC);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @Test
+    void testSpillRows() throws IOException {
+        ClickhouseLocalDataFile dataFile = new ClickhouseLocalDataFile(tempDir.resolve("shard"), rowEncoder, 64);
+        RowBinaryBuffer expected = new RowBinaryBuffer();
+        for (int i = 0; i < 100; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[]{i, "name-" + i});
+            dataFile.write(row);
+            rowEncoder.encode(expected, row);
+            Assertions.assertEquals(expected.size(), dataFile.size());
+        }
+        // the rows beyond the buffer size are already in the file
+        Assertions.assertTrue(Files.size(dataFile.getDataFile()) >= expected.size() - 64);
+        dataFile.close();
+        dataFile.close();
+
+        Assertions.assertEquals(100, dataFile.getRowCount());
+        Assertions.assertArrayEquals(IOUtils.toByteArray(expected.toInputStream()),
+            Files.readAllBytes(dataFile.getDataFile()));
+
+        dataFile.delete();
+        Assertions.assertFalse(Files.exists(dataFile.getDirectory()));
+    }
+
+    @Test
+    void testLocalFileTransfer() throws IOException {
+        Path part = Files.createDirectories(tempDir.resolve("local").resolve("all_1_1_0"));
+        Files.write(part.resolve("data.bin"), new byte[]{1, 2, 3});
+        Files.write(part.resolve("columns.txt"), "columns format version: 1".getBytes(StandardCharsets.UTF_8));
+        Path detached = tempDir.resolve("server").resolve("detached");
+
+        FileTransfer fileTransfer = new LocalFileTransfer();
+        fileTransfer.init();
+        fileTransfer.transferAndChown(Arrays.asList(part.toString()), detached + "/");
+        fileTransfer.close();
+
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(detached.resolve("all_1_1_0/data.bin")));
+        Assertions.assertTrue(Files.exists(detached.resolve("all_1_1_0/columns.txt")));
+        Assertions.assertTrue(Files.exists(part), "the source part is kept");
+    }
+}
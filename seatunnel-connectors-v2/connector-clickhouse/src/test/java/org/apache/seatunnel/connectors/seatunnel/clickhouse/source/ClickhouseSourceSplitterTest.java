@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+@SuppressWarnings("MagicNumber")
+class ClickhouseSourceSplitterTest {
+
+    @Test
+    void testLocalizeQuery() {
+        Assertions.assertEquals("select * from `db`.`t_local` AS `t` where id > 1",
+            ClickhouseSourceSplitter.localizeQuery("select * from t where id > 1", "db", "t", "`db`.`t_local`", null));
+        Assertions.assertEquals("SELECT t.id FROM (SELECT * FROM `db`.`t_local` WHERE x = 1) AS `t` ORDER BY t.id",
+            ClickhouseSourceSplitter.localizeQuery("SELECT t.id FROM db.t ORDER BY t.id", "db", "t", "`db`.`t_local`", "x = 1"));
+        // FINAL is applied to the local table
+        Assertions.assertEquals("select id from (SELECT * FROM `db`.`t_local` FINAL WHERE x = 1) AS `t`",
+            ClickhouseSourceSplitter.localizeQuery("select id from `db`.`t` FINAL", "db", "t", "`db`.`t_local`", "x = 1"));
+        // an alias of the query is kept
+        Assertions.assertEquals("select b.id from (SELECT * FROM `db`.`t_local` WHERE x = 1) b",
+            ClickhouseSourceSplitter.localizeQuery("select b.id from t b", "db", "t", "`db`.`t_local`", "x = 1"));
+        Assertions.assertEquals("select * from `db`.`t_local` AS x join other using id",
+            ClickhouseSourceSplitter.localizeQuery("select * from t AS x join other using id", "db", "t", "`db`.`t_local`", null));
+        // tables whose names only start with the table name are not replaced
+        Assertions.assertEquals("select * from t2 join `db`.`t_local` AS `t` on t2.id = t.id",
+            ClickhouseSourceSplitter.localizeQuery("select * from t2 join t on t2.id = t.id", "db", "t", "`db`.`t_local`", null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ClickhouseSourceSplitter.localizeQuery("select * from other", "db", "t", "`db`.`t_local`", null));
+    }
+
+    @Test
+    void testRangeFilters() {
+        Assertions.assertEquals(Arrays.asList("(id BETWEEN 0 AND 3 OR id IS NULL)", "id BETWEEN 4 AND 6", "id BETWEEN 7 AND 9"),
+            ClickhouseSourceSplitter.rangeFilters("id", BigInteger.ZERO, BigInteger.valueOf(9), 3));
+        // there are no more ranges than values
+        Assertions.assertEquals(Arrays.asList("(id BETWEEN -1 AND -1 OR id IS NULL)", "id BETWEEN 0 AND 0"),
+            ClickhouseSourceSplitter.rangeFilters("id", BigInteger.valueOf(-1), BigInteger.ZERO, 8));
+        BigInteger max = new BigInteger("18446744073709551615");
+        Assertions.assertEquals("id BETWEEN 9223372036854775808 AND 18446744073709551615",
+            ClickhouseSourceSplitter.rangeFilters("id", BigInteger.ZERO, max, 2).get(1));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.source.binary;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryBuffer;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.binary.RowBinaryEncoders;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@SuppressWarnings("MagicNumber")
+class RowBinaryDecodersTest {
+
+    private static Object roundTrip(String type, SeaTunnelDataType<?> targetType, Object value) throws IOException {
+        RowBinaryBuffer buffer = new RowBinaryBuffer(1);
+        RowBinaryEncoders.create(type, ZoneOffset.UTC).encode(buffer, value);
+        // the smallest buffer makes the values span the refills of the input
+        RowBinaryInput input = new RowBinaryInput(buffer.toInputStream(), 1);
+        Object decoded = RowBinaryDecoders.create(type, targetType, ZoneOffset.UTC).decode(input);
+        Assertions.assertFalse(input.hasMore());
+        return decoded;
+    }
+
+    @Test
+    void testNumbers() throws IOException {
+        Assertions.assertEquals((byte) -3, roundTrip("Int8", BasicType.BYTE_TYPE, -3));
+        Assertions.assertEquals(255, roundTrip("UInt8", BasicType.INT_TYPE, 255));
+        Assertions.assertEquals((short) 0x1234, roundTrip("Int16", BasicType.SHORT_TYPE, 0x1234));
+        Assertions.assertEquals(65535, roundTrip("UInt16", BasicType.INT_TYPE, 65535));
+        Assertions.assertEquals(-305419896, roundTrip("Int32", BasicType.INT_TYPE, -305419896));
+        Assertions.assertEquals(4294967295L, roundTrip("UInt32", BasicType.LONG_TYPE, 4294967295L));
+        Assertions.assertEquals(Long.MIN_VALUE, roundTrip("Int64", BasicType.LONG_TYPE, Long.MIN_VALUE));
+        Assertions.assertEquals(-1L, roundTrip("UInt64", BasicType.LONG_TYPE, new BigInteger("18446744073709551615")));
+        Assertions.assertEquals("18446744073709551615",
+            roundTrip("UInt64", BasicType.STRING_TYPE, new BigInteger("18446744073709551615")));
+        Assertions.assertEquals(BigInteger.valueOf(-2), roundTrip("Int128", null, BigInteger.valueOf(-2)));
+        BigInteger uint256 = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
+        Assertions.assertEquals(uint256, roundTrip("UInt256", null, uint256));
+        Assertions.assertEquals(1.5f, roundTrip("Float32", BasicType.FLOAT_TYPE, 1.5f));
+        Assertions.assertEquals(-2.25d, roundTrip("Float64", BasicType.DOUBLE_TYPE, -2.25d));
+        Assertions.assertEquals(true, roundTrip("Bool", BasicType.BOOLEAN_TYPE, true));
+    }
+
+    @Test
+    void testDecimals() throws IOException {
+        Assertions.assertEquals(new BigDecimal("-12.3400"),
+            roundTrip("Decimal(18, 4)", new DecimalType(18, 4), new BigDecimal("-12.34")));
+        Assertions.assertEquals(new BigDecimal("1.05"), roundTrip("Decimal32(2)", new DecimalType(9, 2), "1.05"));
+        Assertions.assertEquals(new BigDecimal("-123456789012345678901234567.890"),
+            roundTrip("Decimal(38, 3)", new DecimalType(38, 3), new BigDecimal("-123456789012345678901234567.89")));
+    }
+
+    @Test
+    void testStringsAndTemporals() throws IOException {
+        Assertions.assertEquals("h\u00e9llo", roundTrip("String", BasicType.STRING_TYPE, "h\u00e9llo")); // e with acute accent
+        Assertions.assertEquals("ab\u0000", roundTrip("FixedString(3)", BasicType.STRING_TYPE, "ab"));
+        UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(uuid.toString(), roundTrip("UUID", BasicType.STRING_TYPE, uuid));
+        Assertions.assertEquals(LocalDate.of(2022, 8, 1), roundTrip("Date", LocalTimeType.LOCAL_DATE_TYPE, "2022-08-01"));
+        Assertions.assertEquals(LocalDate.of(1900, 1, 1),
+            roundTrip("Date32", LocalTimeType.LOCAL_DATE_TYPE, LocalDate.of(1900, 1, 1)));
+        LocalDateTime dateTime = LocalDateTime.of(2022, 8, 1, 10, 30, 15);
+        Assertions.assertEquals(dateTime, roundTrip("DateTime", LocalTimeType.LOCAL_DATE_TIME_TYPE, dateTime));
+        Assertions.assertEquals("2022-08-01 10:30:15", roundTrip("DateTime", BasicType.STRING_TYPE, dateTime));
+        LocalDateTime precise = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 123_000_000);
+        Assertions.assertEquals(precise, roundTrip("DateTime64(3)", LocalTimeType.LOCAL_DATE_TIME_TYPE, precise));
+        // the time zone of the column overrides the one of the server
+        RowBinaryBuffer buffer = new RowBinaryBuffer(16);
+        RowBinaryEncoders.create("DateTime('Asia/Shanghai')", ZoneOffset.UTC).encode(buffer, dateTime);
+        Assertions.assertEquals(dateTime, RowBinaryDecoders.create("DateTime('Asia/Shanghai')",
+            LocalTimeType.LOCAL_DATE_TIME_TYPE, ZoneId.of("UTC")).decode(new RowBinaryInput(buffer.toInputStream())));
+    }
+
+    @Test
+    void testEnumsAndAddresses() throws IOException {
+        Assertions.assertEquals("b", roundTrip("Enum8('a' = 1, 'b' = 2)", BasicType.STRING_TYPE, "b"));
+        Assertions.assertEquals((short) -300, roundTrip("Enum16('x' = -300)", BasicType.SHORT_TYPE, "x"));
+        Assertions.assertEquals("192.168.1.20", roundTrip("IPv4", BasicType.STRING_TYPE, "192.168.1.20"));
+        Assertions.assertEquals(InetAddress.getByName("2001:db8::1"), roundTrip("IPv6", null, "2001:db8::1"));
+    }
+
+    @Test
+    void testNullableAndNested() throws IOException {
+        Assertions.assertNull(roundTrip("Nullable(Int32)", BasicType.INT_TYPE, null));
+        Assertions.assertEquals(7, roundTrip("LowCardinality(Nullable(Int32))", BasicType.INT_TYPE, 7));
+        Object array = roundTrip("Array(Nullable(String))", ArrayType.STRING_ARRAY_TYPE, new String[]{"a", null, "c"});
+        Assertions.assertEquals(String[].class, array.getClass());
+        Assertions.assertArrayEquals(new String[]{"a", null, "c"}, (String[]) array);
+        Assertions.assertArrayEquals(new Integer[]{1, 2},
+            (Integer[]) roundTrip("Array(UInt8)", ArrayType.INT_ARRAY_TYPE, Arrays.asList(1, 2)));
+        Assertions.assertEquals("[['a','it\\'s'],[]]",
+            roundTrip("Array(Array(String))", BasicType.STRING_TYPE, new Object[]{new String[]{"a", "it's"}, new String[0]}));
+
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("k1", 1);
+        map.put("k2", null);
+        Assertions.assertEquals(map, roundTrip("Map(String, Nullable(Int64))",
+            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE), map));
+        Assertions.assertEquals("{'k1':1,'k2':NULL}", roundTrip("Map(String, Nullable(Int64))", BasicType.STRING_TYPE, map));
+    }
+
+    @Test
+    void testUnsupportedTypes() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RowBinaryDecoders.create("Tuple(Int32, String)", BasicType.STRING_TYPE, ZoneOffset.UTC));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RowBinaryDecoders.create("Int32", ArrayType.INT_ARRAY_TYPE, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testDecodeRows() throws IOException {
+        SeaTunnelRowType rowType = new SeaTunnelRowType(new String[]{"id", "name"},
+            new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+        RowBinaryBuffer buffer = new RowBinaryBuffer(16);
+        for (int i = 0; i < 100; i++) {
+            RowBinaryEncoders.create("UInt64", ZoneOffset.UTC).encode(buffer, i);
+            RowBinaryEncoders.create("Nullable(String)", ZoneOffset.UTC).encode(buffer, i % 2 == 0 ? null : "name-" + i);
+        }
+        RowBinaryRowDecoder decoder = new RowBinaryRowDecoder(Arrays.asList("UInt64", "Nullable(String)"), rowType,
+            ZoneOffset.UTC);
+        RowBinaryInput input = new RowBinaryInput(buffer.toInputStream(), 7);
+        int rows = 0;
+        while (input.hasMore()) {
+            SeaTunnelRow row = decoder.decode(input);
+            Assertions.assertEquals(new SeaTunnelRow(new Object[]{(long) rows, rows % 2 == 0 ? null : "name-" + rows}), row);
+            rows++;
+        }
+        Assertions.assertEquals(100, rows);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Calculates the splits lazily and hands them out one by one on {@link #handleSplitRequest(int)}, so that faster
+ * readers process more splits. The splits which are not assigned yet are kept in the checkpoint.
+ *
+ * <p>The splits must be calculated from values fixed when the source was prepared, as every enumerator of a
+ * parallel source calculates them on its own: the split at index {@code i} belongs to the reader
+ * {@code i % parallelism}, so every enumerator only keeps the splits of the readers it serves. The single enumerator
+ * of a coordinated source serves all readers.
+ */
+public abstract class AbstractPendingSplitEnumerator<SplitT extends SourceSplit, StateT extends PendingSplitsState<SplitT>>
+        implements SourceSplitEnumerator<SplitT, StateT> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractPendingSplitEnumerator.class);
+
+    protected final SourceSplitEnumerator.Context<SplitT> context;
+    private final Deque<SplitT> pendingSplits = new LinkedList<>();
+    private boolean splitsCalculated;
+
+    protected AbstractPendingSplitEnumerator(SourceSplitEnumerator.Context<SplitT> context) {
+        this.context = context;
+    }
+
+    /**
+     * @param checkpointState the restored state, null if the checkpoint was taken by an enumerator which did not
+     *                        keep its splits in the state, but assigned them as soon as the readers registered. The
+     *                        unfinished splits of such a checkpoint are restored by the readers.
+     */
+    protected AbstractPendingSplitEnumerator(SourceSplitEnumerator.Context<SplitT> context, StateT checkpointState) {
+        this(context);
+        if (checkpointState == null) {
+            this.splitsCalculated = true;
+        } else if (checkpointState.getPendingSplits() != null) {
+            this.pendingSplits.addAll(checkpointState.getPendingSplits());
+            this.splitsCalculated = true;
+        }
+    }
+
+    /**
+     * Calculates all splits of the source, the same ones in every enumerator.
+     *
+     * @param parallelism the parallelism of the source
+     */
+    protected abstract List<SplitT> createSplits(int parallelism);
+
+    /**
+     * @param pendingSplits the splits not yet assigned to any reader, or null if they have not been calculated yet.
+     */
+    protected abstract StateT createState(List<SplitT> pendingSplits);
+
+    @Override
+    public void open() {
+        // nothing
+    }
+
+    @Override
+    public void run() throws Exception {
+        // nothing, the splits are assigned on request
+    }
+
+    @Override
+    public void close() throws IOException {
+        // nothing
+    }
+
+    @Override
+    public synchronized void addSplitsBack(List<SplitT> splits, int subtaskId) {
+        for (int i = splits.size() - 1; i >= 0; i--) {
+            pendingSplits.addFirst(splits.get(i));
+        }
+    }
+
+    @Override
+    public synchronized int currentUnassignedSplitSize() {
+        return pendingSplits.size();
+    }
+
+    @Override
+    public synchronized void handleSplitRequest(int subtaskId) {
+        calculateSplits();
+        SplitT split = pendingSplits.poll();
+        if (split != null) {
+            context.assignSplit(subtaskId, split);
+        } else {
+            context.signalNoMoreSplits(subtaskId);
+        }
+    }
+
+    @Override
+    public void registerReader(int subtaskId) {
+        handleSplitRequest(subtaskId);
+    }
+
+    @Override
+    public synchronized StateT snapshotState(long checkpointId) throws Exception {
+        return createState(splitsCalculated ? new ArrayList<>(pendingSplits) : null);
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        // nothing
+    }
+
+    /**
+     * Calculates the splits once the readers are registered, keeping the ones of the registered readers.
+     */
+    private void calculateSplits() {
+        if (splitsCalculated) {
+            return;
+        }
+        splitsCalculated = true;
+        int parallelism = Math.max(1, context.currentParallelism());
+        List<SplitT> allSplits = createSplits(parallelism);
+        Set<Integer> readers = context.registeredReaders();
+        for (int i = 0; i < allSplits.size(); i++) {
+            if (readers.contains(i % parallelism)) {
+                pendingSplits.add(allSplits.get(i));
+            }
+        }
+        LOG.info("Calculated splits successfully, the size of splits is {}, {} of them are assigned by this enumerator.",
+                allSplits.size(), pendingSplits.size());
+    }
+}
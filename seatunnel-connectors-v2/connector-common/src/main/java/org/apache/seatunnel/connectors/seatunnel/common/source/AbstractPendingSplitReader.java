@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportSplitRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reads the splits handed out by an {@link AbstractPendingSplitEnumerator} one by one, requesting the next split
+ * whenever it runs out of splits, until the enumerator signals that there are no more splits.
+ */
+public abstract class AbstractPendingSplitReader<T, SplitT extends SourceSplit>
+        implements SourceReader<T, SplitT>, SupportSplitRequest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractPendingSplitReader.class);
+
+    private static final long SPLIT_REQUEST_INTERVAL_MILLIS = 1000L;
+
+    protected final SourceReader.Context context;
+    private final Deque<SplitT> splits = new LinkedList<>();
+    /**
+     * The split being read, guarded by the checkpoint lock.
+     */
+    private SplitT currentSplit;
+    private boolean noMoreSplit;
+
+    protected AbstractPendingSplitReader(SourceReader.Context context) {
+        this.context = context;
+    }
+
+    /**
+     * Reads all rows of the split. The rows must be collected while holding the checkpoint lock.
+     */
+    protected abstract void read(SplitT split, Collector<T> output) throws Exception;
+
+    /**
+     * Returns the state of the split being read, called while holding the checkpoint lock. By default the split is
+     * read again from the start.
+     */
+    protected SplitT snapshotCurrentSplit(SplitT split) {
+        return split;
+    }
+
+    @Override
+    public void pollNext(Collector<T> output) throws Exception {
+        SplitT split;
+        synchronized (output.getCheckpointLock()) {
+            split = splits.poll();
+            currentSplit = split;
+        }
+        if (split != null) {
+            read(split, output);
+            synchronized (output.getCheckpointLock()) {
+                currentSplit = null;
+            }
+        } else if (noMoreSplit) {
+            // signal to the source that we have reached the end of the data.
+            LOG.info("Closed the bounded source, all splits are read");
+            context.signalNoMoreElement();
+        } else {
+            context.sendSplitRequest();
+            if (splits.isEmpty() && !noMoreSplit) {
+                Thread.sleep(SPLIT_REQUEST_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    @Override
+    public List<SplitT> snapshotState(long checkpointId) throws Exception {
+        List<SplitT> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(snapshotCurrentSplit(currentSplit));
+        }
+        state.addAll(splits);
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<SplitT> splits) {
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {
+        // nothing
+    }
+}
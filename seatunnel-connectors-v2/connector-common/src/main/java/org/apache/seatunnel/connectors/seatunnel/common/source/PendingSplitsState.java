@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The checkpoint state of an {@link AbstractPendingSplitEnumerator}.
+ */
+public interface PendingSplitsState<SplitT extends SourceSplit> extends Serializable {
+
+    /**
+     * @return the splits not yet assigned to any reader, or null if the splits have not been calculated yet.
+     */
+    List<SplitT> getPendingSplits();
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source;
+
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class AbstractPendingSplitEnumeratorTest {
+
+    private static final List<SingleSplit> SPLITS = Arrays.asList(
+        new SingleSplit(null), new SingleSplit(null), new SingleSplit(null), new SingleSplit(null));
+
+    @Test
+    public void testAssignSplitsOfRegisteredReaders() throws Exception {
+        TestContext context = new TestContext(2, 1);
+        TestEnumerator enumerator = new TestEnumerator(context);
+        Assertions.assertNull(enumerator.snapshotState(1L).getPendingSplits());
+
+        enumerator.registerReader(1);
+        Assertions.assertEquals(Collections.singletonList(SPLITS.get(1)), context.assigned.get(1));
+        Assertions.assertEquals(Collections.singletonList(SPLITS.get(3)), enumerator.snapshotState(2L).getPendingSplits());
+
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(1);
+        Assertions.assertEquals(Arrays.asList(SPLITS.get(1), SPLITS.get(3)), context.assigned.get(1));
+        Assertions.assertEquals(Collections.singleton(1), context.noMoreSplits);
+        Assertions.assertEquals(Collections.emptyList(), enumerator.snapshotState(3L).getPendingSplits());
+    }
+
+    @Test
+    public void testAddSplitsBack() throws Exception {
+        TestContext context = new TestContext(1, 0);
+        TestEnumerator enumerator = new TestEnumerator(context);
+        enumerator.registerReader(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.addSplitsBack(Arrays.asList(SPLITS.get(0), SPLITS.get(1)), 0);
+        Assertions.assertEquals(SPLITS, enumerator.snapshotState(1L).getPendingSplits());
+    }
+
+    @Test
+    public void testRestore() throws Exception {
+        TestContext context = new TestContext(1, 0);
+        TestEnumerator enumerator = new TestEnumerator(context,
+            new TestState(Collections.singletonList(SPLITS.get(2))));
+        enumerator.registerReader(0);
+        enumerator.handleSplitRequest(0);
+        Assertions.assertEquals(Collections.singletonList(SPLITS.get(2)), context.assigned.get(0));
+        Assertions.assertEquals(Collections.singleton(0), context.noMoreSplits);
+
+        // the splits were not calculated before the checkpoint
+        context = new TestContext(1, 0);
+        enumerator = new TestEnumerator(context, new TestState(null));
+        enumerator.registerReader(0);
+        Assertions.assertEquals(Collections.singletonList(SPLITS.get(0)), context.assigned.get(0));
+
+        // the checkpoint was taken by an enumerator which assigned all splits when the readers registered
+        context = new TestContext(1, 0);
+        enumerator = new TestEnumerator(context, null);
+        enumerator.registerReader(0);
+        Assertions.assertNull(context.assigned.get(0));
+        Assertions.assertEquals(Collections.singleton(0), context.noMoreSplits);
+    }
+
+    private static class TestState implements PendingSplitsState<SingleSplit> {
+        private final List<SingleSplit> pendingSplits;
+
+        TestState(List<SingleSplit> pendingSplits) {
+            this.pendingSplits = pendingSplits;
+        }
+
+        @Override
+        public List<SingleSplit> getPendingSplits() {
+            return pendingSplits;
+        }
+    }
+
+    private static class TestEnumerator extends AbstractPendingSplitEnumerator<SingleSplit, TestState> {
+
+        TestEnumerator(SourceSplitEnumerator.Context<SingleSplit> context) {
+            super(context);
+        }
+
+        TestEnumerator(SourceSplitEnumerator.Context<SingleSplit> context, TestState checkpointState) {
+            super(context, checkpointState);
+        }
+
+        @Override
+        protected List<SingleSplit> createSplits(int parallelism) {
+            return SPLITS;
+        }
+
+        @Override
+        protected TestState createState(List<SingleSplit> pendingSplits) {
+            return new TestState(pendingSplits);
+        }
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<SingleSplit> {
+        private final int parallelism;
+        private final Set<Integer> readers;
+        private final Map<Integer, List<SingleSplit>> assigned = new HashMap<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        TestContext(int parallelism, Integer... readers) {
+            this.parallelism = parallelism;
+            this.readers = new HashSet<>(Arrays.asList(readers));
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<SingleSplit> splits) {
+            assigned.computeIfAbsent(subtaskId, id -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source;
 
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -28,6 +29,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplitSerializer;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import java.util.List;
@@ -53,6 +55,11 @@ public abstract class BaseFileSource implements SeaTunnelSource<SeaTunnelRow, Fi
         return new BaseFileSourceReader(readStrategy, hadoopConf, readerContext);
     }
 
+    @Override
+    public Serializer<FileSourceSplit> getSplitSerializer() {
+        return new FileSourceSplitSerializer();
+    }
+
     @Override
     public SourceSplitEnumerator<FileSourceSplit, FileSourceState> createEnumerator(SourceSplitEnumerator.Context<FileSourceSplit> enumeratorContext) throws Exception {
         return new FileSourceSplitEnumerator(enumeratorContext, filePaths);
@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.seatunnel.file.source;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SplitStateDelta;
+import org.apache.seatunnel.api.source.SupportIncrementalState;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
@@ -30,11 +32,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSourceSplit> {
+public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSourceSplit>, SupportIncrementalState<FileSourceSplit> {
     private final ReadStrategy readStrategy;
     private final HadoopConf hadoopConf;
     private final SourceReader.Context context;
     private final Set<FileSourceSplit> sourceSplits;
+    private final List<FileSourceSplit> addedSplits = new ArrayList<>();
 
     public BaseFileSourceReader(ReadStrategy readStrategy, HadoopConf hadoopConf, SourceReader.Context context) {
         this.readStrategy = readStrategy;
@@ -70,9 +73,18 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
         return new ArrayList<>(sourceSplits);
     }
 
+    @Override
+    public SplitStateDelta<FileSourceSplit> snapshotStateDelta(long checkpointId) {
+        // the state of a file split doesn't change once it has been added
+        SplitStateDelta<FileSourceSplit> delta = SplitStateDelta.changed(new ArrayList<>(addedSplits));
+        addedSplits.clear();
+        return delta;
+    }
+
     @Override
     public void addSplits(List<FileSourceSplit> splits) {
         sourceSplits.addAll(splits);
+        addedSplits.addAll(splits);
     }
 
     @Override
@@ -18,6 +18,8 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SplitStateDelta;
+import org.apache.seatunnel.api.source.SupportIncrementalState;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +32,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class FileSourceSplitEnumerator implements SourceSplitEnumerator<FileSourceSplit, FileSourceState> {
+public class FileSourceSplitEnumerator implements SourceSplitEnumerator<FileSourceSplit, FileSourceState>,
+    SupportIncrementalState<FileSourceSplit> {
     private final Context<FileSourceSplit> context;
     private Set<FileSourceSplit> pendingSplit;
     private Set<FileSourceSplit> assignedSplit;
+    private final List<FileSourceSplit> newlyAssignedSplit = new ArrayList<>();
     private final List<String> filePaths;
 
     public FileSourceSplitEnumerator(SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
@@ -46,6 +50,7 @@ public class FileSourceSplitEnumerator implements SourceSplitEnumerator<FileSour
                                      FileSourceState sourceState) {
         this(context, filePaths);
         this.assignedSplit = sourceState.getAssignedSplit();
+        this.newlyAssignedSplit.addAll(assignedSplit);
     }
 
     @Override
@@ -95,6 +100,7 @@ public class FileSourceSplitEnumerator implements SourceSplitEnumerator<FileSour
         context.assignSplit(taskId, currentTaskSplits);
         // save the state of assigned splits
         assignedSplit.addAll(currentTaskSplits);
+        newlyAssignedSplit.addAll(currentTaskSplits);
         // remove the assigned splits from pending splits
         currentTaskSplits.forEach(split -> pendingSplit.remove(split));
         log.info("SubTask {} is assigned to [{}]", taskId, currentTaskSplits.stream().map(FileSourceSplit::splitId).collect(Collectors.joining(",")));
@@ -121,6 +127,13 @@ public class FileSourceSplitEnumerator implements SourceSplitEnumerator<FileSour
         return new FileSourceState(assignedSplit);
     }
 
+    @Override
+    public SplitStateDelta<FileSourceSplit> snapshotStateDelta(long checkpointId) {
+        SplitStateDelta<FileSourceSplit> delta = SplitStateDelta.changed(new ArrayList<>(newlyAssignedSplit));
+        newlyAssignedSplit.clear();
+        return delta;
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) {
 
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+public class FileSourceSplitSerializerTest {
+
+    private static final String PATH = "hdfs://namenode:8020/warehouse/data/part-00000.orc";
+
+    private final FileSourceSplitSerializer serializer = new FileSourceSplitSerializer();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        FileSourceSplit restored = serializer.deserialize(serializer.serialize(new FileSourceSplit(PATH)));
+        Assertions.assertEquals(PATH, restored.splitId());
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws IOException {
+        byte[] bytes = new DefaultSerializer<FileSourceSplit>().serialize(new FileSourceSplit(PATH));
+        Assertions.assertEquals(PATH, serializer.deserialize(bytes).splitId());
+    }
+}
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.common.PrepareFailException;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -42,6 +43,7 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.Icebe
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergScanContext;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergSourceReader;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFileScanTaskSplit;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFileScanTaskSplitSerializer;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
@@ -145,6 +147,11 @@ public class IcebergSource implements SeaTunnelSource<SeaTunnelRow, IcebergFileS
             sourceConfig);
     }
 
+    @Override
+    public Serializer<IcebergFileScanTaskSplit> getSplitSerializer() {
+        return new IcebergFileScanTaskSplitSerializer(sourceConfig.getFilter(), sourceConfig.isCaseSensitive());
+    }
+
     @Override
     public SourceSplitEnumerator<IcebergFileScanTaskSplit, IcebergSplitEnumeratorState> createEnumerator(
         SourceSplitEnumerator.Context<IcebergFileScanTaskSplit> enumeratorContext) {
@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SupportSplitRequest;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
@@ -40,7 +41,7 @@ import java.util.List;
 import java.util.Queue;
 
 @Slf4j
-public class IcebergSourceReader implements SourceReader<SeaTunnelRow, IcebergFileScanTaskSplit> {
+public class IcebergSourceReader implements SourceReader<SeaTunnelRow, IcebergFileScanTaskSplit>, SupportSplitRequest {
 
     private static final long POLL_WAIT_MS = 1000;
 
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source.split;
+
+import org.apache.seatunnel.api.serialization.FieldReader;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the {@link FileScanTask} of a split as plain fields: the table schema and partition spec as JSON, the
+ * read range, and the data and delete files with their partition values and metrics.
+ *
+ * <p>The residual filter of a task has no serialized form in this Iceberg version. It is computed again from the
+ * filter of the source, the same way the table scan computed it. Version 1 wrote the task with Java
+ * serialization, it can still be read.
+ */
+public class IcebergFileScanTaskSplitSerializer implements VersionedSerializer<IcebergFileScanTaskSplit> {
+
+    private static final int VERSION = 2;
+
+    private final Expression filter;
+    private final boolean caseSensitive;
+
+    public IcebergFileScanTaskSplitSerializer(Expression filter, boolean caseSensitive) {
+        this.filter = filter == null ? Expressions.alwaysTrue() : filter;
+        this.caseSensitive = caseSensitive;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void serialize(IcebergFileScanTaskSplit split, FieldWriter writer) throws IOException {
+        FileScanTask task = split.getTask();
+        PartitionSpec spec = task.spec();
+        writer.writeVarLong(split.getRecordOffset())
+            .writeString(SchemaParser.toJson(spec.schema()))
+            .writeString(PartitionSpecParser.toJson(spec))
+            .writeVarLong(task.start())
+            .writeVarLong(task.length());
+        writeContentFile(task.file(), spec, writer);
+        writer.writeList(task.deletes(), (w, deleteFile) -> writeContentFile(deleteFile, spec, w));
+    }
+
+    @Override
+    public IcebergFileScanTaskSplit deserialize(int version, FieldReader reader) throws IOException {
+        long recordOffset = reader.readVarLong();
+        if (version < 2) {
+            FileScanTask task = reader.readObject();
+            return new IcebergFileScanTaskSplit(task, recordOffset);
+        }
+        String schemaString = reader.readString();
+        String specString = reader.readString();
+        PartitionSpec spec = PartitionSpecParser.fromJson(SchemaParser.fromJson(schemaString), specString);
+        long start = reader.readVarLong();
+        long length = reader.readVarLong();
+        DataFile dataFile = readDataFile(spec, reader);
+        List<DeleteFile> deleteFiles = reader.readList(r -> readDeleteFile(spec, r));
+        if (deleteFiles == null) {
+            deleteFiles = Collections.emptyList();
+        }
+        FileScanTask fileTask = new BaseFileScanTask(dataFile, deleteFiles.toArray(new DeleteFile[0]),
+            schemaString, specString, ResidualEvaluator.of(spec, filter, caseSensitive));
+        return new IcebergFileScanTaskSplit(new FileRangeScanTask(fileTask, start, length), recordOffset);
+    }
+
+    /**
+     * Writes a data or delete file. The partition values are written only if the file has the partition spec of
+     * the task, the partition of a delete file with an older spec is not used to read the data file.
+     */
+    private static void writeContentFile(ContentFile<?> file, PartitionSpec spec, FieldWriter writer) throws IOException {
+        writer.writeByte(file.content().ordinal())
+            .writeString(file.path().toString())
+            .writeString(file.format().name())
+            .writeVarLong(file.fileSizeInBytes())
+            .writeVarLong(file.recordCount())
+            .writeMap(file.columnSizes(), FieldWriter::writeVarInt, FieldWriter::writeVarLong)
+            .writeMap(file.valueCounts(), FieldWriter::writeVarInt, FieldWriter::writeVarLong)
+            .writeMap(file.nullValueCounts(), FieldWriter::writeVarInt, FieldWriter::writeVarLong)
+            .writeMap(file.nanValueCounts(), FieldWriter::writeVarInt, FieldWriter::writeVarLong)
+            .writeMap(file.lowerBounds(), FieldWriter::writeVarInt, IcebergFileScanTaskSplitSerializer::writeByteBuffer)
+            .writeMap(file.upperBounds(), FieldWriter::writeVarInt, IcebergFileScanTaskSplitSerializer::writeByteBuffer)
+            .writeNullable(file.keyMetadata(), IcebergFileScanTaskSplitSerializer::writeByteBuffer)
+            .writeList(file.splitOffsets(), FieldWriter::writeVarLong)
+            .writeList(file.equalityFieldIds(), FieldWriter::writeVarInt);
+        boolean samePartitionSpec = file.specId() == spec.specId();
+        writer.writeBoolean(samePartitionSpec);
+        if (samePartitionSpec) {
+            writePartition(file.partition(), spec, writer);
+        }
+    }
+
+    private static DataFile readDataFile(PartitionSpec spec, FieldReader reader) throws IOException {
+        ContentFileFields fields = new ContentFileFields(spec, reader);
+        DataFiles.Builder builder = DataFiles.builder(spec)
+            .withPath(fields.path)
+            .withFormat(fields.format)
+            .withFileSizeInBytes(fields.fileSizeInBytes)
+            .withMetrics(fields.metrics)
+            .withEncryptionKeyMetadata(fields.keyMetadata)
+            .withSplitOffsets(fields.splitOffsets);
+        if (fields.partition != null) {
+            builder.withPartition(fields.partition);
+        }
+        return builder.build();
+    }
+
+    private static DeleteFile readDeleteFile(PartitionSpec spec, FieldReader reader) throws IOException {
+        ContentFileFields fields = new ContentFileFields(spec, reader);
+        FileMetadata.Builder builder = FileMetadata.deleteFileBuilder(fields.partition != null ? spec : PartitionSpec.unpartitioned());
+        if (fields.content == FileContent.EQUALITY_DELETES) {
+            builder.ofEqualityDeletes(fields.equalityFieldIds.stream().mapToInt(Integer::intValue).toArray());
+        } else {
+            builder.ofPositionDeletes();
+        }
+        builder.withPath(fields.path)
+            .withFormat(fields.format)
+            .withFileSizeInBytes(fields.fileSizeInBytes)
+            .withMetrics(fields.metrics)
+            .withEncryptionKeyMetadata(fields.keyMetadata);
+        if (fields.partition != null) {
+            builder.withPartition(fields.partition);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the partition values in the single-value binary form of their Iceberg types.
+     */
+    private static void writePartition(StructLike partition, PartitionSpec spec, FieldWriter writer) throws IOException {
+        List<Types.NestedField> fields = spec.partitionType().fields();
+        for (int i = 0; i < fields.size(); i++) {
+            Type type = fields.get(i).type();
+            Object value = partition.get(i, type.typeId().javaClass());
+            writer.writeNullable(value == null ? null : Conversions.toByteBuffer(type, value),
+                IcebergFileScanTaskSplitSerializer::writeByteBuffer);
+        }
+    }
+
+    private static StructLike readPartition(PartitionSpec spec, FieldReader reader) throws IOException {
+        List<Types.NestedField> fields = spec.partitionType().fields();
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            ByteBuffer buffer = reader.readNullable(IcebergFileScanTaskSplitSerializer::readByteBuffer);
+            if (buffer != null) {
+                Object value = Conversions.fromByteBuffer(fields.get(i).type(), buffer);
+                // strings are decoded to a CharBuffer
+                values[i] = value instanceof CharSequence ? value.toString() : value;
+            }
+        }
+        return new PartitionValues(values);
+    }
+
+    private static void writeByteBuffer(FieldWriter writer, ByteBuffer buffer) throws IOException {
+        writer.writeBytes(ByteBuffers.toByteArray(buffer));
+    }
+
+    private static ByteBuffer readByteBuffer(FieldReader reader) throws IOException {
+        return ByteBuffer.wrap(reader.readBytes());
+    }
+
+    /**
+     * The fields of a data or delete file, in the order written by {@link #writeContentFile}.
+     */
+    private static final class ContentFileFields {
+        private final FileContent content;
+        private final String path;
+        private final FileFormat format;
+        private final long fileSizeInBytes;
+        private final Metrics metrics;
+        private final ByteBuffer keyMetadata;
+        private final List<Long> splitOffsets;
+        private final List<Integer> equalityFieldIds;
+        private final StructLike partition;
+
+        private ContentFileFields(PartitionSpec spec, FieldReader reader) throws IOException {
+            this.content = FileContent.values()[reader.readByte()];
+            this.path = reader.readString();
+            this.format = FileFormat.valueOf(reader.readString());
+            this.fileSizeInBytes = reader.readVarLong();
+            long recordCount = reader.readVarLong();
+            Map<Integer, Long> columnSizes = reader.readMap(FieldReader::readVarInt, FieldReader::readVarLong);
+            Map<Integer, Long> valueCounts = reader.readMap(FieldReader::readVarInt, FieldReader::readVarLong);
+            Map<Integer, Long> nullValueCounts = reader.readMap(FieldReader::readVarInt, FieldReader::readVarLong);
+            Map<Integer, Long> nanValueCounts = reader.readMap(FieldReader::readVarInt, FieldReader::readVarLong);
+            Map<Integer, ByteBuffer> lowerBounds = reader.readMap(FieldReader::readVarInt,
+                IcebergFileScanTaskSplitSerializer::readByteBuffer);
+            Map<Integer, ByteBuffer> upperBounds = reader.readMap(FieldReader::readVarInt,
+                IcebergFileScanTaskSplitSerializer::readByteBuffer);
+            this.metrics = new Metrics(recordCount, columnSizes, valueCounts, nullValueCounts, nanValueCounts,
+                lowerBounds, upperBounds);
+            this.keyMetadata = reader.readNullable(IcebergFileScanTaskSplitSerializer::readByteBuffer);
+            this.splitOffsets = reader.readList(FieldReader::readVarLong);
+            this.equalityFieldIds = reader.readList(FieldReader::readVarInt);
+            this.partition = reader.readBoolean() ? readPartition(spec, reader) : null;
+        }
+    }
+
+    private static final class PartitionValues implements StructLike {
+        private final Object[] values;
+
+        private PartitionValues(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public <T> T get(int pos, Class<T> javaClass) {
+            return javaClass.cast(values[pos]);
+        }
+
+        @Override
+        public <T> void set(int pos, T value) {
+            values[pos] = value;
+        }
+    }
+
+    /**
+     * A task reading a range of the file of a whole-file task, as planned by {@link FileScanTask#split(long)}.
+     */
+    private static final class FileRangeScanTask implements FileScanTask {
+        private static final long serialVersionUID = 1L;
+
+        private final FileScanTask fileTask;
+        private final long start;
+        private final long length;
+
+        private FileRangeScanTask(FileScanTask fileTask, long start, long length) {
+            this.fileTask = fileTask;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public DataFile file() {
+            return fileTask.file();
+        }
+
+        @Override
+        public List<DeleteFile> deletes() {
+            return fileTask.deletes();
+        }
+
+        @Override
+        public PartitionSpec spec() {
+            return fileTask.spec();
+        }
+
+        @Override
+        public long start() {
+            return start;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public Expression residual() {
+            return fileTask.residual();
+        }
+
+        @Override
+        public Iterable<FileScanTask> split(long targetSplitSize) {
+            return Collections.singletonList(this);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source.split;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@SuppressWarnings("MagicNumber")
+public class IcebergFileScanTaskSplitSerializerTest {
+
+    private static final Schema SCHEMA = new Schema(
+        Types.NestedField.required(1, "id", Types.LongType.get()),
+        Types.NestedField.optional(2, "name", Types.StringType.get()),
+        Types.NestedField.optional(3, "day", Types.DateType.get()));
+    private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("name").day("day").build();
+    private static final Expression FILTER = Expressions.greaterThan("id", 10L);
+
+    private final IcebergFileScanTaskSplitSerializer serializer = new IcebergFileScanTaskSplitSerializer(FILTER, true);
+
+    private static FileScanTask createTask() {
+        Map<Integer, Long> counts = new HashMap<>();
+        counts.put(1, 100L);
+        Metrics metrics = new Metrics(100L, counts, counts, Collections.singletonMap(2, 5L), null,
+            Collections.singletonMap(1, Conversions.toByteBuffer(Types.LongType.get(), 1L)),
+            Collections.singletonMap(1, Conversions.toByteBuffer(Types.LongType.get(), 100L)));
+        DataFile dataFile = DataFiles.builder(SPEC)
+            .withPath("/warehouse/db/table/data/00000.parquet")
+            .withFormat(FileFormat.PARQUET)
+            .withFileSizeInBytes(4096L)
+            .withPartitionPath("name=a/day_day=2022-08-01")
+            .withMetrics(metrics)
+            .withSplitOffsets(Arrays.asList(4L, 2048L))
+            .build();
+        DeleteFile positionDeletes = FileMetadata.deleteFileBuilder(SPEC)
+            .ofPositionDeletes()
+            .withPath("/warehouse/db/table/data/00000-deletes.parquet")
+            .withFormat(FileFormat.PARQUET)
+            .withFileSizeInBytes(512L)
+            .withPartitionPath("name=a/day_day=2022-08-01")
+            .withRecordCount(3L)
+            .build();
+        DeleteFile equalityDeletes = FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+            .ofEqualityDeletes(1)
+            .withPath("/warehouse/db/table/data/00001-deletes.avro")
+            .withFormat(FileFormat.AVRO)
+            .withFileSizeInBytes(256L)
+            .withRecordCount(2L)
+            .build();
+        return new BaseFileScanTask(dataFile, new DeleteFile[]{positionDeletes, equalityDeletes},
+            SchemaParser.toJson(SCHEMA), PartitionSpecParser.toJson(SPEC),
+            ResidualEvaluator.of(SPEC, FILTER, true));
+    }
+
+    private static void assertTaskEquals(FileScanTask expected, FileScanTask actual) {
+        Assertions.assertEquals(expected.start(), actual.start());
+        Assertions.assertEquals(expected.length(), actual.length());
+        Assertions.assertEquals(expected.spec(), actual.spec());
+        Assertions.assertTrue(expected.spec().schema().sameSchema(actual.spec().schema()));
+        Assertions.assertEquals(expected.residual().toString(), actual.residual().toString());
+
+        DataFile expectedFile = expected.file();
+        DataFile actualFile = actual.file();
+        Assertions.assertEquals(expectedFile.path().toString(), actualFile.path().toString());
+        Assertions.assertEquals(expectedFile.format(), actualFile.format());
+        Assertions.assertEquals(expectedFile.fileSizeInBytes(), actualFile.fileSizeInBytes());
+        Assertions.assertEquals(expectedFile.recordCount(), actualFile.recordCount());
+        Assertions.assertEquals(expectedFile.partition(), actualFile.partition());
+        Assertions.assertEquals(expectedFile.columnSizes(), actualFile.columnSizes());
+        Assertions.assertEquals(expectedFile.nullValueCounts(), actualFile.nullValueCounts());
+        Assertions.assertEquals(expectedFile.lowerBounds(), actualFile.lowerBounds());
+        Assertions.assertEquals(expectedFile.upperBounds(), actualFile.upperBounds());
+        Assertions.assertEquals(expectedFile.splitOffsets(), actualFile.splitOffsets());
+
+        Assertions.assertEquals(expected.deletes().size(), actual.deletes().size());
+        for (int i = 0; i < expected.deletes().size(); i++) {
+            DeleteFile expectedDelete = expected.deletes().get(i);
+            DeleteFile actualDelete = actual.deletes().get(i);
+            Assertions.assertEquals(expectedDelete.content(), actualDelete.content());
+            Assertions.assertEquals(expectedDelete.path().toString(), actualDelete.path().toString());
+            Assertions.assertEquals(expectedDelete.format(), actualDelete.format());
+            Assertions.assertEquals(expectedDelete.recordCount(), actualDelete.recordCount());
+            Assertions.assertEquals(expectedDelete.equalityFieldIds(), actualDelete.equalityFieldIds());
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (FileScanTask task : createTask().split(1024L)) {
+            IcebergFileScanTaskSplit split = new IcebergFileScanTaskSplit(task, 7L);
+            IcebergFileScanTaskSplit restored = serializer.deserialize(serializer.serialize(split));
+            Assertions.assertEquals(split.splitId(), restored.splitId());
+            Assertions.assertEquals(7L, restored.getRecordOffset());
+            assertTaskEquals(task, restored.getTask());
+        }
+    }
+
+    @Test
+    public void testReadVersion1() throws IOException {
+        // version 1 wrote the task with Java serialization
+        FileScanTask task = createTask();
+        byte[] bytes = new FieldWriter()
+            .writeByte(VersionedSerializer.MAGIC_NUMBER)
+            .writeVarInt(1)
+            .writeVarLong(7L)
+            .writeObject(task)
+            .toByteArray();
+        IcebergFileScanTaskSplit restored = serializer.deserialize(bytes);
+        Assertions.assertEquals(7L, restored.getRecordOffset());
+        assertTaskEquals(task, restored.getTask());
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws IOException {
+        FileScanTask task = createTask();
+        IcebergFileScanTaskSplit split = new IcebergFileScanTaskSplit(task, 7L);
+        IcebergFileScanTaskSplit restored = serializer.deserialize(
+            new DefaultSerializer<IcebergFileScanTaskSplit>().serialize(split));
+        Assertions.assertEquals(7L, restored.getRecordOffset());
+        assertTaskEquals(task, restored.getTask());
+    }
+}
@@ -33,6 +33,10 @@ public class JdbcConfig implements Serializable {
 
     public static final String MAX_RETRIES = "max_retries";
 
+    public static final String CONNECTION_POOL_SIZE = "connection_pool_size";
+
+    public static final String CONNECTION_POOL_IDLE_TIMEOUT_MS = "connection_pool_idle_timeout_ms";
+
     public static final String USER = "user";
 
     public static final String PASSWORD = "password";
@@ -46,6 +50,16 @@ public class JdbcConfig implements Serializable {
 
     public static final String BATCH_INTERVAL_MS = "batch_interval_ms";
 
+    public static final String MAX_IN_FLIGHT_BATCHES = "max_in_flight_batches";
+
+    public static final String PRIMARY_KEYS = "primary_keys";
+
+    public static final String CONNECTION_NUM = "connection_num";
+
+    public static final String BULK_LOAD = "bulk_load";
+
+    public static final String TABLE = "table";
+
 
     public static final String IS_EXACTLY_ONCE = "is_exactly_once";
 
@@ -61,6 +75,11 @@ public class JdbcConfig implements Serializable {
     public static final String PARTITION_COLUMN = "partition_column";
     public static final String PARTITION_UPPER_BOUND = "partition_upper_bound";
     public static final String PARTITION_LOWER_BOUND = "partition_lower_bound";
+    public static final String PARTITION_NUM = "partition_num";
+    public static final String PARTITION_STRATEGY = "partition_strategy";
+    public static final String RESUMABLE = "resumable";
+    public static final String CHUNK_SIZE = "chunk_size";
+    public static final String FETCH_SIZE = "fetch_size";
 
     public static JdbcConnectionOptions buildJdbcConnectionOptions(Config config) {
 
@@ -73,7 +92,9 @@ public class JdbcConfig implements Serializable {
         if (config.hasPath(JdbcConfig.PASSWORD)) {
             jdbcOptions.password = config.getString(JdbcConfig.PASSWORD);
         }
-        jdbcOptions.query = config.getString(JdbcConfig.QUERY);
+        if (config.hasPath(JdbcConfig.QUERY)) {
+            jdbcOptions.query = config.getString(JdbcConfig.QUERY);
+        }
 
         if (config.hasPath(JdbcConfig.MAX_RETRIES)) {
             jdbcOptions.maxRetries = config.getInt(JdbcConfig.MAX_RETRIES);
@@ -81,12 +102,21 @@ public class JdbcConfig implements Serializable {
         if (config.hasPath(JdbcConfig.CONNECTION_CHECK_TIMEOUT_SEC)) {
             jdbcOptions.connectionCheckTimeoutSeconds = config.getInt(JdbcConfig.CONNECTION_CHECK_TIMEOUT_SEC);
         }
+        if (config.hasPath(JdbcConfig.CONNECTION_POOL_SIZE)) {
+            jdbcOptions.connectionPoolSize = config.getInt(JdbcConfig.CONNECTION_POOL_SIZE);
+        }
+        if (config.hasPath(JdbcConfig.CONNECTION_POOL_IDLE_TIMEOUT_MS)) {
+            jdbcOptions.connectionPoolIdleTimeoutMs = config.getLong(JdbcConfig.CONNECTION_POOL_IDLE_TIMEOUT_MS);
+        }
         if (config.hasPath(JdbcConfig.BATCH_SIZE)) {
             jdbcOptions.batchSize = config.getInt(JdbcConfig.BATCH_SIZE);
         }
         if (config.hasPath(JdbcConfig.BATCH_INTERVAL_MS)) {
             jdbcOptions.batchIntervalMs = config.getInt(JdbcConfig.BATCH_INTERVAL_MS);
         }
+        if (config.hasPath(JdbcConfig.MAX_IN_FLIGHT_BATCHES)) {
+            jdbcOptions.maxInFlightBatches = config.getInt(JdbcConfig.MAX_IN_FLIGHT_BATCHES);
+        }
 
         if (config.hasPath(JdbcConfig.IS_EXACTLY_ONCE)) {
             jdbcOptions.xaDataSourceClassName = config.getString(JdbcConfig.XA_DATA_SOURCE_CLASS_NAME);
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.config;
 
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConfig.buildJdbcConnectionOptions;
+import static com.google.common.base.Preconditions.checkArgument;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
 
@@ -27,17 +28,36 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
 public class JdbcSinkOptions implements Serializable {
     private JdbcConnectionOptions jdbcConnectionOptions;
     private boolean isExactlyOnce;
+    private List<String> primaryKeys = Collections.emptyList();
+    private int connectionNum = 1;
+    private boolean bulkLoad;
+    private String table;
 
     public JdbcSinkOptions(Config config) {
         this.jdbcConnectionOptions = buildJdbcConnectionOptions(config);
         if (config.hasPath(JdbcConfig.IS_EXACTLY_ONCE) && config.getBoolean(JdbcConfig.IS_EXACTLY_ONCE)) {
             this.isExactlyOnce = true;
         }
+        if (config.hasPath(JdbcConfig.PRIMARY_KEYS)) {
+            this.primaryKeys = config.getStringList(JdbcConfig.PRIMARY_KEYS);
+        }
+        if (config.hasPath(JdbcConfig.CONNECTION_NUM)) {
+            this.connectionNum = config.getInt(JdbcConfig.CONNECTION_NUM);
+            checkArgument(connectionNum > 0, "%s must be positive, but is %s", JdbcConfig.CONNECTION_NUM, connectionNum);
+        }
+        if (config.hasPath(JdbcConfig.BULK_LOAD)) {
+            this.bulkLoad = config.getBoolean(JdbcConfig.BULK_LOAD);
+        }
+        if (config.hasPath(JdbcConfig.TABLE)) {
+            this.table = config.getString(JdbcConfig.TABLE);
+        }
     }
 }
@@ -27,15 +27,34 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor
 public class JdbcSourceOptions implements Serializable {
+    /**
+     * Splits the range of the partition column into partitions of the same width.
+     */
+    public static final String EVEN_PARTITION_STRATEGY = "even";
+    /**
+     * Splits the range of the partition column at its quantiles, so that every partition holds about the same
+     * number of rows.
+     */
+    public static final String QUANTILE_PARTITION_STRATEGY = "quantile";
+
     private JdbcConnectionOptions jdbcConnectionOptions;
     private String partitionColumn;
     private Long partitionUpperBound;
     private Long partitionLowerBound;
+    private Integer partitionNum;
+    private String partitionStrategy = EVEN_PARTITION_STRATEGY;
+    private boolean resumable;
+    private int chunkSize;
+    private Integer fetchSize;
 
     private Integer parallelism;
 
@@ -50,6 +69,37 @@ public class JdbcSourceOptions implements Serializable {
         if (config.hasPath(JdbcConfig.PARTITION_LOWER_BOUND)) {
             this.partitionLowerBound = config.getLong(JdbcConfig.PARTITION_LOWER_BOUND);
         }
+        if (config.hasPath(JdbcConfig.PARTITION_NUM)) {
+            this.partitionNum = config.getInt(JdbcConfig.PARTITION_NUM);
+            if (partitionNum <= 0) {
+                throw new IllegalArgumentException(String.format("%s must be positive, but is %s",
+                    JdbcConfig.PARTITION_NUM, partitionNum));
+            }
+        }
+        if (config.hasPath(JdbcConfig.PARTITION_STRATEGY)) {
+            this.partitionStrategy = config.getString(JdbcConfig.PARTITION_STRATEGY).toLowerCase();
+            if (!EVEN_PARTITION_STRATEGY.equals(partitionStrategy) && !QUANTILE_PARTITION_STRATEGY.equals(partitionStrategy)) {
+                throw new IllegalArgumentException(String.format("Unsupported %s: %s, supported are %s and %s",
+                    JdbcConfig.PARTITION_STRATEGY, partitionStrategy, EVEN_PARTITION_STRATEGY, QUANTILE_PARTITION_STRATEGY));
+            }
+        }
+        if (config.hasPath(JdbcConfig.RESUMABLE)) {
+            this.resumable = config.getBoolean(JdbcConfig.RESUMABLE);
+        }
+        if (config.hasPath(JdbcConfig.CHUNK_SIZE)) {
+            this.chunkSize = config.getInt(JdbcConfig.CHUNK_SIZE);
+            if (chunkSize < 0) {
+                throw new IllegalArgumentException(String.format("%s must not be negative, but is %s",
+                    JdbcConfig.CHUNK_SIZE, chunkSize));
+            }
+        }
+        if (config.hasPath(JdbcConfig.FETCH_SIZE)) {
+            this.fetchSize = config.getInt(JdbcConfig.FETCH_SIZE);
+            if (fetchSize < 0 && fetchSize != Integer.MIN_VALUE) {
+                throw new IllegalArgumentException(String.format("%s must not be negative, but is %s",
+                    JdbcConfig.FETCH_SIZE, fetchSize));
+            }
+        }
         if (config.hasPath(JdbcConfig.PARALLELISM)) {
             this.parallelism = config.getInt(JdbcConfig.PARALLELISM);
         }
@@ -63,6 +113,19 @@ public class JdbcSourceOptions implements Serializable {
         return Optional.ofNullable(partitionColumn);
     }
 
+    /**
+     * Returns the partition columns, which are separated by commas.
+     */
+    public List<String> getPartitionColumns() {
+        if (partitionColumn == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(partitionColumn.split(","))
+            .map(String::trim)
+            .filter(column -> !column.isEmpty())
+            .collect(Collectors.toList());
+    }
+
     public Optional<Long> getPartitionUpperBound() {
         return Optional.ofNullable(partitionUpperBound);
     }
@@ -71,6 +134,26 @@ public class JdbcSourceOptions implements Serializable {
         return Optional.ofNullable(partitionLowerBound);
     }
 
+    public Optional<Integer> getPartitionNum() {
+        return Optional.ofNullable(partitionNum);
+    }
+
+    public String getPartitionStrategy() {
+        return partitionStrategy;
+    }
+
+    public boolean isResumable() {
+        return resumable;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Optional<Integer> getFetchSize() {
+        return Optional.ofNullable(fetchSize);
+    }
+
     public Optional<Integer> getParallelism() {
         return Optional.ofNullable(parallelism);
     }
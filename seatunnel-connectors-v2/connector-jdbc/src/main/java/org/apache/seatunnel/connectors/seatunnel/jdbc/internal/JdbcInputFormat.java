@@ -22,6 +22,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcKeysetSplitter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
 
 import org.slf4j.Logger;
@@ -35,9 +37,13 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * InputFormat to read data from a database and generate Rows. The InputFormat has to be configured
@@ -52,6 +58,10 @@ public class JdbcInputFormat implements Serializable {
 
     protected JdbcConnectionProvider connectionProvider;
     protected JdbcRowConverter jdbcRowConverter;
+    /**
+     * Creates the statements if not null, so that they stream the result sets in a way that suits the database.
+     */
+    protected JdbcDialect jdbcDialect;
     protected String queryTemplate;
     protected SeaTunnelRowType typeInfo;
     protected int fetchSize;
@@ -59,10 +69,29 @@ public class JdbcInputFormat implements Serializable {
     protected Boolean autoCommit;
 
     protected transient PreparedStatement statement;
+    /**
+     * The statement of the current split if the split has its own query.
+     */
+    protected transient PreparedStatement splitStatement;
     protected transient ResultSet resultSet;
+    protected transient ResultSetMetaData resultSetMetaData;
 
     protected boolean hasNext;
 
+    /**
+     * The unique key columns by which the splits are read in order, or null to read the splits unordered.
+     */
+    protected List<String> keyColumns;
+    /**
+     * The max number of rows queried at once by an ordered read, 0 for no limit.
+     */
+    protected int chunkSize;
+
+    protected transient JdbcSourceSplit currentSplit;
+    protected transient Object[] lastKey;
+    protected transient int[] keyIndexes;
+    protected transient int chunkRows;
+
     public JdbcInputFormat(JdbcConnectionProvider connectionProvider,
                            JdbcRowConverter jdbcRowConverter,
                            SeaTunnelRowType typeInfo,
@@ -78,6 +107,21 @@ public class JdbcInputFormat implements Serializable {
         this.autoCommit = autoCommit;
     }
 
+    public JdbcInputFormat(JdbcConnectionProvider connectionProvider,
+                           JdbcDialect jdbcDialect,
+                           SeaTunnelRowType typeInfo,
+                           String queryTemplate,
+                           int fetchSize,
+                           Boolean autoCommit,
+                           List<String> keyColumns,
+                           int chunkSize
+    ) {
+        this(connectionProvider, jdbcDialect.getRowConverter(), typeInfo, queryTemplate, fetchSize, autoCommit);
+        this.jdbcDialect = jdbcDialect;
+        this.keyColumns = keyColumns;
+        this.chunkSize = chunkSize;
+    }
+
     public void openInputFormat() {
         // called once per inputFormat (on open)
         try {
@@ -89,10 +133,7 @@ public class JdbcInputFormat implements Serializable {
                 dbConn.setAutoCommit(autoCommit);
             }
 
-            statement = dbConn.prepareStatement(queryTemplate);
-            if (fetchSize == Integer.MIN_VALUE || fetchSize > 0) {
-                statement.setFetchSize(fetchSize);
-            }
+            statement = prepareStatement(dbConn, queryTemplate);
         } catch (SQLException se) {
             throw new IllegalArgumentException("open() failed." + se.getMessage(), se);
         } catch (ClassNotFoundException cnfe) {
@@ -101,6 +142,17 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    private PreparedStatement prepareStatement(Connection dbConn, String query) throws SQLException {
+        if (jdbcDialect != null) {
+            return jdbcDialect.createPreparedStatement(dbConn, query, fetchSize);
+        }
+        PreparedStatement preparedStatement = dbConn.prepareStatement(query);
+        if (fetchSize == Integer.MIN_VALUE || fetchSize > 0) {
+            preparedStatement.setFetchSize(fetchSize);
+        }
+        return preparedStatement;
+    }
+
     public void closeInputFormat() {
         // called once per inputFormat (on close)
         try {
@@ -125,8 +177,42 @@ public class JdbcInputFormat implements Serializable {
      * @throws IOException if there's an error during the execution of the query
      */
     public void open(JdbcSourceSplit inputSplit) throws IOException {
+        currentSplit = inputSplit;
+        lastKey = inputSplit.getLastKey();
+        keyIndexes = null;
+        executeQuery();
+    }
+
+    /**
+     * Queries the rows of the current split, or the next chunk of them after the last key if the split is read
+     * in order of the key columns.
+     */
+    private void executeQuery() throws IOException {
         try {
-            Object[] parameterValues = inputSplit.getParameterValues();
+            PreparedStatement statement = this.statement;
+            Object[] parameterValues = currentSplit.getParameterValues();
+            if (keyColumns != null) {
+                String query = currentSplit.getSplitQuery() != null ? currentSplit.getSplitQuery() : queryTemplate;
+                List<Object> values = new ArrayList<>();
+                if (parameterValues != null) {
+                    values.addAll(Arrays.asList(parameterValues));
+                }
+                query = String.format("SELECT * FROM (%s) tk", query);
+                if (lastKey != null) {
+                    query += " WHERE " + JdbcKeysetSplitter.greaterThan(keyColumns);
+                    values.addAll(JdbcKeysetSplitter.greaterThanValues(lastKey));
+                }
+                query += " ORDER BY " + String.join(", ", keyColumns);
+                splitStatement = prepareStatement(connectionProvider.getOrEstablishConnection(), query);
+                if (chunkSize > 0) {
+                    splitStatement.setMaxRows(chunkSize);
+                }
+                statement = splitStatement;
+                parameterValues = values.toArray();
+            } else if (currentSplit.getSplitQuery() != null) {
+                splitStatement = prepareStatement(connectionProvider.getOrEstablishConnection(), currentSplit.getSplitQuery());
+                statement = splitStatement;
+            }
             if (parameterValues != null) {
                 for (int i = 0; i < parameterValues.length; i++) {
                     Object param = parameterValues[i];
@@ -156,21 +242,29 @@ public class JdbcInputFormat implements Serializable {
                         statement.setTimestamp(i + 1, (Timestamp) param);
                     } else if (param instanceof Array) {
                         statement.setArray(i + 1, (Array) param);
+                    } else if (param == null) {
+                        throw new IllegalArgumentException("open() failed. Parameter " + i + " is null.");
                     } else {
-                        // extends with other types if needed
-                        throw new IllegalArgumentException(
-                            "open() failed. Parameter "
-                                + i
-                                + " of type "
-                                + param.getClass()
-                                + " is not handled (yet).");
+                        // e.g. the UUID keys of postgres, let the driver convert them
+                        statement.setObject(i + 1, param);
                     }
                 }
             }
             resultSet = statement.executeQuery();
+            resultSetMetaData = resultSet.getMetaData();
             hasNext = resultSet.next();
+            chunkRows = 0;
+            if (keyColumns != null && keyIndexes == null) {
+                keyIndexes = new int[keyColumns.size()];
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    keyIndexes[i] = resultSet.findColumn(keyColumns.get(i));
+                }
+            }
         } catch (SQLException se) {
             throw new IllegalArgumentException("open() failed." + se.getMessage(), se);
+        } catch (ClassNotFoundException cnfe) {
+            throw new IllegalArgumentException(
+                "JDBC-Class not found. - " + cnfe.getMessage(), cnfe);
         }
     }
 
@@ -188,6 +282,15 @@ public class JdbcInputFormat implements Serializable {
         } catch (SQLException se) {
             LOG.info("Inputformat ResultSet couldn't be closed - " + se.getMessage());
         }
+        if (splitStatement != null) {
+            try {
+                splitStatement.close();
+            } catch (SQLException se) {
+                LOG.info("Inputformat split Statement couldn't be closed - " + se.getMessage());
+            } finally {
+                splitStatement = null;
+            }
+        }
     }
 
     /**
@@ -196,9 +299,21 @@ public class JdbcInputFormat implements Serializable {
      * @return boolean value indication whether all data has been read.
      */
     public boolean reachedEnd() throws IOException {
+        if (!hasNext && chunkSize > 0 && chunkRows == chunkSize) {
+            // a full chunk, query the next one to release the cursor of the finished one
+            close();
+            executeQuery();
+        }
         return !hasNext;
     }
 
+    /**
+     * Returns the key of the last row read by an ordered read, or null if no row has been read yet.
+     */
+    public Object[] getLastKey() {
+        return lastKey;
+    }
+
     /**
      * Convert a row of data to seatunnelRow
      */
@@ -207,7 +322,19 @@ public class JdbcInputFormat implements Serializable {
             if (!hasNext) {
                 return null;
             }
-            SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, resultSet.getMetaData(), typeInfo);
+            SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, resultSetMetaData, typeInfo);
+            if (keyColumns != null) {
+                Object[] key = new Object[keyIndexes.length];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = resultSet.getObject(keyIndexes[i]);
+                    if (key[i] == null) {
+                        throw new IOException(String.format("The key column %s of a resumable read must not be null",
+                            keyColumns.get(i)));
+                    }
+                }
+                lastKey = key;
+                chunkRows++;
+            }
             // update hasNext after we've read the record
             hasNext = resultSet.next();
             return seaTunnelRow;
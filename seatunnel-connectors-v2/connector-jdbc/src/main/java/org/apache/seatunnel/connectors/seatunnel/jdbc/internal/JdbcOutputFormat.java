@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
@@ -32,7 +33,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +49,11 @@ import java.util.function.Supplier;
 
 /**
  * A JDBC outputFormat
+ *
+ * <p>With a positive {@code maxInFlightBatches} the output format is double-buffered: records are collected into a
+ * batch by the writing thread while the previous batches are executed by a background flusher thread, which owns
+ * the statement executor. At most {@code maxInFlightBatches} batches are handed over at the same time, a new batch
+ * waits for the oldest one to finish. Failures of a batch are rethrown by the next write or flush.
  */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
     implements Serializable {
@@ -53,11 +66,16 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
 
     private final JdbcConnectionOptions jdbcConnectionOptions;
     private final StatementExecutorFactory<E> statementExecutorFactory;
+    private final int maxInFlightBatches;
 
     private transient E jdbcStatementExecutor;
     private transient int batchCount = 0;
     private transient volatile boolean closed = false;
 
+    private transient List<I> batch;
+    private transient ExecutorService flusher;
+    private transient Deque<Future<?>> inFlightBatches;
+
     private transient ScheduledExecutorService scheduler;
     private transient ScheduledFuture<?> scheduledFuture;
     private transient volatile Exception flushException;
@@ -66,9 +84,20 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         JdbcConnectionProvider connectionProvider,
         JdbcConnectionOptions jdbcConnectionOptions,
         StatementExecutorFactory<E> statementExecutorFactory) {
+        this(connectionProvider, jdbcConnectionOptions, statementExecutorFactory,
+            jdbcConnectionOptions.getMaxInFlightBatches());
+    }
+
+    public JdbcOutputFormat(
+        JdbcConnectionProvider connectionProvider,
+        JdbcConnectionOptions jdbcConnectionOptions,
+        StatementExecutorFactory<E> statementExecutorFactory,
+        int maxInFlightBatches) {
+        checkArgument(maxInFlightBatches >= 0, "maxInFlightBatches must not be negative, but is %s", maxInFlightBatches);
         this.connectionProvider = checkNotNull(connectionProvider);
         this.jdbcConnectionOptions = checkNotNull(jdbcConnectionOptions);
         this.statementExecutorFactory = checkNotNull(statementExecutorFactory);
+        this.maxInFlightBatches = maxInFlightBatches;
     }
 
     /**
@@ -85,6 +114,17 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
 
+        if (isAsync()) {
+            this.batch = new ArrayList<>();
+            this.inFlightBatches = new ArrayDeque<>();
+            this.flusher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                thread.setName("jdbc-output-format-flusher");
+                return thread;
+            });
+        }
+
         if (jdbcConnectionOptions.getBatchIntervalMs() != 0 && jdbcConnectionOptions.getBatchSize() != 1) {
             this.scheduler =
                 Executors.newScheduledThreadPool(
@@ -101,7 +141,11 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
                         synchronized (JdbcOutputFormat.this) {
                             if (!closed) {
                                 try {
-                                    flush();
+                                    if (isAsync()) {
+                                        submitBatch();
+                                    } else {
+                                        flush();
+                                    }
                                 }
                                 catch (Exception e) {
                                     flushException = e;
@@ -128,6 +172,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         return exec;
     }
 
+    private boolean isAsync() {
+        return maxInFlightBatches > 0;
+    }
+
     private void checkFlushException() {
         if (flushException != null) {
             throw new RuntimeException("Writing records to JDBC failed.", flushException);
@@ -138,11 +186,20 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         throws IOException {
         checkFlushException();
         try {
-            addToBatch(record);
+            if (isAsync()) {
+                awaitInFlightBatches(maxInFlightBatches);
+                batch.add(record);
+            } else {
+                addToBatch(record);
+            }
             batchCount++;
             if (jdbcConnectionOptions.getBatchSize() > 0
                 && batchCount >= jdbcConnectionOptions.getBatchSize()) {
-                flush();
+                if (isAsync()) {
+                    submitBatch();
+                } else {
+                    flush();
+                }
             }
         }
         catch (Exception e) {
@@ -155,14 +212,69 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
         jdbcStatementExecutor.addToBatch(record);
     }
 
+    /**
+     * Writes all buffered records to the database, and waits for the batches handed over to the flusher.
+     */
     public synchronized void flush()
         throws IOException {
         checkFlushException();
+        if (isAsync()) {
+            submitBatch();
+            awaitInFlightBatches(0);
+        } else {
+            executeBatchWithRetries();
+            batchCount = 0;
+        }
+    }
+
+    /**
+     * Hands the current batch over to the flusher, waiting while {@code maxInFlightBatches} batches are in flight.
+     */
+    private void submitBatch()
+        throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        awaitInFlightBatches(maxInFlightBatches - 1);
+        final List<I> records = batch;
+        batch = new ArrayList<>(records.size());
+        // the count belongs to the writer, the flusher only executes the batches handed over
+        batchCount = 0;
+        inFlightBatches.add(flusher.submit(() -> {
+            for (I record : records) {
+                addToBatch(record);
+            }
+            executeBatchWithRetries();
+            return null;
+        }));
+    }
+
+    /**
+     * Waits until at most {@code maxPending} batches are in flight, rethrowing the failure of a finished batch.
+     */
+    private void awaitInFlightBatches(int maxPending)
+        throws IOException {
+        while (!inFlightBatches.isEmpty()
+            && (inFlightBatches.size() > maxPending || inFlightBatches.peek().isDone())) {
+            try {
+                inFlightBatches.poll().get();
+            }
+            catch (ExecutionException e) {
+                ExceptionUtils.rethrowIOException(e.getCause());
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("unable to flush; interrupted while waiting for in-flight batches", e);
+            }
+        }
+    }
+
+    private void executeBatchWithRetries()
+        throws IOException {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionOptions.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             }
             catch (SQLException e) {
@@ -210,13 +322,18 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>>
                 this.scheduler.shutdown();
             }
 
-            if (batchCount > 0) {
-                try {
+            try {
+                if (batchCount > 0 || flusher != null && !inFlightBatches.isEmpty()) {
                     flush();
                 }
-                catch (Exception e) {
-                    LOG.warn("Writing records to JDBC failed.", e);
-                    throw new RuntimeException("Writing records to JDBC failed.", e);
+            }
+            catch (Exception e) {
+                LOG.warn("Writing records to JDBC failed.", e);
+                throw new RuntimeException("Writing records to JDBC failed.", e);
+            }
+            finally {
+                if (flusher != null) {
+                    flusher.shutdownNow();
                 }
             }
 
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded pool of connections to the same database as the same user, shared by all subtasks of a JVM.
+ *
+ * <p>Connections are validated before they are handed out, and idle connections are closed after the idle timeout
+ * by a background thread. The pool keeps counters of its connections, see {@link #getActiveConnections()} and the
+ * other getters.
+ */
+public class JdbcConnectionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcConnectionPool.class);
+
+    private static final long BORROW_TIMEOUT_MS = 60_000L;
+    private static final long EVICTION_INTERVAL_MS = 10_000L;
+
+    private static final Map<PoolKey, JdbcConnectionPool> POOLS = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        thread.setName("jdbc-connection-pool-evictor");
+        return thread;
+    });
+
+    static {
+        EVICTOR.scheduleWithFixedDelay(() -> POOLS.values().forEach(JdbcConnectionPool::evictIdleConnections),
+            EVICTION_INTERVAL_MS, EVICTION_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private final JdbcConnectionOptions jdbcOptions;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+    private int openConnections;
+
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong closedConnections = new AtomicLong();
+    private final AtomicLong borrowedConnections = new AtomicLong();
+    private final AtomicLong borrowWaitNanos = new AtomicLong();
+
+    JdbcConnectionPool(JdbcConnectionOptions jdbcOptions, int maxSize, long idleTimeoutMs, long borrowTimeoutMs) {
+        checkArgument(maxSize > 0, "The size of the connection pool must be positive, but is %s", maxSize);
+        this.jdbcOptions = jdbcOptions;
+        this.maxSize = maxSize;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+    }
+
+    /**
+     * Returns the pool of the url and user of the options, creating it with the pool options if there is none yet.
+     */
+    public static JdbcConnectionPool getOrCreate(JdbcConnectionOptions jdbcOptions) {
+        PoolKey key = new PoolKey(jdbcOptions.getUrl(), jdbcOptions.getUsername().orElse(null));
+        return POOLS.computeIfAbsent(key, k -> new JdbcConnectionPool(jdbcOptions,
+            jdbcOptions.getConnectionPoolSize(), jdbcOptions.getConnectionPoolIdleTimeoutMs(), BORROW_TIMEOUT_MS));
+    }
+
+    /**
+     * Hands out an idle connection which is still valid, or opens a new one if the pool is not full. Waits for a
+     * connection to be released otherwise.
+     */
+    public Connection borrow() throws SQLException, ClassNotFoundException {
+        long start = System.nanoTime();
+        long nanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+        while (true) {
+            Connection connection = null;
+            boolean create = false;
+            lock.lock();
+            try {
+                while (idleConnections.isEmpty() && openConnections >= maxSize) {
+                    if (nanos <= 0L) {
+                        throw new SQLException(String.format(
+                            "Timeout waiting %s ms for a connection of the pool, all %s connections are in use",
+                            borrowTimeoutMs, maxSize));
+                    }
+                    nanos = available.awaitNanos(nanos);
+                }
+                if (!idleConnections.isEmpty()) {
+                    connection = idleConnections.pollFirst().connection;
+                } else {
+                    openConnections++;
+                    create = true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a connection of the pool", e);
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    connection = new SimpleJdbcConnectionProvider(jdbcOptions).getOrEstablishConnection();
+                } catch (SQLException | ClassNotFoundException | RuntimeException e) {
+                    discarded();
+                    throw e;
+                }
+                createdConnections.incrementAndGet();
+            } else if (!isValid(connection)) {
+                invalidate(connection);
+                continue;
+            }
+            borrowedConnections.incrementAndGet();
+            borrowWaitNanos.addAndGet(System.nanoTime() - start);
+            return connection;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool, resetting its auto-commit mode.
+     */
+    public void release(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                discarded();
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to reset the JDBC connection, close it instead of returning it to the pool.", e);
+            invalidate(connection);
+            return;
+        }
+        lock.lock();
+        try {
+            idleConnections.addFirst(new IdleConnection(connection, System.nanoTime()));
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes a borrowed connection which is broken.
+     */
+    public void invalidate(Connection connection) {
+        close(connection);
+        discarded();
+    }
+
+    /**
+     * Closes the connections idle for longer than the idle timeout.
+     */
+    public void evictIdleConnections() {
+        long now = System.nanoTime();
+        Deque<Connection> evicted = new ArrayDeque<>();
+        lock.lock();
+        try {
+            Iterator<IdleConnection> iterator = idleConnections.iterator();
+            while (iterator.hasNext()) {
+                IdleConnection idleConnection = iterator.next();
+                if (now - idleConnection.idleSinceNanos >= TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs)) {
+                    iterator.remove();
+                    evicted.add(idleConnection.connection);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Connection connection : evicted) {
+            invalidate(connection);
+        }
+        if (!evicted.isEmpty() && LOG.isDebugEnabled()) {
+            LOG.debug("Evicted {} idle JDBC connections of {}, {}", evicted.size(), jdbcOptions.getUrl(), this);
+        }
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(jdbcOptions.getConnectionCheckTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discarded() {
+        lock.lock();
+        try {
+            openConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void close(Connection connection) {
+        closedConnections.incrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOG.warn("JDBC connection close failed.", e);
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The number of connections handed out and not yet released.
+     */
+    public int getActiveConnections() {
+        lock.lock();
+        try {
+            return openConnections - idleConnections.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleConnections() {
+        lock.lock();
+        try {
+            return idleConnections.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+
+    /**
+     * The number of connections closed because they were evicted, invalid or broken.
+     */
+    public long getClosedConnections() {
+        return closedConnections.get();
+    }
+
+    public long getBorrowedConnections() {
+        return borrowedConnections.get();
+    }
+
+    public long getBorrowWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(borrowWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JdbcConnectionPool{maxSize=%s, active=%s, idle=%s, created=%s, closed=%s, borrowed=%s, borrowWaitMillis=%s}",
+            maxSize, getActiveConnections(), getIdleConnections(), getCreatedConnections(), getClosedConnections(),
+            getBorrowedConnections(), getBorrowWaitMillis());
+    }
+
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSinceNanos;
+
+        private IdleConnection(Connection connection, long idleSinceNanos) {
+            this.connection = connection;
+            this.idleSinceNanos = idleSinceNanos;
+        }
+    }
+
+    private static final class PoolKey {
+        private final String url;
+        private final String username;
+
+        private PoolKey(String url, String username) {
+            this.url = url;
+            this.username = username;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PoolKey)) {
+                return false;
+            }
+            PoolKey that = (PoolKey) o;
+            return Objects.equals(url, that.url) && Objects.equals(username, that.username);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, username);
+        }
+    }
+}
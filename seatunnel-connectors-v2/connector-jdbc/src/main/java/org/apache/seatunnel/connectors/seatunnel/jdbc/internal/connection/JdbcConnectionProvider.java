@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection;
 
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -67,4 +69,15 @@ public interface JdbcConnectionProvider {
      */
     Connection reestablishConnection()
             throws SQLException, ClassNotFoundException;
+
+    /**
+     * Creates a provider borrowing from the JVM-wide connection pool if the options enable pooling, or one opening
+     * its own connection otherwise.
+     */
+    static JdbcConnectionProvider create(JdbcConnectionOptions jdbcOptions) {
+        if (jdbcOptions.getConnectionPoolSize() > 0) {
+            return new PooledJdbcConnectionProvider(jdbcOptions);
+        }
+        return new SimpleJdbcConnectionProvider(jdbcOptions);
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * JDBC connection provider which borrows its connection from the {@link JdbcConnectionPool} of the url and user,
+ * so that the subtasks of a JVM share their connections instead of each opening its own.
+ */
+public class PooledJdbcConnectionProvider
+    implements JdbcConnectionProvider, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JdbcConnectionOptions jdbcOptions;
+
+    private transient JdbcConnectionPool pool;
+    private transient Connection connection;
+
+    public PooledJdbcConnectionProvider(@NonNull JdbcConnectionOptions jdbcOptions) {
+        this.jdbcOptions = jdbcOptions;
+    }
+
+    public JdbcConnectionPool getPool() {
+        if (pool == null) {
+            pool = JdbcConnectionPool.getOrCreate(jdbcOptions);
+        }
+        return pool;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public boolean isConnectionValid()
+        throws SQLException {
+        return connection != null
+            && connection.isValid(jdbcOptions.getConnectionCheckTimeoutSeconds());
+    }
+
+    @Override
+    public Connection getOrEstablishConnection()
+        throws SQLException, ClassNotFoundException {
+        if (connection == null) {
+            connection = getPool().borrow();
+        }
+        return connection;
+    }
+
+    /**
+     * Returns the connection to the pool instead of closing it.
+     */
+    @Override
+    public void closeConnection() {
+        if (connection != null) {
+            try {
+                getPool().release(connection);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    @Override
+    public Connection reestablishConnection()
+        throws SQLException, ClassNotFoundException {
+        if (connection != null) {
+            try {
+                getPool().invalidate(connection);
+            } finally {
+                connection = null;
+            }
+        }
+        return getOrEstablishConnection();
+    }
+}
@@ -27,71 +27,128 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.sql.Time;
+import java.sql.Timestamp;
 
 /**
  * Base class for all converters that convert between JDBC object and Seatunnel internal object.
+ *
+ * <p>The field readers of a row type are created once and reused for all rows of that type. Every reader fetches
+ * its column with the typed getter and checks {@link ResultSet#wasNull()}, so a column is only fetched once.
  */
 public abstract class AbstractJdbcRowConverter implements JdbcRowConverter {
 
+    private transient SeaTunnelRowType fieldReadersType;
+    private transient JdbcFieldReader[] fieldReaders;
+
     public abstract String converterName();
 
     public AbstractJdbcRowConverter() {
     }
 
     @Override
-    @SuppressWarnings("checkstyle:Indentation")
     public SeaTunnelRow toInternal(ResultSet rs, ResultSetMetaData metaData, SeaTunnelRowType typeInfo) throws SQLException {
+        JdbcFieldReader[] readers = getFieldReaders(typeInfo);
+        Object[] fields = new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            fields[i] = readers[i].read(rs, i + 1);
+        }
+        return new SeaTunnelRow(fields);
+    }
 
-        List<Object> fields = new ArrayList<>();
-        SeaTunnelDataType<?>[] seaTunnelDataTypes = typeInfo.getFieldTypes();
-
-        for (int i = 1; i <= seaTunnelDataTypes.length; i++) {
-            Object seatunnelField;
-            SeaTunnelDataType<?> seaTunnelDataType = seaTunnelDataTypes[i - 1];
-            if (null == rs.getObject(i)) {
-                seatunnelField = null;
+    private JdbcFieldReader[] getFieldReaders(SeaTunnelRowType typeInfo) {
+        if (fieldReadersType != typeInfo) {
+            SeaTunnelDataType<?>[] seaTunnelDataTypes = typeInfo.getFieldTypes();
+            JdbcFieldReader[] readers = new JdbcFieldReader[seaTunnelDataTypes.length];
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = createFieldReader(seaTunnelDataTypes[i]);
             }
-            else if (BasicType.BOOLEAN_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getBoolean(i);
-            } else if (BasicType.BYTE_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getByte(i);
-            } else if (BasicType.SHORT_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getShort(i);
-            } else if (BasicType.INT_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getInt(i);
-            } else if (BasicType.LONG_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getLong(i);
-            } else if (seaTunnelDataType instanceof DecimalType) {
+            fieldReaders = readers;
+            fieldReadersType = typeInfo;
+        }
+        return fieldReaders;
+    }
+
+    /**
+     * Create the reader of a column of the given type.
+     */
+    @SuppressWarnings("checkstyle:Indentation")
+    protected JdbcFieldReader createFieldReader(SeaTunnelDataType<?> seaTunnelDataType) {
+        if (BasicType.BOOLEAN_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                boolean value = rs.getBoolean(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.BYTE_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                byte value = rs.getByte(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.SHORT_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                short value = rs.getShort(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.INT_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                int value = rs.getInt(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.LONG_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                long value = rs.getLong(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (seaTunnelDataType instanceof DecimalType) {
+            return (rs, i) -> {
                 Object value = rs.getObject(i);
-                seatunnelField = value instanceof BigInteger ?
+                return value instanceof BigInteger ?
                     new BigDecimal((BigInteger) value, 0)
                     : value;
-            } else if (BasicType.FLOAT_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getFloat(i);
-            } else if (BasicType.DOUBLE_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getDouble(i);
-            } else if (BasicType.STRING_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getString(i);
-            } else if (LocalTimeType.LOCAL_TIME_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getTime(i).toLocalTime();
-            } else if (LocalTimeType.LOCAL_DATE_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getDate(i).toLocalDate();
-            } else if (LocalTimeType.LOCAL_DATE_TIME_TYPE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getTimestamp(i).toLocalDateTime();
-            } else if (PrimitiveByteArrayType.INSTANCE.equals(seaTunnelDataType)) {
-                seatunnelField = rs.getBytes(i);
-            } else {
-                throw new IllegalStateException("Unexpected value: " + seaTunnelDataType);
-            }
-
-            fields.add(seatunnelField);
+            };
+        } else if (BasicType.FLOAT_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                float value = rs.getFloat(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.DOUBLE_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                double value = rs.getDouble(i);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (BasicType.STRING_TYPE.equals(seaTunnelDataType)) {
+            return ResultSet::getString;
+        } else if (LocalTimeType.LOCAL_TIME_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                Time value = rs.getTime(i);
+                return value == null ? null : value.toLocalTime();
+            };
+        } else if (LocalTimeType.LOCAL_DATE_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                Date value = rs.getDate(i);
+                return value == null ? null : value.toLocalDate();
+            };
+        } else if (LocalTimeType.LOCAL_DATE_TIME_TYPE.equals(seaTunnelDataType)) {
+            return (rs, i) -> {
+                Timestamp value = rs.getTimestamp(i);
+                return value == null ? null : value.toLocalDateTime();
+            };
+        } else if (PrimitiveByteArrayType.INSTANCE.equals(seaTunnelDataType)) {
+            return ResultSet::getBytes;
+        } else {
+            throw new IllegalStateException("Unexpected value: " + seaTunnelDataType);
         }
+    }
 
-        return new SeaTunnelRow(fields.toArray());
+    /**
+     * Reads a column of the current row of a result set.
+     */
+    @FunctionalInterface
+    protected interface JdbcFieldReader {
+        Object read(ResultSet rs, int index) throws SQLException;
     }
 }
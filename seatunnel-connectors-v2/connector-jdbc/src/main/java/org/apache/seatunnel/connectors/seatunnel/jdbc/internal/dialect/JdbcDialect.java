@@ -17,9 +17,21 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MultiRowValuesStatementExecutor;
 
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Represents a dialect of SQL implemented by a particular JDBC system. Dialects should be immutable
@@ -49,4 +61,136 @@ public interface JdbcDialect extends Serializable {
      */
     JdbcDialectTypeMapper getJdbcDialectTypeMapper();
 
+    /**
+     * Get the fetch size of the source if the fetch_size option is not configured.
+     *
+     * @return the fetch size, or 0 to keep the default of the driver
+     */
+    default int defaultFetchSize() {
+        return 0;
+    }
+
+    /**
+     * Get the auto-commit mode of the connections reading the source. Some drivers only stream a result set
+     * with a cursor in a transaction.
+     *
+     * @return the auto-commit mode, or null to keep the default of the connection
+     */
+    default Boolean getReadAutoCommit() {
+        return true;
+    }
+
+    /**
+     * Create a statement that streams its result set in batches of the fetch size, instead of loading the whole
+     * result set into memory.
+     *
+     * @param connection the connection
+     * @param queryTemplate the query
+     * @param fetchSize the fetch size, 0 to keep the default of the driver
+     * @return the statement
+     */
+    default PreparedStatement createPreparedStatement(Connection connection, String queryTemplate, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(queryTemplate, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize == Integer.MIN_VALUE || fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
+
+    /**
+     * Get the query that returns the ascending upper bounds of {@code partitionNum} partitions of the column,
+     * each holding about the same number of rows. The default query buckets the rows with the NTILE window
+     * function.
+     *
+     * @param query the query to partition
+     * @param columnName the numeric partition column
+     * @param partitionNum the number of partitions
+     * @return the boundary query, or empty if the database cannot compute quantiles
+     */
+    default Optional<String> getQuantileBoundaryQuery(String query, String columnName, int partitionNum) {
+        return Optional.of(String.format("SELECT MAX(%s) FROM (SELECT %s, NTILE(%s) OVER (ORDER BY %s) AS st_bucket " +
+            "FROM (%s) tt WHERE %s IS NOT NULL) t GROUP BY st_bucket ORDER BY 1",
+            columnName, columnName, partitionNum, columnName, query, columnName));
+    }
+
+    /**
+     * Get the query that returns the ascending largest keys of {@code partitionNum} partitions of the key columns,
+     * each holding about the same number of rows. The default query buckets the rows with the NTILE window function
+     * and picks the last key of every bucket with ROW_NUMBER.
+     *
+     * @param query the query to partition
+     * @param keyColumns the key columns, e.g. the columns of the primary key
+     * @param partitionNum the number of partitions
+     * @return the boundary query, or empty if the database cannot compute quantiles
+     */
+    default Optional<String> getKeyBoundaryQuery(String query, List<String> keyColumns, int partitionNum) {
+        String columns = String.join(", ", keyColumns);
+        String descColumns = String.join(" DESC, ", keyColumns) + " DESC";
+        String notNull = String.join(" IS NOT NULL AND ", keyColumns) + " IS NOT NULL";
+        return Optional.of(String.format("SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (PARTITION BY st_bucket ORDER BY %s) AS st_rn " +
+            "FROM (SELECT %s, NTILE(%s) OVER (ORDER BY %s) AS st_bucket FROM (%s) tt WHERE %s) t1) t2 WHERE st_rn = 1 ORDER BY %s",
+            columns, columns, descColumns, columns, partitionNum, columns, query, notNull, columns));
+    }
+
+    /**
+     * Create the executor that writes the batches of an insert statement with the bulk load of the database. The
+     * default executor inserts the rows of a batch with multi-row insert statements.
+     *
+     * @param insertQuery the insert statement of the sink
+     * @param batchSize the number of rows of a batch, 0 if unbounded
+     * @return the bulk load executor
+     */
+    default JdbcBatchStatementExecutor<SeaTunnelRow> createBulkLoadStatementExecutor(InsertQuery insertQuery, int batchSize) {
+        return new MultiRowValuesStatementExecutor(insertQuery, batchSize);
+    }
+
+    /**
+     * Quote the identifier of a column. Identifiers are not quoted by default.
+     *
+     * @param identifier the column name
+     * @return the quoted column name
+     */
+    default String quoteIdentifier(String identifier) {
+        return identifier;
+    }
+
+    /**
+     * Get the statement inserting a row into the table.
+     *
+     * @param tableName the table name, used as it is
+     * @param fieldNames the columns of the row
+     * @return the insert statement with one parameter per column
+     */
+    default String getInsertIntoStatement(String tableName, String[] fieldNames) {
+        String columns = Arrays.stream(fieldNames).map(this::quoteIdentifier).collect(Collectors.joining(", "));
+        String placeholders = Arrays.stream(fieldNames).map(fieldName -> "?").collect(Collectors.joining(", "));
+        return String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, columns, placeholders);
+    }
+
+    /**
+     * Get the statement deleting the rows of the table matching all condition columns.
+     *
+     * @param tableName the table name, used as it is
+     * @param conditionFields the columns of the condition, usually the primary key
+     * @return the delete statement with one parameter per condition column
+     */
+    default String getDeleteStatement(String tableName, String[] conditionFields) {
+        String conditions = Arrays.stream(conditionFields)
+            .map(fieldName -> quoteIdentifier(fieldName) + " = ?")
+            .collect(Collectors.joining(" AND "));
+        return String.format("DELETE FROM %s WHERE %s", tableName, conditions);
+    }
+
+    /**
+     * Get the statement inserting a row, or updating the row with the same unique key if there is one. Dialects
+     * without upsert return empty, and rows are written by deleting the key before inserting them instead.
+     *
+     * @param tableName the table name, used as it is
+     * @param fieldNames the columns of the row
+     * @param uniqueKeyFields the columns of the unique key
+     * @return the upsert statement with one parameter per column
+     */
+    default Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDiale
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
 public class DmdbDialect implements JdbcDialect {
+    private static final int DEFAULT_FETCH_SIZE = 1000;
 
     @Override
     public String dialectName() {
@@ -37,4 +38,12 @@ public class DmdbDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new DmdbTypeMapper();
     }
+
+    /**
+     * The DM driver fetches few rows per round trip by default, but streams with any fetch size.
+     */
+    @Override
+    public int defaultFetchSize() {
+        return DEFAULT_FETCH_SIZE;
+    }
 }
@@ -17,11 +17,32 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class MysqlDialect implements JdbcDialect {
+    private static final Logger LOG = LoggerFactory.getLogger(MysqlDialect.class);
+
+    /**
+     * Whether the replaced fetch size has been logged, it is only logged once rather than for every statement.
+     */
+    private transient volatile boolean fetchSizeReplacementLogged;
+
     @Override
     public String dialectName() {
         return "MySQL";
@@ -36,4 +57,48 @@ public class MysqlDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new MySqlTypeMapper();
     }
+
+    /**
+     * MySQL Connector/J loads the whole result set into memory, unless the fetch size is {@link Integer#MIN_VALUE},
+     * which streams the rows one by one, or the connection enables useCursorFetch, which fetches positive fetch
+     * sizes with a server side cursor. A positive fetch size without useCursorFetch is replaced by streaming.
+     */
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection, String queryTemplate, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(queryTemplate, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize > 0 && isCursorFetchEnabled(connection)) {
+            statement.setFetchSize(fetchSize);
+        } else {
+            if (fetchSize > 0 && !fetchSizeReplacementLogged) {
+                fetchSizeReplacementLogged = true;
+                LOG.warn("The fetch_size {} is ignored and the rows are streamed one by one, because the url does not "
+                    + "set useCursorFetch=true", fetchSize);
+            }
+            statement.setFetchSize(Integer.MIN_VALUE);
+        }
+        return statement;
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> createBulkLoadStatementExecutor(InsertQuery insertQuery, int batchSize) {
+        return new MysqlLoadDataStatementExecutor(insertQuery);
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "`" + identifier + "`";
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String updateClause = Arrays.stream(fieldNames)
+            .map(fieldName -> quoteIdentifier(fieldName) + " = VALUES(" + quoteIdentifier(fieldName) + ")")
+            .collect(Collectors.joining(", "));
+        return Optional.of(getInsertIntoStatement(tableName, fieldNames) + " ON DUPLICATE KEY UPDATE " + updateClause);
+    }
+
+    private static boolean isCursorFetchEnabled(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url != null && url.toLowerCase().contains("usecursorfetch=true");
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.TextRowEncoder;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a batch into the table with {@code LOAD DATA LOCAL INFILE}, reading the rows from an in-memory stream instead
+ * of a file. The connection needs {@code allowLoadLocalInfile=true}.
+ */
+public class MysqlLoadDataStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final String loadDataQuery;
+    private final List<SeaTunnelRow> batch;
+
+    private transient Statement st;
+
+    public MysqlLoadDataStatementExecutor(InsertQuery insertQuery) {
+        // the default field and line terminators and escape character are the ones of TextRowEncoder
+        this.loadDataQuery = "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE " + insertQuery.getTable()
+            + " CHARACTER SET utf8mb4 " + insertQuery.getColumns();
+        this.batch = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.st = connection.createStatement();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        batch.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder data = new StringBuilder();
+        for (SeaTunnelRow row : batch) {
+            TextRowEncoder.encode(row, data);
+        }
+        st.unwrap(JdbcStatement.class).setLocalInfileInputStream(
+            new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8)));
+        st.execute(loadDataQuery);
+        batch.clear();
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        if (st != null) {
+            st.close();
+            st = null;
+        }
+    }
+}
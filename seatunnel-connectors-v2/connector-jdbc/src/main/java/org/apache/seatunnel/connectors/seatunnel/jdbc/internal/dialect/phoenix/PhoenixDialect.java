@@ -21,7 +21,12 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.util.List;
+import java.util.Optional;
+
 public class PhoenixDialect implements JdbcDialect {
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
     @Override
     public String dialectName() {
         return "Phoenix";
@@ -36,4 +41,36 @@ public class PhoenixDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new PhoenixTypeMapper();
     }
+
+    /**
+     * The Phoenix thin client streams the result set in frames of the fetch size.
+     */
+    @Override
+    public int defaultFetchSize() {
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    @Override
+    public Optional<String> getQuantileBoundaryQuery(String query, String columnName, int partitionNum) {
+        // Phoenix has no window functions
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getKeyBoundaryQuery(String query, List<String> keyColumns, int partitionNum) {
+        return Optional.empty();
+    }
+
+    /**
+     * Phoenix only knows UPSERT, which inserts or replaces the row with the same primary key.
+     */
+    @Override
+    public String getInsertIntoStatement(String tableName, String[] fieldNames) {
+        return "UPSERT" + JdbcDialect.super.getInsertIntoStatement(tableName, fieldNames).substring("INSERT".length());
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        return Optional.of(getInsertIntoStatement(tableName, fieldNames));
+    }
 }
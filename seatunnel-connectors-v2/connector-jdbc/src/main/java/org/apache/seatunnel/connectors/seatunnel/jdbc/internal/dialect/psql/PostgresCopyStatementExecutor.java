@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MultiRowValuesStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.TextRowEncoder;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams a batch into the table with {@code COPY ... FROM STDIN} in text format. Connections which are not opened
+ * by the PostgreSQL driver, like the ones of the Pivotal Greenplum driver, fall back to multi-row inserts.
+ */
+public class PostgresCopyStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresCopyStatementExecutor.class);
+
+    private final InsertQuery insertQuery;
+    private final int batchSize;
+    private final List<SeaTunnelRow> batch;
+
+    private transient CopyManager copyManager;
+    private transient JdbcBatchStatementExecutor<SeaTunnelRow> fallback;
+
+    public PostgresCopyStatementExecutor(InsertQuery insertQuery, int batchSize) {
+        this.insertQuery = insertQuery;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        if (fallback == null && connection.isWrapperFor(PGConnection.class)) {
+            copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            return;
+        }
+        if (fallback == null) {
+            LOG.warn("The connection is not a PostgreSQL driver connection, write with multi-row inserts instead of COPY");
+            fallback = new MultiRowValuesStatementExecutor(insertQuery, batchSize);
+            for (SeaTunnelRow row : batch) {
+                fallback.addToBatch(row);
+            }
+            batch.clear();
+        }
+        fallback.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        if (fallback != null) {
+            fallback.addToBatch(record);
+        } else {
+            batch.add(record);
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (fallback != null) {
+            fallback.executeBatch();
+            return;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        CopyIn copyIn = copyManager.copyIn(
+            String.format("COPY %s %s FROM STDIN", insertQuery.getTable(), insertQuery.getColumns()));
+        try {
+            StringBuilder line = new StringBuilder();
+            for (SeaTunnelRow row : batch) {
+                line.setLength(0);
+                TextRowEncoder.encode(row, line);
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+            batch.clear();
+        } catch (SQLException e) {
+            if (copyIn.isActive()) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException cancelException) {
+                    e.addSuppressed(cancelException);
+                }
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        copyManager = null;
+        if (fallback != null) {
+            fallback.closeStatements();
+        }
+    }
+}
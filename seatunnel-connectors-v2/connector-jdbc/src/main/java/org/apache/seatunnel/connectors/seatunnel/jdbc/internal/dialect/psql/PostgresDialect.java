@@ -17,11 +17,21 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class PostgresDialect implements JdbcDialect {
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
     @Override
     public String dialectName() {
         return "PostgreSQL";
@@ -36,4 +46,43 @@ public class PostgresDialect implements JdbcDialect {
     public JdbcDialectTypeMapper getJdbcDialectTypeMapper() {
         return new PostgresTypeMapper();
     }
+
+    /**
+     * The PostgreSQL driver loads the whole result set into memory if the fetch size is 0.
+     */
+    @Override
+    public int defaultFetchSize() {
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    /**
+     * The PostgreSQL driver only fetches with a cursor if auto-commit is disabled.
+     */
+    @Override
+    public Boolean getReadAutoCommit() {
+        return false;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "\"" + identifier + "\"";
+    }
+
+    @Override
+    public Optional<String> getUpsertStatement(String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String conflictFields = Arrays.stream(uniqueKeyFields).map(this::quoteIdentifier).collect(Collectors.joining(", "));
+        List<String> keys = Arrays.asList(uniqueKeyFields);
+        String updateClause = Arrays.stream(fieldNames)
+            .filter(fieldName -> !keys.contains(fieldName))
+            .map(fieldName -> quoteIdentifier(fieldName) + " = EXCLUDED." + quoteIdentifier(fieldName))
+            .collect(Collectors.joining(", "));
+        String conflictAction = updateClause.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + updateClause;
+        return Optional.of(String.format("%s ON CONFLICT (%s) %s",
+            getInsertIntoStatement(tableName, fieldNames), conflictFields, conflictAction));
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> createBulkLoadStatementExecutor(InsertQuery insertQuery, int batchSize) {
+        return new PostgresCopyStatementExecutor(insertQuery, batchSize);
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers the changes of a batch by primary key, keeping only the latest change of every key. When the batch is
+ * executed, inserted and updated rows are written by the upsert executor, and deleted rows by the delete executor.
+ *
+ * <p>For dialects without upsert, the upsert executor is a plain insert, and the keys of inserted and updated rows
+ * are deleted before they are inserted.
+ */
+public class BufferReducedStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor;
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor;
+    private final int[] keyIndexes;
+    private final boolean deleteBeforeInsert;
+    private final Map<List<Object>, SeaTunnelRow> buffer = new LinkedHashMap<>();
+
+    public BufferReducedStatementExecutor(
+        JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor,
+        JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor,
+        int[] keyIndexes,
+        boolean deleteBeforeInsert) {
+        this.upsertExecutor = upsertExecutor;
+        this.deleteExecutor = deleteExecutor;
+        this.keyIndexes = keyIndexes;
+        this.deleteBeforeInsert = deleteBeforeInsert;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        upsertExecutor.prepareStatements(connection);
+        deleteExecutor.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        buffer.put(getKey(record), record);
+    }
+
+    private List<Object> getKey(SeaTunnelRow row) {
+        List<Object> key = new ArrayList<>(keyIndexes.length);
+        for (int keyIndex : keyIndexes) {
+            key.add(row.getField(keyIndex));
+        }
+        return key;
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        for (SeaTunnelRow row : buffer.values()) {
+            if (isUpsert(row.getRowKind())) {
+                if (deleteBeforeInsert) {
+                    deleteExecutor.addToBatch(row);
+                }
+                upsertExecutor.addToBatch(row);
+            } else {
+                deleteExecutor.addToBatch(row);
+            }
+        }
+        // the executors keep the rows until they are written, so a retry writes them again
+        buffer.clear();
+        deleteExecutor.executeBatch();
+        upsertExecutor.executeBatch();
+    }
+
+    private static boolean isUpsert(RowKind rowKind) {
+        return rowKind == RowKind.INSERT || rowKind == RowKind.UPDATE_AFTER;
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        upsertExecutor.closeStatements();
+        deleteExecutor.closeStatements();
+    }
+}
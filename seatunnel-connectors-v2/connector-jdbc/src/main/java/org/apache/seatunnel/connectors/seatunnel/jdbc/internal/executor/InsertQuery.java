@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An {@code INSERT INTO table [(columns)] VALUES (?, ...)} statement whose values are all parameters, which can be
+ * rewritten into a bulk load of the same table.
+ */
+public class InsertQuery implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Pattern INSERT_PATTERN = Pattern.compile(
+        "^\\s*insert\\s+into\\s+(?<table>\\S+?)\\s*(?<columns>\\([^)]*\\))?\\s*values\\s*"
+            + "(?<values>\\(\\s*\\?\\s*(?:,\\s*\\?\\s*)*\\))\\s*;?\\s*$",
+        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final String table;
+    private final String columns;
+    private final String valuesGroup;
+    private final int parameterCount;
+
+    private InsertQuery(String table, String columns, String valuesGroup) {
+        this.table = table;
+        this.columns = columns;
+        this.valuesGroup = valuesGroup;
+        this.parameterCount = valuesGroup.length() - valuesGroup.replace("?", "").length();
+    }
+
+    /**
+     * Parses the insert statement, returns empty if the statement is not a plain insert of parameters.
+     */
+    public static Optional<InsertQuery> parse(String query) {
+        Matcher matcher = INSERT_PATTERN.matcher(query);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new InsertQuery(matcher.group("table"), matcher.group("columns"), matcher.group("values")));
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * The column list including the parentheses, or an empty string if the statement inserts all columns.
+     */
+    public String getColumns() {
+        return columns == null ? "" : columns;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Returns the insert statement with the given number of value groups.
+     */
+    public String toMultiRowQuery(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table);
+        if (columns != null) {
+            sql.append(' ').append(columns);
+        }
+        sql.append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(valuesGroup);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts a batch with multi-row {@code INSERT ... VALUES (...), (...)} statements, so a batch takes one round trip
+ * per statement instead of one per row with drivers that do not rewrite batches.
+ */
+public class MultiRowValuesStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    /**
+     * The number of parameters of a statement accepted by all supported drivers.
+     */
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    private final InsertQuery insertQuery;
+    private final int rowsPerStatement;
+    private final List<SeaTunnelRow> batch;
+
+    private transient Connection connection;
+    private transient PreparedStatement st;
+
+    public MultiRowValuesStatementExecutor(InsertQuery insertQuery, int batchSize) {
+        this.insertQuery = insertQuery;
+        int maxRows = Math.max(1, MAX_PARAMETERS / Math.max(1, insertQuery.getParameterCount()));
+        this.rowsPerStatement = batchSize > 0 ? Math.min(batchSize, maxRows) : maxRows;
+        this.batch = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.st = connection.prepareStatement(insertQuery.toMultiRowQuery(rowsPerStatement));
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) {
+        batch.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        while (batch.size() >= rowsPerStatement) {
+            execute(st, rowsPerStatement);
+        }
+        if (!batch.isEmpty()) {
+            try (PreparedStatement remaining = connection.prepareStatement(insertQuery.toMultiRowQuery(batch.size()))) {
+                execute(remaining, batch.size());
+            }
+        }
+    }
+
+    /**
+     * Inserts the first rows of the batch, and removes them from the batch once inserted.
+     */
+    private void execute(PreparedStatement statement, int rows) throws SQLException {
+        int columns = insertQuery.getParameterCount();
+        for (int i = 0; i < rows; i++) {
+            Object[] fields = batch.get(i).getFields();
+            if (fields.length != columns) {
+                throw new SQLException(String.format("The row has %s fields, but the insert statement has %s parameters",
+                    fields.length, columns));
+            }
+            for (int j = 0; j < columns; j++) {
+                statement.setObject(i * columns + j + 1, fields[j]);
+            }
+        }
+        statement.executeUpdate();
+        batch.subList(0, rows).clear();
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        if (st != null) {
+            st.close();
+            st = null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Encodes rows in the tab-separated text format read by PostgreSQL {@code COPY ... FROM STDIN} and MySQL
+ * {@code LOAD DATA}: {@code \N} stands for null, and backslash, tab, newline and carriage return are escaped with a
+ * backslash.
+ */
+public final class TextRowEncoder {
+
+    private TextRowEncoder() {
+    }
+
+    /**
+     * Appends the row followed by a newline.
+     */
+    public static void encode(SeaTunnelRow row, StringBuilder output) throws SQLException {
+        Object[] fields = row.getFields();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                output.append('\t');
+            }
+            encodeField(fields[i], output);
+        }
+        output.append('\n');
+    }
+
+    private static void encodeField(Object field, StringBuilder output) throws SQLException {
+        if (field == null) {
+            output.append("\\N");
+        } else if (field instanceof Boolean) {
+            output.append((Boolean) field ? '1' : '0');
+        } else if (field instanceof Number && !(field instanceof BigDecimal)) {
+            output.append(field);
+        } else if (field instanceof BigDecimal) {
+            output.append(((BigDecimal) field).toPlainString());
+        } else if (field instanceof LocalDateTime) {
+            output.append(Timestamp.valueOf((LocalDateTime) field));
+        } else if (field instanceof LocalDate || field instanceof LocalTime) {
+            output.append(field);
+        } else if (field instanceof String) {
+            escape((String) field, output);
+        } else {
+            throw new SQLException("Bulk load does not support values of " + field.getClass().getName());
+        }
+    }
+
+    private static void escape(String value, StringBuilder output) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    output.append("\\\\");
+                    break;
+                case '\t':
+                    output.append("\\t");
+                    break;
+                case '\n':
+                    output.append("\\n");
+                    break;
+                case '\r':
+                    output.append("\\r");
+                    break;
+                default:
+                    output.append(c);
+            }
+        }
+    }
+}
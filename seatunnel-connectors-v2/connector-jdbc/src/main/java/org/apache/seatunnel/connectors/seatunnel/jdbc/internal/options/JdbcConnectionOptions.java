@@ -26,8 +26,11 @@ public class JdbcConnectionOptions
 
     private static final int DEFAULT_CONNECTION_CHECK_TIMEOUT_SEC = 30;
     private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final int DEFAULT_CONNECTION_POOL_SIZE = 0;
+    private static final long DEFAULT_CONNECTION_POOL_IDLE_TIMEOUT_MS = 60_000L;
     private static final int DEFAULT_BATCH_SIZE = 300;
     private static final int DEFAULT_BATCH_INTERVAL_MS = 1000;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
     private static final int DEFAULT_MAX_COMMIT_ATTEMPTS = 3;
     private static final int DEFAULT_TRANSACTION_TIMEOUT_SEC = -1;
 
@@ -35,12 +38,15 @@ public class JdbcConnectionOptions
     public String driverName;
     public int connectionCheckTimeoutSeconds = DEFAULT_CONNECTION_CHECK_TIMEOUT_SEC;
     public int maxRetries = DEFAULT_MAX_RETRIES;
+    public int connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+    public long connectionPoolIdleTimeoutMs = DEFAULT_CONNECTION_POOL_IDLE_TIMEOUT_MS;
     public String username;
     public String password;
     public String query;
 
     public int batchSize = DEFAULT_BATCH_SIZE;
     public int batchIntervalMs = DEFAULT_BATCH_INTERVAL_MS;
+    public int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
 
     public String xaDataSourceClassName;
 
@@ -67,6 +73,17 @@ public class JdbcConnectionOptions
         return maxRetries;
     }
 
+    /**
+     * The maximum number of connections of the JVM-wide pool of the url and user, 0 disables pooling.
+     */
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    public long getConnectionPoolIdleTimeoutMs() {
+        return connectionPoolIdleTimeoutMs;
+    }
+
     public Optional<String> getUsername() {
         return Optional.ofNullable(username);
     }
@@ -87,6 +104,10 @@ public class JdbcConnectionOptions
         return batchIntervalMs;
     }
 
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public String getXaDataSourceClassName() {
         return xaDataSourceClassName;
     }
@@ -108,11 +129,14 @@ public class JdbcConnectionOptions
         private String driverName;
         private int connectionCheckTimeoutSeconds = DEFAULT_CONNECTION_CHECK_TIMEOUT_SEC;
         private int maxRetries = DEFAULT_MAX_RETRIES;
+        private int connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+        private long connectionPoolIdleTimeoutMs = DEFAULT_CONNECTION_POOL_IDLE_TIMEOUT_MS;
         private String username;
         private String password;
         private String query;
         private int batchSize = DEFAULT_BATCH_SIZE;
         private int batchIntervalMs = DEFAULT_BATCH_INTERVAL_MS;
+        private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
         private String xaDataSourceClassName;
         private int maxCommitAttempts = DEFAULT_MAX_COMMIT_ATTEMPTS;
         private int transactionTimeoutSec = DEFAULT_TRANSACTION_TIMEOUT_SEC;
@@ -140,6 +164,16 @@ public class JdbcConnectionOptions
             return this;
         }
 
+        public JdbcConnectionOptionsBuilder withConnectionPoolSize(int connectionPoolSize) {
+            this.connectionPoolSize = connectionPoolSize;
+            return this;
+        }
+
+        public JdbcConnectionOptionsBuilder withConnectionPoolIdleTimeoutMs(long connectionPoolIdleTimeoutMs) {
+            this.connectionPoolIdleTimeoutMs = connectionPoolIdleTimeoutMs;
+            return this;
+        }
+
         public JdbcConnectionOptionsBuilder withUsername(String username) {
             this.username = username;
             return this;
@@ -165,6 +199,11 @@ public class JdbcConnectionOptions
             return this;
         }
 
+        public JdbcConnectionOptionsBuilder withMaxInFlightBatches(int maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
         public JdbcConnectionOptionsBuilder withXaDataSourceClassName(String xaDataSourceClassName) {
             this.xaDataSourceClassName = xaDataSourceClassName;
             return this;
@@ -184,8 +223,11 @@ public class JdbcConnectionOptions
             JdbcConnectionOptions jdbcConnectionOptions = new JdbcConnectionOptions();
             jdbcConnectionOptions.batchSize = this.batchSize;
             jdbcConnectionOptions.batchIntervalMs = this.batchIntervalMs;
+            jdbcConnectionOptions.maxInFlightBatches = this.maxInFlightBatches;
             jdbcConnectionOptions.driverName = this.driverName;
             jdbcConnectionOptions.maxRetries = this.maxRetries;
+            jdbcConnectionOptions.connectionPoolSize = this.connectionPoolSize;
+            jdbcConnectionOptions.connectionPoolIdleTimeoutMs = this.connectionPoolIdleTimeoutMs;
             jdbcConnectionOptions.password = this.password;
             jdbcConnectionOptions.connectionCheckTimeoutSeconds = this.connectionCheckTimeoutSeconds;
             jdbcConnectionOptions.query = this.query;
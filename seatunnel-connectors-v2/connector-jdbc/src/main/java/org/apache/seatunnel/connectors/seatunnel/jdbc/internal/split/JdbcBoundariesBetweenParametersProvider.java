@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This query parameters generator splits the range of a numeric column at the given upper bounds, e.g.
+ * the quantiles of the column. Unlike {@link JdbcNumericBetweenParametersProvider}, the produced
+ * from/to pairs have different widths but cover about the same number of rows on skewed data.
+ *
+ * <p>Bounds outside of minVal and maxVal are ignored, and the last pair always ends at maxVal.
+ */
+public class JdbcBoundariesBetweenParametersProvider implements JdbcParameterValuesProvider {
+
+    private final long minVal;
+    private final long maxVal;
+    private final List<Long> upperBounds;
+
+    /**
+     * @param minVal the lower bound of the produced "from" values
+     * @param maxVal the upper bound of the produced "to" values
+     * @param upperBounds the ascending upper bounds of the produced from/to pairs
+     */
+    public JdbcBoundariesBetweenParametersProvider(long minVal, long maxVal, List<Long> upperBounds) {
+        checkArgument(minVal <= maxVal, "minVal must not be larger than maxVal");
+        this.minVal = minVal;
+        this.maxVal = maxVal;
+        this.upperBounds = upperBounds;
+    }
+
+    @Override
+    public Serializable[][] getParameterValues() {
+        List<Serializable[]> parameters = new ArrayList<>();
+        long start = minVal;
+        for (Long bound : upperBounds) {
+            if (bound == null || bound < start || bound >= maxVal) {
+                continue;
+            }
+            parameters.add(new Long[] {start, bound});
+            start = bound + 1;
+        }
+        parameters.add(new Long[] {start, maxVal});
+        return parameters.toArray(new Serializable[0][]);
+    }
+}
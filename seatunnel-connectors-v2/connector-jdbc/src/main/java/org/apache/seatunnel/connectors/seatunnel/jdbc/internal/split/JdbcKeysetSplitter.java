@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Splits a query by the ascending boundaries of one or more key columns, e.g. the columns of a composite primary
+ * key. Every split seeks to its range of keys with a keyset predicate like {@code (a, b) > (?, ?) AND (a, b) <= (?, ?)}
+ * rather than scanning a numeric range, so it works for any comparable key, like strings, decimals or timestamps.
+ *
+ * <p>The row value comparisons are expanded into {@code a > ? OR (a = ? AND b > ?)}, as not every database supports
+ * them. The first split also reads the rows with NULL keys, and the last split is not bounded above. A composite key
+ * with a NULL column, like {@code (5, NULL)}, may be greater than a boundary by its first columns, so the other splits
+ * skip the keys with a NULL column to read it only once.
+ */
+public class JdbcKeysetSplitter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String query;
+    private final List<String> keyColumns;
+    private final List<Object[]> boundaries;
+
+    /**
+     * @param query the query to split
+     * @param keyColumns the key columns
+     * @param boundaries the ascending keys at which the query is split, the last key is the largest key
+     */
+    public JdbcKeysetSplitter(String query, List<String> keyColumns, List<Object[]> boundaries) {
+        checkArgument(!keyColumns.isEmpty(), "The key columns must not be empty");
+        this.query = query;
+        this.keyColumns = keyColumns;
+        this.boundaries = boundaries;
+    }
+
+    public List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public List<JdbcSourceSplit> createSplits() {
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        // the largest key does not split anything
+        int cutNum = Math.max(0, boundaries.size() - 1);
+        if (cutNum == 0) {
+            splits.add(new JdbcSourceSplit(null, 0, query));
+            return splits;
+        }
+        String nullKeys = keyColumns.stream()
+            .map(column -> column + " IS NULL")
+            .collect(Collectors.joining(" OR "));
+        String notNullKeys = keyColumns.stream()
+            .map(column -> column + " IS NOT NULL")
+            .collect(Collectors.joining(" AND "));
+        for (int i = 0; i <= cutNum; i++) {
+            List<String> predicates = new ArrayList<>();
+            List<Object> parameterValues = new ArrayList<>();
+            if (i > 0) {
+                if (keyColumns.size() > 1) {
+                    predicates.add("(" + notNullKeys + ")");
+                }
+                predicates.add("(" + greaterThan(keyColumns) + ")");
+                parameterValues.addAll(greaterThanValues(boundaries.get(i - 1)));
+            }
+            if (i < cutNum) {
+                String lessOrEqual = lessOrEqual(keyColumns);
+                predicates.add(i == 0 ? "(" + lessOrEqual + " OR " + nullKeys + ")" : "(" + lessOrEqual + ")");
+                parameterValues.addAll(lessOrEqualValues(boundaries.get(i)));
+            }
+            String splitQuery = String.format("SELECT * FROM (%s) tt WHERE %s", query, String.join(" AND ", predicates));
+            splits.add(new JdbcSourceSplit(parameterValues.toArray(), i, splitQuery));
+        }
+        return splits;
+    }
+
+    /**
+     * Returns the predicate {@code (k1, ..., kn) > (?, ..., ?)}, whose parameters are {@link #greaterThanValues}.
+     */
+    public static String greaterThan(List<String> keyColumns) {
+        return compare(keyColumns, false);
+    }
+
+    public static List<Object> greaterThanValues(Object[] key) {
+        return compareValues(key, false);
+    }
+
+    /**
+     * Returns the predicate {@code (k1, ..., kn) <= (?, ..., ?)}, whose parameters are {@link #lessOrEqualValues}.
+     */
+    public static String lessOrEqual(List<String> keyColumns) {
+        return compare(keyColumns, true);
+    }
+
+    public static List<Object> lessOrEqualValues(Object[] key) {
+        return compareValues(key, true);
+    }
+
+    private static String compare(List<String> keyColumns, boolean lessOrEqual) {
+        if (keyColumns.size() == 1) {
+            return keyColumns.get(0) + (lessOrEqual ? " <= ?" : " > ?");
+        }
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            terms.add(prefixEquals(keyColumns, i) + keyColumns.get(i) + (lessOrEqual ? " < ?" : " > ?"));
+        }
+        if (lessOrEqual) {
+            terms.add(prefixEquals(keyColumns, keyColumns.size() - 1) + keyColumns.get(keyColumns.size() - 1) + " = ?");
+        }
+        return terms.stream()
+            .map(term -> "(" + term + ")")
+            .collect(Collectors.joining(" OR "));
+    }
+
+    private static String prefixEquals(List<String> keyColumns, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(keyColumns.get(i)).append(" = ? AND ");
+        }
+        return builder.toString();
+    }
+
+    private static List<Object> compareValues(Object[] key, boolean lessOrEqual) {
+        if (key.length == 1) {
+            return Arrays.asList(key);
+        }
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < key.length; i++) {
+            values.addAll(Arrays.asList(key).subList(0, i + 1));
+        }
+        if (lessOrEqual) {
+            values.addAll(Arrays.asList(key));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * This query parameters generator maps the from/to pairs of epoch days or epoch microseconds, which are produced by
+ * another generator, to {@link Date} or {@link Timestamp} parameters of a DATE or TIMESTAMP column.
+ *
+ * <p>The "to" timestamps are extended to the last nanosecond of their microsecond, so the closed ranges do not miss
+ * rows of columns with a higher precision.
+ */
+public class JdbcTemporalBetweenParametersProvider implements JdbcParameterValuesProvider {
+
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private final JdbcParameterValuesProvider epochParametersProvider;
+    private final SqlType columnType;
+
+    public JdbcTemporalBetweenParametersProvider(JdbcParameterValuesProvider epochParametersProvider, SqlType columnType) {
+        checkArgument(columnType == SqlType.DATE || columnType == SqlType.TIMESTAMP,
+            "Column type must be DATE or TIMESTAMP, but is %s", columnType);
+        this.epochParametersProvider = epochParametersProvider;
+        this.columnType = columnType;
+    }
+
+    @Override
+    public Serializable[][] getParameterValues() {
+        Serializable[][] parameters = epochParametersProvider.getParameterValues();
+        for (int i = 0; i < parameters.length; i++) {
+            long from = (Long) parameters[i][0];
+            long to = (Long) parameters[i][1];
+            if (columnType == SqlType.DATE) {
+                parameters[i] = new Date[] {Date.valueOf(LocalDate.ofEpochDay(from)), Date.valueOf(LocalDate.ofEpochDay(to))};
+            } else {
+                Timestamp toTimestamp = fromEpochMicros(to);
+                toTimestamp.setNanos(toTimestamp.getNanos() + NANOS_PER_MICRO - 1);
+                parameters[i] = new Timestamp[] {fromEpochMicros(from), toTimestamp};
+            }
+        }
+        return parameters;
+    }
+
+    public static long toEpochMicros(Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), MILLIS_PER_SECOND) * MICROS_PER_SECOND + timestamp.getNanos() / NANOS_PER_MICRO;
+    }
+
+    public static Timestamp fromEpochMicros(long epochMicros) {
+        Timestamp timestamp = new Timestamp(Math.floorDiv(epochMicros, MICROS_PER_SECOND) * MILLIS_PER_SECOND);
+        timestamp.setNanos((int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO);
+        return timestamp;
+    }
+}
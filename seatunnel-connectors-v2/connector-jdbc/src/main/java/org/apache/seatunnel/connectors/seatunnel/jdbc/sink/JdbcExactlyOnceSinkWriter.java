@@ -23,11 +23,11 @@ import static com.google.common.base.Preconditions.checkState;
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaFacade;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaGroupOps;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.xa.XaGroupOpsImpl;
@@ -75,6 +75,7 @@ public class JdbcExactlyOnceSinkWriter
         JobContext context,
         JdbcStatementBuilder<SeaTunnelRow> statementBuilder,
         JdbcSinkOptions jdbcSinkOptions,
+        SeaTunnelRowType seaTunnelRowType,
         List<JdbcSinkState> states) {
         checkArgument(
             jdbcSinkOptions.getJdbcConnectionOptions().getMaxRetries() == 0,
@@ -89,10 +90,12 @@ public class JdbcExactlyOnceSinkWriter
         this.xaFacade = XaFacade.fromJdbcConnectionOptions(
             jdbcSinkOptions.getJdbcConnectionOptions());
 
+        // batches are written synchronously, the XA transaction is started and prepared by the writer thread
         this.outputFormat = new JdbcOutputFormat<>(
             xaFacade,
             jdbcSinkOptions.getJdbcConnectionOptions(),
-            () -> new SimpleBatchStatementExecutor<>(jdbcSinkOptions.getJdbcConnectionOptions().getQuery(), statementBuilder));
+            new JdbcSinkStatementExecutorFactory(jdbcSinkOptions, seaTunnelRowType, statementBuilder),
+            0);
 
         this.xaGroupOps = new XaGroupOpsImpl(xaFacade);
     }
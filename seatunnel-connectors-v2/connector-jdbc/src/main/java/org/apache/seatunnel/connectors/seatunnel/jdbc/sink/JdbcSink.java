@@ -27,7 +27,9 @@ import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcAggregatedCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSinkState;
@@ -65,6 +67,16 @@ public class JdbcSink
         throws PrepareFailException {
         this.pluginConfig = pluginConfig;
         this.jdbcSinkOptions = new JdbcSinkOptions(this.pluginConfig);
+        if (jdbcSinkOptions.getTable() != null) {
+            if (jdbcSinkOptions.getPrimaryKeys().isEmpty()) {
+                throw new PrepareFailException("jdbc", PluginType.SINK, "table requires primary_keys");
+            }
+        } else if (jdbcSinkOptions.getJdbcConnectionOptions().getQuery() == null) {
+            throw new PrepareFailException("jdbc", PluginType.SINK, "either query or table is required");
+        } else if (jdbcSinkOptions.isBulkLoad() && !InsertQuery.parse(jdbcSinkOptions.getJdbcConnectionOptions().getQuery()).isPresent()) {
+            throw new PrepareFailException("jdbc", PluginType.SINK,
+                "bulk_load requires a query like INSERT INTO table (columns) VALUES (?, ...) whose values are all parameters");
+        }
     }
 
     @Override
@@ -79,13 +91,15 @@ public class JdbcSink
                 jobContext,
                 statementBuilder,
                 jdbcSinkOptions,
+                seaTunnelRowType,
                 new ArrayList<>()
             );
         } else {
             sinkWriter = new JdbcSinkWriter(
                 context,
                 statementBuilder,
-                jdbcSinkOptions);
+                jdbcSinkOptions,
+                seaTunnelRowType);
         }
 
         return sinkWriter;
@@ -101,6 +115,7 @@ public class JdbcSink
                 jobContext,
                 statementBuilder,
                 jdbcSinkOptions,
+                seaTunnelRowType,
                 states
             );
         }
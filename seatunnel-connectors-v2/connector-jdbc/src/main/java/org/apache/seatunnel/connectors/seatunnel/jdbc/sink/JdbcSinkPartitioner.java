@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Routes the rows of a sink writer to one of its connections.
+ *
+ * <p>Rows are routed by the hash of their primary key, so all changes of a key are written in order by the same
+ * connection. Without primary key the rows are distributed round-robin.
+ */
+public class JdbcSinkPartitioner implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The multiplier of {@link Arrays#hashCode(Object[])}.
+     */
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final int[] keyIndexes;
+    private final int partitions;
+
+    private transient int nextPartition;
+
+    public JdbcSinkPartitioner(int[] keyIndexes, int partitions) {
+        checkArgument(partitions > 0, "partitions must be positive, but is %s", partitions);
+        this.keyIndexes = keyIndexes;
+        this.partitions = partitions;
+    }
+
+    public static int[] getKeyIndexes(SeaTunnelRowType rowType, List<String> primaryKeys) {
+        int[] keyIndexes = new int[primaryKeys.size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            keyIndexes[i] = rowType.indexOf(primaryKeys.get(i));
+        }
+        return keyIndexes;
+    }
+
+    public int partition(SeaTunnelRow row) {
+        if (partitions == 1) {
+            return 0;
+        }
+        if (keyIndexes.length == 0) {
+            int partition = nextPartition;
+            nextPartition = (partition + 1) % partitions;
+            return partition;
+        }
+        return Math.floorMod(keyHashCode(row, keyIndexes), partitions);
+    }
+
+    public static int keyHashCode(SeaTunnelRow row, int[] keyIndexes) {
+        int hash = 1;
+        for (int keyIndex : keyIndexes) {
+            Object field = row.getField(keyIndex);
+            hash = HASH_MULTIPLIER * hash + (field instanceof byte[] ? Arrays.hashCode((byte[]) field) : Objects.hashCode(field));
+        }
+        return hash;
+    }
+}
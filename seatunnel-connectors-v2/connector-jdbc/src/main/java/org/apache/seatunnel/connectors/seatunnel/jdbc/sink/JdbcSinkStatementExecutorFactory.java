@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertQuery;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.JdbcUtils;
+
+import java.util.Optional;
+
+/**
+ * Creates the statement executor of a sink writer connection.
+ *
+ * <p>With a {@code query} the rows are written by the query, optionally as bulk load. With a {@code table} the
+ * statements are generated by the dialect, and the changes of a batch are reduced to the latest change per primary
+ * key before they are upserted or deleted.
+ */
+public class JdbcSinkStatementExecutorFactory
+    implements JdbcOutputFormat.StatementExecutorFactory<JdbcBatchStatementExecutor<SeaTunnelRow>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JdbcSinkOptions jdbcSinkOptions;
+    private final SeaTunnelRowType seaTunnelRowType;
+    private final JdbcStatementBuilder<SeaTunnelRow> statementBuilder;
+
+    public JdbcSinkStatementExecutorFactory(
+        JdbcSinkOptions jdbcSinkOptions,
+        SeaTunnelRowType seaTunnelRowType,
+        JdbcStatementBuilder<SeaTunnelRow> statementBuilder) {
+        this.jdbcSinkOptions = jdbcSinkOptions;
+        this.seaTunnelRowType = seaTunnelRowType;
+        this.statementBuilder = statementBuilder;
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> get() {
+        JdbcConnectionOptions jdbcConnectionOptions = jdbcSinkOptions.getJdbcConnectionOptions();
+        if (jdbcSinkOptions.getTable() != null) {
+            return createReducedStatementExecutor(JdbcDialectLoader.load(jdbcConnectionOptions.getUrl()));
+        }
+        if (jdbcSinkOptions.isBulkLoad()) {
+            InsertQuery insertQuery = InsertQuery.parse(jdbcConnectionOptions.getQuery())
+                .orElseThrow(() -> new IllegalArgumentException("Not a bulk loadable query: " + jdbcConnectionOptions.getQuery()));
+            return JdbcDialectLoader.load(jdbcConnectionOptions.getUrl())
+                .createBulkLoadStatementExecutor(insertQuery, jdbcConnectionOptions.getBatchSize());
+        }
+        return new SimpleBatchStatementExecutor<>(jdbcConnectionOptions.getQuery(), statementBuilder);
+    }
+
+    private JdbcBatchStatementExecutor<SeaTunnelRow> createReducedStatementExecutor(JdbcDialect dialect) {
+        String table = jdbcSinkOptions.getTable();
+        String[] fieldNames = seaTunnelRowType.getFieldNames();
+        String[] keyNames = jdbcSinkOptions.getPrimaryKeys().toArray(new String[0]);
+        int[] keyIndexes = JdbcSinkPartitioner.getKeyIndexes(seaTunnelRowType, jdbcSinkOptions.getPrimaryKeys());
+
+        Optional<String> upsertStatement = dialect.getUpsertStatement(table, fieldNames, keyNames);
+        JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor = new SimpleBatchStatementExecutor<>(
+            upsertStatement.orElseGet(() -> dialect.getInsertIntoStatement(table, fieldNames)),
+            (st, row) -> JdbcUtils.setRecordToStatement(st, null, row));
+        JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor = new SimpleBatchStatementExecutor<>(
+            dialect.getDeleteStatement(table, keyNames),
+            (st, row) -> {
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    st.setObject(i + 1, row.getField(keyIndexes[i]));
+                }
+            });
+        return new BufferReducedStatementExecutor(upsertExecutor, deleteExecutor, keyIndexes, !upsertStatement.isPresent());
+    }
+}
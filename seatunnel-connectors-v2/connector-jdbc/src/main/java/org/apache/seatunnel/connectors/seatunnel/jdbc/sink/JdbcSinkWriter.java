@@ -19,47 +19,66 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
 
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkOptions;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcStatementBuilder;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSinkState;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.XidInfo;
 
 import org.apache.commons.lang3.SerializationUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Writes rows through {@code connection_num} connections, each with its own batch and flusher. Rows are routed to
+ * the connections by {@link JdbcSinkPartitioner}.
+ */
 public class JdbcSinkWriter implements SinkWriter<SeaTunnelRow, XidInfo, JdbcSinkState> {
 
-    private final JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>> outputFormat;
+    private final List<JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>>> outputFormats;
+    private final JdbcSinkPartitioner partitioner;
     private final SinkWriter.Context context;
     private transient boolean isOpen;
 
     public JdbcSinkWriter(
         SinkWriter.Context context,
         JdbcStatementBuilder<SeaTunnelRow> statementBuilder,
-        JdbcSinkOptions jdbcSinkOptions) {
-
-        JdbcConnectionProvider connectionProvider = new SimpleJdbcConnectionProvider(jdbcSinkOptions.getJdbcConnectionOptions());
+        JdbcSinkOptions jdbcSinkOptions,
+        SeaTunnelRowType seaTunnelRowType) {
 
         this.context = context;
-        this.outputFormat = new JdbcOutputFormat<>(
-            connectionProvider,
-            jdbcSinkOptions.getJdbcConnectionOptions(),
-            () -> new SimpleBatchStatementExecutor<>(jdbcSinkOptions.getJdbcConnectionOptions().getQuery(), statementBuilder));
+        this.outputFormats = new ArrayList<>(jdbcSinkOptions.getConnectionNum());
+        for (int i = 0; i < jdbcSinkOptions.getConnectionNum(); i++) {
+            JdbcConnectionProvider connectionProvider = JdbcConnectionProvider.create(jdbcSinkOptions.getJdbcConnectionOptions());
+            outputFormats.add(new JdbcOutputFormat<>(
+                connectionProvider,
+                jdbcSinkOptions.getJdbcConnectionOptions(),
+                new JdbcSinkStatementExecutorFactory(jdbcSinkOptions, seaTunnelRowType, statementBuilder)));
+        }
+        this.partitioner = new JdbcSinkPartitioner(
+            JdbcSinkPartitioner.getKeyIndexes(seaTunnelRowType, jdbcSinkOptions.getPrimaryKeys()),
+            jdbcSinkOptions.getConnectionNum());
     }
 
     private void tryOpen() throws IOException {
         if (!isOpen) {
             isOpen = true;
-            outputFormat.open();
+            for (JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>> outputFormat : outputFormats) {
+                outputFormat.open();
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        for (JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>> outputFormat : outputFormats) {
+            outputFormat.flush();
         }
     }
 
@@ -73,14 +92,14 @@ public class JdbcSinkWriter implements SinkWriter<SeaTunnelRow, XidInfo, JdbcSin
         throws IOException {
         tryOpen();
         SeaTunnelRow copy = SerializationUtils.clone(element);
-        outputFormat.writeRecord(copy);
+        outputFormats.get(partitioner.partition(copy)).writeRecord(copy);
     }
 
     @Override
     public Optional<XidInfo> prepareCommit()
         throws IOException {
         tryOpen();
-        outputFormat.flush();
+        flush();
         return Optional.empty();
     }
 
@@ -93,7 +112,9 @@ public class JdbcSinkWriter implements SinkWriter<SeaTunnelRow, XidInfo, JdbcSin
     public void close()
         throws IOException {
         tryOpen();
-        outputFormat.flush();
-        outputFormat.close();
+        flush();
+        for (JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>> outputFormat : outputFormats) {
+            outputFormat.close();
+        }
     }
 }
@@ -23,18 +23,21 @@ import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportCoordinate;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcKeysetSplitter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcTemporalBetweenParametersProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
@@ -44,23 +47,32 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+/**
+ * Reads the splits of the query in coordinated mode: a single enumerator hands the splits out to the readers on
+ * request, so that faster readers read more splits.
+ */
 @AutoService(SeaTunnelSource.class)
-public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit, JdbcSourceState> {
+public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit, JdbcSourceState>, SupportCoordinate {
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
 
     private JdbcSourceOptions jdbcSourceOptions;
     private SeaTunnelRowType typeInfo;
 
     private JdbcDialect jdbcDialect;
-    private JdbcInputFormat inputFormat;
+    private List<String> keyColumns;
     private PartitionParameter partitionParameter;
     private JdbcConnectionProvider jdbcConnectionProvider;
 
@@ -74,24 +86,29 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
     @Override
     public void prepare(Config pluginConfig) throws PrepareFailException {
         jdbcSourceOptions = new JdbcSourceOptions(pluginConfig);
-        jdbcConnectionProvider = new SimpleJdbcConnectionProvider(jdbcSourceOptions.getJdbcConnectionOptions());
+        jdbcConnectionProvider = JdbcConnectionProvider.create(jdbcSourceOptions.getJdbcConnectionOptions());
         query = jdbcSourceOptions.getJdbcConnectionOptions().query;
+        if (query == null) {
+            throw new PrepareFailException("jdbc", PluginType.SOURCE, "query is required");
+        }
         jdbcDialect = JdbcDialectLoader.load(jdbcSourceOptions.getJdbcConnectionOptions().getUrl());
         try {
             typeInfo = initTableField(jdbcConnectionProvider.getOrEstablishConnection());
             partitionParameter = initPartitionParameterAndExtendSql(jdbcConnectionProvider.getOrEstablishConnection());
         } catch (Exception e) {
             throw new PrepareFailException("jdbc", PluginType.SOURCE, e.toString());
+        } finally {
+            // the readers open their own connections, release the one used to read the metadata
+            jdbcConnectionProvider.closeConnection();
         }
 
-        inputFormat = new JdbcInputFormat(
-            jdbcConnectionProvider,
-            jdbcDialect.getRowConverter(),
-            typeInfo,
-            query,
-            0,
-            true
-        );
+        if (jdbcSourceOptions.isResumable()) {
+            keyColumns = jdbcSourceOptions.getPartitionColumns();
+            if (keyColumns.isEmpty()) {
+                throw new PrepareFailException("jdbc", PluginType.SOURCE,
+                    "The resumable read requires the partition_column, which must be a unique key");
+            }
+        }
     }
 
     @Override
@@ -108,6 +125,8 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
             seaTunnelDataType = initTableField(conn);
         } catch (Exception e) {
             LOG.warn("get row type info exception", e);
+        } finally {
+            jdbcConnectionProvider.closeConnection();
         }
         this.typeInfo = seaTunnelDataType;
         return seaTunnelDataType;
@@ -115,12 +134,29 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
 
     @Override
     public SourceReader<SeaTunnelRow, JdbcSourceSplit> createReader(SourceReader.Context readerContext) throws Exception {
-        return new JdbcSourceReader(inputFormat, readerContext);
+        return new JdbcSourceReader(createInputFormat(), readerContext);
+    }
+
+    /**
+     * Creates the input format of a reader. The readers of a coordinated source run in the same task, so each
+     * of them needs its own input format and connection.
+     */
+    private JdbcInputFormat createInputFormat() {
+        return new JdbcInputFormat(
+            JdbcConnectionProvider.create(jdbcSourceOptions.getJdbcConnectionOptions()),
+            jdbcDialect,
+            typeInfo,
+            query,
+            jdbcSourceOptions.getFetchSize().orElse(jdbcDialect.defaultFetchSize()),
+            jdbcDialect.getReadAutoCommit(),
+            keyColumns,
+            jdbcSourceOptions.getChunkSize()
+        );
     }
 
     @Override
     public Serializer<JdbcSourceSplit> getSplitSerializer() {
-        return SeaTunnelSource.super.getSplitSerializer();
+        return new JdbcSourceSplitSerializer();
     }
 
     @Override
@@ -130,15 +166,14 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
 
     @Override
     public SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> restoreEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceState checkpointState) throws Exception {
-        return new JdbcSourceSplitEnumerator(enumeratorContext, jdbcSourceOptions, partitionParameter);
+        return new JdbcSourceSplitEnumerator(enumeratorContext, jdbcSourceOptions, partitionParameter, checkpointState);
     }
 
     private SeaTunnelRowType initTableField(Connection conn) {
         JdbcDialectTypeMapper jdbcDialectTypeMapper = jdbcDialect.getJdbcDialectTypeMapper();
         ArrayList<SeaTunnelDataType<?>> seaTunnelDataTypes = new ArrayList<>();
         ArrayList<String> fieldNames = new ArrayList<>();
-        try {
-            PreparedStatement ps = conn.prepareStatement(jdbcSourceOptions.getJdbcConnectionOptions().getQuery());
+        try (PreparedStatement ps = conn.prepareStatement(jdbcSourceOptions.getJdbcConnectionOptions().getQuery())) {
             ResultSetMetaData resultSetMetaData = ps.getMetaData();
             for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
                 fieldNames.add(resultSetMetaData.getColumnName(i));
@@ -156,10 +191,10 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
         if (jdbcSourceOptions.getPartitionLowerBound().isPresent() && jdbcSourceOptions.getPartitionUpperBound().isPresent()) {
             max = jdbcSourceOptions.getPartitionUpperBound().get();
             min = jdbcSourceOptions.getPartitionLowerBound().get();
-            return new PartitionParameter(columnName, min, max);
+            return new PartitionParameter(columnName, min, max, initPartitionBoundaries(columnName, connection), SqlType.BIGINT, null);
         }
-        try (ResultSet rs = connection.createStatement().executeQuery(String.format("SELECT MAX(%s),MIN(%s) " +
-            "FROM (%s) tt", columnName, columnName, query))) {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(String.format("SELECT MAX(%s),MIN(%s) FROM (%s) tt", columnName, columnName, query))) {
             if (rs.next()) {
                 max = jdbcSourceOptions.getPartitionUpperBound().isPresent() ? jdbcSourceOptions.getPartitionUpperBound().get() :
                     Long.parseLong(rs.getString(1));
@@ -167,37 +202,166 @@ public class JdbcSource implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit
                     Long.parseLong(rs.getString(2));
             }
         }
-        return new PartitionParameter(columnName, min, max);
+        return new PartitionParameter(columnName, min, max, initPartitionBoundaries(columnName, connection), SqlType.BIGINT, null);
     }
 
-    private PartitionParameter initPartitionParameterAndExtendSql(Connection connection) throws SQLException {
-        if (jdbcSourceOptions.getPartitionColumn().isPresent()) {
-            String partitionColumn = jdbcSourceOptions.getPartitionColumn().get();
-            Map<String, SeaTunnelDataType<?>> fieldTypes = new HashMap<>();
-            for (int i = 0; i < typeInfo.getFieldNames().length; i++) {
-                fieldTypes.put(typeInfo.getFieldName(i), typeInfo.getFieldType(i));
+    /**
+     * Splits the range of a DATE or TIMESTAMP column, whose values are mapped to epoch days or epoch microseconds.
+     */
+    private PartitionParameter initTemporalPartitionParameter(String columnName, SqlType columnType, Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(String.format("SELECT MIN(%s), MAX(%s) FROM (%s) tt", columnName, columnName, query))) {
+            if (!rs.next()) {
+                return null;
+            }
+            if (columnType == SqlType.DATE) {
+                Date min = rs.getDate(1);
+                Date max = rs.getDate(2);
+                return min == null || max == null ? null : new PartitionParameter(columnName,
+                    min.toLocalDate().toEpochDay(), max.toLocalDate().toEpochDay(), null, columnType, null);
+            }
+            Timestamp min = rs.getTimestamp(1);
+            Timestamp max = rs.getTimestamp(2);
+            return min == null || max == null ? null : new PartitionParameter(columnName,
+                JdbcTemporalBetweenParametersProvider.toEpochMicros(min),
+                JdbcTemporalBetweenParametersProvider.toEpochMicros(max), null, columnType, null);
+        }
+    }
+
+    /**
+     * Splits the query by the keys at the quantiles of the key columns.
+     */
+    private PartitionParameter initKeysetPartitionParameter(List<String> keyColumns, Connection connection) {
+        Optional<Integer> partitionNum = getPartitionNum();
+        if (!partitionNum.isPresent()) {
+            LOG.warn("Neither partition_num nor parallelism is configured, the query is read in a single split");
+            return null;
+        }
+        Optional<String> boundaryQuery = jdbcDialect.getKeyBoundaryQuery(query, keyColumns, partitionNum.get());
+        if (!boundaryQuery.isPresent()) {
+            LOG.warn("Dialect {} can not compute quantiles, the query is read in a single split", jdbcDialect.dialectName());
+            return null;
+        }
+        List<Object[]> boundaries = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(boundaryQuery.get())) {
+            while (rs.next()) {
+                Object[] key = new Object[keyColumns.size()];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = rs.getObject(i + 1);
+                }
+                boundaries.add(key);
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to query the quantiles of {}, the query is read in a single split", keyColumns, e);
+            return null;
+        }
+        LOG.info("Queried {} partition boundaries of {}", boundaries.size(), keyColumns);
+        return new PartitionParameter(new JdbcKeysetSplitter(query, keyColumns, boundaries));
+    }
+
+    private Optional<Integer> getPartitionNum() {
+        return jdbcSourceOptions.getPartitionNum().isPresent() ?
+            jdbcSourceOptions.getPartitionNum() : jdbcSourceOptions.getParallelism();
+    }
+
+    /**
+     * Queries the quantiles of the partition column if the quantile partition strategy is configured.
+     *
+     * @return the ascending upper bounds of the partitions, or null to split the range evenly.
+     */
+    private List<Long> initPartitionBoundaries(String columnName, Connection connection) {
+        if (!JdbcSourceOptions.QUANTILE_PARTITION_STRATEGY.equals(jdbcSourceOptions.getPartitionStrategy())) {
+            return null;
+        }
+        Optional<Integer> partitionNum = getPartitionNum();
+        if (!partitionNum.isPresent()) {
+            LOG.warn("Neither partition_num nor parallelism is configured, fall back to the even partition strategy");
+            return null;
+        }
+        Optional<String> boundaryQuery = jdbcDialect.getQuantileBoundaryQuery(query, columnName, partitionNum.get());
+        if (!boundaryQuery.isPresent()) {
+            LOG.warn("Dialect {} can not compute quantiles, fall back to the even partition strategy", jdbcDialect.dialectName());
+            return null;
+        }
+        List<Long> boundaries = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(boundaryQuery.get())) {
+            while (rs.next()) {
+                long boundary = rs.getLong(1);
+                if (!rs.wasNull() && (boundaries.isEmpty() || boundary > boundaries.get(boundaries.size() - 1))) {
+                    boundaries.add(boundary);
+                }
             }
+        } catch (SQLException e) {
+            LOG.warn("Failed to query the quantiles of {}, fall back to the even partition strategy", columnName, e);
+            return null;
+        }
+        LOG.info("Queried {} partition boundaries of {}", boundaries.size(), columnName);
+        return boundaries;
+    }
+
+    private PartitionParameter initPartitionParameterAndExtendSql(Connection connection) throws SQLException {
+        if (!jdbcSourceOptions.getPartitionColumn().isPresent()) {
+            LOG.info("The partition_column parameter is not configured, and the source parallelism is set to 1");
+            return null;
+        }
+        List<String> partitionColumns = jdbcSourceOptions.getPartitionColumns();
+        Map<String, SeaTunnelDataType<?>> fieldTypes = new HashMap<>();
+        for (int i = 0; i < typeInfo.getFieldNames().length; i++) {
+            fieldTypes.put(typeInfo.getFieldName(i), typeInfo.getFieldType(i));
+        }
+        for (String partitionColumn : partitionColumns) {
             if (!fieldTypes.containsKey(partitionColumn)) {
                 throw new IllegalArgumentException(String.format("field %s not contain in query %s",
                     partitionColumn, query));
             }
+            if (!isComparableType(fieldTypes.get(partitionColumn))) {
+                throw new IllegalArgumentException(String.format("%s of type %s can not be used as partition column",
+                    partitionColumn, fieldTypes.get(partitionColumn)));
+            }
+        }
+        if (partitionColumns.size() == 1) {
+            String partitionColumn = partitionColumns.get(0);
             SeaTunnelDataType<?> partitionColumnType = fieldTypes.get(partitionColumn);
-            if (!isNumericType(partitionColumnType)) {
-                throw new IllegalArgumentException(String.format("%s is not numeric type", partitionColumn));
+            PartitionParameter partitionParameter;
+            if (isNumericType(partitionColumnType)) {
+                partitionParameter = initPartitionParameter(partitionColumn, connection);
+            } else if (isTemporalType(partitionColumnType)
+                && !JdbcSourceOptions.QUANTILE_PARTITION_STRATEGY.equals(jdbcSourceOptions.getPartitionStrategy())) {
+                partitionParameter = initTemporalPartitionParameter(partitionColumn, partitionColumnType.getSqlType(), connection);
+                if (partitionParameter == null) {
+                    LOG.info("The query has no rows, and the source parallelism is set to 1");
+                    return null;
+                }
+            } else {
+                return initKeysetPartitionParameter(partitionColumns, connection);
             }
-            PartitionParameter partitionParameter = initPartitionParameter(partitionColumn, connection);
             query = String.format("SELECT * FROM (%s) tt where " + partitionColumn + " >= ? AND " + partitionColumn + " <= ?", query);
-
             return partitionParameter;
-        } else {
-            LOG.info("The partition_column parameter is not configured, and the source parallelism is set to 1");
         }
-
-        return null;
+        return initKeysetPartitionParameter(partitionColumns, connection);
     }
 
     private boolean isNumericType(SeaTunnelDataType<?> type) {
         return type.equals(BasicType.INT_TYPE) || type.equals(BasicType.LONG_TYPE);
     }
 
+    private boolean isTemporalType(SeaTunnelDataType<?> type) {
+        return type.getSqlType() == SqlType.DATE || type.getSqlType() == SqlType.TIMESTAMP;
+    }
+
+    private boolean isComparableType(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case ARRAY:
+            case MAP:
+            case ROW:
+            case NULL:
+            case BYTES:
+                return false;
+            default:
+                return true;
+        }
+    }
+
 }
@@ -20,29 +20,23 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractPendingSplitReader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
-
-public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
 
-    protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
+public class JdbcSourceReader extends AbstractPendingSplitReader<SeaTunnelRow, JdbcSourceSplit> {
 
-    SourceReader.Context context;
-    Deque<JdbcSourceSplit> splits = new LinkedList<>();
     JdbcInputFormat inputFormat;
-    boolean noMoreSplit;
+    /**
+     * The key of the last emitted row and the split it was read from, guarded by the checkpoint lock.
+     */
+    Object[] currentLastKey;
+    JdbcSourceSplit lastKeySplit;
 
     public JdbcSourceReader(JdbcInputFormat inputFormat, SourceReader.Context context) {
+        super(context);
         this.inputFormat = inputFormat;
-        this.context = context;
     }
 
     @Override
@@ -56,42 +50,26 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     }
 
     @Override
-    @SuppressWarnings("magicnumber")
-    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        JdbcSourceSplit split = splits.poll();
-        if (null != split) {
-            inputFormat.open(split);
-            while (!inputFormat.reachedEnd()) {
+    protected void read(JdbcSourceSplit split, Collector<SeaTunnelRow> output) throws Exception {
+        inputFormat.open(split);
+        while (!inputFormat.reachedEnd()) {
+            // emit the row and advance the last key of the split atomically with respect to checkpoints
+            synchronized (output.getCheckpointLock()) {
                 SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
                 output.collect(seaTunnelRow);
+                currentLastKey = inputFormat.getLastKey();
+                lastKeySplit = split;
             }
-            inputFormat.close();
-        } else if (noMoreSplit) {
-            // signal to the source that we have reached the end of the data.
-            LOG.info("Closed the bounded jdbc source");
-            context.signalNoMoreElement();
-        } else {
-            Thread.sleep(1000L);
         }
+        inputFormat.close();
     }
 
+    /**
+     * A resumable read continues after the last key, otherwise the split is read again.
+     */
     @Override
-    public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
-    }
-
-    @Override
-    public void addSplits(List<JdbcSourceSplit> splits) {
-        this.splits.addAll(splits);
-    }
-
-    @Override
-    public void handleNoMoreSplits() {
-        noMoreSplit = true;
-    }
-
-    @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
+    protected JdbcSourceSplit snapshotCurrentSplit(JdbcSourceSplit split) {
+        Object[] lastKey = lastKeySplit == split ? currentLastKey : split.getLastKey();
+        return new JdbcSourceSplit(split.getParameterValues(), split.getSplitId(), split.getSplitQuery(), lastKey);
     }
 }
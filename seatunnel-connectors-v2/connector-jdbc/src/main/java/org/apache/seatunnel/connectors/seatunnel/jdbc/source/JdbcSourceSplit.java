@@ -28,6 +28,22 @@ public class JdbcSourceSplit implements SourceSplit {
 
     Object[] parameterValues;
     Integer splitId;
+    /**
+     * The query of this split, or null to use the query template of the source.
+     */
+    String splitQuery;
+    /**
+     * The key of the last row read from this split by a resumable read, or null to read the split from the start.
+     */
+    Object[] lastKey;
+
+    public JdbcSourceSplit(Object[] parameterValues, Integer splitId) {
+        this(parameterValues, splitId, null);
+    }
+
+    public JdbcSourceSplit(Object[] parameterValues, Integer splitId, String splitQuery) {
+        this(parameterValues, splitId, splitQuery, null);
+    }
 
     @Override
     public String splitId() {
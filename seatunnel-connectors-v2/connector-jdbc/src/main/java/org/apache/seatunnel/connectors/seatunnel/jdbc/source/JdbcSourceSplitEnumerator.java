@@ -18,90 +18,69 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractPendingSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceOptions;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcBoundariesBetweenParametersProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcNumericBetweenParametersProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcParameterValuesProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcTemporalBetweenParametersProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-public class JdbcSourceSplitEnumerator implements SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
-    private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceSplitEnumerator.class);
-    private final SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext;
-    private List<JdbcSourceSplit> allSplit = new ArrayList<>();
-    private JdbcSourceOptions jdbcSourceOptions;
+/**
+ * Splits the query by the partition parameter calculated when the source was prepared.
+ */
+public class JdbcSourceSplitEnumerator extends AbstractPendingSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
+    private final JdbcSourceOptions jdbcSourceOptions;
     private final PartitionParameter partitionParameter;
-    private final int parallelism;
 
     public JdbcSourceSplitEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceOptions jdbcSourceOptions, PartitionParameter partitionParameter) {
-        this.enumeratorContext = enumeratorContext;
+        super(enumeratorContext);
+        this.jdbcSourceOptions = jdbcSourceOptions;
+        this.partitionParameter = partitionParameter;
+    }
+
+    public JdbcSourceSplitEnumerator(SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext, JdbcSourceOptions jdbcSourceOptions,
+                                     PartitionParameter partitionParameter, JdbcSourceState checkpointState) {
+        super(enumeratorContext, checkpointState);
         this.jdbcSourceOptions = jdbcSourceOptions;
         this.partitionParameter = partitionParameter;
-        this.parallelism = enumeratorContext.currentParallelism();
     }
 
     @Override
-    public void open() {
-        LOG.info("Starting to calculate splits.");
-        if (null != partitionParameter) {
-            JdbcNumericBetweenParametersProvider jdbcNumericBetweenParametersProvider =
-                    new JdbcNumericBetweenParametersProvider(partitionParameter.minValue, partitionParameter.maxValue).ofBatchNum(parallelism);
-            Serializable[][] parameterValues = jdbcNumericBetweenParametersProvider.getParameterValues();
+    protected List<JdbcSourceSplit> createSplits(int parallelism) {
+        List<JdbcSourceSplit> allSplit = new ArrayList<>();
+        if (null != partitionParameter && null != partitionParameter.keysetSplitter) {
+            allSplit.addAll(partitionParameter.keysetSplitter.createSplits());
+        } else if (null != partitionParameter) {
+            JdbcParameterValuesProvider parameterValuesProvider;
+            if (partitionParameter.boundaries != null) {
+                parameterValuesProvider = new JdbcBoundariesBetweenParametersProvider(
+                        partitionParameter.minValue, partitionParameter.maxValue, partitionParameter.boundaries);
+            } else {
+                int partitionNum = jdbcSourceOptions.getPartitionNum().orElse(parallelism);
+                parameterValuesProvider = new JdbcNumericBetweenParametersProvider(
+                        partitionParameter.minValue, partitionParameter.maxValue).ofBatchNum(partitionNum);
+            }
+            if (partitionParameter.partitionColumnType == SqlType.DATE || partitionParameter.partitionColumnType == SqlType.TIMESTAMP) {
+                parameterValuesProvider = new JdbcTemporalBetweenParametersProvider(parameterValuesProvider, partitionParameter.partitionColumnType);
+            }
+            Serializable[][] parameterValues = parameterValuesProvider.getParameterValues();
             for (int i = 0; i < parameterValues.length; i++) {
                 allSplit.add(new JdbcSourceSplit(parameterValues[i], i));
             }
         } else {
             allSplit.add(new JdbcSourceSplit(null, 0));
         }
-        LOG.info("Calculated splits successfully, the size of splits is {}.", allSplit.size());
-    }
-
-    @Override
-    public void run() throws Exception {
-    }
-
-    @Override
-    public void close() throws IOException {
-
-    }
-
-    @Override
-    public void addSplitsBack(List<JdbcSourceSplit> splits, int subtaskId) {
-    }
-
-    @Override
-    public int currentUnassignedSplitSize() {
-        return 0;
-    }
-
-    @Override
-    public void handleSplitRequest(int subtaskId) {
-
-    }
-
-    @Override
-    public void registerReader(int subtaskId) {
-        // Filter the split that the current task needs to run
-        List<JdbcSourceSplit> splits = allSplit.stream()
-                .filter(p -> p.splitId % parallelism == subtaskId)
-                .collect(Collectors.toList());
-        enumeratorContext.assignSplit(subtaskId, splits);
-        enumeratorContext.signalNoMoreSplits(subtaskId);
+        return allSplit;
     }
 
     @Override
-    public JdbcSourceState snapshotState(long checkpointId) throws Exception {
-        return null;
-    }
-
-    @Override
-    public void notifyCheckpointComplete(long checkpointId) throws Exception {
-
+    protected JdbcSourceState createState(List<JdbcSourceSplit> pendingSplits) {
+        return new JdbcSourceState(pendingSplits);
     }
 }
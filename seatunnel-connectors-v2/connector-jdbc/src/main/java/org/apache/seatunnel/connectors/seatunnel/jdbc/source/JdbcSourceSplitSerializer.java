@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.serialization.FieldReader;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+public class JdbcSourceSplitSerializer implements VersionedSerializer<JdbcSourceSplit> {
+
+    /**
+     * The first version with the query of the split.
+     */
+    private static final int SPLIT_QUERY_VERSION = 2;
+    /**
+     * The first version with the last key of the split.
+     */
+    private static final int LAST_KEY_VERSION = 3;
+    private static final int VERSION = LAST_KEY_VERSION;
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte INT = 2;
+    private static final byte STRING = 3;
+    private static final byte OBJECT = 4;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void serialize(JdbcSourceSplit split, FieldWriter writer) throws IOException {
+        writer.writeVarInt(split.getSplitId());
+        writeParameterValues(split.getParameterValues(), writer);
+        writer.writeString(split.getSplitQuery());
+        writeParameterValues(split.getLastKey(), writer);
+    }
+
+    @Override
+    public JdbcSourceSplit deserialize(int version, FieldReader reader) throws IOException {
+        int splitId = reader.readVarInt();
+        Object[] parameterValues = readParameterValues(reader);
+        // the splits of version 1 always use the query template of the source
+        String splitQuery = version >= SPLIT_QUERY_VERSION ? reader.readString() : null;
+        Object[] lastKey = version >= LAST_KEY_VERSION ? readParameterValues(reader) : null;
+        return new JdbcSourceSplit(parameterValues, splitId, splitQuery, lastKey);
+    }
+
+    private static void writeParameterValues(Object[] parameterValues, FieldWriter writer) throws IOException {
+        writer.writeBoolean(parameterValues != null);
+        if (parameterValues != null) {
+            writer.writeVarInt(parameterValues.length);
+            for (Object parameterValue : parameterValues) {
+                writeParameterValue(parameterValue, writer);
+            }
+        }
+    }
+
+    private static Object[] readParameterValues(FieldReader reader) throws IOException {
+        if (!reader.readBoolean()) {
+            return null;
+        }
+        Object[] parameterValues = new Object[reader.readVarInt()];
+        for (int i = 0; i < parameterValues.length; i++) {
+            parameterValues[i] = readParameterValue(reader);
+        }
+        return parameterValues;
+    }
+
+    private static void writeParameterValue(Object value, FieldWriter writer) throws IOException {
+        if (value == null) {
+            writer.writeByte(NULL);
+        } else if (value instanceof Long) {
+            writer.writeByte(LONG).writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            writer.writeByte(INT).writeInt((Integer) value);
+        } else if (value instanceof String) {
+            writer.writeByte(STRING).writeString((String) value);
+        } else {
+            writer.writeByte(OBJECT).writeObject((Serializable) value);
+        }
+    }
+
+    private static Object readParameterValue(FieldReader reader) throws IOException {
+        byte type = reader.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case LONG:
+                return reader.readLong();
+            case INT:
+                return reader.readInt();
+            case STRING:
+                return reader.readString();
+            case OBJECT:
+                return reader.readObject();
+            default:
+                throw new IOException(String.format("Unknown parameter value type: %s", type));
+        }
+    }
+}
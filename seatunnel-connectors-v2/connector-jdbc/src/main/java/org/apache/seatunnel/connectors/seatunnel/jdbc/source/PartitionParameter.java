@@ -17,10 +17,14 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcKeysetSplitter;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -29,4 +33,25 @@ public class PartitionParameter implements Serializable {
     String partitionColumnName;
     Long minValue;
     Long maxValue;
+    /**
+     * The ascending upper bounds of the partitions, or null to split the range evenly.
+     */
+    List<Long> boundaries;
+    /**
+     * The type of the partition column. The values of DATE columns are epoch days, and the values of TIMESTAMP
+     * columns are epoch microseconds.
+     */
+    SqlType partitionColumnType;
+    /**
+     * Splits the query by keys instead of a numeric range if not null.
+     */
+    JdbcKeysetSplitter keysetSplitter;
+
+    public PartitionParameter(String partitionColumnName, Long minValue, Long maxValue) {
+        this(partitionColumnName, minValue, maxValue, null, SqlType.BIGINT, null);
+    }
+
+    public PartitionParameter(JdbcKeysetSplitter keysetSplitter) {
+        this(null, null, null, null, null, keysetSplitter);
+    }
 }
@@ -17,7 +17,22 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.state;
 
-import java.io.Serializable;
+import org.apache.seatunnel.connectors.seatunnel.common.source.PendingSplitsState;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
 
-public class JdbcSourceState implements Serializable {
+import java.util.List;
+
+public class JdbcSourceState implements PendingSplitsState<JdbcSourceSplit> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<JdbcSourceSplit> pendingSplits;
+
+    public JdbcSourceState(List<JdbcSourceSplit> pendingSplits) {
+        this.pendingSplits = pendingSplits;
+    }
+
+    @Override
+    public List<JdbcSourceSplit> getPendingSplits() {
+        return pendingSplits;
+    }
 }
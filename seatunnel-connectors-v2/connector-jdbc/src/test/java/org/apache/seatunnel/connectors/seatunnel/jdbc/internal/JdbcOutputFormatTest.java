@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("MagicNumber")
+class JdbcOutputFormatTest {
+
+    private static final List<List<Integer>> EXECUTED = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> EXECUTING_THREADS = Collections.synchronizedList(new ArrayList<>());
+    /**
+     * Blocks the execution of the batches while set, and is counted down by every executed batch.
+     */
+    private static volatile CountDownLatch BLOCK_EXECUTION;
+    private static volatile CountDownLatch BATCH_EXECUTED;
+    private static volatile Thread EXECUTING_THREAD;
+
+    @Test
+    void testBatchesAreWrittenByFlusherInOrder() throws IOException {
+        EXECUTED.clear();
+        EXECUTING_THREADS.clear();
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(2);
+        outputFormat.open();
+        for (int i = 0; i < 7; i++) {
+            outputFormat.writeRecord(i);
+        }
+        outputFormat.flush();
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Collections.singletonList(6)),
+            EXECUTED);
+        Assertions.assertFalse(EXECUTING_THREADS.contains(Thread.currentThread().getName()));
+        outputFormat.close();
+    }
+
+    @Test
+    void testFlusherFinishesWhileNextBatchIsFilled() throws Exception {
+        EXECUTED.clear();
+        EXECUTING_THREADS.clear();
+        BLOCK_EXECUTION = new CountDownLatch(1);
+        BATCH_EXECUTED = new CountDownLatch(1);
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(2);
+        try {
+            outputFormat.open();
+            for (int i = 0; i < 5; i++) {
+                outputFormat.writeRecord(i);
+            }
+            // the first batch finishes while 2 records of the next batch are buffered
+            BLOCK_EXECUTION.countDown();
+            Assertions.assertTrue(BATCH_EXECUTED.await(10, TimeUnit.SECONDS));
+            awaitIdle(EXECUTING_THREAD);
+            for (int i = 5; i < 7; i++) {
+                outputFormat.writeRecord(i);
+            }
+            outputFormat.flush();
+        } finally {
+            BLOCK_EXECUTION = null;
+            BATCH_EXECUTED = null;
+        }
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Collections.singletonList(6)),
+            EXECUTED);
+        outputFormat.close();
+    }
+
+    @Test
+    void testSynchronousWrite() throws IOException {
+        EXECUTED.clear();
+        EXECUTING_THREADS.clear();
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(0);
+        outputFormat.open();
+        for (int i = 0; i < 4; i++) {
+            outputFormat.writeRecord(i);
+        }
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2)), EXECUTED);
+        outputFormat.close();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Collections.singletonList(3)), EXECUTED);
+        Assertions.assertEquals(Collections.singleton(Thread.currentThread().getName()),
+            new HashSet<>(EXECUTING_THREADS));
+    }
+
+    @Test
+    void testFailedBatchFailsFlush() throws IOException {
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(1);
+        outputFormat.open();
+        outputFormat.writeRecord(-1);
+        IOException exception = Assertions.assertThrows(IOException.class, outputFormat::flush);
+        Assertions.assertTrue(exception.getCause() instanceof SQLException);
+    }
+
+    /**
+     * Waits until the thread, which finished executing a batch, waits for the next task of its executor.
+     */
+    private static void awaitIdle(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static JdbcOutputFormat<Integer, RecordingExecutor> createOutputFormat(int maxInFlightBatches) {
+        JdbcConnectionOptions options = JdbcConnectionOptions.builder()
+            .withBatchSize(3)
+            .withBatchIntervalMs(0)
+            .withMaxRetries(0)
+            .build();
+        return new JdbcOutputFormat<>(new NoopConnectionProvider(), options, RecordingExecutor::new, maxInFlightBatches);
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+
+        private final List<Integer> batch = new ArrayList<>();
+
+        @Override
+        public void prepareStatements(Connection connection) {
+        }
+
+        @Override
+        public void addToBatch(Integer record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            if (batch.contains(-1)) {
+                throw new SQLException("test");
+            }
+            CountDownLatch block = BLOCK_EXECUTION;
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(e);
+                }
+            }
+            EXECUTING_THREAD = Thread.currentThread();
+            EXECUTING_THREADS.add(Thread.currentThread().getName());
+            EXECUTED.add(new ArrayList<>(batch));
+            batch.clear();
+            CountDownLatch done = BATCH_EXECUTED;
+            if (done != null) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void closeStatements() {
+        }
+    }
+
+    private static class NoopConnectionProvider implements JdbcConnectionProvider {
+
+        @Override
+        public Connection getConnection() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnectionValid() {
+            return true;
+        }
+
+        @Override
+        public Connection getOrEstablishConnection() {
+            return null;
+        }
+
+        @Override
+        public void closeConnection() {
+        }
+
+        @Override
+        public Connection reestablishConnection() {
+            return null;
+        }
+    }
+}
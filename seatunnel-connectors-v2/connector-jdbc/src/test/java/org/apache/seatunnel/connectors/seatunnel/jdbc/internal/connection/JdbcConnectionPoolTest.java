@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.options.JdbcConnectionOptions;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+class JdbcConnectionPoolTest {
+
+    private static JdbcConnectionPool createPool(int maxSize, long idleTimeoutMs, long borrowTimeoutMs) {
+        JdbcConnectionOptions options = JdbcConnectionOptions.builder()
+            .withUrl("jdbc:fake://localhost/test")
+            .withDriverName(FakeDriver.class.getName())
+            .build();
+        return new JdbcConnectionPool(options, maxSize, idleTimeoutMs, borrowTimeoutMs);
+    }
+
+    private static FakeConnection fake(Connection connection) {
+        return (FakeConnection) Proxy.getInvocationHandler(connection);
+    }
+
+    @Test
+    void testReuseReleasedConnection() throws Exception {
+        JdbcConnectionPool pool = createPool(2, 60_000L, 1_000L);
+        Connection connection = pool.borrow();
+        connection.setAutoCommit(false);
+        pool.release(connection);
+        Assertions.assertEquals(1, fake(connection).rollbacks);
+        Assertions.assertTrue(connection.getAutoCommit());
+
+        Assertions.assertSame(connection, pool.borrow());
+        Assertions.assertEquals(1, pool.getCreatedConnections());
+        Assertions.assertEquals(2, pool.getBorrowedConnections());
+        Assertions.assertEquals(1, pool.getActiveConnections());
+        Assertions.assertEquals(0, pool.getIdleConnections());
+    }
+
+    @Test
+    void testWaitForReleasedConnection() throws Exception {
+        JdbcConnectionPool pool = createPool(1, 60_000L, 1_000L);
+        Connection connection = pool.borrow();
+        long start = System.nanoTime();
+        Assertions.assertThrows(SQLException.class, pool::borrow);
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(1_000L));
+
+        CompletableFuture<Connection> borrowed = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.borrow();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+        Assertions.assertFalse(borrowed.isDone());
+        pool.release(connection);
+        Assertions.assertSame(connection, borrowed.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, pool.getCreatedConnections());
+    }
+
+    @Test
+    void testDiscardInvalidAndIdleConnections() throws Exception {
+        JdbcConnectionPool pool = createPool(2, 0L, 1_000L);
+        Connection invalid = pool.borrow();
+        fake(invalid).valid = false;
+        pool.release(invalid);
+
+        Connection connection = pool.borrow();
+        Assertions.assertNotSame(invalid, connection);
+        Assertions.assertTrue(fake(invalid).closed);
+        Assertions.assertEquals(2, pool.getCreatedConnections());
+
+        pool.release(connection);
+        pool.evictIdleConnections();
+        Assertions.assertTrue(fake(connection).closed);
+        Assertions.assertEquals(0, pool.getIdleConnections());
+        Assertions.assertEquals(0, pool.getActiveConnections());
+        Assertions.assertEquals(2, pool.getClosedConnections());
+    }
+
+    static final class FakeConnection implements InvocationHandler {
+        private boolean autoCommit = true;
+        private boolean closed;
+        private boolean valid = true;
+        private int rollbacks;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "rollback":
+                    rollbacks++;
+                    return null;
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "isValid":
+                    return valid && !closed;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "FakeConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+
+    static final class FakeDriver implements Driver {
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            return (Connection) Proxy.newProxyInstance(
+                FakeDriver.class.getClassLoader(), new Class<?>[]{Connection.class}, new FakeConnection());
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:fake:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlJdbcRowConverter;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the rows per second of the {@link AbstractJdbcRowConverter} field readers with the per-row
+ * {@code getObject} null check and type dispatch they replaced, both reading the same table of an embedded Derby
+ * database. Prints the rows per second of each.
+ * It is not a part of the test suite and asserts nothing, run it with the test classpath of the module:
+ * {@code java -cp <classpath> org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.AbstractJdbcRowConverterBenchmark}.
+ */
+@SuppressWarnings("MagicNumber")
+public class AbstractJdbcRowConverterBenchmark {
+
+    private static final String URL = "jdbc:derby:memory:row_converter_benchmark;create=true";
+    private static final int ROWS = 100_000;
+    private static final long WARMUP_MILLIS = 5_000L;
+    private static final long MEASURE_MILLIS = 10_000L;
+
+    public static void main(String[] args) throws SQLException {
+        SeaTunnelRowType rowType = AbstractJdbcRowConverterTest.ROW_TYPE;
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        try (Connection connection = DriverManager.getConnection(URL)) {
+            AbstractJdbcRowConverterTest.createTable(connection, ROWS);
+            RowReader[] readers = new RowReader[]{
+                new RowReader("getObject", (rs, metaData) -> AbstractJdbcRowConverterTest.legacyToInternal(rs, rowType)),
+                new RowReader("field readers", (rs, metaData) -> converter.toInternal(rs, metaData, rowType))};
+            for (RowReader reader : readers) {
+                run(connection, reader, WARMUP_MILLIS);
+                long count = run(connection, reader, MEASURE_MILLIS);
+                System.out.printf("%s: %d rows/s%n", reader.name, count * 1000 / MEASURE_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Scans the table until the duration has elapsed, at least once.
+     *
+     * @return the number of rows read
+     */
+    private static long run(Connection connection, RowReader reader, long durationMillis) throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM t")) {
+            do {
+                try (ResultSet rs = statement.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (rs.next()) {
+                        reader.conversion.convert(rs, metaData);
+                        count++;
+                    }
+                }
+            } while (System.nanoTime() < deadline);
+        }
+        return count;
+    }
+
+    private static final class RowReader {
+        private final String name;
+        private final Conversion conversion;
+
+        RowReader(String name, Conversion conversion) {
+            this.name = name;
+            this.conversion = conversion;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+        SeaTunnelRow convert(ResultSet rs, ResultSetMetaData metaData) throws SQLException;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlJdbcRowConverter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("MagicNumber")
+class AbstractJdbcRowConverterTest {
+
+    private static final String URL = "jdbc:derby:memory:row_converter_test;create=true";
+    private static final int ROWS = 300;
+
+    static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "small", "amount", "ratio", "name", "created", "flag"},
+        new SeaTunnelDataType<?>[]{
+            BasicType.LONG_TYPE, BasicType.SHORT_TYPE, new DecimalType(20, 4), BasicType.DOUBLE_TYPE,
+            BasicType.STRING_TYPE, LocalTimeType.LOCAL_DATE_TIME_TYPE, BasicType.INT_TYPE});
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL);
+        createTable(connection, ROWS);
+    }
+
+    /**
+     * Creates the table {@code t} with a column per field of {@link #ROW_TYPE}, every tenth {@code flag} is NULL.
+     */
+    static void createTable(Connection connection, int rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id BIGINT, small SMALLINT, amount DECIMAL(20, 4), ratio DOUBLE, "
+                + "name VARCHAR(64), created TIMESTAMP, flag INT)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                statement.setLong(1, i);
+                statement.setShort(2, (short) i);
+                statement.setBigDecimal(3, BigDecimal.valueOf(i, 4));
+                statement.setDouble(4, i / 7d);
+                statement.setString(5, "name-" + i);
+                statement.setTimestamp(6, Timestamp.valueOf(LocalDateTime.of(2022, 8, 1, 0, 0).plusSeconds(i)));
+                if (i % 10 == 0) {
+                    statement.setNull(7, Types.INTEGER);
+                } else {
+                    statement.setInt(7, i);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testNullsAreDetectedWithWasNull() throws SQLException {
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM t WHERE id IN (0, 1) ORDER BY id")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            Assertions.assertTrue(rs.next());
+            SeaTunnelRow first = converter.toInternal(rs, metaData, ROW_TYPE);
+            Assertions.assertNull(first.getField(6));
+            Assertions.assertEquals(0L, first.getField(0));
+            Assertions.assertEquals((short) 0, first.getField(1));
+            Assertions.assertTrue(rs.next());
+            SeaTunnelRow second = converter.toInternal(rs, metaData, ROW_TYPE);
+            Assertions.assertEquals(1, second.getField(6));
+            Assertions.assertEquals(new BigDecimal("0.0001"), second.getField(2));
+            Assertions.assertEquals("name-1", second.getField(4));
+            Assertions.assertEquals(LocalDateTime.of(2022, 8, 1, 0, 0, 1), second.getField(5));
+        }
+    }
+
+    /**
+     * Checks the converter against the per-row {@code getObject} null check and type dispatch it used before the
+     * field readers were precomputed.
+     */
+    @Test
+    void testSameRowsAsGetObjectConversion() throws SQLException {
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        List<SeaTunnelRow> expected = scan((rs, metaData) -> legacyToInternal(rs, ROW_TYPE));
+        Assertions.assertEquals(expected, scan((rs, metaData) -> converter.toInternal(rs, metaData, ROW_TYPE)));
+    }
+
+    private List<SeaTunnelRow> scan(RowReader reader) throws SQLException {
+        List<SeaTunnelRow> rows = new ArrayList<>(ROWS);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM t ORDER BY id");
+             ResultSet rs = statement.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            while (rs.next()) {
+                rows.add(reader.read(rs, metaData));
+            }
+        }
+        Assertions.assertEquals(ROWS, rows.size());
+        return rows;
+    }
+
+    static SeaTunnelRow legacyToInternal(ResultSet rs, SeaTunnelRowType typeInfo) throws SQLException {
+        List<Object> fields = new ArrayList<>();
+        SeaTunnelDataType<?>[] seaTunnelDataTypes = typeInfo.getFieldTypes();
+        for (int i = 1; i <= seaTunnelDataTypes.length; i++) {
+            Object seatunnelField;
+            SeaTunnelDataType<?> seaTunnelDataType = seaTunnelDataTypes[i - 1];
+            if (null == rs.getObject(i)) {
+                seatunnelField = null;
+            } else if (BasicType.SHORT_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getShort(i);
+            } else if (BasicType.INT_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getInt(i);
+            } else if (BasicType.LONG_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getLong(i);
+            } else if (seaTunnelDataType instanceof DecimalType) {
+                seatunnelField = rs.getObject(i);
+            } else if (BasicType.DOUBLE_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getDouble(i);
+            } else if (BasicType.STRING_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getString(i);
+            } else if (LocalTimeType.LOCAL_DATE_TIME_TYPE.equals(seaTunnelDataType)) {
+                seatunnelField = rs.getTimestamp(i).toLocalDateTime();
+            } else {
+                throw new IllegalStateException("Unexpected value: " + seaTunnelDataType);
+            }
+            fields.add(seatunnelField);
+        }
+        return new SeaTunnelRow(fields.toArray());
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        SeaTunnelRow read(ResultSet rs, ResultSetMetaData metaData) throws SQLException;
+    }
+}
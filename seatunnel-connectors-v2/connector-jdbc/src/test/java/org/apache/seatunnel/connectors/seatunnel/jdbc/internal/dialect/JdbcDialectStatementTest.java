@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dm.DmdbDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.phoenix.PhoenixDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+class JdbcDialectStatementTest {
+
+    private static final String[] FIELDS = {"id", "name", "age"};
+    private static final String[] KEYS = {"id"};
+
+    @Test
+    void testMysqlStatements() {
+        JdbcDialect dialect = new MysqlDialect();
+        Assertions.assertEquals(Optional.of("INSERT INTO db.t (`id`, `name`, `age`) VALUES (?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE `id` = VALUES(`id`), `name` = VALUES(`name`), `age` = VALUES(`age`)"),
+            dialect.getUpsertStatement("db.t", FIELDS, KEYS));
+        Assertions.assertEquals("DELETE FROM db.t WHERE `id` = ?", dialect.getDeleteStatement("db.t", KEYS));
+    }
+
+    @Test
+    void testMysqlFetchSize() throws SQLException {
+        JdbcDialect dialect = new MysqlDialect();
+        // without useCursorFetch a positive fetch size would load the whole result set, so the rows are streamed
+        Assertions.assertEquals(Integer.MIN_VALUE, fetchSize(dialect, "jdbc:mysql://localhost/db", 1000));
+        Assertions.assertEquals(Integer.MIN_VALUE, fetchSize(dialect, "jdbc:mysql://localhost/db", 0));
+        Assertions.assertEquals(1000, fetchSize(dialect, "jdbc:mysql://localhost/db?useCursorFetch=true", 1000));
+        Assertions.assertEquals(Integer.MIN_VALUE, fetchSize(dialect, "jdbc:mysql://localhost/db?useCursorFetch=true", 0));
+    }
+
+    /**
+     * Creates a statement on a fake connection with the given url and returns the fetch size set on the statement.
+     */
+    private static int fetchSize(JdbcDialect dialect, String url, int fetchSize) throws SQLException {
+        List<Integer> fetchSizes = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(JdbcDialectStatementTest.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if ("setFetchSize".equals(method.getName())) {
+                    fetchSizes.add((Integer) args[0]);
+                }
+                return null;
+            });
+        DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(JdbcDialectStatementTest.class.getClassLoader(),
+            new Class<?>[]{DatabaseMetaData.class}, (proxy, method, args) -> "getURL".equals(method.getName()) ? url : null);
+        Connection connection = (Connection) Proxy.newProxyInstance(JdbcDialectStatementTest.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "prepareStatement":
+                        return statement;
+                    case "getMetaData":
+                        return metaData;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        dialect.createPreparedStatement(connection, "SELECT * FROM t", fetchSize);
+        Assertions.assertEquals(1, fetchSizes.size());
+        return fetchSizes.get(0);
+    }
+
+    @Test
+    void testPostgresStatements() {
+        JdbcDialect dialect = new PostgresDialect();
+        Assertions.assertEquals(Optional.of("INSERT INTO t (\"id\", \"name\", \"age\") VALUES (?, ?, ?) "
+                + "ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\", \"age\" = EXCLUDED.\"age\""),
+            dialect.getUpsertStatement("t", FIELDS, KEYS));
+        Assertions.assertEquals(Optional.of("INSERT INTO t (\"id\") VALUES (?) ON CONFLICT (\"id\") DO NOTHING"),
+            dialect.getUpsertStatement("t", KEYS, KEYS));
+        Assertions.assertEquals("DELETE FROM t WHERE \"id\" = ? AND \"name\" = ?",
+            dialect.getDeleteStatement("t", new String[]{"id", "name"}));
+    }
+
+    @Test
+    void testPhoenixStatements() {
+        JdbcDialect dialect = new PhoenixDialect();
+        Assertions.assertEquals(Optional.of("UPSERT INTO t (id, name, age) VALUES (?, ?, ?)"),
+            dialect.getUpsertStatement("t", FIELDS, KEYS));
+    }
+
+    @Test
+    void testWithoutUpsert() {
+        JdbcDialect dialect = new DmdbDialect();
+        Assertions.assertFalse(dialect.getUpsertStatement("t", FIELDS, KEYS).isPresent());
+        Assertions.assertEquals("INSERT INTO t (id, name, age) VALUES (?, ?, ?)", dialect.getInsertIntoStatement("t", FIELDS));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("MagicNumber")
+class BufferReducedStatementExecutorTest {
+
+    @Test
+    void testKeepLatestChangePerKey() throws SQLException {
+        RecordingExecutor upserts = new RecordingExecutor();
+        RecordingExecutor deletes = new RecordingExecutor();
+        BufferReducedStatementExecutor executor = new BufferReducedStatementExecutor(upserts, deletes, new int[]{0}, false);
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        executor.addToBatch(row(RowKind.INSERT, 2, "b"));
+        executor.addToBatch(row(RowKind.UPDATE_BEFORE, 1, "a"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a2"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a3"));
+        executor.addToBatch(row(RowKind.DELETE, 2, "b"));
+        executor.addToBatch(row(RowKind.INSERT, 3, "c"));
+        executor.executeBatch();
+
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, "a3"), Arrays.asList(3, "c")), upserts.executed);
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(2, "b")), deletes.executed);
+
+        executor.executeBatch();
+        Assertions.assertEquals(2, upserts.executed.size());
+        Assertions.assertEquals(1, deletes.executed.size());
+    }
+
+    @Test
+    void testDeleteBeforeInsert() throws SQLException {
+        RecordingExecutor inserts = new RecordingExecutor();
+        RecordingExecutor deletes = new RecordingExecutor();
+        BufferReducedStatementExecutor executor = new BufferReducedStatementExecutor(inserts, deletes, new int[]{0}, true);
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "a2"));
+        executor.addToBatch(row(RowKind.DELETE, 2, "b"));
+        executor.executeBatch();
+
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(1, "a2")), inserts.executed);
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, "a2"), Arrays.asList(2, "b")), deletes.executed);
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+        private final List<SeaTunnelRow> batch = new ArrayList<>();
+        private final List<List<Object>> executed = new ArrayList<>();
+
+        @Override
+        public void prepareStatements(Connection connection) {
+        }
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() {
+            for (SeaTunnelRow row : batch) {
+                executed.add(Arrays.asList(row.getFields()));
+            }
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InsertQueryTest {
+
+    @Test
+    void testParse() {
+        InsertQuery insertQuery = InsertQuery.parse("insert into test_table(name, age) values(?, ?)").get();
+        Assertions.assertEquals("test_table", insertQuery.getTable());
+        Assertions.assertEquals("(name, age)", insertQuery.getColumns());
+        Assertions.assertEquals(2, insertQuery.getParameterCount());
+        Assertions.assertEquals("INSERT INTO test_table (name, age) VALUES (?, ?), (?, ?), (?, ?)",
+            insertQuery.toMultiRowQuery(3));
+
+        InsertQuery withoutColumns = InsertQuery.parse("INSERT INTO db.t VALUES (?,?,?);").get();
+        Assertions.assertEquals("db.t", withoutColumns.getTable());
+        Assertions.assertEquals("", withoutColumns.getColumns());
+        Assertions.assertEquals(3, withoutColumns.getParameterCount());
+        Assertions.assertEquals("INSERT INTO db.t VALUES (?,?,?)", withoutColumns.toMultiRowQuery(1));
+    }
+
+    @Test
+    void testNotBulkLoadable() {
+        Assertions.assertFalse(InsertQuery.parse("insert into t(a, b) values(?, now())").isPresent());
+        Assertions.assertFalse(InsertQuery.parse("upsert into t(a) values(?)").isPresent());
+        Assertions.assertFalse(InsertQuery.parse("insert into t(a) select ? from dual").isPresent());
+        Assertions.assertFalse(InsertQuery.parse("insert into t(a) values(?) on duplicate key update a = values(a)")
+            .isPresent());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@SuppressWarnings("MagicNumber")
+class TextRowEncoderTest {
+
+    @Test
+    void testEncode() throws SQLException {
+        StringBuilder output = new StringBuilder();
+        TextRowEncoder.encode(new SeaTunnelRow(new Object[]{1, null, true, new BigDecimal("1E+3"),
+            LocalDate.of(2022, 8, 1), LocalDateTime.of(2022, 8, 1, 10, 30, 15)}), output);
+        TextRowEncoder.encode(new SeaTunnelRow(new Object[]{"a\tb\nc\\d\r", "\\N"}), output);
+        Assertions.assertEquals("1\t\\N\t1\t1000\t2022-08-01\t2022-08-01 10:30:15.0\n"
+            + "a\\tb\\nc\\\\d\\r\t\\\\N\n", output.toString());
+    }
+
+    @Test
+    void testUnsupportedValue() {
+        Assertions.assertThrows(SQLException.class,
+            () -> TextRowEncoder.encode(new SeaTunnelRow(new Object[]{new byte[]{1}}), new StringBuilder()));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+
+class JdbcBoundariesBetweenParametersProviderTest {
+
+    @Test
+    void testSplitAtBoundaries() {
+        Serializable[][] parameters = new JdbcBoundariesBetweenParametersProvider(1, 100, Arrays.asList(3L, 10L, 50L))
+            .getParameterValues();
+        Assertions.assertArrayEquals(new Serializable[][]{{1L, 3L}, {4L, 10L}, {11L, 50L}, {51L, 100L}}, parameters);
+    }
+
+    @Test
+    void testIgnoreBoundariesOutOfRange() {
+        Serializable[][] parameters = new JdbcBoundariesBetweenParametersProvider(10, 20, Arrays.asList(5L, 10L, 10L, 20L, 30L))
+            .getParameterValues();
+        Assertions.assertArrayEquals(new Serializable[][]{{10L, 10L}, {11L, 20L}}, parameters);
+    }
+
+    @Test
+    void testNoBoundaries() {
+        Serializable[][] parameters = new JdbcBoundariesBetweenParametersProvider(1, 5, Collections.emptyList())
+            .getParameterValues();
+        Assertions.assertArrayEquals(new Serializable[][]{{1L, 5L}}, parameters);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings("MagicNumber")
+class JdbcKeysetSplitterTest {
+
+    @Test
+    void testSingleKeyColumn() {
+        List<JdbcSourceSplit> splits = new JdbcKeysetSplitter("SELECT * FROM t", Collections.singletonList("k"),
+            Arrays.asList(new Object[]{"b"}, new Object[]{"m"}, new Object[]{"z"})).createSplits();
+        Assertions.assertEquals(3, splits.size());
+        Assertions.assertEquals("SELECT * FROM (SELECT * FROM t) tt WHERE (k <= ? OR k IS NULL)", splits.get(0).getSplitQuery());
+        Assertions.assertArrayEquals(new Object[]{"b"}, splits.get(0).getParameterValues());
+        Assertions.assertEquals("SELECT * FROM (SELECT * FROM t) tt WHERE (k > ?) AND (k <= ?)", splits.get(1).getSplitQuery());
+        Assertions.assertArrayEquals(new Object[]{"b", "m"}, splits.get(1).getParameterValues());
+        Assertions.assertEquals("SELECT * FROM (SELECT * FROM t) tt WHERE (k > ?)", splits.get(2).getSplitQuery());
+        Assertions.assertArrayEquals(new Object[]{"m"}, splits.get(2).getParameterValues());
+        for (int i = 0; i < splits.size(); i++) {
+            Assertions.assertEquals(i, splits.get(i).getSplitId());
+        }
+    }
+
+    @Test
+    void testCompositeKeyColumns() {
+        List<String> keyColumns = Arrays.asList("a", "b", "c");
+        Assertions.assertEquals("(a > ?) OR (a = ? AND b > ?) OR (a = ? AND b = ? AND c > ?)",
+            JdbcKeysetSplitter.greaterThan(keyColumns));
+        Assertions.assertEquals(Arrays.asList(1, 1, 2, 1, 2, 3),
+            JdbcKeysetSplitter.greaterThanValues(new Object[]{1, 2, 3}));
+        Assertions.assertEquals("(a < ?) OR (a = ? AND b < ?) OR (a = ? AND b = ? AND c < ?) OR (a = ? AND b = ? AND c = ?)",
+            JdbcKeysetSplitter.lessOrEqual(keyColumns));
+        Assertions.assertEquals(Arrays.asList(1, 1, 2, 1, 2, 3, 1, 2, 3),
+            JdbcKeysetSplitter.lessOrEqualValues(new Object[]{1, 2, 3}));
+
+        List<JdbcSourceSplit> splits = new JdbcKeysetSplitter("SELECT * FROM t", Arrays.asList("a", "b"),
+            Arrays.asList(new Object[]{1, "x"}, new Object[]{2, "y"})).createSplits();
+        Assertions.assertEquals(2, splits.size());
+        Assertions.assertEquals("SELECT * FROM (SELECT * FROM t) tt WHERE ((a < ?) OR (a = ? AND b < ?) OR (a = ? AND b = ?) " +
+            "OR a IS NULL OR b IS NULL)", splits.get(0).getSplitQuery());
+        Assertions.assertEquals("SELECT * FROM (SELECT * FROM t) tt WHERE (a IS NOT NULL AND b IS NOT NULL) "
+            + "AND ((a > ?) OR (a = ? AND b > ?))", splits.get(1).getSplitQuery());
+        Assertions.assertArrayEquals(new Object[]{1, 1, "x"}, splits.get(1).getParameterValues());
+    }
+
+    @Test
+    void testPartiallyNullCompositeKeys() throws SQLException {
+        List<JdbcSourceSplit> splits = new JdbcKeysetSplitter("SELECT * FROM t", Arrays.asList("a", "b"),
+            Arrays.asList(new Object[]{2, 20}, new Object[]{4, 40}, new Object[]{6, 60})).createSplits();
+        Assertions.assertEquals(3, splits.size());
+
+        try (Connection connection = DriverManager.getConnection("jdbc:derby:memory:keyset_splitter_test;create=true")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE t (id INT, a INT, b INT)");
+                // (5, NULL) is greater than (2, 20) and (4, 40) by its first column
+                statement.execute("INSERT INTO t VALUES (1, 1, 10), (2, 2, 20), (3, 3, NULL), (4, 5, NULL), "
+                    + "(5, NULL, 50), (6, NULL, NULL), (7, 4, 40), (8, 5, 50), (9, 7, 70)");
+            }
+            List<Integer> ids = new ArrayList<>();
+            for (JdbcSourceSplit split : splits) {
+                try (PreparedStatement statement = connection.prepareStatement(split.getSplitQuery())) {
+                    Object[] parameterValues = split.getParameterValues();
+                    for (int i = 0; i < parameterValues.length; i++) {
+                        statement.setObject(i + 1, parameterValues[i]);
+                    }
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getInt("id"));
+                        }
+                    }
+                }
+            }
+            Collections.sort(ids);
+            Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), ids);
+        }
+    }
+
+    @Test
+    void testWithoutBoundaries() {
+        List<JdbcSourceSplit> splits = new JdbcKeysetSplitter("SELECT * FROM t", Collections.singletonList("k"),
+            Collections.singletonList(new Object[]{"z"})).createSplits();
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertEquals("SELECT * FROM t", splits.get(0).getSplitQuery());
+        Assertions.assertNull(splits.get(0).getParameterValues());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+class JdbcTemporalBetweenParametersProviderTest {
+
+    @Test
+    void testDateRanges() {
+        long min = LocalDate.of(2022, 1, 1).toEpochDay();
+        long max = LocalDate.of(2022, 1, 10).toEpochDay();
+        Serializable[][] parameters = new JdbcTemporalBetweenParametersProvider(
+            new JdbcNumericBetweenParametersProvider(min, max).ofBatchNum(2), SqlType.DATE).getParameterValues();
+        Assertions.assertArrayEquals(new Serializable[][]{
+            {Date.valueOf("2022-01-01"), Date.valueOf("2022-01-05")},
+            {Date.valueOf("2022-01-06"), Date.valueOf("2022-01-10")}}, parameters);
+    }
+
+    @Test
+    void testTimestampRanges() {
+        Timestamp min = Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 0, 123_456_789));
+        Timestamp max = Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 1, 0));
+        long minMicros = JdbcTemporalBetweenParametersProvider.toEpochMicros(min);
+        long maxMicros = JdbcTemporalBetweenParametersProvider.toEpochMicros(max);
+        Assertions.assertEquals(876_544L, maxMicros - minMicros);
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 0, 123_456_000)),
+            JdbcTemporalBetweenParametersProvider.fromEpochMicros(minMicros));
+
+        Serializable[][] parameters = new JdbcTemporalBetweenParametersProvider(
+            new JdbcNumericBetweenParametersProvider(minMicros, maxMicros).ofBatchNum(2), SqlType.TIMESTAMP).getParameterValues();
+        Assertions.assertEquals(2, parameters.length);
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 0, 123_456_000)), parameters[0][0]);
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 0, 561_728_999)), parameters[0][1]);
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 0, 561_729_000)), parameters[1][0]);
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0, 1, 999)), parameters[1][1]);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@SuppressWarnings("MagicNumber")
+class JdbcSinkPartitionerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name", "age"},
+        new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE, BasicType.STRING_TYPE, BasicType.INT_TYPE});
+
+    @Test
+    void testSameKeySamePartition() {
+        JdbcSinkPartitioner partitioner = new JdbcSinkPartitioner(
+            JdbcSinkPartitioner.getKeyIndexes(ROW_TYPE, Arrays.asList("id", "name")), 4);
+        boolean[] used = new boolean[4];
+        for (long i = 0; i < 100; i++) {
+            int partition = partitioner.partition(new SeaTunnelRow(new Object[]{i, "n" + i, 1}));
+            Assertions.assertEquals(partition, partitioner.partition(new SeaTunnelRow(new Object[]{i, "n" + i, 2})));
+            used[partition] = true;
+        }
+        for (boolean u : used) {
+            Assertions.assertTrue(u);
+        }
+    }
+
+    @Test
+    void testRoundRobinWithoutKey() {
+        JdbcSinkPartitioner partitioner = new JdbcSinkPartitioner(
+            JdbcSinkPartitioner.getKeyIndexes(ROW_TYPE, Collections.emptyList()), 3);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{1L, "a", 1});
+        Assertions.assertEquals(0, partitioner.partition(row));
+        Assertions.assertEquals(1, partitioner.partition(row));
+        Assertions.assertEquals(2, partitioner.partition(row));
+        Assertions.assertEquals(0, partitioner.partition(row));
+    }
+
+    @Test
+    void testUnknownKey() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> JdbcSinkPartitioner.getKeyIndexes(ROW_TYPE, Collections.singletonList("unknown")));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+@SuppressWarnings("MagicNumber")
+public class JdbcSourceSplitSerializerTest {
+
+    private static final String SPLIT_QUERY = "SELECT * FROM t WHERE id >= ? AND id < ?";
+
+    private final JdbcSourceSplitSerializer serializer = new JdbcSourceSplitSerializer();
+
+    private void assertSplitEquals(JdbcSourceSplit expected, JdbcSourceSplit actual) {
+        Assertions.assertEquals(expected.getSplitId(), actual.getSplitId());
+        Assertions.assertArrayEquals(expected.getParameterValues(), actual.getParameterValues());
+        Assertions.assertEquals(expected.getSplitQuery(), actual.getSplitQuery());
+        Assertions.assertArrayEquals(expected.getLastKey(), actual.getLastKey());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        JdbcSourceSplit split = new JdbcSourceSplit(
+            new Object[]{1L, 100, "a", null, new BigDecimal("12.50"), Timestamp.valueOf("2022-08-01 10:00:00")},
+            3, SPLIT_QUERY, new Object[]{42L, "b", null});
+        assertSplitEquals(split, serializer.deserialize(serializer.serialize(split)));
+
+        split = new JdbcSourceSplit(null, 0);
+        assertSplitEquals(split, serializer.deserialize(serializer.serialize(split)));
+    }
+
+    @Test
+    public void testReadVersion1() throws IOException {
+        // version 1 had neither the query nor the last key of the split
+        byte[] bytes = new FieldWriter()
+            .writeByte(VersionedSerializer.MAGIC_NUMBER)
+            .writeVarInt(1)
+            .writeVarInt(3)
+            .writeBoolean(true)
+            .writeVarInt(2)
+            .writeByte(1).writeLong(1L)
+            .writeByte(1).writeLong(100L)
+            .toByteArray();
+        assertSplitEquals(new JdbcSourceSplit(new Object[]{1L, 100L}, 3), serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void testReadVersion2() throws IOException {
+        // version 2 had no last key
+        byte[] bytes = new FieldWriter()
+            .writeByte(VersionedSerializer.MAGIC_NUMBER)
+            .writeVarInt(2)
+            .writeVarInt(3)
+            .writeBoolean(true)
+            .writeVarInt(2)
+            .writeByte(1).writeLong(1L)
+            .writeByte(1).writeLong(100L)
+            .writeString(SPLIT_QUERY)
+            .toByteArray();
+        assertSplitEquals(new JdbcSourceSplit(new Object[]{1L, 100L}, 3, SPLIT_QUERY), serializer.deserialize(bytes));
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws IOException {
+        JdbcSourceSplit split = new JdbcSourceSplit(new Object[]{1L, 100L}, 3, SPLIT_QUERY, new Object[]{42L});
+        assertSplitEquals(split, serializer.deserialize(new DefaultSerializer<JdbcSourceSplit>().serialize(split)));
+    }
+}
@@ -25,6 +25,7 @@ import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.TOPI
 
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.common.PrepareFailException;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -108,6 +109,11 @@ public class KafkaSource implements SeaTunnelSource<SeaTunnelRow, KafkaSourceSpl
         return new KafkaSourceReader(this.metadata, this.typeInfo, readerContext);
     }
 
+    @Override
+    public Serializer<KafkaSourceSplit> getSplitSerializer() {
+        return new KafkaSourceSplitSerializer();
+    }
+
     @Override
     public SourceSplitEnumerator<KafkaSourceSplit, KafkaSourceState> createEnumerator(SourceSplitEnumerator.Context<KafkaSourceSplit> enumeratorContext) throws Exception {
         return new KafkaSourceSplitEnumerator(this.metadata, enumeratorContext);
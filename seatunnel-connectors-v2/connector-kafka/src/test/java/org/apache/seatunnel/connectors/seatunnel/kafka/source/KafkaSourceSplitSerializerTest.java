@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+@SuppressWarnings("MagicNumber")
+public class KafkaSourceSplitSerializerTest {
+
+    private final KafkaSourceSplitSerializer serializer = new KafkaSourceSplitSerializer();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        KafkaSourceSplit split = new KafkaSourceSplit(new TopicPartition("topic", 7), 100L, 200L);
+        Assertions.assertEquals(split, serializer.deserialize(serializer.serialize(split)));
+
+        split = new KafkaSourceSplit(new TopicPartition("topic", 0));
+        KafkaSourceSplit restored = serializer.deserialize(serializer.serialize(split));
+        Assertions.assertEquals(split, restored);
+        Assertions.assertEquals(-1L, restored.getStartOffset());
+        Assertions.assertEquals(-1L, restored.getEndOffset());
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws IOException {
+        KafkaSourceSplit split = new KafkaSourceSplit(new TopicPartition("topic", 7), 100L, 200L);
+        KafkaSourceSplit restored = serializer.deserialize(new DefaultSerializer<KafkaSourceSplit>().serialize(split));
+        Assertions.assertEquals(split, restored);
+        Assertions.assertEquals(100L, restored.getStartOffset());
+        Assertions.assertEquals(200L, restored.getEndOffset());
+    }
+}
@@ -41,6 +41,7 @@ import static org.apache.seatunnel.connectors.seatunnel.pulsar.config.SourceProp
 
 import org.apache.seatunnel.api.common.PrepareFailException;
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Boundedness;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
@@ -66,6 +67,7 @@ import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.discov
 import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.discoverer.TopicPatternDiscoverer;
 import org.apache.seatunnel.connectors.seatunnel.pulsar.source.reader.PulsarSourceReader;
 import org.apache.seatunnel.connectors.seatunnel.pulsar.source.split.PulsarPartitionSplit;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.split.PulsarPartitionSplitSerializer;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
@@ -252,6 +254,11 @@ public class PulsarSource<T> implements SeaTunnelSource<T, PulsarPartitionSplit,
             batchSize);
     }
 
+    @Override
+    public Serializer<PulsarPartitionSplit> getSplitSerializer() {
+        return new PulsarPartitionSplitSerializer();
+    }
+
     @Override
     public SourceSplitEnumerator<PulsarPartitionSplit, PulsarSplitEnumeratorState> createEnumerator(SourceSplitEnumerator.Context<PulsarPartitionSplit> enumeratorContext) throws Exception {
         return new PulsarSplitEnumerator(
@@ -35,6 +35,13 @@ public class LatestMessageStopCursor implements StopCursor {
 
     private MessageId messageId;
 
+    public LatestMessageStopCursor() {
+    }
+
+    public LatestMessageStopCursor(MessageId messageId) {
+        this.messageId = messageId;
+    }
+
     public void prepare(PulsarAdmin admin, TopicPartition partition) {
         if (messageId == null) {
             String topic = partition.getFullTopicName();
@@ -52,6 +59,10 @@ public class LatestMessageStopCursor implements StopCursor {
         return id.compareTo(messageId) >= 0;
     }
 
+    public MessageId getMessageId() {
+        return messageId;
+    }
+
     @Override
     public StopCursor copy() {
         return new LatestMessageStopCursor();
@@ -51,6 +51,14 @@ public class MessageIdStopCursor implements StopCursor {
         }
     }
 
+    public MessageId getMessageId() {
+        return messageId;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
     @Override
     public StopCursor copy() {
         return new MessageIdStopCursor(messageId, exclusive);
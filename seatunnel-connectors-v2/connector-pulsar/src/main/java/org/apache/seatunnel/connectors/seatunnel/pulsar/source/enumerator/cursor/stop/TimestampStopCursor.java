@@ -37,6 +37,10 @@ public class TimestampStopCursor implements StopCursor {
         return message.getEventTime() >= timestamp;
     }
 
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public StopCursor copy() {
         return new TimestampStopCursor(timestamp);
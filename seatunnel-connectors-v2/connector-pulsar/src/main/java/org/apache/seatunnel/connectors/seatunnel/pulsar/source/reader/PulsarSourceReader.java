@@ -35,15 +35,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSplit> {
@@ -68,6 +69,7 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
     protected final int pollTimeout;
     protected final long pollInterval;
     protected final int batchSize;
+    protected final List<RecordWithSplitId> pollBuffer;
 
     protected PulsarClient pulsarClient;
     /**
@@ -97,6 +99,7 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
         this.pendingCursorsToFinish = Collections.synchronizedSortedMap(new TreeMap<>());
         this.finishedSplits = new TreeSet<>();
         this.handover = new Handover<>();
+        this.pollBuffer = new ArrayList<>(batchSize);
     }
 
     @Override
@@ -120,23 +123,29 @@ public class PulsarSourceReader<T> implements SourceReader<T, PulsarPartitionSpl
 
     @Override
     public void pollNext(Collector<T> output) throws Exception {
-        for (int i = 0; i < batchSize; i++) {
-            Optional<RecordWithSplitId> recordWithSplitId = handover.pollNext();
-            if (recordWithSplitId.isPresent()) {
-                final String splitId = recordWithSplitId.get().getSplitId();
-                final Message<byte[]> message = recordWithSplitId.get().getMessage();
-                synchronized (output.getCheckpointLock()) {
+        // move the whole batch out of the handover with a single lock acquisition
+        handover.drainTo(pollBuffer, batchSize);
+        if (!pollBuffer.isEmpty()) {
+            synchronized (output.getCheckpointLock()) {
+                for (RecordWithSplitId recordWithSplitId : pollBuffer) {
+                    final String splitId = recordWithSplitId.getSplitId();
+                    final Message<byte[]> message = recordWithSplitId.getMessage();
                     splitStates.get(splitId).setLatestConsumedId(message.getMessageId());
                     deserialization.deserialize(message.getData(), output);
                 }
             }
-            if (noMoreSplitsAssignment && finishedSplits.size() == splitStates.size()) {
-                context.signalNoMoreElement();
-                break;
-            }
+            pollBuffer.clear();
+        }
+        if (noMoreSplitsAssignment && finishedSplits.size() == splitStates.size()) {
+            context.signalNoMoreElement();
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        return handover.isAvailable();
+    }
+
     @Override
     public List<PulsarPartitionSplit> snapshotState(long checkpointId) throws Exception {
         List<PulsarPartitionSplit> pendingSplit = splitStates.values().stream()
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.pulsar.source.split;
+
+import org.apache.seatunnel.api.serialization.FieldReader;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.LatestMessageStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.MessageIdStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.NeverStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.StopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.TimestampStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.MessageId;
+
+import java.io.IOException;
+
+/**
+ * Writes the stop cursor of a split as its type followed by its fields. Version 1 wrote the stop cursor with
+ * Java serialization, it can still be read.
+ */
+public class PulsarPartitionSplitSerializer implements VersionedSerializer<PulsarPartitionSplit> {
+
+    private static final int VERSION = 2;
+
+    private static final byte NEVER_STOP_CURSOR = 0;
+    private static final byte LATEST_MESSAGE_STOP_CURSOR = 1;
+    private static final byte MESSAGE_ID_STOP_CURSOR = 2;
+    private static final byte TIMESTAMP_STOP_CURSOR = 3;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void serialize(PulsarPartitionSplit split, FieldWriter writer) throws IOException {
+        writer.writeString(split.getPartition().getTopic())
+            .writeInt(split.getPartition().getPartition());
+        writeStopCursor(split.getStopCursor(), writer);
+        writer.writeNullable(split.getLatestConsumedId(), PulsarPartitionSplitSerializer::writeMessageId);
+    }
+
+    @Override
+    public PulsarPartitionSplit deserialize(int version, FieldReader reader) throws IOException {
+        TopicPartition partition = new TopicPartition(reader.readString(), reader.readInt());
+        StopCursor stopCursor = version >= 2 ? readStopCursor(reader) : reader.readObject();
+        MessageId latestConsumedId = reader.readNullable(PulsarPartitionSplitSerializer::readMessageId);
+        return new PulsarPartitionSplit(partition, stopCursor, latestConsumedId);
+    }
+
+    private static void writeStopCursor(StopCursor stopCursor, FieldWriter writer) throws IOException {
+        if (stopCursor instanceof NeverStopCursor) {
+            writer.writeByte(NEVER_STOP_CURSOR);
+        } else if (stopCursor instanceof LatestMessageStopCursor) {
+            writer.writeByte(LATEST_MESSAGE_STOP_CURSOR)
+                .writeNullable(((LatestMessageStopCursor) stopCursor).getMessageId(),
+                    PulsarPartitionSplitSerializer::writeMessageId);
+        } else if (stopCursor instanceof MessageIdStopCursor) {
+            MessageIdStopCursor messageIdStopCursor = (MessageIdStopCursor) stopCursor;
+            writer.writeByte(MESSAGE_ID_STOP_CURSOR)
+                .writeBoolean(messageIdStopCursor.isExclusive());
+            writeMessageId(writer, messageIdStopCursor.getMessageId());
+        } else if (stopCursor instanceof TimestampStopCursor) {
+            writer.writeByte(TIMESTAMP_STOP_CURSOR)
+                .writeLong(((TimestampStopCursor) stopCursor).getTimestamp());
+        } else {
+            throw new IOException(String.format("Unsupported stop cursor: %s", stopCursor.getClass().getName()));
+        }
+    }
+
+    private static StopCursor readStopCursor(FieldReader reader) throws IOException {
+        byte type = reader.readByte();
+        switch (type) {
+            case NEVER_STOP_CURSOR:
+                return StopCursor.never();
+            case LATEST_MESSAGE_STOP_CURSOR:
+                return new LatestMessageStopCursor(reader.readNullable(PulsarPartitionSplitSerializer::readMessageId));
+            case MESSAGE_ID_STOP_CURSOR:
+                boolean exclusive = reader.readBoolean();
+                return new MessageIdStopCursor(readMessageId(reader), exclusive);
+            case TIMESTAMP_STOP_CURSOR:
+                return StopCursor.timestamp(reader.readLong());
+            default:
+                throw new IOException(String.format("Unknown stop cursor type: %s", type));
+        }
+    }
+
+    private static void writeMessageId(FieldWriter writer, MessageId messageId) throws IOException {
+        writer.writeBytes(messageId.toByteArray());
+    }
+
+    private static MessageId readMessageId(FieldReader reader) throws IOException {
+        return MessageId.fromByteArray(reader.readBytes());
+    }
+}
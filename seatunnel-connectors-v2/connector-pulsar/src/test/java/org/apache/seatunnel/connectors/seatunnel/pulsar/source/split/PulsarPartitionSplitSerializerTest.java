@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.pulsar.source.split;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+import org.apache.seatunnel.api.serialization.FieldWriter;
+import org.apache.seatunnel.api.serialization.VersionedSerializer;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.LatestMessageStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.MessageIdStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.StopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.cursor.stop.TimestampStopCursor;
+import org.apache.seatunnel.connectors.seatunnel.pulsar.source.enumerator.topic.TopicPartition;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.impl.MessageIdImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+@SuppressWarnings("MagicNumber")
+public class PulsarPartitionSplitSerializerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("persistent://public/default/topic", 3);
+    private static final MessageId MESSAGE_ID = new MessageIdImpl(10L, 20L, 3);
+
+    private final PulsarPartitionSplitSerializer serializer = new PulsarPartitionSplitSerializer();
+
+    private PulsarPartitionSplit roundTrip(PulsarPartitionSplit split) throws IOException {
+        PulsarPartitionSplit restored = serializer.deserialize(serializer.serialize(split));
+        Assertions.assertEquals(split.getPartition(), restored.getPartition());
+        Assertions.assertEquals(split.getLatestConsumedId(), restored.getLatestConsumedId());
+        Assertions.assertEquals(split.getStopCursor().getClass(), restored.getStopCursor().getClass());
+        return restored;
+    }
+
+    @Test
+    public void testNeverStopCursor() throws IOException {
+        PulsarPartitionSplit restored = roundTrip(new PulsarPartitionSplit(PARTITION, StopCursor.never(), MESSAGE_ID));
+        Assertions.assertSame(StopCursor.never(), restored.getStopCursor());
+    }
+
+    @Test
+    public void testLatestMessageStopCursor() throws IOException {
+        PulsarPartitionSplit restored = roundTrip(new PulsarPartitionSplit(PARTITION, StopCursor.latest()));
+        Assertions.assertNull(((LatestMessageStopCursor) restored.getStopCursor()).getMessageId());
+
+        restored = roundTrip(new PulsarPartitionSplit(PARTITION, new LatestMessageStopCursor(MESSAGE_ID)));
+        Assertions.assertEquals(MESSAGE_ID, ((LatestMessageStopCursor) restored.getStopCursor()).getMessageId());
+    }
+
+    @Test
+    public void testMessageIdStopCursor() throws IOException {
+        for (StopCursor stopCursor : new StopCursor[]{StopCursor.atMessageId(MESSAGE_ID), StopCursor.afterMessageId(MESSAGE_ID)}) {
+            MessageIdStopCursor restored = (MessageIdStopCursor) roundTrip(
+                new PulsarPartitionSplit(PARTITION, stopCursor, MESSAGE_ID)).getStopCursor();
+            Assertions.assertEquals(MESSAGE_ID, restored.getMessageId());
+            Assertions.assertEquals(((MessageIdStopCursor) stopCursor).isExclusive(), restored.isExclusive());
+        }
+    }
+
+    @Test
+    public void testTimestampStopCursor() throws IOException {
+        PulsarPartitionSplit restored = roundTrip(new PulsarPartitionSplit(PARTITION, StopCursor.timestamp(1660000000000L)));
+        Assertions.assertEquals(1660000000000L, ((TimestampStopCursor) restored.getStopCursor()).getTimestamp());
+    }
+
+    @Test
+    public void testReadVersion1() throws IOException {
+        // version 1 wrote the stop cursor with Java serialization
+        byte[] bytes = new FieldWriter()
+            .writeByte(VersionedSerializer.MAGIC_NUMBER)
+            .writeVarInt(1)
+            .writeString(PARTITION.getTopic())
+            .writeInt(PARTITION.getPartition())
+            .writeObject(StopCursor.timestamp(42L))
+            .writeNullable(MESSAGE_ID, (writer, messageId) -> writer.writeBytes(messageId.toByteArray()))
+            .toByteArray();
+        PulsarPartitionSplit restored = serializer.deserialize(bytes);
+        Assertions.assertEquals(PARTITION, restored.getPartition());
+        Assertions.assertEquals(42L, ((TimestampStopCursor) restored.getStopCursor()).getTimestamp());
+        Assertions.assertEquals(MESSAGE_ID, restored.getLatestConsumedId());
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws IOException {
+        PulsarPartitionSplit split = new PulsarPartitionSplit(PARTITION, StopCursor.timestamp(42L), MESSAGE_ID);
+        PulsarPartitionSplit restored = serializer.deserialize(new DefaultSerializer<PulsarPartitionSplit>().serialize(split));
+        Assertions.assertEquals(PARTITION, restored.getPartition());
+        Assertions.assertEquals(42L, ((TimestampStopCursor) restored.getStopCursor()).getTimestamp());
+        Assertions.assertEquals(MESSAGE_ID, restored.getLatestConsumedId());
+    }
+}
@@ -21,9 +21,15 @@ import static org.apache.seatunnel.apis.base.plugin.Plugin.RESULT_TABLE_NAME;
 import static org.apache.seatunnel.apis.base.plugin.Plugin.SOURCE_TABLE_NAME;
 
 import org.apache.seatunnel.api.common.JobContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.core.starter.flink.config.FlinkCommon;
 import org.apache.seatunnel.flink.FlinkEnvironment;
 import org.apache.seatunnel.flink.util.TableUtil;
+import org.apache.seatunnel.translation.flink.serialization.RowToSeaTunnelRowFunction;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowToRowFunction;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
+import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
@@ -34,6 +40,7 @@ import org.apache.flink.types.Row;
 
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
@@ -43,6 +50,11 @@ public abstract class AbstractPluginExecuteProcessor<T> implements PluginExecute
     protected final List<? extends Config> pluginConfigs;
     protected final JobContext jobContext;
     protected final List<T> plugins;
+    /**
+     * The result tables of the sources, which are registered in the table environment only when a transform may
+     * refer to them, so that a sink reading such a table consumes the {@link SeaTunnelRow}s as they are.
+     */
+    protected final Map<String, DataStream<SeaTunnelRow>> resultStreams;
     protected static final String ENGINE_TYPE = "seatunnel";
     protected static final String PLUGIN_NAME = "plugin_name";
 
@@ -50,16 +62,45 @@ public abstract class AbstractPluginExecuteProcessor<T> implements PluginExecute
 
     protected AbstractPluginExecuteProcessor(FlinkEnvironment flinkEnvironment,
                                              JobContext jobContext,
+                                             Map<String, DataStream<SeaTunnelRow>> resultStreams,
                                              List<? extends Config> pluginConfigs) {
         this.flinkEnvironment = flinkEnvironment;
         this.jobContext = jobContext;
+        this.resultStreams = resultStreams;
         this.pluginConfigs = pluginConfigs;
         this.plugins = initializePlugins(pluginConfigs);
     }
 
     protected abstract List<T> initializePlugins(List<? extends Config> pluginConfigs);
 
-    protected void registerResultTable(Config pluginConfig, DataStream<Row> dataStream) {
+    protected void registerResultTable(Config pluginConfig, DataStream<SeaTunnelRow> dataStream) {
+        if (pluginConfig.hasPath(RESULT_TABLE_NAME)) {
+            String name = pluginConfig.getString(RESULT_TABLE_NAME);
+            if (resultStreams.containsKey(name) || TableUtil.tableExists(flinkEnvironment.getStreamTableEnvironment(), name)) {
+                return;
+            }
+            if (pluginConfig.hasPath("field_name")) {
+                // the table renames the fields, so it is read through the table environment
+                registerRowResultTable(pluginConfig, toRows(dataStream));
+            } else {
+                resultStreams.put(name, dataStream);
+            }
+        }
+    }
+
+    /**
+     * Registers the result tables of the sources which are not registered in the table environment yet.
+     */
+    protected void registerResultStreams() {
+        StreamTableEnvironment tableEnvironment = flinkEnvironment.getStreamTableEnvironment();
+        resultStreams.forEach((name, dataStream) -> {
+            if (!TableUtil.tableExists(tableEnvironment, name)) {
+                tableEnvironment.registerDataStream(name, toRows(dataStream));
+            }
+        });
+    }
+
+    protected void registerRowResultTable(Config pluginConfig, DataStream<Row> dataStream) {
         if (pluginConfig.hasPath(RESULT_TABLE_NAME)) {
             String name = pluginConfig.getString(RESULT_TABLE_NAME);
             StreamTableEnvironment tableEnvironment = flinkEnvironment.getStreamTableEnvironment();
@@ -74,7 +115,14 @@ public abstract class AbstractPluginExecuteProcessor<T> implements PluginExecute
         }
     }
 
-    protected Optional<DataStream<Row>> fromSourceTable(Config pluginConfig) {
+    protected Optional<DataStream<SeaTunnelRow>> fromSourceTable(Config pluginConfig) {
+        if (pluginConfig.hasPath(SOURCE_TABLE_NAME) && resultStreams.containsKey(pluginConfig.getString(SOURCE_TABLE_NAME))) {
+            return Optional.of(resultStreams.get(pluginConfig.getString(SOURCE_TABLE_NAME)));
+        }
+        return fromSourceTableAsRows(pluginConfig).map(AbstractPluginExecuteProcessor::toSeaTunnelRows);
+    }
+
+    protected Optional<DataStream<Row>> fromSourceTableAsRows(Config pluginConfig) {
         if (pluginConfig.hasPath(SOURCE_TABLE_NAME)) {
             StreamTableEnvironment tableEnvironment = flinkEnvironment.getStreamTableEnvironment();
             Table table = tableEnvironment.scan(pluginConfig.getString(SOURCE_TABLE_NAME));
@@ -82,4 +130,14 @@ public abstract class AbstractPluginExecuteProcessor<T> implements PluginExecute
         }
         return Optional.empty();
     }
+
+    protected static DataStream<Row> toRows(DataStream<SeaTunnelRow> dataStream) {
+        SeaTunnelRowType rowType = ((SeaTunnelRowTypeInfo) dataStream.getType()).getRowType();
+        return dataStream.map(new SeaTunnelRowToRowFunction(rowType));
+    }
+
+    protected static DataStream<SeaTunnelRow> toSeaTunnelRows(DataStream<Row> dataStream) {
+        SeaTunnelRowType rowType = (SeaTunnelRowType) TypeConverterUtils.convert(dataStream.getType());
+        return dataStream.map(new RowToSeaTunnelRowFunction(rowType));
+    }
 }
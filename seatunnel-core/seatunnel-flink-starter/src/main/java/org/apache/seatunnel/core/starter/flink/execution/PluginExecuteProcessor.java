@@ -17,10 +17,10 @@
 
 package org.apache.seatunnel.core.starter.flink.execution;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.core.starter.exception.TaskExecuteException;
 
 import org.apache.flink.streaming.api.datastream.DataStream;
-import org.apache.flink.types.Row;
 
 import java.util.List;
 
@@ -32,5 +32,5 @@ public interface PluginExecuteProcessor {
      * @param upstreamDataStreams the upstream data streams.
      * @return the result data stream
      */
-    List<DataStream<Row>> execute(List<DataStream<Row>> upstreamDataStreams) throws TaskExecuteException;
+    List<DataStream<SeaTunnelRow>> execute(List<DataStream<SeaTunnelRow>> upstreamDataStreams) throws TaskExecuteException;
 }
@@ -20,23 +20,22 @@ package org.apache.seatunnel.core.starter.flink.execution;
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.core.starter.exception.TaskExecuteException;
 import org.apache.seatunnel.flink.FlinkEnvironment;
 import org.apache.seatunnel.plugin.discovery.PluginIdentifier;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelSinkPluginDiscovery;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 import org.apache.seatunnel.translation.flink.sink.FlinkSink;
-import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import com.google.common.collect.Lists;
 import org.apache.flink.streaming.api.datastream.DataStream;
-import org.apache.flink.types.Row;
 
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import scala.Serializable;
@@ -47,8 +46,9 @@ public class SinkExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTunn
 
     protected SinkExecuteProcessor(FlinkEnvironment flinkEnvironment,
                                    JobContext jobContext,
+                                   Map<String, DataStream<SeaTunnelRow>> resultStreams,
                                    List<? extends Config> pluginConfigs) {
-        super(flinkEnvironment, jobContext, pluginConfigs);
+        super(flinkEnvironment, jobContext, resultStreams, pluginConfigs);
     }
 
     @Override
@@ -69,13 +69,13 @@ public class SinkExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTunn
     }
 
     @Override
-    public List<DataStream<Row>> execute(List<DataStream<Row>> upstreamDataStreams) throws TaskExecuteException {
-        DataStream<Row> input = upstreamDataStreams.get(0);
+    public List<DataStream<SeaTunnelRow>> execute(List<DataStream<SeaTunnelRow>> upstreamDataStreams) throws TaskExecuteException {
+        DataStream<SeaTunnelRow> input = upstreamDataStreams.get(0);
         for (int i = 0; i < plugins.size(); i++) {
             Config sinkConfig = pluginConfigs.get(i);
             SeaTunnelSink<SeaTunnelRow, Serializable, Serializable, Serializable> seaTunnelSink = plugins.get(i);
-            DataStream<Row> stream = fromSourceTable(sinkConfig).orElse(input);
-            seaTunnelSink.setTypeInfo((SeaTunnelRowType) TypeConverterUtils.convert(stream.getType()));
+            DataStream<SeaTunnelRow> stream = fromSourceTable(sinkConfig).orElse(input);
+            seaTunnelSink.setTypeInfo(((SeaTunnelRowTypeInfo) stream.getType()).getRowType());
             stream.sinkTo(new FlinkSink<>(seaTunnelSink)).name(seaTunnelSink.getPluginName());
         }
         // the sink is the last stream
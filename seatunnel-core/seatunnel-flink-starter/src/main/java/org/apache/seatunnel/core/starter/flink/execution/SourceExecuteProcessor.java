@@ -22,6 +22,7 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SupportCoordinate;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.flink.FlinkEnvironment;
 import org.apache.seatunnel.plugin.discovery.PluginIdentifier;
@@ -40,12 +41,12 @@ import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.streaming.api.functions.source.ParallelSourceFunction;
 import org.apache.flink.streaming.api.operators.StreamSource;
-import org.apache.flink.types.Row;
 
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class SourceExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTunnelSource> {
@@ -54,14 +55,15 @@ public class SourceExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTu
 
     public SourceExecuteProcessor(FlinkEnvironment flinkEnvironment,
                                   JobContext jobContext,
+                                  Map<String, DataStream<SeaTunnelRow>> resultStreams,
                                   List<? extends Config> sourceConfigs) {
-        super(flinkEnvironment, jobContext, sourceConfigs);
+        super(flinkEnvironment, jobContext, resultStreams, sourceConfigs);
     }
 
     @Override
-    public List<DataStream<Row>> execute(List<DataStream<Row>> upstreamDataStreams) {
+    public List<DataStream<SeaTunnelRow>> execute(List<DataStream<SeaTunnelRow>> upstreamDataStreams) {
         StreamExecutionEnvironment executionEnvironment = flinkEnvironment.getStreamExecutionEnvironment();
-        List<DataStream<Row>> sources = new ArrayList<>();
+        List<DataStream<SeaTunnelRow>> sources = new ArrayList<>();
         for (int i = 0; i < plugins.size(); i++) {
             SeaTunnelSource internalSource = plugins.get(i);
             BaseSeaTunnelSourceFunction sourceFunction;
@@ -70,7 +72,7 @@ public class SourceExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTu
             } else {
                 sourceFunction = new SeaTunnelParallelSource(internalSource);
             }
-            DataStreamSource<Row> sourceStream = addSource(executionEnvironment,
+            DataStreamSource<SeaTunnelRow> sourceStream = addSource(executionEnvironment,
                 sourceFunction,
                 "SeaTunnel " + internalSource.getClass().getSimpleName(),
                 internalSource.getBoundedness() == org.apache.seatunnel.api.source.Boundedness.BOUNDED);
@@ -81,7 +83,7 @@ public class SourceExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTu
         return sources;
     }
 
-    private DataStreamSource<Row> addSource(
+    private DataStreamSource<SeaTunnelRow> addSource(
         final StreamExecutionEnvironment streamEnv,
         final BaseSeaTunnelSourceFunction function,
         final String sourceName,
@@ -90,13 +92,13 @@ public class SourceExecuteProcessor extends AbstractPluginExecuteProcessor<SeaTu
         checkNotNull(sourceName);
         checkNotNull(bounded);
 
-        TypeInformation<Row> resolvedTypeInfo = function.getProducedType();
+        TypeInformation<SeaTunnelRow> resolvedTypeInfo = function.getProducedType();
 
         boolean isParallel = function instanceof ParallelSourceFunction;
 
         streamEnv.clean(function);
 
-        final StreamSource<Row, ?> sourceOperator = new StreamSource<>(function);
+        final StreamSource<SeaTunnelRow, ?> sourceOperator = new StreamSource<>(function);
         return new DataStreamSource<>(streamEnv, resolvedTypeInfo, sourceOperator, isParallel, sourceName, bounded ? Boundedness.BOUNDED : Boundedness.CONTINUOUS_UNBOUNDED);
     }
 
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.core.starter.flink.execution;
 
 import org.apache.seatunnel.api.common.JobContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.core.starter.exception.TaskExecuteException;
 import org.apache.seatunnel.flink.FlinkEnvironment;
 import org.apache.seatunnel.flink.stream.FlinkStreamTransform;
@@ -33,6 +34,7 @@ import org.apache.flink.types.Row;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class TransformExecuteProcessor extends AbstractPluginExecuteProcessor<FlinkStreamTransform> {
@@ -41,8 +43,9 @@ public class TransformExecuteProcessor extends AbstractPluginExecuteProcessor<Fl
 
     protected TransformExecuteProcessor(FlinkEnvironment flinkEnvironment,
                                         JobContext jobContext,
+                                        Map<String, DataStream<SeaTunnelRow>> resultStreams,
                                         List<? extends Config> pluginConfigs) {
-        super(flinkEnvironment, jobContext, pluginConfigs);
+        super(flinkEnvironment, jobContext, resultStreams, pluginConfigs);
     }
 
     @Override
@@ -63,21 +66,26 @@ public class TransformExecuteProcessor extends AbstractPluginExecuteProcessor<Fl
     }
 
     @Override
-    public List<DataStream<Row>> execute(List<DataStream<Row>> upstreamDataStreams) throws TaskExecuteException {
+    public List<DataStream<SeaTunnelRow>> execute(List<DataStream<SeaTunnelRow>> upstreamDataStreams) throws TaskExecuteException {
         if (plugins.isEmpty()) {
             return upstreamDataStreams;
         }
-        DataStream<Row> input = upstreamDataStreams.get(0);
-        List<DataStream<Row>> result = new ArrayList<>();
+        // the sql of a transform may refer to any result table
+        registerResultStreams();
+        DataStream<Row> input = null;
+        List<DataStream<SeaTunnelRow>> result = new ArrayList<>();
         for (int i = 0; i < plugins.size(); i++) {
             try {
                 FlinkStreamTransform transform = plugins.get(i);
                 Config pluginConfig = pluginConfigs.get(i);
-                DataStream<Row> stream = fromSourceTable(pluginConfig).orElse(input);
+                DataStream<Row> stream = fromSourceTableAsRows(pluginConfig).orElse(input);
+                if (stream == null) {
+                    stream = toRows(upstreamDataStreams.get(0));
+                }
                 input = transform.processStream(flinkEnvironment, stream);
-                registerResultTable(pluginConfig, input);
+                registerRowResultTable(pluginConfig, input);
                 transform.registerFunction(flinkEnvironment);
-                result.add(input);
+                result.add(toSeaTunnelRows(input));
             } catch (Exception e) {
                 throw new TaskExecuteException(
                     String.format("SeaTunnel transform task: %s execute error", plugins.get(i).getPluginName()), e);
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -36,8 +37,31 @@ import java.util.Map;
 public abstract class RowConverter<T> {
     protected final SeaTunnelDataType<?> dataType;
 
+    /**
+     * The expected class of each top-level field, or null if the field type has to be validated recursively.
+     */
+    private final Class<?>[] fieldTypeClasses;
+
     public RowConverter(SeaTunnelDataType<?> dataType) {
         this.dataType = dataType;
+        this.fieldTypeClasses = dataType instanceof SeaTunnelRowType ?
+            createFieldTypeClasses((SeaTunnelRowType) dataType) : null;
+    }
+
+    private static Class<?>[] createFieldTypeClasses(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        Class<?>[] typeClasses = new Class<?>[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            switch (fieldTypes[i].getSqlType()) {
+                case MAP:
+                case ROW:
+                case NULL:
+                    break;
+                default:
+                    typeClasses[i] = fieldTypes[i].getTypeClass();
+            }
+        }
+        return typeClasses;
     }
 
     public void validate(SeaTunnelRow seaTunnelRow) throws IOException {
@@ -45,18 +69,26 @@ public abstract class RowConverter<T> {
             throw new UnsupportedOperationException(String.format("The data type don't support validation: %s. ", dataType.getClass().getSimpleName()));
         }
         SeaTunnelDataType<?>[] fieldTypes = ((SeaTunnelRowType) dataType).getFieldTypes();
-        List<String> errors = new ArrayList<>();
+        List<String> errors = null;
         Object field;
         SeaTunnelDataType<?> fieldType;
         for (int i = 0; i < fieldTypes.length; i++) {
             field = seaTunnelRow.getField(i);
+            if (field == null) {
+                continue;
+            }
             fieldType = fieldTypes[i];
-            if (!validate(field, fieldType)) {
+            Class<?> typeClass = fieldTypeClasses[i];
+            boolean valid = typeClass != null ? typeClass == field.getClass() : validate(field, fieldType);
+            if (!valid) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
                 errors.add(String.format("The SQL type '%s' don't support '%s', the class of the expected data type is '%s'.",
                     fieldType.getSqlType(), field.getClass(), fieldType.getTypeClass()));
             }
         }
-        if (errors.size() > 0) {
+        if (errors != null) {
             throw new UnsupportedOperationException(String.join(",", errors));
         }
     }
@@ -125,4 +157,13 @@ public abstract class RowConverter<T> {
      * @throws IOException Thrown, if the conversion fails.
      */
     public abstract SeaTunnelRow reconvert(T engineRow) throws IOException;
+
+    /**
+     * Converts a single non-null field value. Converters are created once per data type, so the per-row
+     * conversion does not need to dispatch on the data type again.
+     */
+    @FunctionalInterface
+    public interface FieldConverter extends Serializable {
+        Object convert(Object value);
+    }
 }
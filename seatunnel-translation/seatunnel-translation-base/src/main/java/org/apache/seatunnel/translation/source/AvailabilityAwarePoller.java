@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drives {@link SourceReader#pollNext(Collector)} for the translation layer.
+ *
+ * <p>The reader is polled again immediately as long as it emits records. Only when a poll produced
+ * nothing does the poller block, either on {@link SourceReader#isAvailable()} or, if the reader does
+ * not track availability, for a short fixed back-off.
+ */
+public class AvailabilityAwarePoller<T> {
+
+    /**
+     * The back-off used for readers that do not signal availability.
+     */
+    public static final long IDLE_BACKOFF_MILLIS = 5L;
+
+    /**
+     * The upper bound of a single wait on an availability future, so that the caller is able to
+     * re-check its running flag.
+     */
+    public static final long MAX_AVAILABILITY_WAIT_MILLIS = 100L;
+
+    private final SourceReader<T, ?> reader;
+    private final CountingCollector<T> collector;
+    private final long maxAvailabilityWaitMillis;
+
+    public AvailabilityAwarePoller(SourceReader<T, ?> reader, Collector<T> collector) {
+        this(reader, collector, MAX_AVAILABILITY_WAIT_MILLIS);
+    }
+
+    AvailabilityAwarePoller(SourceReader<T, ?> reader, Collector<T> collector, long maxAvailabilityWaitMillis) {
+        this.reader = reader;
+        this.collector = new CountingCollector<>(collector);
+        this.maxAvailabilityWaitMillis = maxAvailabilityWaitMillis;
+    }
+
+    /**
+     * Polls the reader once, and waits for data availability if nothing was emitted.
+     *
+     * @return the number of records emitted by this poll.
+     */
+    public long pollNext() throws Exception {
+        collector.emitted = 0;
+        reader.pollNext(collector);
+        long emitted = collector.emitted;
+        if (emitted == 0) {
+            awaitAvailable();
+        }
+        return emitted;
+    }
+
+    private void awaitAvailable() throws Exception {
+        CompletableFuture<Void> available = reader.isAvailable();
+        if (available == SourceReader.AVAILABLE) {
+            Thread.sleep(IDLE_BACKOFF_MILLIS);
+            return;
+        }
+        if (available.isDone()) {
+            return;
+        }
+        try {
+            available.get(maxAvailabilityWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // give the caller a chance to check whether it is still running
+        }
+    }
+
+    private static class CountingCollector<T> implements Collector<T> {
+        private final Collector<T> delegate;
+        private long emitted;
+
+        CountingCollector(Collector<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void collect(T record) {
+            emitted++;
+            delegate.collect(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return delegate.getCheckpointLock();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportSplitRequest;
 import org.apache.seatunnel.translation.util.ThreadPoolExecutorFactory;
 
 import java.io.IOException;
@@ -35,13 +36,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Serializable> implements BaseSourceFunction<T> {
-    protected static final long SLEEP_TIME_INTERVAL = 5L;
     protected final SeaTunnelSource<T, SplitT, StateT> source;
     protected final Map<Integer, List<byte[]>> restoredState;
     protected final Integer parallelism;
@@ -55,15 +56,30 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
 
     protected transient volatile SourceSplitEnumerator<SplitT, StateT> splitEnumerator;
     protected transient Map<Integer, SourceReader<T, SplitT>> readerMap = new ConcurrentHashMap<>();
+    protected transient Map<Integer, ReaderStateSnapshotter<SplitT>> readerStateSnapshotterMap = new ConcurrentHashMap<>();
+    protected transient volatile EnumeratorStateSnapshotter<SplitT, StateT> enumeratorStateSnapshotter;
     protected final Map<Integer, AtomicBoolean> readerRunningMap;
     protected final AtomicInteger completedReader = new AtomicInteger(0);
     protected transient volatile ScheduledThreadPoolExecutor executorService;
 
+    /**
+     * The splits of the readers which pull their splits, see {@link SupportSplitRequest}.
+     */
+    protected final WorkStealingSplitQueue<SplitT> splitQueue = new WorkStealingSplitQueue<>();
+    protected final Set<Integer> splitRequestReaders = ConcurrentHashMap.newKeySet();
+    protected final Set<Integer> noMoreSplitsReaders = ConcurrentHashMap.newKeySet();
+    protected transient volatile Object checkpointLock = new Object();
+
     /**
      * Flag indicating whether the consumer is still running.
      */
     protected volatile boolean running = true;
 
+    /**
+     * Released once all readers have finished, a reader has failed or the source is closed.
+     */
+    protected final CountDownLatch terminated = new CountDownLatch(1);
+
     public CoordinatedSource(SeaTunnelSource<T, SplitT, StateT> source,
                              Map<Integer, List<byte[]>> restoredState,
                              int parallelism) {
@@ -108,6 +124,7 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
         } else {
             splitEnumerator = source.createEnumerator(coordinatedEnumeratorContext);
         }
+        enumeratorStateSnapshotter = new EnumeratorStateSnapshotter<>(splitEnumerator, enumeratorStateSerializer);
     }
 
     private void createReaders() throws Exception {
@@ -117,6 +134,10 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
             readerRunningMap.put(subtaskId, new AtomicBoolean(true));
             SourceReader<T, SplitT> reader = source.createReader(readerContext);
             readerMap.put(subtaskId, reader);
+            if (reader instanceof SupportSplitRequest) {
+                splitRequestReaders.add(subtaskId);
+            }
+            readerStateSnapshotterMap.put(subtaskId, new ReaderStateSnapshotter<>(reader, splitSerializer));
         }
     }
 
@@ -139,31 +160,45 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
 
     @Override
     public void run(Collector<T> collector) throws Exception {
+        if (collector.getCheckpointLock() != null) {
+            checkpointLock = collector.getCheckpointLock();
+        }
         readerMap.entrySet().parallelStream().forEach(entry -> {
             final AtomicBoolean flag = readerRunningMap.get(entry.getKey());
-            final SourceReader<T, SplitT> reader = entry.getValue();
+            final AvailabilityAwarePoller<T> poller =
+                new AvailabilityAwarePoller<>(entry.getValue(), getReaderCollector(entry.getKey(), collector));
             executorService.execute(() -> {
                 while (flag.get()) {
                     try {
-                        reader.pollNext(collector);
-                        Thread.sleep(SLEEP_TIME_INTERVAL);
+                        poller.pollNext();
                     } catch (Exception e) {
-                        running = false;
                         flag.set(false);
+                        stopRunning();
                         throw new RuntimeException(e);
                     }
                 }
             });
         });
         splitEnumerator.run();
-        while (running) {
-            Thread.sleep(SLEEP_TIME_INTERVAL);
-        }
+        terminated.await();
+    }
+
+    /**
+     * Returns the collector of the reader with the given subtask id, all readers share the collector of the source
+     * by default.
+     */
+    protected Collector<T> getReaderCollector(int subtaskId, Collector<T> collector) {
+        return collector;
+    }
+
+    protected void stopRunning() {
+        running = false;
+        terminated.countDown();
     }
 
     @Override
     public void close() throws IOException {
-        running = false;
+        stopRunning();
 
         for (Map.Entry<Integer, SourceReader<T, SplitT>> entry : readerMap.entrySet()) {
             readerRunningMap.get(entry.getKey()).set(false);
@@ -185,25 +220,31 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
 
     @Override
     public Map<Integer, List<byte[]>> snapshotState(long checkpointId) throws Exception {
-        Map<Integer, List<byte[]>> allStates = readerMap.entrySet()
+        Map<Integer, List<byte[]>> allStates = readerStateSnapshotterMap.entrySet()
             .parallelStream()
             .collect(Collectors.toMap(
-                Map.Entry<Integer, SourceReader<T, SplitT>>::getKey,
-                readerEntry -> {
+                Map.Entry<Integer, ReaderStateSnapshotter<SplitT>>::getKey,
+                snapshotterEntry -> {
                     try {
-                        List<SplitT> splitStates = readerEntry.getValue().snapshotState(checkpointId);
-                        final List<byte[]> rawValues = new ArrayList<>(splitStates.size());
-                        for (SplitT splitState : splitStates) {
-                            rawValues.add(splitSerializer.serialize(splitState));
-                        }
-                        return rawValues;
+                        return snapshotterEntry.getValue().snapshotState(checkpointId);
                     } catch (Exception e) {
                         throw new RuntimeException(e);
                     }
                 }));
-        StateT enumeratorState = splitEnumerator.snapshotState(checkpointId);
-        if (enumeratorState != null) {
-            byte[] enumeratorStateBytes = enumeratorStateSerializer.serialize(enumeratorState);
+        for (Integer subtaskId : splitRequestReaders) {
+            List<SplitT> pendingSplits = splitQueue.getPendingSplits(subtaskId);
+            if (pendingSplits.isEmpty()) {
+                continue;
+            }
+            // the pending splits are a part of the reader state, as the enumerator has already assigned them
+            List<byte[]> readerState = new ArrayList<>(allStates.getOrDefault(subtaskId, Collections.emptyList()));
+            for (SplitT split : pendingSplits) {
+                readerState.add(splitSerializer.serialize(split));
+            }
+            allStates.put(subtaskId, readerState);
+        }
+        byte[] enumeratorStateBytes = enumeratorStateSnapshotter.snapshotState(checkpointId);
+        if (enumeratorStateBytes != null) {
             allStates.put(-1, Collections.singletonList(enumeratorStateBytes));
         }
         return allStates;
@@ -241,12 +282,40 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
         readerRunningMap.get(subtaskId).set(false);
         readerContextMap.remove(subtaskId);
         if (completedReader.incrementAndGet() == this.parallelism) {
-            this.running = false;
+            stopRunning();
         }
     }
 
+    /**
+     * Hands the next split to a reader which pulls its splits. The reader takes its own pending splits first, then
+     * the splits the enumerator assigns on request, and finally steals a split from the reader with the most
+     * pending splits. A reader gets no more splits once none of them is left.
+     */
     protected void handleSplitRequest(int subtaskId) {
-        splitEnumerator.handleSplitRequest(subtaskId);
+        if (!splitRequestReaders.contains(subtaskId)) {
+            splitEnumerator.handleSplitRequest(subtaskId);
+            return;
+        }
+        // a split must not be missing from or duplicated in a snapshot while it moves to the reader
+        synchronized (getCheckpointLock(subtaskId)) {
+            SplitT split = splitQueue.poll(subtaskId);
+            if (split == null) {
+                splitEnumerator.handleSplitRequest(subtaskId);
+                split = splitQueue.poll(subtaskId);
+            }
+            if (split == null) {
+                split = splitQueue.steal();
+            }
+            if (split != null) {
+                readerMap.get(subtaskId).addSplits(Collections.singletonList(split));
+            } else if (splitQueue.isFinished(subtaskId) && noMoreSplitsReaders.add(subtaskId)) {
+                readerMap.get(subtaskId).handleNoMoreSplits();
+            }
+        }
+    }
+
+    protected Object getCheckpointLock(int subtaskId) {
+        return checkpointLock;
     }
 
     protected void handleReaderEvent(int subtaskId, SourceEvent event) {
@@ -266,11 +335,20 @@ public class CoordinatedSource<T, SplitT extends SourceSplit, StateT extends Ser
     }
 
     protected void addSplits(int subtaskId, List<SplitT> splits) {
-        readerMap.get(subtaskId).addSplits(splits);
+        if (splitRequestReaders.contains(subtaskId)) {
+            splitQueue.addSplits(subtaskId, splits);
+        } else {
+            readerMap.get(subtaskId).addSplits(splits);
+        }
     }
 
     protected void handleNoMoreSplits(int subtaskId) {
-        readerMap.get(subtaskId).handleNoMoreSplits();
+        if (splitRequestReaders.contains(subtaskId)) {
+            // forwarded once the reader requests a split and none is left
+            splitQueue.signalNoMoreSplits(subtaskId);
+        } else {
+            readerMap.get(subtaskId).handleNoMoreSplits();
+        }
     }
 
     protected void handleEnumeratorEvent(int subtaskId, SourceEvent event) {
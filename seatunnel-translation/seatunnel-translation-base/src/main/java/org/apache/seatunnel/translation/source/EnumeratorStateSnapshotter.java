@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.serialization.Serializer;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportIncrementalState;
+
+import java.io.Serializable;
+
+/**
+ * Serializes the state of a {@link SourceSplitEnumerator} for a checkpoint.
+ *
+ * <p>If the enumerator implements {@link SupportIncrementalState} and reports that none of its splits changed
+ * since the previous snapshot, the state serialized for the previous snapshot is reused.
+ */
+public class EnumeratorStateSnapshotter<SplitT extends SourceSplit, StateT extends Serializable> {
+
+    private final SourceSplitEnumerator<SplitT, StateT> enumerator;
+    private final Serializer<StateT> enumeratorStateSerializer;
+
+    private byte[] serializedState;
+
+    public EnumeratorStateSnapshotter(SourceSplitEnumerator<SplitT, StateT> enumerator,
+                                      Serializer<StateT> enumeratorStateSerializer) {
+        this.enumerator = enumerator;
+        this.enumeratorStateSerializer = enumeratorStateSerializer;
+    }
+
+    /**
+     * Returns the serialized enumerator state, or null if the enumerator has no state.
+     */
+    @SuppressWarnings("unchecked")
+    public byte[] snapshotState(long checkpointId) throws Exception {
+        if (enumerator instanceof SupportIncrementalState) {
+            boolean unchanged = ((SupportIncrementalState<SplitT>) enumerator).snapshotStateDelta(checkpointId).isEmpty();
+            if (unchanged && serializedState != null) {
+                return serializedState;
+            }
+        }
+        StateT enumeratorState = enumerator.snapshotState(checkpointId);
+        serializedState = enumeratorState == null ? null : enumeratorStateSerializer.serialize(enumeratorState);
+        return serializedState;
+    }
+}
@@ -17,8 +17,6 @@
 
 package org.apache.seatunnel.translation.source;
 
-import static org.apache.seatunnel.translation.source.CoordinatedSource.SLEEP_TIME_INTERVAL;
-
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
@@ -56,6 +54,8 @@ public class ParallelSource<T, SplitT extends SourceSplit, StateT extends Serial
 
     protected final SourceSplitEnumerator<SplitT, StateT> splitEnumerator;
     protected final SourceReader<T, SplitT> reader;
+    protected final EnumeratorStateSnapshotter<SplitT, StateT> enumeratorStateSnapshotter;
+    protected final ReaderStateSnapshotter<SplitT> readerStateSnapshotter;
     protected transient volatile ScheduledThreadPoolExecutor executorService;
 
     /**
@@ -97,6 +97,8 @@ public class ParallelSource<T, SplitT extends SourceSplit, StateT extends Serial
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        this.enumeratorStateSnapshotter = new EnumeratorStateSnapshotter<>(splitEnumerator, enumeratorStateSerializer);
+        this.readerStateSnapshotter = new ReaderStateSnapshotter<>(reader, splitSerializer);
     }
 
     @Override
@@ -121,12 +123,12 @@ public class ParallelSource<T, SplitT extends SourceSplit, StateT extends Serial
             }
         });
 
+        AvailabilityAwarePoller<T> poller = new AvailabilityAwarePoller<>(reader, collector);
         while (running) {
             if (future.isDone()) {
                 future.get();
             }
-            reader.pollNext(collector);
-            Thread.sleep(SLEEP_TIME_INTERVAL);
+            poller.pollNext();
         }
         LOG.debug("Parallel source runs complete.");
     }
@@ -185,17 +187,12 @@ public class ParallelSource<T, SplitT extends SourceSplit, StateT extends Serial
     public Map<Integer, List<byte[]>> snapshotState(long checkpointId) throws Exception {
         Map<Integer, List<byte[]>> allStates = new HashMap<>(2);
 
-        StateT enumeratorState = splitEnumerator.snapshotState(checkpointId);
-        if (enumeratorState != null) {
-            byte[] enumeratorStateBytes = enumeratorStateSerializer.serialize(enumeratorState);
+        byte[] enumeratorStateBytes = enumeratorStateSnapshotter.snapshotState(checkpointId);
+        if (enumeratorStateBytes != null) {
             allStates.put(-1, Collections.singletonList(enumeratorStateBytes));
         }
-        List<SplitT> splitStates = reader.snapshotState(checkpointId);
-        if (splitStates != null) {
-            final List<byte[]> readerStateBytes = new ArrayList<>(splitStates.size());
-            for (SplitT splitState : splitStates) {
-                readerStateBytes.add(splitSerializer.serialize(splitState));
-            }
+        List<byte[]> readerStateBytes = readerStateSnapshotter.snapshotState(checkpointId);
+        if (readerStateBytes != null) {
             allStates.put(subtaskId, readerStateBytes);
         }
         return allStates;
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.serialization.Serializer;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SplitStateDelta;
+import org.apache.seatunnel.api.source.SupportIncrementalState;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes the split state of a {@link SourceReader} for a checkpoint.
+ *
+ * <p>If the reader implements {@link SupportIncrementalState}, only the splits changed since the previous
+ * snapshot are serialized and merged into the serialized splits kept from the previous snapshots. The
+ * returned state always holds every split, so it is restored like a full snapshot.
+ */
+public class ReaderStateSnapshotter<SplitT extends SourceSplit> {
+
+    private final SourceReader<?, SplitT> reader;
+    private final Serializer<SplitT> splitSerializer;
+
+    /**
+     * The serialized splits by split id, only used for readers supporting incremental state.
+     */
+    private final Map<String, byte[]> serializedSplits = new LinkedHashMap<>();
+
+    public ReaderStateSnapshotter(SourceReader<?, SplitT> reader, Serializer<SplitT> splitSerializer) {
+        this.reader = reader;
+        this.splitSerializer = splitSerializer;
+    }
+
+    /**
+     * Returns the serialized split state, or null if the reader has no state.
+     */
+    @SuppressWarnings("unchecked")
+    public List<byte[]> snapshotState(long checkpointId) throws Exception {
+        if (reader instanceof SupportIncrementalState) {
+            SplitStateDelta<SplitT> delta = ((SupportIncrementalState<SplitT>) reader).snapshotStateDelta(checkpointId);
+            delta.getRemovedSplitIds().forEach(serializedSplits::remove);
+            for (SplitT split : delta.getChangedSplits()) {
+                serializedSplits.put(split.splitId(), splitSerializer.serialize(split));
+            }
+            return new ArrayList<>(serializedSplits.values());
+        }
+        List<SplitT> splitStates = reader.snapshotState(checkpointId);
+        if (splitStates == null) {
+            return null;
+        }
+        List<byte[]> rawValues = new ArrayList<>(splitStates.size());
+        for (SplitT splitState : splitStates) {
+            rawValues.add(splitSerializer.serialize(splitState));
+        }
+        return rawValues;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the splits assigned to the readers of a {@link CoordinatedSource} until the readers request them.
+ *
+ * <p>A reader takes the splits assigned to itself first, in assignment order. A reader without pending splits
+ * steals the most recently assigned split of the reader with the most pending splits, so the splits of a skewed
+ * reader are spread over the idle ones.
+ */
+public class WorkStealingSplitQueue<SplitT> {
+
+    private final Map<Integer, Deque<SplitT>> pendingSplits = new HashMap<>();
+    private final Set<Integer> noMoreSplits = new HashSet<>();
+
+    public synchronized void addSplits(int subtaskId, Collection<SplitT> splits) {
+        pendingSplits.computeIfAbsent(subtaskId, id -> new ArrayDeque<>()).addAll(splits);
+    }
+
+    public synchronized void signalNoMoreSplits(int subtaskId) {
+        noMoreSplits.add(subtaskId);
+    }
+
+    /**
+     * @return the next split assigned to the given reader, or {@code null} if it has no pending split.
+     */
+    public synchronized SplitT poll(int subtaskId) {
+        Deque<SplitT> splits = pendingSplits.get(subtaskId);
+        return splits == null ? null : splits.pollFirst();
+    }
+
+    /**
+     * @return a split taken from the reader with the most pending splits, or {@code null} if no reader has one.
+     */
+    public synchronized SplitT steal() {
+        Deque<SplitT> victim = null;
+        for (Deque<SplitT> splits : pendingSplits.values()) {
+            if (!splits.isEmpty() && (victim == null || splits.size() > victim.size())) {
+                victim = splits;
+            }
+        }
+        return victim == null ? null : victim.pollLast();
+    }
+
+    /**
+     * @return whether the given reader neither has a pending split nor gets any further split assigned.
+     */
+    public synchronized boolean isFinished(int subtaskId) {
+        Deque<SplitT> splits = pendingSplits.get(subtaskId);
+        return noMoreSplits.contains(subtaskId) && (splits == null || splits.isEmpty());
+    }
+
+    public synchronized List<SplitT> getPendingSplits(int subtaskId) {
+        Deque<SplitT> splits = pendingSplits.get(subtaskId);
+        return splits == null ? new ArrayList<>() : new ArrayList<>(splits);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fixed-sleep read loop, which polled a reader and then slept {@code 5 ms}, with
+ * {@link AvailabilityAwarePoller}:
+ * <ul>
+ *     <li>the records per second of a reader which always has data,</li>
+ *     <li>the latency from a record arriving at the reader until it is collected, for a reader which receives a
+ *     record every millisecond.</li>
+ * </ul>
+ * It is not a part of the test suite and asserts nothing, run it with the test classpath of the module:
+ * {@code java -cp <classpath> org.apache.seatunnel.translation.source.AvailabilityAwarePollerBenchmark}.
+ */
+@SuppressWarnings("MagicNumber")
+public class AvailabilityAwarePollerBenchmark {
+
+    private static final long FIXED_SLEEP_MILLIS = 5L;
+    private static final int RECORDS_PER_POLL = 100;
+    private static final long WARMUP_MILLIS = 1_000L;
+    private static final long MEASURE_MILLIS = 3_000L;
+    private static final long ARRIVAL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public static void main(String[] args) throws Exception {
+        for (boolean availabilityAware : new boolean[]{false, true}) {
+            String loop = availabilityAware ? "availability-aware poller" : "fixed-sleep loop";
+            throughput(availabilityAware, WARMUP_MILLIS);
+            System.out.printf("%s: %d records/s%n", loop, throughput(availabilityAware, MEASURE_MILLIS));
+            latency(availabilityAware, WARMUP_MILLIS);
+            long[] latencies = latency(availabilityAware, MEASURE_MILLIS);
+            System.out.printf("%s: latency p50 %d us, p99 %d us, max %d us%n", loop,
+                percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 1));
+        }
+    }
+
+    /**
+     * Reads from a reader which emits {@link #RECORDS_PER_POLL} records on every poll.
+     */
+    private static long throughput(boolean availabilityAware, long durationMillis) throws Exception {
+        long[] count = new long[1];
+        SourceReader<Long, SourceSplit> reader = new QueueReader(false) {
+            @Override
+            public void pollNext(Collector<Long> output) {
+                for (int i = 0; i < RECORDS_PER_POLL; i++) {
+                    output.collect((long) i);
+                }
+            }
+        };
+        Collector<Long> collector = new BenchmarkCollector(record -> count[0]++);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        run(reader, collector, availabilityAware, () -> System.nanoTime() < deadline);
+        return count[0] * 1000 / durationMillis;
+    }
+
+    /**
+     * Reads from a reader which is fed a record, the time of its arrival, every {@link #ARRIVAL_INTERVAL_NANOS}.
+     */
+    private static long[] latency(boolean availabilityAware, long durationMillis) throws Exception {
+        QueueReader reader = new QueueReader(true);
+        List<Long> latencies = new ArrayList<>();
+        Collector<Long> collector = new BenchmarkCollector(record -> latencies.add(System.nanoTime() - record));
+        int records = (int) (TimeUnit.MILLISECONDS.toNanos(durationMillis) / ARRIVAL_INTERVAL_NANOS);
+        Thread producer = new Thread(() -> {
+            long next = System.nanoTime();
+            for (int i = 0; i < records; i++) {
+                next += ARRIVAL_INTERVAL_NANOS;
+                while (System.nanoTime() < next) {
+                    Thread.yield();
+                }
+                reader.add(System.nanoTime());
+            }
+        });
+        producer.start();
+        run(reader, collector, availabilityAware, () -> latencies.size() < records);
+        producer.join();
+        return latencies.stream().mapToLong(latency -> TimeUnit.NANOSECONDS.toMicros(latency)).toArray();
+    }
+
+    private static void run(SourceReader<Long, SourceSplit> reader, Collector<Long> collector,
+                            boolean availabilityAware, Condition running) throws Exception {
+        if (availabilityAware) {
+            AvailabilityAwarePoller<Long> poller = new AvailabilityAwarePoller<>(reader, collector);
+            while (running.holds()) {
+                poller.pollNext();
+            }
+        } else {
+            while (running.holds()) {
+                reader.pollNext(collector);
+                Thread.sleep(FIXED_SLEEP_MILLIS);
+            }
+        }
+    }
+
+    private static long percentile(long[] values, double percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean holds();
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer {
+        void accept(long record);
+    }
+
+    private static class BenchmarkCollector implements Collector<Long> {
+        private final RecordConsumer consumer;
+
+        BenchmarkCollector(RecordConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void collect(Long record) {
+            consumer.accept(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class QueueReader implements SourceReader<Long, SourceSplit> {
+        private final Queue<Long> queue = new ConcurrentLinkedQueue<>();
+        private final boolean trackAvailability;
+        private volatile CompletableFuture<Void> available = new CompletableFuture<>();
+
+        QueueReader(boolean trackAvailability) {
+            this.trackAvailability = trackAvailability;
+        }
+
+        void add(Long record) {
+            queue.add(record);
+            available.complete(null);
+        }
+
+        @Override
+        public void pollNext(Collector<Long> output) {
+            Long record;
+            while ((record = queue.poll()) != null) {
+                output.collect(record);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> isAvailable() {
+            if (!trackAvailability) {
+                return AVAILABLE;
+            }
+            if (queue.isEmpty()) {
+                if (available.isDone()) {
+                    available = new CompletableFuture<>();
+                }
+                // re-check to avoid losing a signal raised between the two checks
+                if (!queue.isEmpty()) {
+                    available.complete(null);
+                }
+            }
+            return available;
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public List<SourceSplit> snapshotState(long checkpointId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void addSplits(List<SourceSplit> splits) {
+        }
+
+        @Override
+        public void handleNoMoreSplits() {
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SuppressWarnings("MagicNumber")
+public class AvailabilityAwarePollerTest {
+
+    @Test
+    public void testNoBackoffWhileRecordsAreEmitted() throws Exception {
+        TestReader reader = new TestReader(false);
+        List<Long> collected = new ArrayList<>();
+        AvailabilityAwarePoller<Long> poller = new AvailabilityAwarePoller<>(reader, new ListCollector(collected));
+        int records = 100;
+        for (long i = 0; i < records; i++) {
+            reader.add(i);
+        }
+
+        for (int i = 0; i < records; i++) {
+            Assertions.assertEquals(1, poller.pollNext());
+        }
+
+        Assertions.assertEquals(records, collected.size());
+        // the poller only waits after a poll which emitted nothing
+        Assertions.assertEquals(0, reader.availabilityChecks.get());
+    }
+
+    @Test
+    public void testBackoffWhenReaderDoesNotTrackAvailability() throws Exception {
+        TestReader reader = new TestReader(false);
+        AvailabilityAwarePoller<Long> poller = new AvailabilityAwarePoller<>(reader, new ListCollector(new ArrayList<>()));
+
+        Assertions.assertEquals(0, poller.pollNext());
+        Assertions.assertEquals(1, reader.availabilityChecks.get());
+    }
+
+    @Test
+    public void testWakeUpWhenDataArrives() throws Exception {
+        TestReader reader = new TestReader(true);
+        List<Long> collected = new ArrayList<>();
+        // without the wake up the poll would not return within the test
+        AvailabilityAwarePoller<Long> poller =
+            new AvailabilityAwarePoller<>(reader, new ListCollector(collected), Long.MAX_VALUE);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> poll = executor.submit(poller::pollNext);
+            Assertions.assertTrue(reader.waiting.await(10, TimeUnit.SECONDS));
+            Assertions.assertFalse(poll.isDone());
+            reader.add(1L);
+
+            Assertions.assertEquals(0L, poll.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, poller.pollNext());
+        Assertions.assertEquals(1L, collected.get(0));
+    }
+
+    @Test
+    public void testBoundedWaitWhenNoDataArrives() throws Exception {
+        TestReader reader = new TestReader(true);
+        AvailabilityAwarePoller<Long> poller =
+            new AvailabilityAwarePoller<>(reader, new ListCollector(new ArrayList<>()), 1L);
+
+        // the poll returns although the future it waited on never completes
+        Assertions.assertEquals(0, poller.pollNext());
+        Assertions.assertEquals(0, reader.waiting.getCount());
+    }
+
+    private static class ListCollector implements Collector<Long> {
+        private final List<Long> records;
+
+        ListCollector(List<Long> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void collect(Long record) {
+            records.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestReader implements SourceReader<Long, SourceSplit> {
+        private final Queue<Long> queue = new ConcurrentLinkedQueue<>();
+        private final boolean trackAvailability;
+        private volatile CompletableFuture<Void> available = new CompletableFuture<>();
+        private final AtomicInteger availabilityChecks = new AtomicInteger();
+        /**
+         * Counted down when the reader hands out a future which is not complete yet.
+         */
+        private final CountDownLatch waiting = new CountDownLatch(1);
+
+        TestReader(boolean trackAvailability) {
+            this.trackAvailability = trackAvailability;
+        }
+
+        void add(Long record) {
+            queue.add(record);
+            available.complete(null);
+        }
+
+        @Override
+        public void pollNext(Collector<Long> output) {
+            Long record = queue.poll();
+            if (record != null) {
+                output.collect(record);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> isAvailable() {
+            availabilityChecks.incrementAndGet();
+            if (!trackAvailability) {
+                return AVAILABLE;
+            }
+            if (queue.isEmpty()) {
+                if (available.isDone()) {
+                    available = new CompletableFuture<>();
+                }
+                // re-check to avoid losing a signal raised between the two checks
+                if (!queue.isEmpty()) {
+                    available.complete(null);
+                }
+            }
+            if (!available.isDone()) {
+                waiting.countDown();
+            }
+            return available;
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public List<SourceSplit> snapshotState(long checkpointId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void addSplits(List<SourceSplit> splits) {
+        }
+
+        @Override
+        public void handleNoMoreSplits() {
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {
+        }
+    }
+}
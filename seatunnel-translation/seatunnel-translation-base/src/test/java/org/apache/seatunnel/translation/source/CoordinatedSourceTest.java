@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.serialization.Serializer;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.source.SupportSplitRequest;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class CoordinatedSourceTest {
+
+    private CoordinatedSource<Long, TestSplit, TestState> coordinatedSource;
+
+    @AfterEach
+    public void after() throws Exception {
+        if (coordinatedSource != null) {
+            coordinatedSource.close();
+        }
+    }
+
+    private TestEnumerator open(Map<Integer, List<String>> assignments) throws Exception {
+        TestSource source = new TestSource(assignments);
+        coordinatedSource = new CoordinatedSource<>(source, null, 2);
+        coordinatedSource.open();
+        return (TestEnumerator) coordinatedSource.splitEnumerator;
+    }
+
+    private TestReader reader(int subtaskId) {
+        return (TestReader) coordinatedSource.readerMap.get(subtaskId);
+    }
+
+    @Test
+    public void testStealFromSlowReader() throws Exception {
+        // the splits are skewed to reader 0, which has not requested any of them yet
+        open(Collections.singletonMap(0, Arrays.asList("a", "b", "c", "d")));
+
+        coordinatedSource.handleSplitRequest(1);
+        Assertions.assertEquals(Collections.singletonList("d"), reader(1).splitIds());
+        coordinatedSource.handleSplitRequest(0);
+        Assertions.assertEquals(Collections.singletonList("a"), reader(0).splitIds());
+        coordinatedSource.handleSplitRequest(1);
+        Assertions.assertEquals(Arrays.asList("d", "c"), reader(1).splitIds());
+        Assertions.assertEquals(Collections.singletonList("b"),
+            coordinatedSource.splitQueue.getPendingSplits(0).stream().map(TestSplit::splitId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSnapshotDuringSteal() throws Exception {
+        List<String> splitIds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            splitIds.add(String.valueOf(i));
+        }
+        open(Collections.singletonMap(0, splitIds));
+
+        CompletableFuture<Void> stealing = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < splitIds.size(); i++) {
+                coordinatedSource.handleSplitRequest(1);
+            }
+        });
+        long checkpointId = 0;
+        while (!stealing.isDone()) {
+            // the engine takes a snapshot while holding the checkpoint lock
+            Map<Integer, List<byte[]>> state;
+            synchronized (coordinatedSource.checkpointLock) {
+                state = coordinatedSource.snapshotState(++checkpointId);
+            }
+            Assertions.assertEquals(splitIds, splitIds(state));
+        }
+        stealing.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(splitIds.size(), reader(1).splitIds().size());
+        Assertions.assertEquals(splitIds, splitIds(coordinatedSource.snapshotState(++checkpointId)));
+    }
+
+    @Test
+    public void testNoMoreSplitsAfterQueuesEmpty() throws Exception {
+        Map<Integer, List<String>> assignments = new HashMap<>();
+        assignments.put(0, Arrays.asList("a", "b"));
+        assignments.put(1, Collections.emptyList());
+        TestEnumerator enumerator = open(assignments);
+
+        // no split is left for reader 1, but the enumerator may still assign some
+        coordinatedSource.handleSplitRequest(1);
+        coordinatedSource.handleSplitRequest(1);
+        Assertions.assertEquals(Arrays.asList("b", "a"), reader(1).splitIds());
+        coordinatedSource.handleSplitRequest(1);
+        Assertions.assertEquals(0, reader(1).noMoreSplits);
+
+        enumerator.signalNoMoreSplits();
+        coordinatedSource.handleSplitRequest(1);
+        coordinatedSource.handleSplitRequest(1);
+        Assertions.assertEquals(1, reader(1).noMoreSplits);
+        coordinatedSource.handleSplitRequest(0);
+        Assertions.assertEquals(1, reader(0).noMoreSplits);
+        Assertions.assertTrue(reader(0).splitIds().isEmpty());
+    }
+
+    private static List<String> splitIds(Map<Integer, List<byte[]>> state) {
+        return state.entrySet().stream()
+            .filter(entry -> entry.getKey() >= 0)
+            .flatMap(entry -> entry.getValue().stream())
+            .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+            .sorted(Comparator.comparingInt(Integer::parseInt))
+            .collect(Collectors.toList());
+    }
+
+    private static class TestSplit implements SourceSplit {
+        private final String id;
+
+        TestSplit(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String splitId() {
+            return id;
+        }
+    }
+
+    private static class TestState implements Serializable {
+    }
+
+    private static class TestSplitSerializer implements Serializer<TestSplit> {
+        @Override
+        public byte[] serialize(TestSplit split) {
+            return split.id.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public TestSplit deserialize(byte[] serialized) {
+            return new TestSplit(new String(serialized, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class TestSource implements SeaTunnelSource<Long, TestSplit, TestState> {
+        private final Map<Integer, List<String>> assignments;
+
+        TestSource(Map<Integer, List<String>> assignments) {
+            this.assignments = assignments;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Test";
+        }
+
+        @Override
+        public void prepare(Config pluginConfig) {
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public SeaTunnelDataType<Long> getProducedType() {
+            return BasicType.LONG_TYPE;
+        }
+
+        @Override
+        public SourceReader<Long, TestSplit> createReader(SourceReader.Context readerContext) {
+            return new TestReader();
+        }
+
+        @Override
+        public Serializer<TestSplit> getSplitSerializer() {
+            return new TestSplitSerializer();
+        }
+
+        @Override
+        public SourceSplitEnumerator<TestSplit, TestState> createEnumerator(
+            SourceSplitEnumerator.Context<TestSplit> enumeratorContext) {
+            return new TestEnumerator(enumeratorContext, assignments);
+        }
+
+        @Override
+        public SourceSplitEnumerator<TestSplit, TestState> restoreEnumerator(
+            SourceSplitEnumerator.Context<TestSplit> enumeratorContext, TestState checkpointState) {
+            return createEnumerator(enumeratorContext);
+        }
+    }
+
+    /**
+     * Assigns all splits up front, when the readers register.
+     */
+    private static class TestEnumerator implements SourceSplitEnumerator<TestSplit, TestState> {
+        private final Context<TestSplit> context;
+        private final Map<Integer, List<String>> assignments;
+
+        TestEnumerator(Context<TestSplit> context, Map<Integer, List<String>> assignments) {
+            this.context = context;
+            this.assignments = assignments;
+        }
+
+        void signalNoMoreSplits() {
+            context.registeredReaders().forEach(context::signalNoMoreSplits);
+        }
+
+        @Override
+        public void registerReader(int subtaskId) {
+            List<String> splitIds = assignments.getOrDefault(subtaskId, Collections.emptyList());
+            context.assignSplit(subtaskId, splitIds.stream().map(TestSplit::new).collect(Collectors.toList()));
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void addSplitsBack(List<TestSplit> splits, int subtaskId) {
+        }
+
+        @Override
+        public int currentUnassignedSplitSize() {
+            return 0;
+        }
+
+        @Override
+        public void handleSplitRequest(int subtaskId) {
+        }
+
+        @Override
+        public TestState snapshotState(long checkpointId) {
+            return null;
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {
+        }
+    }
+
+    private static class TestReader implements SourceReader<Long, TestSplit>, SupportSplitRequest {
+        private final List<TestSplit> splits = Collections.synchronizedList(new ArrayList<>());
+        private volatile int noMoreSplits;
+
+        List<String> splitIds() {
+            synchronized (splits) {
+                return splits.stream().map(TestSplit::splitId).collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public void addSplits(List<TestSplit> splits) {
+            this.splits.addAll(splits);
+        }
+
+        @Override
+        public void handleNoMoreSplits() {
+            noMoreSplits++;
+        }
+
+        @Override
+        public List<TestSplit> snapshotState(long checkpointId) {
+            synchronized (splits) {
+                return new ArrayList<>(splits);
+            }
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void pollNext(Collector<Long> output) {
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {
+        }
+    }
+}
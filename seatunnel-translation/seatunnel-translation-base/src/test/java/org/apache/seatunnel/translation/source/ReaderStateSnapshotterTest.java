@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.apache.seatunnel.api.serialization.Serializer;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SplitStateDelta;
+import org.apache.seatunnel.api.source.SupportIncrementalState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ReaderStateSnapshotterTest {
+
+    @Test
+    public void testSerializeChangedSplitsOnly() throws Exception {
+        TestReader reader = new TestReader();
+        CountingSerializer serializer = new CountingSerializer();
+        ReaderStateSnapshotter<TestSplit> snapshotter = new ReaderStateSnapshotter<>(reader, serializer);
+
+        reader.addSplits(Arrays.asList(new TestSplit("a", 0), new TestSplit("b", 0), new TestSplit("c", 0)));
+        Assertions.assertEquals(Arrays.asList("a:0", "b:0", "c:0"), deserialize(snapshotter.snapshotState(1)));
+        Assertions.assertEquals(3, serializer.serialized);
+
+        Assertions.assertEquals(Arrays.asList("a:0", "b:0", "c:0"), deserialize(snapshotter.snapshotState(2)));
+        Assertions.assertEquals(3, serializer.serialized);
+
+        reader.update(new TestSplit("b", 10));
+        reader.remove("c");
+        Assertions.assertEquals(Arrays.asList("a:0", "b:10"), deserialize(snapshotter.snapshotState(3)));
+        Assertions.assertEquals(4, serializer.serialized);
+    }
+
+    private static List<String> deserialize(List<byte[]> state) {
+        return state.stream().map(bytes -> new String(bytes, StandardCharsets.UTF_8)).collect(Collectors.toList());
+    }
+
+    private static class TestSplit implements SourceSplit {
+        private final String id;
+        private final long offset;
+
+        TestSplit(String id, long offset) {
+            this.id = id;
+            this.offset = offset;
+        }
+
+        @Override
+        public String splitId() {
+            return id;
+        }
+    }
+
+    private static class CountingSerializer implements Serializer<TestSplit> {
+        private int serialized;
+
+        @Override
+        public byte[] serialize(TestSplit split) {
+            serialized++;
+            return (split.id + ":" + split.offset).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public TestSplit deserialize(byte[] serialized) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class TestReader implements SourceReader<Long, TestSplit>, SupportIncrementalState<TestSplit> {
+        private final Map<String, TestSplit> splits = new LinkedHashMap<>();
+        private final List<TestSplit> changed = new ArrayList<>();
+        private final Set<String> removed = new HashSet<>();
+
+        void update(TestSplit split) {
+            splits.put(split.splitId(), split);
+            changed.add(split);
+        }
+
+        void remove(String splitId) {
+            splits.remove(splitId);
+            removed.add(splitId);
+        }
+
+        @Override
+        public SplitStateDelta<TestSplit> snapshotStateDelta(long checkpointId) {
+            SplitStateDelta<TestSplit> delta = SplitStateDelta.of(new ArrayList<>(changed), new HashSet<>(removed));
+            changed.clear();
+            removed.clear();
+            return delta;
+        }
+
+        @Override
+        public List<TestSplit> snapshotState(long checkpointId) {
+            return new ArrayList<>(splits.values());
+        }
+
+        @Override
+        public void addSplits(List<TestSplit> splits) {
+            splits.forEach(this::update);
+        }
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void pollNext(Collector<Long> output) {
+        }
+
+        @Override
+        public void handleNoMoreSplits() {
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class WorkStealingSplitQueueTest {
+
+    @Test
+    public void testPollOwnSplitsInOrder() {
+        WorkStealingSplitQueue<String> queue = new WorkStealingSplitQueue<>();
+        queue.addSplits(0, Arrays.asList("a", "b"));
+        queue.addSplits(1, Collections.singletonList("c"));
+        Assertions.assertEquals("a", queue.poll(0));
+        Assertions.assertEquals("b", queue.poll(0));
+        Assertions.assertNull(queue.poll(0));
+        Assertions.assertNull(queue.poll(2));
+        Assertions.assertEquals(Collections.singletonList("c"), queue.getPendingSplits(1));
+    }
+
+    @Test
+    public void testStealFromMostLoadedReader() {
+        WorkStealingSplitQueue<String> queue = new WorkStealingSplitQueue<>();
+        queue.addSplits(0, Collections.singletonList("a"));
+        queue.addSplits(1, Arrays.asList("b", "c", "d"));
+        Assertions.assertEquals("d", queue.steal());
+        Assertions.assertEquals("c", queue.steal());
+        // both readers hold one split now
+        Assertions.assertNotNull(queue.steal());
+        Assertions.assertNotNull(queue.steal());
+        Assertions.assertNull(queue.steal());
+    }
+
+    @Test
+    public void testFinished() {
+        WorkStealingSplitQueue<String> queue = new WorkStealingSplitQueue<>();
+        queue.addSplits(0, Collections.singletonList("a"));
+        Assertions.assertFalse(queue.isFinished(0));
+        queue.signalNoMoreSplits(0);
+        Assertions.assertFalse(queue.isFinished(0));
+        queue.poll(0);
+        Assertions.assertTrue(queue.isFinished(0));
+        Assertions.assertFalse(queue.isFinished(1));
+    }
+}
@@ -21,95 +21,169 @@ import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
-import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.translation.serialization.RowConverter;
 
 import org.apache.flink.types.Row;
 import org.apache.flink.types.RowKind;
+import org.apache.flink.types.RowUtils;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
+/**
+ * Conversion between {@link SeaTunnelRow} & Flink's {@link Row}.
+ *
+ * <p>Rows without fields that need a conversion (no nested ROW or MAP of ROW) are converted without
+ * copying: the Flink row shares the field array of the SeaTunnel row, so the SeaTunnel row must not be
+ * modified after it has been converted.
+ */
 public class FlinkRowConverter extends RowConverter<Row> {
 
+    private final FieldConverter converter;
+    private final FieldConverter reconverter;
+
     public FlinkRowConverter(SeaTunnelDataType<?> dataType) {
         super(dataType);
+        this.converter = createConverter(dataType);
+        this.reconverter = createReconverter(dataType);
     }
 
     @Override
     public Row convert(SeaTunnelRow seaTunnelRow) throws IOException {
         validate(seaTunnelRow);
-        return (Row) convert(seaTunnelRow, dataType);
+        return (Row) converter.convert(seaTunnelRow);
     }
 
-    private static Object convert(Object field, SeaTunnelDataType<?> dataType) {
-        if (field == null) {
-            return null;
-        }
-        SqlType sqlType = dataType.getSqlType();
-        switch (sqlType) {
+    @Override
+    public SeaTunnelRow reconvert(Row engineRow) throws IOException {
+        return engineRow == null ? null : (SeaTunnelRow) reconverter.convert(engineRow);
+    }
+
+    /**
+     * Creates the converter of the given data type, or returns null if the value doesn't need conversion.
+     */
+    private static FieldConverter createConverter(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
             case ROW:
-                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) field;
                 SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
-                int arity = rowType.getTotalFields();
-                Row engineRow = new Row(arity);
-                for (int i = 0; i < arity; i++) {
-                    engineRow.setField(i, convert(seaTunnelRow.getField(i), rowType.getFieldType(i)));
+                final FieldConverter[] fieldConverters = createFieldConverters(rowType, FlinkRowConverter::createConverter);
+                final int arity = rowType.getTotalFields();
+                if (isFlat(fieldConverters)) {
+                    return field -> {
+                        SeaTunnelRow seaTunnelRow = (SeaTunnelRow) field;
+                        RowKind rowKind = RowKind.fromByteValue(seaTunnelRow.getRowKind().toByteValue());
+                        if (seaTunnelRow.getArity() != arity) {
+                            return copyRow(seaTunnelRow, rowKind, arity);
+                        }
+                        // zero-copy: the Flink row is backed by the field array of the SeaTunnel row
+                        return RowUtils.createRowWithNamedPositions(rowKind, seaTunnelRow.getFields(), null);
+                    };
                 }
-                engineRow.setKind(RowKind.fromByteValue(seaTunnelRow.getRowKind().toByteValue()));
-                return engineRow;
+                return field -> {
+                    SeaTunnelRow seaTunnelRow = (SeaTunnelRow) field;
+                    Row engineRow = new Row(arity);
+                    for (int i = 0; i < arity; i++) {
+                        engineRow.setField(i, convertField(seaTunnelRow.getField(i), fieldConverters[i]));
+                    }
+                    engineRow.setKind(RowKind.fromByteValue(seaTunnelRow.getRowKind().toByteValue()));
+                    return engineRow;
+                };
             case MAP:
-                return convertMap((Map<?, ?>) field, (MapType<?, ?>) dataType, FlinkRowConverter::convert);
+                return createMapConverter((MapType<?, ?>) dataType, FlinkRowConverter::createConverter);
             default:
-                return field;
+                return null;
         }
     }
 
-    private static Object convertMap(Map<?, ?> mapData, MapType<?, ?> mapType, BiFunction<Object, SeaTunnelDataType<?>, Object> convertFunction) {
-        if (mapData == null || mapData.size() == 0) {
-            return mapData;
-        }
-        switch (mapType.getValueType().getSqlType()) {
-            case MAP:
+    /**
+     * Creates the reconverter of the given data type, or returns null if the value doesn't need conversion.
+     */
+    private static FieldConverter createReconverter(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
             case ROW:
-                Map<Object, Object> newMap = new HashMap<>(mapData.size());
-                mapData.forEach((key, value) -> {
-                    SeaTunnelDataType<?> valueType = mapType.getValueType();
-                    newMap.put(key, convertFunction.apply(value, valueType));
-                });
-                return newMap;
+                SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
+                final FieldConverter[] fieldConverters = createFieldConverters(rowType, FlinkRowConverter::createReconverter);
+                final int arity = rowType.getTotalFields();
+                if (isFlat(fieldConverters)) {
+                    return field -> {
+                        Row engineRow = (Row) field;
+                        Object[] fields = new Object[arity];
+                        for (int i = 0; i < arity; i++) {
+                            fields[i] = engineRow.getField(i);
+                        }
+                        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                        seaTunnelRow.setRowKind(org.apache.seatunnel.api.table.type.RowKind.fromByteValue(engineRow.getKind().toByteValue()));
+                        return seaTunnelRow;
+                    };
+                }
+                return field -> {
+                    Row engineRow = (Row) field;
+                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(arity);
+                    for (int i = 0; i < arity; i++) {
+                        seaTunnelRow.setField(i, convertField(engineRow.getField(i), fieldConverters[i]));
+                    }
+                    seaTunnelRow.setRowKind(org.apache.seatunnel.api.table.type.RowKind.fromByteValue(engineRow.getKind().toByteValue()));
+                    return seaTunnelRow;
+                };
+            case MAP:
+                return createMapConverter((MapType<?, ?>) dataType, FlinkRowConverter::createReconverter);
             default:
-                return mapData;
+                return null;
         }
     }
 
-    @Override
-    public SeaTunnelRow reconvert(Row engineRow) throws IOException {
-        return (SeaTunnelRow) reconvert(engineRow, dataType);
+    /**
+     * A row is flat if none of its fields needs conversion, e.g. it has no nested ROW fields.
+     */
+    private static boolean isFlat(FieldConverter[] fieldConverters) {
+        for (FieldConverter fieldConverter : fieldConverters) {
+            if (fieldConverter != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Row copyRow(SeaTunnelRow seaTunnelRow, RowKind rowKind, int arity) {
+        Row engineRow = new Row(rowKind, arity);
+        for (int i = 0; i < Math.min(arity, seaTunnelRow.getArity()); i++) {
+            engineRow.setField(i, seaTunnelRow.getField(i));
+        }
+        return engineRow;
+    }
+
+    private static FieldConverter[] createFieldConverters(SeaTunnelRowType rowType,
+                                                          Function<SeaTunnelDataType<?>, FieldConverter> converterFactory) {
+        FieldConverter[] fieldConverters = new FieldConverter[rowType.getTotalFields()];
+        for (int i = 0; i < fieldConverters.length; i++) {
+            fieldConverters[i] = converterFactory.apply(rowType.getFieldType(i));
+        }
+        return fieldConverters;
     }
 
-    private static Object reconvert(Object field, SeaTunnelDataType<?> dataType) {
-        if (field == null) {
+    private static FieldConverter createMapConverter(MapType<?, ?> mapType,
+                                                     Function<SeaTunnelDataType<?>, FieldConverter> converterFactory) {
+        final FieldConverter valueConverter = converterFactory.apply(mapType.getValueType());
+        if (valueConverter == null) {
             return null;
         }
-        SqlType sqlType = dataType.getSqlType();
-        switch (sqlType) {
-            case ROW:
-                Row engineRow = (Row) field;
-                SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
-                int arity = rowType.getTotalFields();
-                SeaTunnelRow seaTunnelRow = new SeaTunnelRow(arity);
-                for (int i = 0; i < arity; i++) {
-                    seaTunnelRow.setField(i, reconvert(engineRow.getField(i), rowType.getFieldType(i)));
-                }
-                seaTunnelRow.setRowKind(org.apache.seatunnel.api.table.type.RowKind.fromByteValue(engineRow.getKind().toByteValue()));
-                return seaTunnelRow;
-            case MAP:
-                return convertMap((Map<?, ?>) field, (MapType<?, ?>) dataType, FlinkRowConverter::reconvert);
-            default:
-                return field;
+        return field -> {
+            Map<?, ?> mapData = (Map<?, ?>) field;
+            if (mapData.size() == 0) {
+                return mapData;
+            }
+            Map<Object, Object> newMap = new HashMap<>(mapData.size());
+            mapData.forEach((key, value) -> newMap.put(key, convertField(value, valueConverter)));
+            return newMap;
+        };
+    }
+
+    private static Object convertField(Object field, FieldConverter converter) {
+        if (field == null || converter == null) {
+            return field;
         }
+        return converter.convert(field);
     }
 }
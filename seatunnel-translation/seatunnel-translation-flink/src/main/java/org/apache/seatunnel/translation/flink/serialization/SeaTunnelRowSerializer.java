@@ -0,0 +1,651 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A schema-aware binary {@link TypeSerializer} for {@link SeaTunnelRow}, an alternative to the generic Kryo
+ * serialization of {@link KryoTypeInfo}. It is created by {@link SeaTunnelRowTypeInfo}.
+ *
+ * <p>The field serializers are derived from the {@link SeaTunnelRowType} once, so no type information is
+ * written per record. A serialized row consists of:
+ * <ul>
+ *     <li>the row kind (1 byte) and the table id (varint),</li>
+ *     <li>a null bitmap with one bit per field,</li>
+ *     <li>the non-null fields; variable length values are prefixed with a varint length.</li>
+ * </ul>
+ * Dates and times are encoded by their epoch day and nano of day, decimals by their scale and unscaled value.
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public class SeaTunnelRowSerializer extends TypeSerializer<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelRowType rowType;
+
+    private final RowFieldSerializer rowSerializer;
+
+    public SeaTunnelRowSerializer(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+        this.rowSerializer = new RowFieldSerializer(rowType);
+    }
+
+    public SeaTunnelRowType getRowType() {
+        return rowType;
+    }
+
+    @Override
+    public boolean isImmutableType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> duplicate() {
+        // stateless, so it can be shared between threads
+        return this;
+    }
+
+    @Override
+    public SeaTunnelRow createInstance() {
+        return new SeaTunnelRow(rowType.getTotalFields());
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from) {
+        return (SeaTunnelRow) rowSerializer.copy(from);
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from, SeaTunnelRow reuse) {
+        return copy(from);
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow record, DataOutputView target) throws IOException {
+        rowSerializer.serialize(record, target);
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(DataInputView source) throws IOException {
+        return (SeaTunnelRow) rowSerializer.deserialize(source);
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(SeaTunnelRow reuse, DataInputView source) throws IOException {
+        return deserialize(source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        rowSerializer.serialize(rowSerializer.deserialize(source), target);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowSerializer)) {
+            return false;
+        }
+        return rowType.equals(((SeaTunnelRowSerializer) obj).rowType);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowType.hashCode();
+    }
+
+    @Override
+    public TypeSerializerSnapshot<SeaTunnelRow> snapshotConfiguration() {
+        return new SeaTunnelRowSerializerSnapshot(rowType);
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // encoding utilities
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * Writes the null bitmap of the given values, each bit is set if the value at that position is null.
+     * The number of values is known to the reader, so it isn't written.
+     */
+    private static void writeNullBitmap(Object[] values, DataOutputView target) throws IOException {
+        int current = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                current |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7) {
+                target.writeByte(current);
+                current = 0;
+            }
+        }
+        if ((values.length & 7) != 0) {
+            target.writeByte(current);
+        }
+    }
+
+    private static byte[] readNullBitmap(int length, DataInputView source) throws IOException {
+        byte[] nullBitmap = new byte[(length + 7) >>> 3];
+        source.readFully(nullBitmap);
+        return nullBitmap;
+    }
+
+    private static boolean isNull(byte[] nullBitmap, int pos) {
+        return (nullBitmap[pos >>> 3] & (1 << (pos & 7))) != 0;
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView target) throws IOException {
+        writeVarLong(bytes.length, target);
+        target.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView source) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(source)];
+        source.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes a non-negative long with 7 bits per byte, the high bit of a byte marks that more bytes follow.
+     */
+    static void writeVarLong(long value, DataOutputView target) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            target.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputView source) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = source.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Maps signed values to unsigned ones, so that values with a small magnitude have a short varint.
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static FieldSerializer createFieldSerializer(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return new StringSerializer();
+            case BOOLEAN:
+                return new BooleanSerializer();
+            case TINYINT:
+                return new ByteSerializer();
+            case SMALLINT:
+                return new ShortSerializer();
+            case INT:
+                return new IntSerializer();
+            case BIGINT:
+                return new LongSerializer();
+            case FLOAT:
+                return new FloatSerializer();
+            case DOUBLE:
+                return new DoubleSerializer();
+            case DECIMAL:
+                return new DecimalSerializer();
+            case NULL:
+                return new NullSerializer();
+            case BYTES:
+                return new BytesSerializer();
+            case DATE:
+                return new DateSerializer();
+            case TIME:
+                return new TimeSerializer();
+            case TIMESTAMP:
+                return new TimestampSerializer();
+            case ARRAY:
+                return new ArraySerializer((ArrayType<?, ?>) dataType);
+            case MAP:
+                return new MapSerializer((MapType<?, ?>) dataType);
+            case ROW:
+                return new RowFieldSerializer((SeaTunnelRowType) dataType);
+            default:
+                throw new UnsupportedOperationException(String.format("Unsupported type: %s", dataType));
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // field serializers
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * Serializes the non-null values of a single SeaTunnel data type.
+     */
+    interface FieldSerializer extends Serializable {
+        void serialize(Object value, DataOutputView target) throws IOException;
+
+        Object deserialize(DataInputView source) throws IOException;
+
+        /**
+         * Creates a deep copy of the value, immutable values are returned as they are.
+         */
+        default Object copy(Object value) {
+            return value;
+        }
+    }
+
+    private static final class StringSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return new String(readBytes(source), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class BooleanSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeBoolean((Boolean) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readBoolean();
+        }
+    }
+
+    private static final class ByteSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeByte((Byte) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readByte();
+        }
+    }
+
+    private static final class ShortSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeShort((Short) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readShort();
+        }
+    }
+
+    private static final class IntSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeInt((Integer) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readInt();
+        }
+    }
+
+    private static final class LongSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeLong((Long) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readLong();
+        }
+    }
+
+    private static final class FloatSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeFloat((Float) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readFloat();
+        }
+    }
+
+    private static final class DoubleSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            target.writeDouble((Double) value);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return source.readDouble();
+        }
+    }
+
+    private static final class DecimalSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            BigDecimal decimal = (BigDecimal) value;
+            writeVarLong(zigZag(decimal.scale()), target);
+            writeBytes(decimal.unscaledValue().toByteArray(), target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            int scale = (int) unZigZag(readVarLong(source));
+            return new BigDecimal(new BigInteger(readBytes(source)), scale);
+        }
+    }
+
+    private static final class NullSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) {
+            // the null bitmap already holds the value
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) {
+            return null;
+        }
+    }
+
+    private static final class BytesSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            writeBytes((byte[]) value, target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return readBytes(source);
+        }
+
+        @Override
+        public Object copy(Object value) {
+            return ((byte[]) value).clone();
+        }
+    }
+
+    private static final class DateSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            writeVarLong(zigZag(((LocalDate) value).toEpochDay()), target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return LocalDate.ofEpochDay(unZigZag(readVarLong(source)));
+        }
+    }
+
+    private static final class TimeSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            writeVarLong(((LocalTime) value).toNanoOfDay(), target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            return LocalTime.ofNanoOfDay(readVarLong(source));
+        }
+    }
+
+    private static final class TimestampSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            writeVarLong(zigZag(dateTime.toLocalDate().toEpochDay()), target);
+            writeVarLong(dateTime.toLocalTime().toNanoOfDay(), target);
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            LocalDate date = LocalDate.ofEpochDay(unZigZag(readVarLong(source)));
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(source)));
+        }
+    }
+
+    private static final class ArraySerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> elementClass;
+        private final FieldSerializer elementSerializer;
+
+        ArraySerializer(ArrayType<?, ?> arrayType) {
+            this.elementClass = arrayType.getElementType().getTypeClass();
+            this.elementSerializer = createFieldSerializer(arrayType.getElementType());
+        }
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            Object[] elements = (Object[]) value;
+            writeVarLong(elements.length, target);
+            writeNullBitmap(elements, target);
+            for (Object element : elements) {
+                if (element != null) {
+                    elementSerializer.serialize(element, target);
+                }
+            }
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            int length = (int) readVarLong(source);
+            Object[] elements = (Object[]) Array.newInstance(elementClass, length);
+            byte[] nullBitmap = readNullBitmap(length, source);
+            for (int i = 0; i < length; i++) {
+                if (!isNull(nullBitmap, i)) {
+                    elements[i] = elementSerializer.deserialize(source);
+                }
+            }
+            return elements;
+        }
+
+        @Override
+        public Object copy(Object value) {
+            // the elements are basic types, which are immutable
+            return ((Object[]) value).clone();
+        }
+    }
+
+    private static final class MapSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private static final int NULL_KEY = 1;
+        private static final int NULL_VALUE = 2;
+
+        private final FieldSerializer keySerializer;
+        private final FieldSerializer valueSerializer;
+
+        MapSerializer(MapType<?, ?> mapType) {
+            this.keySerializer = createFieldSerializer(mapType.getKeyType());
+            this.valueSerializer = createFieldSerializer(mapType.getValueType());
+        }
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarLong(map.size(), target);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                Object entryValue = entry.getValue();
+                target.writeByte((key == null ? NULL_KEY : 0) | (entryValue == null ? NULL_VALUE : 0));
+                if (key != null) {
+                    keySerializer.serialize(key, target);
+                }
+                if (entryValue != null) {
+                    valueSerializer.serialize(entryValue, target);
+                }
+            }
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            int size = (int) readVarLong(source);
+            Map<Object, Object> map = new HashMap<>(Math.max((int) (size / .75f) + 1, 16));
+            for (int i = 0; i < size; i++) {
+                int nullFlags = source.readByte();
+                Object key = (nullFlags & NULL_KEY) == 0 ? keySerializer.deserialize(source) : null;
+                Object value = (nullFlags & NULL_VALUE) == 0 ? valueSerializer.deserialize(source) : null;
+                map.put(key, value);
+            }
+            return map;
+        }
+
+        @Override
+        public Object copy(Object value) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new HashMap<>(Math.max((int) (map.size() / .75f) + 1, 16));
+            map.forEach((k, v) -> copy.put(k == null ? null : keySerializer.copy(k), v == null ? null : valueSerializer.copy(v)));
+            return copy;
+        }
+    }
+
+    private static final class RowFieldSerializer implements FieldSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private final FieldSerializer[] fieldSerializers;
+
+        RowFieldSerializer(SeaTunnelRowType rowType) {
+            this.fieldSerializers = new FieldSerializer[rowType.getTotalFields()];
+            for (int i = 0; i < fieldSerializers.length; i++) {
+                fieldSerializers[i] = createFieldSerializer(rowType.getFieldType(i));
+            }
+        }
+
+        @Override
+        public void serialize(Object value, DataOutputView target) throws IOException {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            Object[] fields = row.getFields();
+            if (fields.length != fieldSerializers.length) {
+                throw new IllegalArgumentException(String.format("The arity of the row is %s, but the row type has %s fields",
+                    fields.length, fieldSerializers.length));
+            }
+            target.writeByte(row.getRowKind().toByteValue());
+            writeVarLong(zigZag(row.getTableId()), target);
+            writeNullBitmap(fields, target);
+            for (int i = 0; i < fieldSerializers.length; i++) {
+                if (fields[i] != null) {
+                    fieldSerializers[i].serialize(fields[i], target);
+                }
+            }
+        }
+
+        @Override
+        public Object deserialize(DataInputView source) throws IOException {
+            RowKind rowKind = RowKind.fromByteValue(source.readByte());
+            int tableId = (int) unZigZag(readVarLong(source));
+            byte[] nullBitmap = readNullBitmap(fieldSerializers.length, source);
+            Object[] fields = new Object[fieldSerializers.length];
+            for (int i = 0; i < fields.length; i++) {
+                if (!isNull(nullBitmap, i)) {
+                    fields[i] = fieldSerializers[i].deserialize(source);
+                }
+            }
+            SeaTunnelRow row = new SeaTunnelRow(fields);
+            row.setRowKind(rowKind);
+            row.setTableId(tableId);
+            return row;
+        }
+
+        @Override
+        public Object copy(Object value) {
+            SeaTunnelRow from = (SeaTunnelRow) value;
+            Object[] fields = new Object[from.getArity()];
+            for (int i = 0; i < fields.length; i++) {
+                Object field = from.getField(i);
+                fields[i] = field == null || i >= fieldSerializers.length ? field : fieldSerializers[i].copy(field);
+            }
+            SeaTunnelRow row = new SeaTunnelRow(fields);
+            row.setRowKind(from.getRowKind());
+            row.setTableId(from.getTableId());
+            return row;
+        }
+    }
+}
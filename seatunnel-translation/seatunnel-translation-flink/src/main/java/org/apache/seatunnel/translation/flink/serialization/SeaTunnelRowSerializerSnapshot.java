@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.util.InstantiationUtil;
+
+import java.io.IOException;
+
+/**
+ * The snapshot of {@link SeaTunnelRowSerializer}, which keeps the {@link SeaTunnelRowType} the rows were
+ * written with.
+ */
+public class SeaTunnelRowSerializerSnapshot implements TypeSerializerSnapshot<SeaTunnelRow> {
+
+    private static final int CURRENT_VERSION = 1;
+
+    private SeaTunnelRowType rowType;
+
+    /**
+     * Used by Flink to restore the snapshot.
+     */
+    public SeaTunnelRowSerializerSnapshot() {
+    }
+
+    public SeaTunnelRowSerializerSnapshot(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    @Override
+    public int getCurrentVersion() {
+        return CURRENT_VERSION;
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputView out) throws IOException {
+        byte[] serializedRowType = InstantiationUtil.serializeObject(rowType);
+        out.writeInt(serializedRowType.length);
+        out.write(serializedRowType);
+    }
+
+    @Override
+    public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader) throws IOException {
+        if (readVersion != CURRENT_VERSION) {
+            throw new IOException(String.format("Unsupported snapshot version: %s", readVersion));
+        }
+        byte[] serializedRowType = new byte[in.readInt()];
+        in.readFully(serializedRowType);
+        try {
+            rowType = InstantiationUtil.deserializeObject(serializedRowType, userCodeClassLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to restore the row type of the SeaTunnelRow serializer", e);
+        }
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> restoreSerializer() {
+        return new SeaTunnelRowSerializer(rowType);
+    }
+
+    @Override
+    public TypeSerializerSchemaCompatibility<SeaTunnelRow> resolveSchemaCompatibility(TypeSerializer<SeaTunnelRow> newSerializer) {
+        if (!(newSerializer instanceof SeaTunnelRowSerializer)) {
+            return TypeSerializerSchemaCompatibility.incompatible();
+        }
+        SeaTunnelRowType newRowType = ((SeaTunnelRowSerializer) newSerializer).getRowType();
+        return rowType.equals(newRowType) ?
+            TypeSerializerSchemaCompatibility.compatibleAsIs() : TypeSerializerSchemaCompatibility.incompatible();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
+
+import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.types.Row;
+
+/**
+ * Converts a {@link SeaTunnelRow} stream to a {@link Row} stream, for the Table API and the Flink transforms.
+ */
+public class SeaTunnelRowToRowFunction extends RichMapFunction<SeaTunnelRow, Row> implements ResultTypeQueryable<Row> {
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelRowType rowType;
+    private transient FlinkRowConverter rowConverter;
+
+    public SeaTunnelRowToRowFunction(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    @Override
+    public void open(Configuration parameters) throws Exception {
+        super.open(parameters);
+        this.rowConverter = new FlinkRowConverter(rowType);
+    }
+
+    @Override
+    public Row map(SeaTunnelRow row) throws Exception {
+        return rowConverter.convert(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public TypeInformation<Row> getProducedType() {
+        return (TypeInformation<Row>) TypeConverterUtils.convert(rowType);
+    }
+}
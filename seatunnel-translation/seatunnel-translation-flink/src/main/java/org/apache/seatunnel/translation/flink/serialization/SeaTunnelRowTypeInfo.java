@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+/**
+ * The {@link TypeInformation} of {@link SeaTunnelRow}, backed by {@link SeaTunnelRowSerializer}.
+ *
+ * <p>It is the produced type of the SeaTunnel source functions, so the rows reach the sinks without a conversion
+ * to {@link org.apache.flink.types.Row}, and are shuffled without the Kryo fallback.
+ */
+public class SeaTunnelRowTypeInfo extends TypeInformation<SeaTunnelRow> {
+    private static final long serialVersionUID = 1L;
+
+    private final SeaTunnelRowType rowType;
+
+    public SeaTunnelRowTypeInfo(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    public SeaTunnelRowType getRowType() {
+        return rowType;
+    }
+
+    @Override
+    public boolean isBasicType() {
+        return false;
+    }
+
+    @Override
+    public boolean isTupleType() {
+        return false;
+    }
+
+    /**
+     * The row isn't a {@link org.apache.flink.api.common.typeutils.CompositeType}, so Flink sees it as a single field.
+     */
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getTotalFields() {
+        return 1;
+    }
+
+    @Override
+    public Class<SeaTunnelRow> getTypeClass() {
+        return SeaTunnelRow.class;
+    }
+
+    @Override
+    public boolean isKeyType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> createSerializer(ExecutionConfig config) {
+        return new SeaTunnelRowSerializer(rowType);
+    }
+
+    @Override
+    public String toString() {
+        return "SeaTunnelRowTypeInfo<" + rowType + ">";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowTypeInfo)) {
+            return false;
+        }
+        SeaTunnelRowTypeInfo that = (SeaTunnelRowTypeInfo) obj;
+        return that.canEqual(this) && rowType.equals(that.rowType);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowType.hashCode();
+    }
+
+    @Override
+    public boolean canEqual(Object obj) {
+        return obj instanceof SeaTunnelRowTypeInfo;
+    }
+}
@@ -47,10 +47,12 @@ public class FlinkSinkWriter<InputT, CommT, WriterStateT> implements SinkWriter<
 
     @Override
     public void write(InputT element, org.apache.flink.api.connector.sink.SinkWriter.Context context) throws IOException {
-        if (element instanceof Row) {
+        if (element instanceof SeaTunnelRow) {
+            sinkWriter.write((SeaTunnelRow) element);
+        } else if (element instanceof Row) {
             sinkWriter.write(rowSerialization.reconvert((Row) element));
         } else {
-            throw new InvalidClassException("only support Flink Row at now, the element Class is " + element.getClass());
+            throw new InvalidClassException("only support SeaTunnelRow and Flink Row at now, the element Class is " + element.getClass());
         }
     }
 
@@ -19,7 +19,8 @@ package org.apache.seatunnel.translation.flink.source;
 
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 
 import org.apache.flink.api.common.state.CheckpointListener;
@@ -37,7 +38,6 @@ import org.apache.flink.streaming.api.checkpoint.CheckpointedFunction;
 import org.apache.flink.streaming.api.functions.source.RichSourceFunction;
 import org.apache.flink.streaming.api.functions.source.SourceFunction;
 import org.apache.flink.streaming.api.operators.StreamingRuntimeContext;
-import org.apache.flink.types.Row;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,8 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
-public abstract class BaseSeaTunnelSourceFunction extends RichSourceFunction<Row>
-    implements CheckpointListener, ResultTypeQueryable<Row>, CheckpointedFunction {
+public abstract class BaseSeaTunnelSourceFunction extends RichSourceFunction<SeaTunnelRow>
+    implements CheckpointListener, ResultTypeQueryable<SeaTunnelRow>, CheckpointedFunction {
     private static final Logger LOG = LoggerFactory.getLogger(BaseSeaTunnelSourceFunction.class);
 
     protected final SeaTunnelSource<SeaTunnelRow, ?, ?> source;
@@ -79,7 +79,7 @@ public abstract class BaseSeaTunnelSourceFunction extends RichSourceFunction<Row
 
     @SuppressWarnings("checkstyle:MagicNumber")
     @Override
-    public void run(SourceFunction.SourceContext<Row> sourceContext) throws Exception {
+    public void run(SourceFunction.SourceContext<SeaTunnelRow> sourceContext) throws Exception {
         internalSource.run(new RowCollector(sourceContext, sourceContext.getCheckpointLock(), source.getProducedType()));
         // Wait for a checkpoint to complete:
         // In the current version(version < 1.14.0), when the operator state of the source changes to FINISHED, jobs cannot be checkpoint executed.
@@ -122,10 +122,9 @@ public abstract class BaseSeaTunnelSourceFunction extends RichSourceFunction<Row
         internalSource.notifyCheckpointAborted(checkpointId);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public TypeInformation<Row> getProducedType() {
-        return (TypeInformation<Row>) TypeConverterUtils.convert(source.getProducedType());
+    public TypeInformation<SeaTunnelRow> getProducedType() {
+        return new SeaTunnelRowTypeInfo((SeaTunnelRowType) source.getProducedType());
     }
 
     @Override
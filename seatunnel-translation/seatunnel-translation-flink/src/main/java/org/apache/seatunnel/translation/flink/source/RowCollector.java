@@ -23,17 +23,21 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.flink.serialization.FlinkRowConverter;
 
 import org.apache.flink.streaming.api.functions.source.SourceFunction;
-import org.apache.flink.types.Row;
 
 import java.io.IOException;
 
+/**
+ * Emits the rows of a source as they are, the stream is typed by
+ * {@link org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo}. The rows are only validated
+ * against the produced type, so that a mismatch fails in the source instead of a downstream serializer.
+ */
 public class RowCollector implements Collector<SeaTunnelRow> {
 
-    protected final SourceFunction.SourceContext<Row> internalCollector;
+    protected final SourceFunction.SourceContext<SeaTunnelRow> internalCollector;
     protected final FlinkRowConverter rowSerialization;
     protected final Object checkpointLock;
 
-    public RowCollector(SourceFunction.SourceContext<Row> internalCollector, Object checkpointLock, SeaTunnelDataType<?> dataType) {
+    public RowCollector(SourceFunction.SourceContext<SeaTunnelRow> internalCollector, Object checkpointLock, SeaTunnelDataType<?> dataType) {
         this.internalCollector = internalCollector;
         this.checkpointLock = checkpointLock;
         this.rowSerialization = new FlinkRowConverter(dataType);
@@ -42,7 +46,8 @@ public class RowCollector implements Collector<SeaTunnelRow> {
     @Override
     public void collect(SeaTunnelRow record) {
         try {
-            internalCollector.collect(rowSerialization.convert(record));
+            rowSerialization.validate(record);
+            internalCollector.collect(record);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
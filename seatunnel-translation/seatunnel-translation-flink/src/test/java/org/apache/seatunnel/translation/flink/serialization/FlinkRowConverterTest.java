@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.types.Row;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FlinkRowConverterTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "nested", "nested_map", "plain_map"},
+        new SeaTunnelDataType<?>[]{
+            BasicType.LONG_TYPE,
+            NESTED_TYPE,
+            new MapType<>(BasicType.STRING_TYPE, NESTED_TYPE),
+            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)});
+
+    @Test
+    public void testConvertNestedRow() throws IOException {
+        FlinkRowConverter converter = new FlinkRowConverter(ROW_TYPE);
+        SeaTunnelRow nested = new SeaTunnelRow(new Object[]{1, "a"});
+        Map<String, SeaTunnelRow> nestedMap = new HashMap<>();
+        nestedMap.put("k", new SeaTunnelRow(new Object[]{2, "b"}));
+        Map<String, String> plainMap = Collections.singletonMap("k", "v");
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(new Object[]{10L, nested, nestedMap, plainMap});
+        seaTunnelRow.setRowKind(RowKind.UPDATE_AFTER);
+
+        Row row = converter.convert(seaTunnelRow);
+        Assertions.assertEquals(org.apache.flink.types.RowKind.UPDATE_AFTER, row.getKind());
+        Assertions.assertEquals(10L, row.getField(0));
+        Assertions.assertEquals(Row.of(1, "a"), row.getField(1));
+        Assertions.assertEquals(Row.of(2, "b"), ((Map<?, ?>) row.getField(2)).get("k"));
+        Assertions.assertSame(plainMap, row.getField(3));
+
+        SeaTunnelRow reconverted = converter.reconvert(row);
+        Assertions.assertEquals(seaTunnelRow, reconverted);
+    }
+
+    @Test
+    public void testConvertNullFields() throws IOException {
+        FlinkRowConverter converter = new FlinkRowConverter(ROW_TYPE);
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(4);
+
+        Row row = converter.convert(seaTunnelRow);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertNull(row.getField(i));
+        }
+        Assertions.assertEquals(seaTunnelRow, converter.reconvert(row));
+    }
+
+    @Test
+    public void testConvertFlatRow() throws IOException {
+        FlinkRowConverter converter = new FlinkRowConverter(NESTED_TYPE);
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(new Object[]{1, "a"});
+        seaTunnelRow.setRowKind(RowKind.DELETE);
+
+        Row row = converter.convert(seaTunnelRow);
+        Assertions.assertEquals(org.apache.flink.types.RowKind.DELETE, row.getKind());
+        Assertions.assertEquals(1, row.getField(0));
+        Assertions.assertEquals("a", row.getField(1));
+        Assertions.assertEquals(seaTunnelRow, converter.reconvert(row));
+    }
+
+    @Test
+    public void testValidateFieldType() {
+        FlinkRowConverter converter = new FlinkRowConverter(ROW_TYPE);
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(new Object[]{"not a long", null, null, null});
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> converter.convert(seaTunnelRow));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways a {@link SeaTunnelRow} can cross a Flink network shuffle or a state backend:
+ * <ul>
+ *     <li>{@link SeaTunnelRowSerializer}, used for streams typed by {@link SeaTunnelRowTypeInfo},</li>
+ *     <li>the Kryo fallback of a {@link SeaTunnelRow} without type information,</li>
+ *     <li>the conversion to a {@link Row}, serialized by the serializer of its {@link TypeConverterUtils} type, and
+ *     back.</li>
+ * </ul>
+ * Prints the serialized bytes per row and the round trips per second of each.
+ * It is not a part of the test suite and asserts nothing, run it with the test classpath of the module:
+ * {@code java -cp <classpath> org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowSerializerBenchmark}.
+ */
+@SuppressWarnings("MagicNumber")
+public class SeaTunnelRowSerializerBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final long WARMUP_MILLIS = 2_000L;
+    private static final long MEASURE_MILLIS = 5_000L;
+
+    public static void main(String[] args) throws IOException {
+        SeaTunnelRowType rowType = SeaTunnelRowSerializerTest.ROW_TYPE;
+        SeaTunnelRow[] rows = new SeaTunnelRow[ROWS];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = SeaTunnelRowSerializerTest.createRow(i);
+        }
+
+        RoundTrip[] roundTrips = new RoundTrip[]{
+            new SerializerRoundTrip("SeaTunnelRowSerializer", new SeaTunnelRowSerializer(rowType)),
+            new SerializerRoundTrip("Kryo", new KryoSerializer<>(SeaTunnelRow.class, new ExecutionConfig())),
+            new RowRoundTrip(rowType)};
+        for (RoundTrip roundTrip : roundTrips) {
+            run(roundTrip, rows, WARMUP_MILLIS);
+            long bytes = run(roundTrip, rows, 0L);
+            long count = run(roundTrip, rows, MEASURE_MILLIS);
+            System.out.printf("%s: %d bytes/row, %d rows/s%n",
+                roundTrip.name, bytes / ROWS, count * 1000 / MEASURE_MILLIS);
+        }
+    }
+
+    /**
+     * Serializes and deserializes the rows until the duration has elapsed, at least once.
+     *
+     * @return the number of rows when measuring a duration, otherwise the serialized bytes of one pass
+     */
+    private static long run(RoundTrip roundTrip, SeaTunnelRow[] rows, long durationMillis) throws IOException {
+        DataOutputSerializer output = new DataOutputSerializer(64 * 1024);
+        DataInputDeserializer input = new DataInputDeserializer();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long count = 0;
+        do {
+            output.clear();
+            for (SeaTunnelRow row : rows) {
+                roundTrip.serialize(row, output);
+            }
+            input.setBuffer(output.getSharedBuffer(), 0, output.length());
+            for (int i = 0; i < rows.length; i++) {
+                roundTrip.deserialize(input);
+            }
+            count += rows.length;
+        } while (System.nanoTime() < deadline);
+        return durationMillis == 0L ? output.length() : count;
+    }
+
+    private abstract static class RoundTrip {
+        private final String name;
+
+        RoundTrip(String name) {
+            this.name = name;
+        }
+
+        abstract void serialize(SeaTunnelRow row, DataOutputSerializer output) throws IOException;
+
+        abstract SeaTunnelRow deserialize(DataInputDeserializer input) throws IOException;
+    }
+
+    private static final class SerializerRoundTrip extends RoundTrip {
+        private final TypeSerializer<SeaTunnelRow> serializer;
+
+        SerializerRoundTrip(String name, TypeSerializer<SeaTunnelRow> serializer) {
+            super(name);
+            this.serializer = serializer;
+        }
+
+        @Override
+        void serialize(SeaTunnelRow row, DataOutputSerializer output) throws IOException {
+            serializer.serialize(row, output);
+        }
+
+        @Override
+        SeaTunnelRow deserialize(DataInputDeserializer input) throws IOException {
+            return serializer.deserialize(input);
+        }
+    }
+
+    private static final class RowRoundTrip extends RoundTrip {
+        private final FlinkRowConverter converter;
+        private final TypeSerializer<Row> serializer;
+
+        @SuppressWarnings("unchecked")
+        RowRoundTrip(SeaTunnelRowType rowType) {
+            super("Row conversion");
+            this.converter = new FlinkRowConverter(rowType);
+            this.serializer = ((TypeInformation<Row>) TypeConverterUtils.convert(rowType))
+                .createSerializer(new ExecutionConfig());
+        }
+
+        @Override
+        void serialize(SeaTunnelRow row, DataOutputSerializer output) throws IOException {
+            serializer.serialize(converter.convert(row), output);
+        }
+
+        @Override
+        SeaTunnelRow deserialize(DataInputDeserializer input) throws IOException {
+            return converter.reconvert(serializer.deserialize(input));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@SuppressWarnings("MagicNumber")
+public class SeaTunnelRowSerializerTest {
+
+    static final SeaTunnelRowType NESTED_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"string", "boolean", "tinyint", "smallint", "int", "bigint", "float", "double", "decimal",
+            "null", "bytes", "date", "time", "timestamp", "array", "map", "row"},
+        new SeaTunnelDataType<?>[]{
+            BasicType.STRING_TYPE, BasicType.BOOLEAN_TYPE, BasicType.BYTE_TYPE, BasicType.SHORT_TYPE,
+            BasicType.INT_TYPE, BasicType.LONG_TYPE, BasicType.FLOAT_TYPE, BasicType.DOUBLE_TYPE,
+            new DecimalType(20, 4), BasicType.VOID_TYPE, PrimitiveByteArrayType.INSTANCE,
+            LocalTimeType.LOCAL_DATE_TYPE, LocalTimeType.LOCAL_TIME_TYPE, LocalTimeType.LOCAL_DATE_TIME_TYPE,
+            ArrayType.STRING_ARRAY_TYPE, new MapType<>(BasicType.STRING_TYPE, NESTED_TYPE), NESTED_TYPE});
+
+    static SeaTunnelRow createRow(int i) {
+        Map<String, SeaTunnelRow> map = new HashMap<>();
+        map.put("k" + i, new SeaTunnelRow(new Object[]{i, "nested-" + i}));
+        map.put("null", null);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[]{
+            "value-" + i, i % 2 == 0, (byte) i, (short) i, i, (long) i * 1000, i / 3f, i / 7d,
+            new BigDecimal("12345.6789").add(BigDecimal.valueOf(i)), null, new byte[]{1, 2, (byte) i},
+            LocalDate.of(2022, 8, 1).plusDays(i), LocalTime.of(12, 30, 15, 123456789),
+            LocalDateTime.of(2022, 8, 1, 10, 0).plusSeconds(i), new String[]{"a", null, "c"}, map,
+            new SeaTunnelRow(new Object[]{i, null})});
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        row.setTableId(3);
+        return row;
+    }
+
+    private static byte[] serialize(SeaTunnelRowSerializer serializer, SeaTunnelRow row) throws IOException {
+        DataOutputSerializer output = new DataOutputSerializer(256);
+        serializer.serialize(row, output);
+        return output.getCopyOfBuffer();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(ROW_TYPE);
+        SeaTunnelRow row = createRow(42);
+        SeaTunnelRow deserialized = serializer.deserialize(new DataInputDeserializer(serialize(serializer, row)));
+        Assertions.assertEquals(row, deserialized);
+        Assertions.assertEquals(String[].class, deserialized.getField(14).getClass());
+    }
+
+    @Test
+    public void testAllFieldsNull() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(ROW_TYPE);
+        SeaTunnelRow row = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        byte[] bytes = serialize(serializer, row);
+        // row kind, table id and the null bitmap of 17 fields
+        Assertions.assertEquals(1 + 1 + 3, bytes.length);
+        Assertions.assertEquals(row, serializer.deserialize(new DataInputDeserializer(bytes)));
+    }
+
+    @Test
+    public void testDeepCopy() {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(ROW_TYPE);
+        SeaTunnelRow row = createRow(1);
+        SeaTunnelRow copy = serializer.copy(row);
+        Assertions.assertEquals(row, copy);
+        ((byte[]) row.getField(10))[0] = 9;
+        ((SeaTunnelRow) row.getField(16)).setField(0, 9);
+        Assertions.assertEquals(1, ((byte[]) copy.getField(10))[0]);
+        Assertions.assertEquals(1, ((SeaTunnelRow) copy.getField(16)).getField(0));
+    }
+
+    @Test
+    public void testArityMismatch() {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(NESTED_TYPE);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> serialize(serializer, new SeaTunnelRow(new Object[]{1})));
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(ROW_TYPE);
+        DataOutputSerializer output = new DataOutputSerializer(256);
+        TypeSerializerSnapshot<SeaTunnelRow> snapshot = serializer.snapshotConfiguration();
+        snapshot.writeSnapshot(output);
+
+        SeaTunnelRowSerializerSnapshot restored = new SeaTunnelRowSerializerSnapshot();
+        restored.readSnapshot(snapshot.getCurrentVersion(), new DataInputDeserializer(output.getCopyOfBuffer()),
+            getClass().getClassLoader());
+        TypeSerializer<SeaTunnelRow> restoredSerializer = restored.restoreSerializer();
+        Assertions.assertEquals(serializer, restoredSerializer);
+        Assertions.assertTrue(restored.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+        Assertions.assertTrue(restored.resolveSchemaCompatibility(new SeaTunnelRowSerializer(NESTED_TYPE)).isIncompatible());
+    }
+
+    @Test
+    public void testTypeInfo() {
+        SeaTunnelRowTypeInfo typeInfo = new SeaTunnelRowTypeInfo(ROW_TYPE);
+        Assertions.assertEquals(1, typeInfo.getArity());
+        Assertions.assertEquals(1, typeInfo.getTotalFields());
+        Assertions.assertEquals(new SeaTunnelRowSerializer(ROW_TYPE), typeInfo.createSerializer(new ExecutionConfig()));
+        Assertions.assertEquals(typeInfo, new SeaTunnelRowTypeInfo(ROW_TYPE));
+        Assertions.assertNotEquals(typeInfo, new SeaTunnelRowTypeInfo(NESTED_TYPE));
+    }
+
+    /**
+     * Compares the serialized size with the Kryo fallback.
+     */
+    @Test
+    public void testCompareWithKryo() throws IOException {
+        SeaTunnelRowSerializer serializer = new SeaTunnelRowSerializer(ROW_TYPE);
+        KryoSerializer<SeaTunnelRow> kryoSerializer = new KryoSerializer<>(SeaTunnelRow.class, new ExecutionConfig());
+        SeaTunnelRow[] rows = new SeaTunnelRow[100];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = createRow(i);
+        }
+
+        DataOutputSerializer output = new DataOutputSerializer(4096);
+        for (SeaTunnelRow row : rows) {
+            serializer.serialize(row, output);
+        }
+        int nativeSize = output.length();
+
+        DataInputDeserializer input = new DataInputDeserializer(output.getCopyOfBuffer());
+        for (SeaTunnelRow row : rows) {
+            Assertions.assertEquals(row, serializer.deserialize(input));
+        }
+
+        output.clear();
+        for (SeaTunnelRow row : rows) {
+            kryoSerializer.serialize(row, output);
+        }
+        int kryoSize = output.length();
+
+        Assertions.assertTrue(nativeSize < kryoSize,
+            String.format("serialized size %s is not smaller than kryo's %s", nativeSize, kryoSize));
+    }
+}
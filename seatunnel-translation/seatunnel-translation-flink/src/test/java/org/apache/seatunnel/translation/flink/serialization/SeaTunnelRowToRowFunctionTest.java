@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.flink.utils.TypeConverterUtils;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.types.Row;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SeaTunnelRowToRowFunctionTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "name"},
+        new SeaTunnelDataType<?>[]{BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(
+        new String[]{"id", "nested"},
+        new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE, NESTED_TYPE});
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        SeaTunnelRowToRowFunction toRow = new SeaTunnelRowToRowFunction(ROW_TYPE);
+        RowToSeaTunnelRowFunction toSeaTunnelRow = new RowToSeaTunnelRowFunction(ROW_TYPE);
+        toRow.open(new Configuration());
+        toSeaTunnelRow.open(new Configuration());
+
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(new Object[]{1L, new SeaTunnelRow(new Object[]{2, "a"})});
+        seaTunnelRow.setRowKind(RowKind.DELETE);
+        Row row = toRow.map(seaTunnelRow);
+        Assertions.assertEquals(org.apache.flink.types.RowKind.DELETE, row.getKind());
+        Assertions.assertEquals(Row.of(2, "a"), row.getField(1));
+        Assertions.assertEquals(seaTunnelRow, toSeaTunnelRow.map(row));
+    }
+
+    @Test
+    public void testProducedType() {
+        Assertions.assertEquals(TypeConverterUtils.convert(ROW_TYPE), new SeaTunnelRowToRowFunction(ROW_TYPE).getProducedType());
+        Assertions.assertEquals(new SeaTunnelRowTypeInfo(ROW_TYPE), new RowToSeaTunnelRowFunction(ROW_TYPE).getProducedType());
+    }
+}
@@ -20,7 +20,9 @@ package org.apache.seatunnel.translation.spark.source;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.Constants;
+import org.apache.seatunnel.common.Handover;
 import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorageConfig;
 import org.apache.seatunnel.translation.spark.source.batch.BatchSourceReader;
 import org.apache.seatunnel.translation.spark.source.micro.MicroBatchSourceReader;
 
@@ -60,7 +62,8 @@ public class SeaTunnelSourceSupport implements DataSourceV2, ReadSupport, MicroB
     public DataSourceReader createReader(DataSourceOptions options) {
         SeaTunnelSource<SeaTunnelRow, ?, ?> seaTunnelSource = getSeaTunnelSource(options);
         int parallelism = options.getInt(Constants.SOURCE_PARALLELISM, 1);
-        return new BatchSourceReader(seaTunnelSource, parallelism);
+        int handoverCapacity = options.getInt(Constants.HANDOVER_CAPACITY, Handover.DEFAULT_CAPACITY);
+        return new BatchSourceReader(seaTunnelSource, parallelism, handoverCapacity);
     }
 
     @Override
@@ -73,7 +76,11 @@ public class SeaTunnelSourceSupport implements DataSourceV2, ReadSupport, MicroB
         String hdfsRoot = options.get(Constants.HDFS_ROOT).orElse(FileSystem.getDefaultUri(configuration).toString());
         String hdfsUser = options.get(Constants.HDFS_USER).orElse("");
         Integer checkpointId = options.getInt(Constants.CHECKPOINT_ID, 1);
-        return new MicroBatchSourceReader(seaTunnelSource, parallelism, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser);
+        Integer handoverCapacity = options.getInt(Constants.HANDOVER_CAPACITY, Handover.DEFAULT_CAPACITY);
+        String storageType = options.get(Constants.CHECKPOINT_STORAGE).orElse(CheckpointStorageConfig.HDFS_STORAGE);
+        int retainedCheckpoints = options.getInt(Constants.CHECKPOINT_RETAINED, CheckpointStorageConfig.DEFAULT_RETAINED_CHECKPOINTS);
+        CheckpointStorageConfig checkpointStorageConfig = new CheckpointStorageConfig(storageType, checkpointPath, hdfsRoot, hdfsUser, retainedCheckpoints);
+        return new MicroBatchSourceReader(seaTunnelSource, parallelism, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity);
     }
 
     private SeaTunnelSource<SeaTunnelRow, ?, ?> getSeaTunnelSource(DataSourceOptions options) {
@@ -32,20 +32,22 @@ public class BatchPartition implements InputPartition<InternalRow> {
     protected final SeaTunnelSource<SeaTunnelRow, ?, ?> source;
     protected final Integer parallelism;
     protected final Integer subtaskId;
+    protected final Integer handoverCapacity;
 
-    public BatchPartition(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId) {
+    public BatchPartition(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId, Integer handoverCapacity) {
         this.source = source;
         this.parallelism = parallelism;
         this.subtaskId = subtaskId;
+        this.handoverCapacity = handoverCapacity;
     }
 
     @Override
     public InputPartitionReader<InternalRow> createPartitionReader() {
         ParallelBatchPartitionReader partitionReader;
         if (source instanceof SupportCoordinate) {
-            partitionReader = new CoordinatedBatchPartitionReader(source, parallelism, subtaskId);
+            partitionReader = new CoordinatedBatchPartitionReader(source, parallelism, subtaskId, handoverCapacity);
         } else {
-            partitionReader = new ParallelBatchPartitionReader(source, parallelism, subtaskId);
+            partitionReader = new ParallelBatchPartitionReader(source, parallelism, subtaskId, handoverCapacity);
         }
         return new SeatunnelInputPartitionReader(partitionReader);
     }
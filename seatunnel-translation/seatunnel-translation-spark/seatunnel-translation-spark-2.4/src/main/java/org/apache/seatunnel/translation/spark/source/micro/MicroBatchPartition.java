@@ -20,6 +20,7 @@ package org.apache.seatunnel.translation.spark.source.micro;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SupportCoordinate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorageConfig;
 import org.apache.seatunnel.translation.spark.common.source.batch.ParallelBatchPartitionReader;
 import org.apache.seatunnel.translation.spark.common.source.micro.CoordinatedMicroBatchPartitionReader;
 import org.apache.seatunnel.translation.spark.common.source.micro.ParallelMicroBatchPartitionReader;
@@ -35,35 +36,32 @@ public class MicroBatchPartition implements InputPartition<InternalRow> {
     protected final Integer subtaskId;
     protected final Integer checkpointId;
     protected final Integer checkpointInterval;
-    protected final String checkpointPath;
-    protected final String hdfsRoot;
-    protected final String hdfsUser;
+    protected final CheckpointStorageConfig checkpointStorageConfig;
+    protected final Integer handoverCapacity;
 
     public MicroBatchPartition(SeaTunnelSource<SeaTunnelRow, ?, ?> source,
                                Integer parallelism,
                                Integer subtaskId,
                                Integer checkpointId,
                                Integer checkpointInterval,
-                               String checkpointPath,
-                               String hdfsRoot,
-                               String hdfsUser) {
+                               CheckpointStorageConfig checkpointStorageConfig,
+                               Integer handoverCapacity) {
         this.source = source;
         this.parallelism = parallelism;
         this.subtaskId = subtaskId;
         this.checkpointId = checkpointId;
         this.checkpointInterval = checkpointInterval;
-        this.checkpointPath = checkpointPath;
-        this.hdfsRoot = hdfsRoot;
-        this.hdfsUser = hdfsUser;
+        this.checkpointStorageConfig = checkpointStorageConfig;
+        this.handoverCapacity = handoverCapacity;
     }
 
     @Override
     public InputPartitionReader<InternalRow> createPartitionReader() {
         ParallelBatchPartitionReader partitionReader;
         if (source instanceof SupportCoordinate) {
-            partitionReader = new CoordinatedMicroBatchPartitionReader(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser);
+            partitionReader = new CoordinatedMicroBatchPartitionReader(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity);
         } else {
-            partitionReader = new ParallelMicroBatchPartitionReader(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser);
+            partitionReader = new ParallelMicroBatchPartitionReader(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity);
         }
         return new SeatunnelInputPartitionReader(partitionReader);
     }
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SupportCoordinate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorageConfig;
 import org.apache.seatunnel.translation.spark.common.source.micro.MicroBatchState;
 import org.apache.seatunnel.translation.spark.common.utils.TypeConverterUtils;
 
@@ -40,21 +41,19 @@ public class MicroBatchSourceReader implements MicroBatchReader {
     protected final Integer parallelism;
 
     protected final Integer checkpointInterval;
-    protected final String checkpointPath;
-    protected final String hdfsRoot;
-    protected final String hdfsUser;
+    protected final CheckpointStorageConfig checkpointStorageConfig;
+    protected final Integer handoverCapacity;
     protected Integer checkpointId;
     protected MicroBatchState startOffset;
     protected MicroBatchState endOffset;
 
-    public MicroBatchSourceReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer checkpointId, Integer checkpointInterval, String checkpointPath, String hdfsRoot, String hdfsUser) {
+    public MicroBatchSourceReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer checkpointId, Integer checkpointInterval, CheckpointStorageConfig checkpointStorageConfig, Integer handoverCapacity) {
         this.source = source;
         this.parallelism = parallelism;
         this.checkpointId = checkpointId;
         this.checkpointInterval = checkpointInterval;
-        this.checkpointPath = checkpointPath;
-        this.hdfsRoot = hdfsRoot;
-        this.hdfsUser = hdfsUser;
+        this.checkpointStorageConfig = checkpointStorageConfig;
+        this.handoverCapacity = handoverCapacity;
     }
 
     @Override
@@ -99,11 +98,11 @@ public class MicroBatchSourceReader implements MicroBatchReader {
         List<InputPartition<InternalRow>> virtualPartitions;
         if (source instanceof SupportCoordinate) {
             virtualPartitions = new ArrayList<>(1);
-            virtualPartitions.add(new MicroBatchPartition(source, parallelism, 0, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser));
+            virtualPartitions.add(new MicroBatchPartition(source, parallelism, 0, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity));
         } else {
             virtualPartitions = new ArrayList<>(parallelism);
             for (int subtaskId = 0; subtaskId < parallelism; subtaskId++) {
-                virtualPartitions.add(new MicroBatchPartition(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser));
+                virtualPartitions.add(new MicroBatchPartition(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity));
             }
         }
         checkpointId++;
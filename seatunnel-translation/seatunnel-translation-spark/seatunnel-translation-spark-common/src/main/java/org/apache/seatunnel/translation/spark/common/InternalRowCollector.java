@@ -30,6 +30,16 @@ public class InternalRowCollector implements Collector<SeaTunnelRow> {
     private final Object checkpointLock;
     private final InternalRowConverter rowSerialization;
 
+    /**
+     * Set once a virtual checkpoint has captured the reader positions, see {@link #seal()}.
+     */
+    private volatile boolean sealed;
+
+    /**
+     * Set once the source shuts down, see {@link #release()}.
+     */
+    private volatile boolean released;
+
     public InternalRowCollector(Handover<InternalRow> handover, Object checkpointLock, SeaTunnelDataType<?> dataType) {
         this.handover = handover;
         this.checkpointLock = checkpointLock;
@@ -40,6 +50,12 @@ public class InternalRowCollector implements Collector<SeaTunnelRow> {
     public void collect(SeaTunnelRow record) {
         try {
             synchronized (checkpointLock) {
+                while (sealed) {
+                    checkpointLock.wait();
+                }
+                if (released) {
+                    return;
+                }
                 handover.produce(rowSerialization.convert(record));
             }
         } catch (Exception e) {
@@ -47,6 +63,26 @@ public class InternalRowCollector implements Collector<SeaTunnelRow> {
         }
     }
 
+    /**
+     * Blocks all further records, because they are beyond the positions of the current checkpoint and are
+     * read again by the next micro-batch. Must be called while holding the checkpoint lock.
+     */
+    public void seal() {
+        this.sealed = true;
+    }
+
+    /**
+     * Wakes up the threads blocked by {@link #seal()} to shut down the source. Their records and all further
+     * records are dropped, so the handover can be closed without failing the readers.
+     */
+    public void release() {
+        synchronized (checkpointLock) {
+            this.released = true;
+            this.sealed = false;
+            checkpointLock.notifyAll();
+        }
+    }
+
     @Override
     public Object getCheckpointLock() {
         return this.checkpointLock;
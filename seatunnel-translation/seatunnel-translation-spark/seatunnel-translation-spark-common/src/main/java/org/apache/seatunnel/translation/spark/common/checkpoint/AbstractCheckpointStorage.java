@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.translation.spark.common.ReaderState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Base class of the file based {@link CheckpointStorage}s, which keep the state of each checkpoint in the file
+ * {@code <checkpoint path>/<subtask id>/<checkpoint id>}.
+ *
+ * <p>States are streamed through buffers instead of being copied into byte arrays, and each state is written to
+ * a temporary file first, which is then renamed, so that a failed attempt never leaves a partial state behind.
+ */
+public abstract class AbstractCheckpointStorage implements CheckpointStorage {
+
+    protected static final int BUFFER_SIZE = 64 * 1024;
+    protected static final String TEMP_FILE_SUFFIX = ".inprogress";
+
+    protected final int retainedCheckpoints;
+
+    protected AbstractCheckpointStorage(int retainedCheckpoints) {
+        this.retainedCheckpoints = retainedCheckpoints;
+    }
+
+    @Override
+    public void storeState(ReaderState readerState) throws IOException {
+        final int subtaskId = readerState.getSubtaskId();
+        final int checkpointId = readerState.getCheckpointId();
+        try (OutputStream outputStream = new BufferedOutputStream(createTempFile(subtaskId, checkpointId), BUFFER_SIZE)) {
+            SerializationUtils.serialize(readerState, outputStream);
+        }
+        commitTempFile(subtaskId, checkpointId);
+    }
+
+    @Override
+    public ReaderState loadState(int subtaskId, int checkpointId) throws IOException {
+        InputStream inputStream = openFile(subtaskId, checkpointId);
+        if (inputStream == null) {
+            return null;
+        }
+        return SerializationUtils.deserialize(new BufferedInputStream(inputStream, BUFFER_SIZE));
+    }
+
+    @Override
+    public void cleanup(int subtaskId, int latestCheckpointId) throws IOException {
+        for (int checkpointId : listCheckpointIds(subtaskId)) {
+            if (checkpointId <= latestCheckpointId - retainedCheckpoints) {
+                deleteFile(subtaskId, checkpointId);
+            }
+        }
+    }
+
+    protected static Integer parseCheckpointId(String fileName) {
+        try {
+            return Integer.valueOf(fileName);
+        } catch (NumberFormatException e) {
+            // temporary files of running attempts
+            return null;
+        }
+    }
+
+    protected abstract OutputStream createTempFile(int subtaskId, int checkpointId) throws IOException;
+
+    /**
+     * Replaces the state file of the checkpoint with the temporary file.
+     */
+    protected abstract void commitTempFile(int subtaskId, int checkpointId) throws IOException;
+
+    /**
+     * @return the stream of the state file, or {@code null} if the file does not exist.
+     */
+    protected abstract InputStream openFile(int subtaskId, int checkpointId) throws IOException;
+
+    protected abstract List<Integer> listCheckpointIds(int subtaskId) throws IOException;
+
+    protected abstract void deleteFile(int subtaskId, int checkpointId) throws IOException;
+}
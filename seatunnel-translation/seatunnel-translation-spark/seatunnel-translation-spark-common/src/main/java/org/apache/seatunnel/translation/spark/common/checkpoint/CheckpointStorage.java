@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import org.apache.seatunnel.translation.spark.common.ReaderState;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Persists the {@link ReaderState} of the micro-batch partition readers, one state per subtask and checkpoint.
+ */
+public interface CheckpointStorage extends Closeable {
+
+    /**
+     * Stores the state of a subtask atomically, replacing the state of the same checkpoint written by a
+     * previous attempt of the micro-batch.
+     */
+    void storeState(ReaderState readerState) throws IOException;
+
+    /**
+     * Loads the state of a subtask.
+     *
+     * @return the state of the given checkpoint, or {@code null} if the subtask has no such checkpoint.
+     */
+    ReaderState loadState(int subtaskId, int checkpointId) throws IOException;
+
+    /**
+     * Removes the states of a subtask which are no longer retained after the given checkpoint completed.
+     */
+    void cleanup(int subtaskId, int latestCheckpointId) throws IOException;
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * The serializable description of a {@link CheckpointStorage}, which is shipped to the partition readers.
+ */
+public class CheckpointStorageConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String HDFS_STORAGE = "hdfs";
+    public static final String LOCAL_STORAGE = "local";
+    public static final int DEFAULT_RETAINED_CHECKPOINTS = 3;
+
+    /**
+     * A re-executed micro-batch restores the checkpoint before its own one, so two checkpoints are always kept.
+     */
+    private static final int MIN_RETAINED_CHECKPOINTS = 2;
+
+    private final String storageType;
+    private final String checkpointPath;
+    private final String hdfsRoot;
+    private final String hdfsUser;
+    private final int retainedCheckpoints;
+
+    public CheckpointStorageConfig(String storageType, String checkpointPath, String hdfsRoot, String hdfsUser, int retainedCheckpoints) {
+        this.storageType = storageType;
+        this.checkpointPath = checkpointPath;
+        this.hdfsRoot = hdfsRoot;
+        this.hdfsUser = hdfsUser;
+        this.retainedCheckpoints = Math.max(retainedCheckpoints, MIN_RETAINED_CHECKPOINTS);
+    }
+
+    public CheckpointStorage createStorage() throws IOException {
+        return CheckpointStorageLoader.load(storageType).create(this);
+    }
+
+    public String getStorageType() {
+        return storageType;
+    }
+
+    public String getCheckpointPath() {
+        return checkpointPath;
+    }
+
+    public String getHdfsRoot() {
+        return hdfsRoot;
+    }
+
+    public String getHdfsUser() {
+        return hdfsUser;
+    }
+
+    public int getRetainedCheckpoints() {
+        return retainedCheckpoints;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+/** Utility for loading the {@link CheckpointStorageFactory} of a checkpoint storage. */
+public final class CheckpointStorageLoader {
+
+    private CheckpointStorageLoader() {}
+
+    /**
+     * Loads the factory of the checkpoint storage with the given identifier.
+     *
+     * @throws IllegalArgumentException if there is no factory with the given identifier in the classpath.
+     */
+    public static CheckpointStorageFactory load(String identifier) {
+        List<CheckpointStorageFactory> foundFactories = discoverFactories(Thread.currentThread().getContextClassLoader());
+        return foundFactories.stream()
+            .filter(factory -> factory.identifier().equalsIgnoreCase(identifier))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format("Could not find any checkpoint storage factory with identifier '%s' in the classpath. Available storages are: %s",
+                    identifier,
+                    foundFactories.stream()
+                        .map(CheckpointStorageFactory::identifier)
+                        .sorted()
+                        .collect(Collectors.joining(", ")))));
+    }
+
+    private static List<CheckpointStorageFactory> discoverFactories(ClassLoader classLoader) {
+        try {
+            final List<CheckpointStorageFactory> result = new LinkedList<>();
+            ServiceLoader.load(CheckpointStorageFactory.class, classLoader)
+                .iterator()
+                .forEachRemaining(result::add);
+            return result;
+        } catch (ServiceConfigurationError e) {
+            throw new RuntimeException("Could not load service provider for checkpoint storage factory.", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the checkpoints in a Hadoop {@link FileSystem}, such as HDFS or an object store with a Hadoop connector.
+ */
+public class HdfsCheckpointStorage extends AbstractCheckpointStorage {
+
+    /**
+     * The file systems by root and user. The readers of all micro-batches in a JVM share one file system, which is
+     * not closed with a storage.
+     */
+    private static final Map<String, FileSystem> FILE_SYSTEMS = new ConcurrentHashMap<>();
+
+    private final FileSystem fileSystem;
+    private final String checkpointPath;
+
+    /**
+     * Creates a storage on the given file system, which is not closed with the storage.
+     */
+    public HdfsCheckpointStorage(FileSystem fileSystem, String checkpointPath, int retainedCheckpoints) {
+        super(retainedCheckpoints);
+        this.fileSystem = fileSystem;
+        this.checkpointPath = checkpointPath;
+    }
+
+    public static HdfsCheckpointStorage create(String checkpointPath, String hdfsRoot, String hdfsUser, int retainedCheckpoints) throws IOException {
+        String key = StringUtils.isNotBlank(hdfsUser) ? hdfsUser + "@" + hdfsRoot : hdfsRoot;
+        FileSystem fileSystem = FILE_SYSTEMS.get(key);
+        if (fileSystem == null) {
+            synchronized (FILE_SYSTEMS) {
+                fileSystem = FILE_SYSTEMS.get(key);
+                if (fileSystem == null) {
+                    fileSystem = newFileSystem(hdfsRoot, hdfsUser);
+                    FILE_SYSTEMS.put(key, fileSystem);
+                }
+            }
+        }
+        return new HdfsCheckpointStorage(fileSystem, checkpointPath, retainedCheckpoints);
+    }
+
+    private static FileSystem newFileSystem(String hdfsRoot, String hdfsUser) throws IOException {
+        Configuration configuration = new Configuration();
+        configuration.set("fs.defaultFS", hdfsRoot);
+        try {
+            // a new instance instead of the cached one, which is shared within the JVM and may be closed by others
+            if (StringUtils.isNotBlank(hdfsUser)) {
+                return FileSystem.newInstance(new URI(hdfsRoot), configuration, hdfsUser);
+            }
+            return FileSystem.newInstance(new URI(hdfsRoot), configuration);
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid hdfs root: " + hdfsRoot, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    protected OutputStream createTempFile(int subtaskId, int checkpointId) throws IOException {
+        return fileSystem.create(getTempPath(subtaskId, checkpointId), true, BUFFER_SIZE);
+    }
+
+    @Override
+    protected void commitTempFile(int subtaskId, int checkpointId) throws IOException {
+        Path path = getPath(subtaskId, checkpointId);
+        // the rename of hadoop file systems does not replace the target
+        fileSystem.delete(path, false);
+        if (!fileSystem.rename(getTempPath(subtaskId, checkpointId), path)) {
+            throw new IOException("Failed to commit the state file " + path);
+        }
+    }
+
+    @Override
+    protected InputStream openFile(int subtaskId, int checkpointId) throws IOException {
+        try {
+            return fileSystem.open(getPath(subtaskId, checkpointId), BUFFER_SIZE);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected List<Integer> listCheckpointIds(int subtaskId) throws IOException {
+        List<Integer> checkpointIds = new ArrayList<>();
+        try {
+            for (FileStatus status : fileSystem.listStatus(getSubtaskPath(subtaskId))) {
+                Integer checkpointId = parseCheckpointId(status.getPath().getName());
+                if (checkpointId != null) {
+                    checkpointIds.add(checkpointId);
+                }
+            }
+        } catch (FileNotFoundException e) {
+            // no checkpoint has been stored yet
+        }
+        return checkpointIds;
+    }
+
+    @Override
+    protected void deleteFile(int subtaskId, int checkpointId) throws IOException {
+        fileSystem.delete(getPath(subtaskId, checkpointId), false);
+    }
+
+    private Path getSubtaskPath(int subtaskId) {
+        return new Path(checkpointPath, String.valueOf(subtaskId));
+    }
+
+    private Path getPath(int subtaskId, int checkpointId) {
+        return new Path(getSubtaskPath(subtaskId), String.valueOf(checkpointId));
+    }
+
+    private Path getTempPath(int subtaskId, int checkpointId) {
+        return new Path(getSubtaskPath(subtaskId), checkpointId + TEMP_FILE_SUFFIX);
+    }
+
+    @Override
+    public void close() {
+        // the file system is shared with the other readers
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the checkpoints in the local file system, which is sufficient for single-node deployments and tests.
+ */
+public class LocalCheckpointStorage extends AbstractCheckpointStorage {
+
+    private static final String FILE_SCHEME = "file:";
+
+    private final Path checkpointPath;
+
+    public LocalCheckpointStorage(String checkpointPath, int retainedCheckpoints) {
+        super(retainedCheckpoints);
+        this.checkpointPath = checkpointPath.startsWith(FILE_SCHEME) ? Paths.get(URI.create(checkpointPath)) : Paths.get(checkpointPath);
+    }
+
+    @Override
+    protected OutputStream createTempFile(int subtaskId, int checkpointId) throws IOException {
+        Files.createDirectories(getSubtaskPath(subtaskId));
+        return Files.newOutputStream(getTempPath(subtaskId, checkpointId));
+    }
+
+    @Override
+    protected void commitTempFile(int subtaskId, int checkpointId) throws IOException {
+        Files.move(getTempPath(subtaskId, checkpointId), getPath(subtaskId, checkpointId),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    protected InputStream openFile(int subtaskId, int checkpointId) throws IOException {
+        try {
+            return Files.newInputStream(getPath(subtaskId, checkpointId));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected List<Integer> listCheckpointIds(int subtaskId) throws IOException {
+        List<Integer> checkpointIds = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(getSubtaskPath(subtaskId))) {
+            for (Path file : files) {
+                Integer checkpointId = parseCheckpointId(file.getFileName().toString());
+                if (checkpointId != null) {
+                    checkpointIds.add(checkpointId);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // no checkpoint has been stored yet
+        }
+        return checkpointIds;
+    }
+
+    @Override
+    protected void deleteFile(int subtaskId, int checkpointId) throws IOException {
+        Files.deleteIfExists(getPath(subtaskId, checkpointId));
+    }
+
+    private Path getSubtaskPath(int subtaskId) {
+        return checkpointPath.resolve(String.valueOf(subtaskId));
+    }
+
+    private Path getPath(int subtaskId, int checkpointId) {
+        return getSubtaskPath(subtaskId).resolve(String.valueOf(checkpointId));
+    }
+
+    private Path getTempPath(int subtaskId, int checkpointId) {
+        return getSubtaskPath(subtaskId).resolve(checkpointId + TEMP_FILE_SUFFIX);
+    }
+
+    @Override
+    public void close() {
+        // nothing
+    }
+}
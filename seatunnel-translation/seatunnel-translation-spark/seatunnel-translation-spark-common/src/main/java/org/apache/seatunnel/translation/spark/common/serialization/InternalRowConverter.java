@@ -28,19 +28,11 @@ import org.apache.seatunnel.translation.spark.common.utils.InstantConverterUtils
 import org.apache.seatunnel.translation.spark.common.utils.TypeConverterUtils;
 
 import org.apache.spark.sql.catalyst.InternalRow;
-import org.apache.spark.sql.catalyst.expressions.MutableAny;
-import org.apache.spark.sql.catalyst.expressions.MutableBoolean;
-import org.apache.spark.sql.catalyst.expressions.MutableByte;
-import org.apache.spark.sql.catalyst.expressions.MutableDouble;
-import org.apache.spark.sql.catalyst.expressions.MutableFloat;
-import org.apache.spark.sql.catalyst.expressions.MutableInt;
-import org.apache.spark.sql.catalyst.expressions.MutableLong;
-import org.apache.spark.sql.catalyst.expressions.MutableShort;
-import org.apache.spark.sql.catalyst.expressions.MutableValue;
-import org.apache.spark.sql.catalyst.expressions.SpecificInternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
 import org.apache.spark.sql.catalyst.util.ArrayBasedMapData;
 import org.apache.spark.sql.catalyst.util.ArrayData;
 import org.apache.spark.sql.catalyst.util.MapData;
+import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.Decimal;
 import org.apache.spark.unsafe.types.UTF8String;
 
@@ -49,171 +41,197 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 public final class InternalRowConverter extends RowConverter<InternalRow> {
 
+    private final FieldConverter converter;
+
+    /**
+     * Created on first use, because not every SeaTunnel type is mapped to a Spark type yet.
+     */
+    private FieldConverter reconverter;
+
     public InternalRowConverter(SeaTunnelDataType<?> dataType) {
         super(dataType);
+        this.converter = createConverter(dataType);
     }
 
     @Override
     public InternalRow convert(SeaTunnelRow seaTunnelRow) throws IOException {
         validate(seaTunnelRow);
-        return (InternalRow) convert(seaTunnelRow, dataType);
+        return (InternalRow) converter.convert(seaTunnelRow);
     }
 
-    private static Object convert(Object field, SeaTunnelDataType<?> dataType) {
-        if (field == null) {
-            return null;
-        }
+    /**
+     * Creates the converter of the given data type, or returns null if the value doesn't need conversion.
+     */
+    private static FieldConverter createConverter(SeaTunnelDataType<?> dataType) {
         switch (dataType.getSqlType()) {
             case ROW:
-                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) field;
-                SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
-                return convert(seaTunnelRow, rowType);
+                return createRowConverter((SeaTunnelRowType) dataType);
             case DATE:
-                return (int) ((LocalDate) field).toEpochDay();
+                return field -> (int) ((LocalDate) field).toEpochDay();
             case TIME:
                 // TODO: Support TIME Type
-                throw new RuntimeException("time type is not supported now, but will be supported in the future.");
+                return field -> {
+                    throw new RuntimeException("time type is not supported now, but will be supported in the future.");
+                };
             case TIMESTAMP:
-                return InstantConverterUtils.toEpochMicro(Timestamp.valueOf((LocalDateTime) field).toInstant());
+                return field -> InstantConverterUtils.toEpochMicro(Timestamp.valueOf((LocalDateTime) field).toInstant());
             case MAP:
-                return convertMap((Map<?, ?>) field, (MapType<?, ?>) dataType);
+                return createMapConverter((MapType<?, ?>) dataType);
             case STRING:
-                return UTF8String.fromString((String) field);
+                return field -> UTF8String.fromString((String) field);
             case DECIMAL:
-                return Decimal.apply((BigDecimal) field);
+                return field -> Decimal.apply((BigDecimal) field);
             case ARRAY:
                 // if string array, we need to covert every item in array from String to UTF8String
                 if (((ArrayType<?, ?>) dataType).getElementType().equals(BasicType.STRING_TYPE)) {
-                    String[] fields = (String[]) field;
-                    Object[] objects = Arrays.stream(fields).map(UTF8String::fromString).toArray();
-                    return ArrayData.toArrayData(objects);
+                    return field -> {
+                        String[] fields = (String[]) field;
+                        Object[] objects = new Object[fields.length];
+                        for (int i = 0; i < fields.length; i++) {
+                            objects[i] = UTF8String.fromString(fields[i]);
+                        }
+                        return ArrayData.toArrayData(objects);
+                    };
                 }
                 // except string, now only support convert boolean int tinyint smallint bigint float double, because SeaTunnel Array only support these types
-                return ArrayData.toArrayData(field);
+                return ArrayData::toArrayData;
             default:
-                return field;
+                return null;
         }
     }
 
-    private static InternalRow convert(SeaTunnelRow seaTunnelRow, SeaTunnelRowType rowType) {
-        int arity = rowType.getTotalFields();
-        MutableValue[] values = new MutableValue[arity];
+    private static FieldConverter createRowConverter(SeaTunnelRowType rowType) {
+        final int arity = rowType.getTotalFields();
+        final FieldConverter[] fieldConverters = new FieldConverter[arity];
+        int rowKindIndex = -1;
         for (int i = 0; i < arity; i++) {
-            values[i] = createMutableValue(rowType.getFieldType(i));
             if (TypeConverterUtils.ROW_KIND_FIELD.equals(rowType.getFieldName(i))) {
-                values[i].update(seaTunnelRow.getRowKind().toByteValue());
+                rowKindIndex = i;
             } else {
-                Object fieldValue = convert(seaTunnelRow.getField(i), rowType.getFieldType(i));
-                if (fieldValue != null) {
-                    values[i].update(fieldValue);
-                }
+                fieldConverters[i] = createConverter(rowType.getFieldType(i));
             }
         }
-        return new SpecificInternalRow(values);
-    }
-
-    private static ArrayBasedMapData convertMap(Map<?, ?> mapData, MapType<?, ?> mapType) {
-        if (mapData == null || mapData.size() == 0) {
-            return ArrayBasedMapData.apply(new Object[]{}, new Object[]{});
-        }
-        SeaTunnelDataType<?> keyType = mapType.getKeyType();
-        SeaTunnelDataType<?> valueType = mapType.getValueType();
-        Map<Object, Object> newMap = new HashMap<>(mapData.size());
-        mapData.forEach((key, value) -> newMap.put(convert(key, keyType), convert(value, valueType)));
-        Object[] keys = newMap.keySet().toArray();
-        Object[] values = newMap.values().toArray();
-        return ArrayBasedMapData.apply(keys, values);
-    }
-
-    private static Map<Object, Object> reconvertMap(MapData mapData, MapType<?, ?> mapType) {
-        if (mapData == null || mapData.numElements() == 0) {
-            return Collections.emptyMap();
-        }
-        Map<Object, Object> newMap = new HashMap<>(mapData.numElements());
-        int num = mapData.numElements();
-        SeaTunnelDataType<?> keyType = mapType.getKeyType();
-        SeaTunnelDataType<?> valueType = mapType.getValueType();
-        Object[] keys = mapData.keyArray().toObjectArray(TypeConverterUtils.convert(keyType));
-        Object[] values = mapData.valueArray().toObjectArray(TypeConverterUtils.convert(valueType));
-        for (int i = 0; i < num; i++) {
-            keys[i] = reconvert(keys[i], keyType);
-            values[i] = reconvert(values[i], valueType);
-            newMap.put(keys[i], values[i]);
-        }
-        return newMap;
+        final int rowKindField = rowKindIndex;
+        return field -> {
+            SeaTunnelRow seaTunnelRow = (SeaTunnelRow) field;
+            Object[] values = new Object[arity];
+            for (int i = 0; i < arity; i++) {
+                values[i] = convertField(seaTunnelRow.getField(i), fieldConverters[i]);
+            }
+            if (rowKindField >= 0) {
+                values[rowKindField] = seaTunnelRow.getRowKind().toByteValue();
+            }
+            return new GenericInternalRow(values);
+        };
     }
 
-    private static MutableValue createMutableValue(SeaTunnelDataType<?> dataType) {
-        switch (dataType.getSqlType()) {
-            case BOOLEAN:
-                return new MutableBoolean();
-            case TINYINT:
-                return new MutableByte();
-            case SMALLINT:
-                return new MutableShort();
-            case INT:
-            case DATE:
-                return new MutableInt();
-            case BIGINT:
-            case TIMESTAMP:
-                return new MutableLong();
-            case FLOAT:
-                return new MutableFloat();
-            case DOUBLE:
-                return new MutableDouble();
-            default:
-                return new MutableAny();
-        }
+    private static FieldConverter createMapConverter(MapType<?, ?> mapType) {
+        final FieldConverter keyConverter = createConverter(mapType.getKeyType());
+        final FieldConverter valueConverter = createConverter(mapType.getValueType());
+        return field -> {
+            Map<?, ?> mapData = (Map<?, ?>) field;
+            if (mapData.size() == 0) {
+                return ArrayBasedMapData.apply(new Object[]{}, new Object[]{});
+            }
+            Object[] keys = new Object[mapData.size()];
+            Object[] values = new Object[mapData.size()];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : mapData.entrySet()) {
+                keys[i] = convertField(entry.getKey(), keyConverter);
+                values[i] = convertField(entry.getValue(), valueConverter);
+                i++;
+            }
+            return ArrayBasedMapData.apply(keys, values);
+        };
     }
 
     @Override
     public SeaTunnelRow reconvert(InternalRow engineRow) throws IOException {
-        return (SeaTunnelRow) reconvert(engineRow, dataType);
-    }
-
-    private static Object reconvert(Object field, SeaTunnelDataType<?> dataType) {
-        if (field == null) {
-            return null;
+        if (reconverter == null) {
+            reconverter = createReconverter(dataType);
         }
+        return engineRow == null ? null : (SeaTunnelRow) reconverter.convert(engineRow);
+    }
 
+    /**
+     * Creates the reconverter of the given data type, or returns null if the value doesn't need conversion.
+     */
+    private static FieldConverter createReconverter(SeaTunnelDataType<?> dataType) {
         switch (dataType.getSqlType()) {
             case ROW:
-                return reconvert((InternalRow) field, (SeaTunnelRowType) dataType);
+                return createRowReconverter((SeaTunnelRowType) dataType);
             case DATE:
-                return LocalDate.ofEpochDay((int) field);
+                return field -> LocalDate.ofEpochDay((int) field);
             case TIME:
                 // TODO: Support TIME Type
-                throw new RuntimeException("SeaTunnel not support time type, it will be supported in the future.");
+                return field -> {
+                    throw new RuntimeException("SeaTunnel not support time type, it will be supported in the future.");
+                };
             case TIMESTAMP:
-                return Timestamp.from(InstantConverterUtils.ofEpochMicro((long) field)).toLocalDateTime();
+                return field -> Timestamp.from(InstantConverterUtils.ofEpochMicro((long) field)).toLocalDateTime();
             case MAP:
-                return reconvertMap((MapData) field, (MapType<?, ?>) dataType);
+                return createMapReconverter((MapType<?, ?>) dataType);
             case STRING:
-                return field.toString();
+                return Object::toString;
             case DECIMAL:
-                return ((Decimal) field).toJavaBigDecimal();
+                return field -> ((Decimal) field).toJavaBigDecimal();
             case ARRAY:
-                ArrayData arrayData = (ArrayData) field;
-                BasicType<?> elementType = ((ArrayType<?, ?>) dataType).getElementType();
-                return arrayData.toObjectArray(TypeConverterUtils.convert(elementType));
+                final DataType elementType = TypeConverterUtils.convert(((ArrayType<?, ?>) dataType).getElementType());
+                return field -> ((ArrayData) field).toObjectArray(elementType);
             default:
-                return field;
+                return null;
+        }
+    }
+
+    private static FieldConverter createRowReconverter(SeaTunnelRowType rowType) {
+        final int arity = rowType.getTotalFields();
+        final DataType[] fieldTypes = new DataType[arity];
+        final FieldConverter[] fieldConverters = new FieldConverter[arity];
+        for (int i = 0; i < arity; i++) {
+            fieldTypes[i] = TypeConverterUtils.convert(rowType.getFieldType(i));
+            fieldConverters[i] = createReconverter(rowType.getFieldType(i));
         }
+        return field -> {
+            InternalRow engineRow = (InternalRow) field;
+            Object[] fields = new Object[engineRow.numFields()];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = convertField(engineRow.get(i, fieldTypes[i]), fieldConverters[i]);
+            }
+            return new SeaTunnelRow(fields);
+        };
+    }
+
+    private static FieldConverter createMapReconverter(MapType<?, ?> mapType) {
+        final DataType keyType = TypeConverterUtils.convert(mapType.getKeyType());
+        final DataType valueType = TypeConverterUtils.convert(mapType.getValueType());
+        final FieldConverter keyConverter = createReconverter(mapType.getKeyType());
+        final FieldConverter valueConverter = createReconverter(mapType.getValueType());
+        return field -> {
+            MapData mapData = (MapData) field;
+            int num = mapData.numElements();
+            if (num == 0) {
+                return Collections.emptyMap();
+            }
+            Map<Object, Object> newMap = new HashMap<>(num);
+            Object[] keys = mapData.keyArray().toObjectArray(keyType);
+            Object[] values = mapData.valueArray().toObjectArray(valueType);
+            for (int i = 0; i < num; i++) {
+                newMap.put(convertField(keys[i], keyConverter), convertField(values[i], valueConverter));
+            }
+            return newMap;
+        };
     }
 
-    private static SeaTunnelRow reconvert(InternalRow engineRow, SeaTunnelRowType rowType) {
-        Object[] fields = new Object[engineRow.numFields()];
-        for (int i = 0; i < engineRow.numFields(); i++) {
-            fields[i] = reconvert(engineRow.get(i, TypeConverterUtils.convert(rowType.getFieldType(i))),
-                rowType.getFieldType(i));
+    private static Object convertField(Object field, FieldConverter converter) {
+        if (field == null || converter == null) {
+            return field;
         }
-        return new SeaTunnelRow(fields);
+        return converter.convert(field);
     }
 }
@@ -19,7 +19,6 @@ package org.apache.seatunnel.translation.spark.common.source.batch;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
-import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
@@ -30,14 +29,13 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CoordinatedBatchPartitionReader extends ParallelBatchPartitionReader {
 
     protected final Map<Integer, InternalRowCollector> collectorMap;
 
-    public CoordinatedBatchPartitionReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId) {
-        super(source, parallelism, subtaskId);
+    public CoordinatedBatchPartitionReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId, Integer handoverCapacity) {
+        super(source, parallelism, subtaskId, handoverCapacity);
         this.collectorMap = new HashMap<>(parallelism);
         for (int i = 0; i < parallelism; i++) {
             collectorMap.put(i, new InternalRowCollector(handover, new Object(), source.getProducedType()));
@@ -63,28 +61,13 @@ public class CoordinatedBatchPartitionReader extends ParallelBatchPartitionReade
         }
 
         @Override
-        public void run(Collector<SeaTunnelRow> collector) throws Exception {
-            readerMap.entrySet().parallelStream().forEach(entry -> {
-                final AtomicBoolean flag = readerRunningMap.get(entry.getKey());
-                final SourceReader<SeaTunnelRow, SplitT> reader = entry.getValue();
-                final Collector<SeaTunnelRow> rowCollector = collectorMap.get(entry.getKey());
-                executorService.execute(() -> {
-                    while (flag.get()) {
-                        try {
-                            reader.pollNext(rowCollector);
-                            Thread.sleep(SLEEP_TIME_INTERVAL);
-                        } catch (Exception e) {
-                            this.running = false;
-                            flag.set(false);
-                            throw new RuntimeException(e);
-                        }
-                    }
-                });
-            });
-            splitEnumerator.run();
-            while (this.running) {
-                Thread.sleep(SLEEP_TIME_INTERVAL);
-            }
+        protected Collector<SeaTunnelRow> getReaderCollector(int subtaskId, Collector<SeaTunnelRow> collector) {
+            return collectorMap.get(subtaskId);
+        }
+
+        @Override
+        protected Object getCheckpointLock(int subtaskId) {
+            return collectorMap.get(subtaskId).getCheckpointLock();
         }
 
         @Override
@@ -34,7 +34,9 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class ParallelBatchPartitionReader {
 
@@ -53,15 +55,19 @@ public class ParallelBatchPartitionReader {
 
     protected volatile boolean running = true;
     protected volatile boolean prepare = true;
+    protected volatile boolean closed = false;
 
     protected volatile BaseSourceFunction<SeaTunnelRow> internalSource;
+    protected volatile InternalRowCollector collector;
 
-    public ParallelBatchPartitionReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId) {
+    protected InternalRow currentRow;
+
+    public ParallelBatchPartitionReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source, Integer parallelism, Integer subtaskId, Integer handoverCapacity) {
         this.source = source;
         this.parallelism = parallelism;
         this.subtaskId = subtaskId;
         this.executorService = ThreadPoolExecutorFactory.createScheduledThreadPoolExecutor(1, getEnumeratorThreadName());
-        this.handover = new Handover<>();
+        this.handover = new Handover<>(handoverCapacity);
     }
 
     protected String getEnumeratorThreadName() {
@@ -70,14 +76,20 @@ public class ParallelBatchPartitionReader {
 
     public boolean next() throws IOException {
         prepare();
-        while (running && handover.isEmpty()) {
-            try {
-                Thread.sleep(INTERVAL);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        try {
+            Optional<InternalRow> row = Optional.empty();
+            while (running && !row.isPresent()) {
+                row = handover.pollNext(INTERVAL, TimeUnit.MILLISECONDS);
+            }
+            if (!row.isPresent()) {
+                // drain the rows which were produced before the source stopped
+                row = handover.pollNext();
             }
+            currentRow = row.orElse(null);
+            return row.isPresent();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
-        return running || !handover.isEmpty();
     }
 
     protected void prepare() {
@@ -86,6 +98,7 @@ public class ParallelBatchPartitionReader {
         }
 
         this.internalSource = createInternalSource();
+        this.collector = new InternalRowCollector(handover, checkpointLock, source.getProducedType());
         try {
             this.internalSource.open();
         } catch (Exception e) {
@@ -94,8 +107,12 @@ public class ParallelBatchPartitionReader {
         }
         executorService.execute(() -> {
             try {
-                internalSource.run(new InternalRowCollector(handover, checkpointLock, source.getProducedType()));
+                internalSource.run(collector);
             } catch (Exception e) {
+                if (closed && isClosedHandover(e)) {
+                    LOGGER.debug("BatchPartitionReader stopped by closing the handover.");
+                    return;
+                }
                 handover.reportError(e);
                 LOGGER.error("BatchPartitionReader execute failed.", e);
                 running = false;
@@ -112,14 +129,11 @@ public class ParallelBatchPartitionReader {
     }
 
     public InternalRow get() {
-        try {
-            return handover.pollNext().get();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return currentRow;
     }
 
     public void close() throws IOException {
+        closed = true;
         running = false;
         try {
             internalSource.close();
@@ -129,6 +143,19 @@ public class ParallelBatchPartitionReader {
         executorService.shutdown();
     }
 
+    /**
+     * Whether the reader failed because the handover was closed, which is how the readers are stopped
+     * on {@link #close()}.
+     */
+    private static boolean isClosedHandover(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof Handover.ClosedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public class InternalParallelSource<SplitT extends SourceSplit, StateT extends Serializable> extends ParallelSource<SeaTunnelRow, SplitT, StateT> {
 
         public InternalParallelSource(SeaTunnelSource<SeaTunnelRow, SplitT, StateT> source, Map<Integer, List<byte[]>> restoredState, int parallelism, int subtaskId) {
@@ -19,20 +19,19 @@ package org.apache.seatunnel.translation.spark.common.source.micro;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
-import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.source.CoordinatedSource;
 import org.apache.seatunnel.translation.spark.common.InternalRowCollector;
 import org.apache.seatunnel.translation.spark.common.ReaderState;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorageConfig;
 
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPartitionReader {
     protected final Map<Integer, InternalRowCollector> collectorMap;
@@ -42,10 +41,9 @@ public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPart
                                                 Integer subtaskId,
                                                 Integer checkpointId,
                                                 Integer checkpointInterval,
-                                                String checkpointPath,
-                                                String hdfsRoot,
-                                                String hdfsUser) {
-        super(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointPath, hdfsRoot, hdfsUser);
+                                                CheckpointStorageConfig checkpointStorageConfig,
+                                                Integer handoverCapacity) {
+        super(source, parallelism, subtaskId, checkpointId, checkpointInterval, checkpointStorageConfig, handoverCapacity);
         this.collectorMap = new HashMap<>(parallelism);
         for (int i = 0; i < parallelism; i++) {
             collectorMap.put(i, new InternalRowCollector(handover, new Object(), source.getProducedType()));
@@ -55,36 +53,35 @@ public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPart
     @Override
     public void virtualCheckpoint() {
         try {
-            internalCheckpoint(collectorMap.values().iterator(), 0);
+            final int currentCheckpoint = checkpointId;
+            ReaderState readerState = internalCheckpoint(collectorMap.values().iterator());
+            completeCheckpoint(readerState, currentCheckpoint);
         } catch (Exception e) {
             throw new RuntimeException("An error occurred in virtual checkpoint execution.", e);
         }
     }
 
-    private void internalCheckpoint(Iterator<InternalRowCollector> iterator, int loop) throws Exception {
+    /**
+     * Captures the reader positions while holding the checkpoint locks of all readers.
+     */
+    private ReaderState internalCheckpoint(Iterator<InternalRowCollector> iterator) {
         if (!iterator.hasNext()) {
-            return;
+            ReaderState readerState = snapshotState();
+            collectorMap.values().forEach(InternalRowCollector::seal);
+            running = false;
+            return readerState;
         }
         synchronized (iterator.next().getCheckpointLock()) {
-            internalCheckpoint(iterator, ++loop);
-            if (loop != this.parallelism) {
-                // Avoid backtracking calls
-                return;
-            }
-            while (!handover.isEmpty()) {
-                Thread.sleep(CHECKPOINT_SLEEP_INTERVAL);
-            }
-            // Block #next() method
-            synchronized (handover) {
-                final int currentCheckpoint = checkpointId;
-                ReaderState readerState = snapshotState();
-                saveState(readerState, currentCheckpoint);
-                internalSource.notifyCheckpointComplete(currentCheckpoint);
-                running = false;
-            }
+            return internalCheckpoint(iterator);
         }
     }
 
+    @Override
+    protected void releaseCollectors() {
+        super.releaseCollectors();
+        collectorMap.values().forEach(InternalRowCollector::release);
+    }
+
     @Override
     protected String getEnumeratorThreadName() {
         return "coordinated-split-enumerator-executor";
@@ -104,28 +101,13 @@ public class CoordinatedMicroBatchPartitionReader extends ParallelMicroBatchPart
         }
 
         @Override
-        public void run(Collector<SeaTunnelRow> collector) throws Exception {
-            readerMap.entrySet().parallelStream().forEach(entry -> {
-                final AtomicBoolean flag = readerRunningMap.get(entry.getKey());
-                final SourceReader<SeaTunnelRow, SplitT> reader = entry.getValue();
-                final Collector<SeaTunnelRow> rowCollector = collectorMap.get(entry.getKey());
-                executorService.execute(() -> {
-                    while (flag.get()) {
-                        try {
-                            reader.pollNext(rowCollector);
-                            Thread.sleep(SLEEP_TIME_INTERVAL);
-                        } catch (Exception e) {
-                            this.running = false;
-                            flag.set(false);
-                            throw new RuntimeException(e);
-                        }
-                    }
-                });
-            });
-            splitEnumerator.run();
-            while (this.running) {
-                Thread.sleep(SLEEP_TIME_INTERVAL);
-            }
+        protected Collector<SeaTunnelRow> getReaderCollector(int subtaskId, Collector<SeaTunnelRow> collector) {
+            return collectorMap.get(subtaskId);
+        }
+
+        @Override
+        protected Object getCheckpointLock(int subtaskId) {
+            return collectorMap.get(subtaskId).getCheckpointLock();
         }
 
         @Override
@@ -19,55 +19,42 @@ package org.apache.seatunnel.translation.spark.common.source.micro;
 
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.common.utils.SerializationUtils;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.spark.common.ReaderState;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorage;
+import org.apache.seatunnel.translation.spark.common.checkpoint.CheckpointStorageConfig;
 import org.apache.seatunnel.translation.spark.common.source.batch.ParallelBatchPartitionReader;
 import org.apache.seatunnel.translation.util.ThreadPoolExecutorFactory;
 
-import org.apache.commons.lang3.StringUtils;
-import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FSDataInputStream;
-import org.apache.hadoop.fs.FSDataOutputStream;
-import org.apache.hadoop.fs.FileSystem;
-import org.apache.hadoop.fs.Path;
-
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 public class ParallelMicroBatchPartitionReader extends ParallelBatchPartitionReader {
-    protected static final Integer CHECKPOINT_SLEEP_INTERVAL = 10;
     protected volatile Integer checkpointId;
     protected final Integer checkpointInterval;
-    protected final String checkpointPath;
-    protected final String hdfsRoot;
-    protected final String hdfsUser;
+    protected final CheckpointStorageConfig checkpointStorageConfig;
 
     protected Map<Integer, List<byte[]>> restoredState;
     protected ScheduledThreadPoolExecutor executor;
-    protected FileSystem fileSystem;
+    protected ScheduledFuture<?> checkpointFuture;
+    protected CheckpointStorage checkpointStorage;
 
     public ParallelMicroBatchPartitionReader(SeaTunnelSource<SeaTunnelRow, ?, ?> source,
                                              Integer parallelism,
                                              Integer subtaskId,
                                              Integer checkpointId,
                                              Integer checkpointInterval,
-                                             String checkpointPath,
-                                             String hdfsRoot,
-                                             String hdfsUser) {
-        super(source, parallelism, subtaskId);
+                                             CheckpointStorageConfig checkpointStorageConfig,
+                                             Integer handoverCapacity) {
+        super(source, parallelism, subtaskId, handoverCapacity);
         this.checkpointId = checkpointId;
         this.checkpointInterval = checkpointInterval;
-        this.checkpointPath = checkpointPath;
-        this.hdfsRoot = hdfsRoot;
-        this.hdfsUser = hdfsUser;
+        this.checkpointStorageConfig = checkpointStorageConfig;
     }
 
     @Override
@@ -81,8 +68,9 @@ public class ParallelMicroBatchPartitionReader extends ParallelBatchPartitionRea
     @Override
     protected void prepare() {
         try {
-            this.fileSystem = getFileSystem();
-            this.restoredState = restoreState(checkpointId - 1);
+            this.checkpointStorage = checkpointStorageConfig.createStorage();
+            ReaderState readerState = checkpointStorage.loadState(subtaskId, checkpointId - 1);
+            this.restoredState = readerState == null ? null : readerState.getBytes();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -90,16 +78,6 @@ public class ParallelMicroBatchPartitionReader extends ParallelBatchPartitionRea
         prepareCheckpoint();
     }
 
-    protected FileSystem getFileSystem() throws URISyntaxException, IOException, InterruptedException {
-        Configuration configuration = new Configuration();
-        configuration.set("fs.defaultFS", hdfsRoot);
-        if (StringUtils.isNotBlank(hdfsUser)) {
-            return FileSystem.get(new URI(hdfsRoot), configuration, hdfsUser);
-        } else {
-            return FileSystem.get(new URI(hdfsRoot), configuration);
-        }
-    }
-
     protected ReaderState snapshotState() {
         Map<Integer, List<byte[]>> bytes;
         try {
@@ -112,71 +90,62 @@ public class ParallelMicroBatchPartitionReader extends ParallelBatchPartitionRea
 
     public void prepareCheckpoint() {
         executor = ThreadPoolExecutorFactory.createScheduledThreadPoolExecutor(1, String.format("parallel-reader-checkpoint-executor-%s", subtaskId));
-        executor.schedule(this::virtualCheckpoint, checkpointInterval, TimeUnit.MILLISECONDS);
+        checkpointFuture = executor.schedule(this::virtualCheckpoint, checkpointInterval, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Takes the checkpoint of this micro-batch in two phases. The reader positions are captured while
+     * holding the checkpoint lock, which blocks the producers only for the duration of the snapshot, and the
+     * collector is sealed so that no row beyond these positions enters the handover. The rows already in the
+     * handover are still emitted by {@link #next()}, while the state is serialized and persisted outside of the
+     * lock. {@link #close()} waits for the persistence to finish.
+     */
     public void virtualCheckpoint() {
         try {
+            final int currentCheckpoint = checkpointId;
+            ReaderState readerState;
             synchronized (checkpointLock) {
-                while (!handover.isEmpty()) {
-                    Thread.sleep(CHECKPOINT_SLEEP_INTERVAL);
-                }
-                // Block #next() method
-                synchronized (handover) {
-                    final int currentCheckpoint = checkpointId;
-                    ReaderState readerState = snapshotState();
-                    saveState(readerState, currentCheckpoint);
-                    internalSource.notifyCheckpointComplete(currentCheckpoint);
-                    running = false;
-                }
+                readerState = snapshotState();
+                collector.seal();
+                running = false;
             }
+            completeCheckpoint(readerState, currentCheckpoint);
         } catch (Exception e) {
             throw new RuntimeException("An error occurred in virtual checkpoint execution.", e);
         }
     }
 
-    private Map<Integer, List<byte[]>> restoreState(int checkpointId) throws IOException {
-        Path hdfsPath = getCheckpointPathWithId(checkpointId);
-        if (!fileSystem.exists(hdfsPath)) {
-            return null;
-        }
-        try (FSDataInputStream inputStream = fileSystem.open(hdfsPath);
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            int i = 0;
-            final int defaultLen = 1024;
-            byte[] buffer = new byte[defaultLen];
-            while ((i = inputStream.read(buffer)) != -1) {
-                out.write(buffer, 0, i);
-            }
-
-            return ((ReaderState) SerializationUtils.deserialize(out.toByteArray())).getBytes();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    protected void completeCheckpoint(ReaderState readerState, int currentCheckpoint) throws Exception {
+        checkpointStorage.storeState(readerState);
+        checkpointStorage.cleanup(subtaskId, currentCheckpoint);
+        internalSource.notifyCheckpointComplete(currentCheckpoint);
     }
 
-    protected void saveState(ReaderState readerState, int checkpointId) throws IOException {
-        byte[] bytes = SerializationUtils.serialize(readerState);
-        Path hdfsPath = getCheckpointPathWithId(checkpointId);
-        if (!fileSystem.exists(hdfsPath)) {
-            fileSystem.createNewFile(hdfsPath);
-        }
-
-        try (FSDataOutputStream outputStream = fileSystem.append(hdfsPath)) {
-            outputStream.write(bytes);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    @Override
+    public void close() throws IOException {
+        try {
+            // the state of this micro-batch must be persisted before the task completes
+            if (checkpointFuture != null) {
+                checkpointFuture.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to persist the state of checkpoint " + (checkpointId - 1), e.getCause());
+        } finally {
+            // the readers are stopped before the handover is closed, they would fail on the closed handover
+            releaseCollectors();
+            super.close();
+            handover.close();
+            checkpointStorage.close();
+            executor.shutdown();
         }
     }
 
-    private Path getCheckpointPathWithId(int checkpointId) {
-        return new Path(this.checkpointPath + File.separator + this.subtaskId + File.separator + checkpointId);
-    }
-
-    @Override
-    public void close() throws IOException {
-        fileSystem.close();
-        executor.shutdown();
-        super.close();
+    protected void releaseCollectors() {
+        if (collector != null) {
+            collector.release();
+        }
     }
 }
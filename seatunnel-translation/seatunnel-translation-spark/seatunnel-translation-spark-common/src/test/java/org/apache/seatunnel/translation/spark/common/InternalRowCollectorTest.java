@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.Handover;
+
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class InternalRowCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE = new SeaTunnelRowType(new String[]{"id"},
+        new SeaTunnelDataType<?>[]{BasicType.LONG_TYPE});
+
+    @Test
+    public void testCollect() throws Exception {
+        Handover<InternalRow> handover = new Handover<>();
+        InternalRowCollector collector = new InternalRowCollector(handover, new Object(), ROW_TYPE);
+        collector.collect(new SeaTunnelRow(new Object[]{1L}));
+        Assertions.assertEquals(1L, handover.pollNext().get().getLong(0));
+    }
+
+    @Test
+    public void testReleaseDropsSealedRecords() throws Exception {
+        Object checkpointLock = new Object();
+        Handover<InternalRow> handover = new Handover<>();
+        InternalRowCollector collector = new InternalRowCollector(handover, checkpointLock, ROW_TYPE);
+        synchronized (checkpointLock) {
+            collector.seal();
+        }
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(
+            () -> collector.collect(new SeaTunnelRow(new Object[]{1L})));
+
+        // the source shuts down while the reader is blocked by the checkpoint
+        collector.release();
+        handover.close();
+        producer.get(10, TimeUnit.SECONDS);
+        collector.collect(new SeaTunnelRow(new Object[]{2L}));
+        Assertions.assertEquals(0, handover.size());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.common.checkpoint;
+
+import org.apache.seatunnel.translation.spark.common.ReaderState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class LocalCheckpointStorageTest {
+
+    private Path checkpointPath;
+
+    @BeforeEach
+    public void before() throws IOException {
+        checkpointPath = Files.createTempDirectory("checkpoint_");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        try (Stream<Path> files = Files.walk(checkpointPath)) {
+            files.sorted(Comparator.reverseOrder())
+                .map(Path::toFile)
+                .forEach(File::delete);
+        }
+    }
+
+    private static ReaderState createState(int subtaskId, int checkpointId) {
+        Map<Integer, List<byte[]>> bytes = Collections.singletonMap(subtaskId,
+            Collections.singletonList(new byte[]{(byte) subtaskId, (byte) checkpointId}));
+        return new ReaderState(bytes, subtaskId, checkpointId);
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        try (CheckpointStorage storage = new CheckpointStorageConfig(CheckpointStorageConfig.LOCAL_STORAGE,
+            checkpointPath.toUri().toString(), null, null, CheckpointStorageConfig.DEFAULT_RETAINED_CHECKPOINTS).createStorage()) {
+            Assertions.assertTrue(storage instanceof LocalCheckpointStorage);
+            Assertions.assertNull(storage.loadState(0, 1));
+
+            storage.storeState(createState(0, 1));
+            // a retried micro-batch replaces the state of its checkpoint
+            storage.storeState(createState(0, 1));
+            ReaderState restored = storage.loadState(0, 1);
+            Assertions.assertEquals(0, restored.getSubtaskId());
+            Assertions.assertEquals(1, restored.getCheckpointId());
+            Assertions.assertArrayEquals(new byte[]{0, 1}, restored.getBytes().get(0).get(0));
+            Assertions.assertNull(storage.loadState(1, 1));
+        }
+        try (Stream<Path> files = Files.list(checkpointPath.resolve("0"))) {
+            Assertions.assertEquals(Collections.singletonList("1"),
+                files.map(file -> file.getFileName().toString()).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testCleanup() throws IOException {
+        CheckpointStorage storage = new LocalCheckpointStorage(checkpointPath.toString(), 2);
+        for (int checkpointId = 1; checkpointId <= 5; checkpointId++) {
+            storage.storeState(createState(0, checkpointId));
+            storage.storeState(createState(1, checkpointId));
+            storage.cleanup(0, checkpointId);
+        }
+        for (int checkpointId : Arrays.asList(1, 2, 3)) {
+            Assertions.assertNull(storage.loadState(0, checkpointId));
+            Assertions.assertNotNull(storage.loadState(1, checkpointId));
+        }
+        Assertions.assertNotNull(storage.loadState(0, 4));
+        Assertions.assertNotNull(storage.loadState(0, 5));
+    }
+
+    @Test
+    public void testUnknownStorage() {
+        CheckpointStorageConfig config = new CheckpointStorageConfig("unknown", "/tmp", null, null, 1);
+        Assertions.assertEquals(2, config.getRetainedCheckpoints());
+        Assertions.assertThrows(IllegalArgumentException.class, config::createStorage);
+    }
+}